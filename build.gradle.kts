@@ -14,6 +14,12 @@ plugins {
      * The runnable jar will be found in build/libs/projectname-all.jar
      */
     id("com.github.johnrengelman.shadow") version "8.1.1"
+
+    /*
+     * Adds the "jmh" source set (src/jmh/java) for the microbenchmarks of the model.
+     * Launch them with the "jmh" task; the results are written in build/results/jmh.
+     */
+    id("me.champeau.jmh") version "0.7.1"
     // id("org.danilopianini.gradle-java-qa") version "1.6.0"
     alias(libs.plugins.java.qa)
     alias(libs.plugins.taskTree)
@@ -63,6 +69,35 @@ application {
     mainClass.set("taflgames.TaflGames")
 }
 
+// Counts the positions reachable from the initial position of a game mode,
+// e.g. ./gradlew perft -PperftArgs="variant 4" (add "divide" to get the count of each move)
+tasks.register<JavaExec>("perft") {
+    group = "application"
+    description = "Runs a perft on the initial position of a game mode"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("taflgames.PerftTool")
+    args = (project.findProperty("perftArgs") as String?)?.split(" ") ?: emptyList()
+}
+
+// e.g. ./gradlew searchSpeedup -PsearchSpeedupArgs="4 8" (depth, maximum number of threads, number of positions)
+tasks.register<JavaExec>("searchSpeedup") {
+    group = "application"
+    description = "Measures the speedup of the parallel search over a single thread"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("taflgames.SearchSpeedupTool")
+    args = (project.findProperty("searchSpeedupArgs") as String?)?.split(" ") ?: emptyList()
+}
+
+jmh {
+    jmhVersion.set("1.36")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    // Runs only the benchmarks matching a pattern, e.g. ./gradlew jmh -PjmhIncludes=BoardBenchmark
+    (project.findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
+}
+
 tasks.test {
     useJUnitPlatform()
     testLogging {
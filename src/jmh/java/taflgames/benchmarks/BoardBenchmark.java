@@ -0,0 +1,123 @@
+package taflgames.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import taflgames.common.Player;
+import taflgames.common.code.Position;
+import taflgames.controller.entitystate.PieceState;
+import taflgames.model.Model;
+import taflgames.model.board.api.Board;
+import taflgames.model.board.api.Eaten;
+import taflgames.model.board.code.EatenImpl;
+import taflgames.model.pieces.api.Piece;
+
+/**
+ * Benchmarks of the queries of the board that are performed at every move,
+ * on a fixed mid-game position. None of them changes the position.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoardBenchmark {
+
+    @Param({ MidGamePositions.CLASSIC, MidGamePositions.VARIANT })
+    private String mode;
+
+    @Param({ MidGamePositions.BOARD_IMPL, MidGamePositions.BIT_BOARD_IMPL })
+    private String boardType;
+
+    private Board board;
+    private Player player;
+    private final List<Position> starts = new ArrayList<>();
+    private final List<Position> destinations = new ArrayList<>();
+
+    private Eaten eaten;
+    private Map<Player, Map<Position, Piece>> pieces;
+    private Piece lastMovedPiece;
+    private List<Piece> threatened;
+
+    /**
+     * Brings the board to the mid-game position and prepares the arguments of the benchmarks.
+     * @throws IOException if the configuration of the game mode cannot be read
+     */
+    @Setup
+    public void setUp() throws IOException {
+        this.board = MidGamePositions.createBoard(this.mode, this.boardType);
+        final Model match = MidGamePositions.playOpening(this.board);
+        this.player = match.getActivePlayer();
+        final int size = (int) Math.sqrt(this.board.getMapCells().size());
+        // The arguments that eat() passes to checkAllies(), after a capturing move
+        final Position moved = MidGamePositions.moveBeforeCapture(match, this.board);
+        this.eaten = new EatenImpl(this.board);
+        this.pieces = this.board.getMapPieces();
+        this.lastMovedPiece = this.pieces.get(this.player).get(moved);
+        final Set<Position> hitbox = this.eaten.trimHitbox(this.lastMovedPiece, this.pieces, this.board.getMapCells(), size);
+        this.threatened = this.eaten.getThreatenedPos(hitbox, this.pieces, this.lastMovedPiece);
+        // Every cell in the same row or column of a piece of the player in turn, legal or not
+        for (final Position start : this.board.getMapPieces().get(this.player).keySet()) {
+            for (int i = 0; i < size; i++) {
+                this.starts.add(start);
+                this.destinations.add(new Position(start.getX(), i));
+                this.starts.add(start);
+                this.destinations.add(new Position(i, start.getY()));
+            }
+        }
+    }
+
+    /**
+     * Validates every destination in the same row or column of the pieces of the player in turn.
+     * @return the number of valid destinations
+     */
+    @Benchmark
+    public int isDestinationValid() {
+        int valid = 0;
+        for (int i = 0; i < this.starts.size(); i++) {
+            if (this.board.isDestinationValid(this.starts.get(i), this.destinations.get(i), this.player)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Finds the pieces that threaten the enemies hit by a capturing move.
+     * @return the threatened enemies and their killers
+     */
+    @Benchmark
+    public Map<Piece, Set<Piece>> checkAllies() {
+        final int size = (int) Math.sqrt(this.board.getMapCells().size());
+        return this.eaten.checkAllies(this.threatened, this.pieces, this.lastMovedPiece, this.board.getMapCells(), size);
+    }
+
+    /**
+     * Checks whether the match is a draw.
+     * @return the outcome of the check
+     */
+    @Benchmark
+    public boolean isDraw() {
+        return this.board.isDraw(this.player);
+    }
+
+    /**
+     * Builds the mapping of the pieces that is shown by the view.
+     * @return the mapping
+     */
+    @Benchmark
+    public Map<Position, PieceState> getPiecesTagsMapping() {
+        return this.board.getPiecesTagsMapping();
+    }
+}
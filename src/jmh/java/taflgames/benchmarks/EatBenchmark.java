@@ -0,0 +1,64 @@
+package taflgames.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import taflgames.model.board.api.Board;
+import taflgames.model.memento.api.BoardMemento;
+
+/**
+ * Benchmark of the captures performed after a move, on a fixed mid-game position.
+ * Since the captures change the position, it is restored before each invocation;
+ * the restore is not part of the measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EatBenchmark {
+
+    @Param({ MidGamePositions.CLASSIC, MidGamePositions.VARIANT })
+    private String mode;
+
+    @Param({ MidGamePositions.BOARD_IMPL, MidGamePositions.BIT_BOARD_IMPL })
+    private String boardType;
+
+    private Board board;
+    private BoardMemento beforeCapture;
+
+    /**
+     * Brings the board to the mid-game position and moves a piece that can capture.
+     * @throws IOException if the configuration of the game mode cannot be read
+     */
+    @Setup
+    public void setUp() throws IOException {
+        this.board = MidGamePositions.createBoard(this.mode, this.boardType);
+        MidGamePositions.moveBeforeCapture(MidGamePositions.playOpening(this.board), this.board);
+        this.beforeCapture = this.board.save();
+    }
+
+    /**
+     * Takes the board back to the position before the captures.
+     */
+    @Setup(Level.Invocation)
+    public void restore() {
+        this.beforeCapture.restore();
+    }
+
+    /**
+     * Performs the captures caused by the last move.
+     */
+    @Benchmark
+    public void eat() {
+        this.board.eat();
+    }
+}
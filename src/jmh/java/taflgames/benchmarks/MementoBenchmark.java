@@ -0,0 +1,62 @@
+package taflgames.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import taflgames.model.Model;
+import taflgames.model.memento.api.MatchMemento;
+
+/**
+ * Benchmarks of the snapshots of a match, which are taken at every turn for the undo
+ * and at every node by the searches, on a fixed mid-game position.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MementoBenchmark {
+
+    @Param({ MidGamePositions.CLASSIC, MidGamePositions.VARIANT })
+    private String mode;
+
+    @Param({ MidGamePositions.BOARD_IMPL, MidGamePositions.BIT_BOARD_IMPL })
+    private String boardType;
+
+    private Model match;
+    private MatchMemento snapshot;
+
+    /**
+     * Brings the match to the mid-game position and takes a snapshot of it.
+     * @throws IOException if the configuration of the game mode cannot be read
+     */
+    @Setup
+    public void setUp() throws IOException {
+        this.match = MidGamePositions.playOpening(MidGamePositions.createBoard(this.mode, this.boardType));
+        this.snapshot = this.match.save();
+    }
+
+    /**
+     * Takes a snapshot of the match.
+     * @return the snapshot
+     */
+    @Benchmark
+    public MatchMemento save() {
+        return this.match.save();
+    }
+
+    /**
+     * Restores the match from a snapshot of the same position.
+     */
+    @Benchmark
+    public void restore() {
+        this.match.restore(this.snapshot);
+    }
+}
@@ -0,0 +1,153 @@
+package taflgames.benchmarks;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import taflgames.common.Player;
+import taflgames.common.code.MoveBuffer;
+import taflgames.common.code.Position;
+import taflgames.controller.settingsloader.SettingsLoader;
+import taflgames.controller.settingsloader.SettingsLoaderImpl;
+import taflgames.model.Match;
+import taflgames.model.Model;
+import taflgames.model.board.api.Board;
+import taflgames.model.board.code.BitBoardImpl;
+import taflgames.model.board.code.BoardImpl;
+import taflgames.model.builders.CellsCollectionBuilder;
+import taflgames.model.builders.CellsCollectionBuilderImpl;
+import taflgames.model.builders.PiecesCollectionBuilder;
+import taflgames.model.builders.PiecesCollectionBuilderImpl;
+import taflgames.model.memento.api.MatchMemento;
+
+/**
+ * Builds the fixed mid-game positions the benchmarks run on.
+ * A position is reached by playing a fixed number of moves, chosen with a seeded random
+ * generator among the legal ones, from the initial position of a game mode: this way
+ * the positions are always the same and they look like the ones of a real match,
+ * with fewer pieces and with the special cells already in use.
+ */
+final class MidGamePositions {
+
+    /**
+     * The Classic game mode.
+     */
+    static final String CLASSIC = "CLASSIC";
+    /**
+     * The Variant game mode.
+     */
+    static final String VARIANT = "VARIANT";
+    /**
+     * The board backed by maps.
+     */
+    static final String BOARD_IMPL = "BoardImpl";
+    /**
+     * The board backed by bitboards.
+     */
+    static final String BIT_BOARD_IMPL = "BitBoardImpl";
+
+    private static final int PLIES = 20;
+    private static final long SEED = 2023;
+
+    private MidGamePositions() {
+    }
+
+    /**
+     * Creates a board in the initial position of a game mode.
+     * @param mode the game mode
+     * @param boardType the implementation of the board
+     * @return the new board
+     * @throws IOException if the configuration of the game mode cannot be read
+     */
+    static Board createBoard(final String mode, final String boardType) throws IOException {
+        final SettingsLoader loader = new SettingsLoaderImpl();
+        final CellsCollectionBuilder cellsCollBuilder = new CellsCollectionBuilderImpl();
+        final PiecesCollectionBuilder piecesCollBuilder = new PiecesCollectionBuilderImpl();
+        if (VARIANT.equals(mode)) {
+            loader.loadVariantModeConfig(cellsCollBuilder, piecesCollBuilder);
+        } else {
+            loader.loadClassicModeConfig(cellsCollBuilder, piecesCollBuilder);
+        }
+        final var pieces = piecesCollBuilder.build();
+        final var cells = cellsCollBuilder.build();
+        final int size = (int) Math.sqrt(cells.size());
+        return BIT_BOARD_IMPL.equals(boardType)
+            ? new BitBoardImpl(pieces, cells, size)
+            : new BoardImpl(pieces, cells, size);
+    }
+
+    /**
+     * Brings a match on the given board to the mid-game position. The moves that
+     * would end the match are skipped.
+     * @param board the board, in its initial position
+     * @return the match played on the board
+     */
+    static Model playOpening(final Board board) {
+        final Model match = new Match(board);
+        final Random random = new Random(SEED);
+        for (int ply = 0; ply < PLIES; ply++) {
+            final int[] moves = sortedMoves(match);
+            final MatchMemento snapshot = match.save();
+            final int first = random.nextInt(moves.length);
+            for (int i = 0; i < moves.length; i++) {
+                play(match, moves[(first + i) % moves.length]);
+                if (match.getMatchEndStatus().isEmpty()) {
+                    break;
+                }
+                match.restore(snapshot);
+            }
+            match.setNextActivePlayer();
+        }
+        return match;
+    }
+
+    /**
+     * Finds a move of the player in turn that captures at least one enemy piece,
+     * or any move if there is none, and moves the piece without performing the captures,
+     * that is without calling {@link Board#eat()}.
+     * @param match the match in the mid-game position
+     * @param board the board of the match
+     * @return the destination of the moved piece
+     */
+    static Position moveBeforeCapture(final Model match, final Board board) {
+        final Player player = match.getActivePlayer();
+        final Player enemy = player == Player.ATTACKER ? Player.DEFENDER : Player.ATTACKER;
+        final int[] moves = sortedMoves(match);
+        final MatchMemento snapshot = match.save();
+        final int enemies = board.getMapPieces().get(enemy).size();
+        int chosen = moves[0];
+        for (final int move : moves) {
+            play(match, move);
+            final boolean captures = board.getMapPieces().get(enemy).size() < enemies;
+            match.restore(snapshot);
+            if (captures) {
+                chosen = move;
+                break;
+            }
+        }
+        final Position destination = new Position(MoveBuffer.destinationX(chosen), MoveBuffer.destinationY(chosen));
+        board.updatePiecePos(new Position(MoveBuffer.sourceX(chosen), MoveBuffer.sourceY(chosen)), destination, player);
+        return destination;
+    }
+
+    /*
+     * The moves of the player in turn, in an order that does not depend on the board,
+     * so that every board reaches the same positions.
+     */
+    private static int[] sortedMoves(final Model match) {
+        final MoveBuffer buffer = new MoveBuffer();
+        match.generateLegalMoves(match.getActivePlayer(), buffer);
+        final int[] moves = new int[buffer.size()];
+        for (int i = 0; i < moves.length; i++) {
+            moves[i] = buffer.get(i);
+        }
+        Arrays.sort(moves);
+        return moves;
+    }
+
+    private static void play(final Model match, final int move) {
+        final Position source = new Position(MoveBuffer.sourceX(move), MoveBuffer.sourceY(move));
+        match.selectSource(source);
+        match.makeMove(source, new Position(MoveBuffer.destinationX(move), MoveBuffer.destinationY(move)));
+    }
+}
@@ -0,0 +1,42 @@
+package taflgames.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import taflgames.controller.settingsloader.SettingsLoader;
+import taflgames.controller.settingsloader.SettingsLoaderImpl;
+import taflgames.model.builders.CellsCollectionBuilder;
+import taflgames.model.builders.CellsCollectionBuilderImpl;
+import taflgames.model.builders.PiecesCollectionBuilder;
+import taflgames.model.builders.PiecesCollectionBuilderImpl;
+
+/**
+ * Benchmark of the loading of a game mode, which is performed at the start of every match.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SettingsLoaderBenchmark {
+
+    private final SettingsLoader loader = new SettingsLoaderImpl();
+
+    /**
+     * Loads the configuration of the Variant mode into new builders.
+     * @return the builder of the cells, so that the loading is not optimized away
+     * @throws IOException if the configuration cannot be read
+     */
+    @Benchmark
+    public CellsCollectionBuilder loadVariantModeConfig() throws IOException {
+        final CellsCollectionBuilder cellsCollBuilder = new CellsCollectionBuilderImpl();
+        final PiecesCollectionBuilder piecesCollBuilder = new PiecesCollectionBuilderImpl();
+        this.loader.loadVariantModeConfig(cellsCollBuilder, piecesCollBuilder);
+        return cellsCollBuilder;
+    }
+}
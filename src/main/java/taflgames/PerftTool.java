@@ -0,0 +1,81 @@
+package taflgames;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import taflgames.common.Player;
+import taflgames.common.code.Position;
+import taflgames.controller.settingsloader.SettingsLoader;
+import taflgames.controller.settingsloader.SettingsLoaderImpl;
+import taflgames.model.Match;
+import taflgames.model.Model;
+import taflgames.model.board.code.BitBoardImpl;
+import taflgames.model.builders.CellsCollectionBuilder;
+import taflgames.model.builders.CellsCollectionBuilderImpl;
+import taflgames.model.builders.PiecesCollectionBuilder;
+import taflgames.model.builders.PiecesCollectionBuilderImpl;
+import taflgames.model.cell.api.Cell;
+import taflgames.model.perft.api.Perft;
+import taflgames.model.perft.code.PerftImpl;
+import taflgames.model.pieces.api.Piece;
+
+/**
+ * Command line entry point that runs a perft on the initial position of a game mode.
+ * Usage: {@code PerftTool [classic|variant] [depth] [divide]}; it counts the positions
+ * at every depth from 1 to the given one and logs the nodes per second,
+ * or the count of each root move if {@code divide} is given.
+ */
+public final class PerftTool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PerftTool.class);
+    private static final int DEFAULT_DEPTH = 3;
+
+    private PerftTool() {
+    }
+
+    /**
+     * Runs the perft.
+     * @param args the game mode, the maximum depth and optionally {@code divide}
+     * @throws IOException if the configuration of the game mode cannot be read
+     */
+    public static void main(final String... args) throws IOException {
+        final boolean variant = args.length > 0 && "variant".equals(args[0].toLowerCase(Locale.ROOT));
+        final int depth = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_DEPTH;
+        final Perft perft = new PerftImpl(createMatch(variant));
+        if (args.length > 2 && "divide".equals(args[2].toLowerCase(Locale.ROOT))) {
+            final Map<String, Long> counts = perft.divide(depth);
+            counts.forEach((move, nodes) -> LOGGER.info(move + ": " + nodes));
+            LOGGER.info(counts.size() + " moves, " + counts.values().stream().mapToLong(Long::longValue).sum() + " nodes");
+        } else {
+            for (int i = 1; i <= depth; i++) {
+                LOGGER.info(perft.count(i).toString());
+            }
+        }
+    }
+
+    /**
+     * Creates a match in the initial position of a game mode,
+     * in the same way as the controller does.
+     * @param variant true for the Variant mode, false for the Classic mode
+     * @return the new match
+     * @throws IOException if the configuration of the game mode cannot be read
+     */
+    public static Model createMatch(final boolean variant) throws IOException {
+        final SettingsLoader loader = new SettingsLoaderImpl();
+        final CellsCollectionBuilder cellsCollBuilder = new CellsCollectionBuilderImpl();
+        final PiecesCollectionBuilder piecesCollBuilder = new PiecesCollectionBuilderImpl();
+        if (variant) {
+            loader.loadVariantModeConfig(cellsCollBuilder, piecesCollBuilder);
+        } else {
+            loader.loadClassicModeConfig(cellsCollBuilder, piecesCollBuilder);
+        }
+        final Map<Player, Map<Position, Piece>> pieces = piecesCollBuilder.build();
+        final Map<Position, Cell> cells = cellsCollBuilder.build();
+        final int size = (int) Math.sqrt(cells.size());
+        return new Match(new BitBoardImpl(pieces, cells, size));
+    }
+}
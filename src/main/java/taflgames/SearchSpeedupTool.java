@@ -0,0 +1,100 @@
+package taflgames;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import taflgames.common.code.MoveBuffer;
+import taflgames.common.code.Position;
+import taflgames.model.Model;
+import taflgames.model.ai.code.DefaultEvaluation;
+import taflgames.model.ai.code.LazySmpEngine;
+import taflgames.model.ai.code.SearchResult;
+import taflgames.model.ai.code.TranspositionTableImpl;
+
+/**
+ * Command line entry point that measures the speedup of the parallel search.
+ * Usage: {@code SearchSpeedupTool [depth] [threads] [positions]}; it searches a fixed set
+ * of positions of the Variant mode (the initial one and some openings played at random
+ * from fixed seeds) to the given depth with 1, 2, 4... threads, up to the given number
+ * (by default, the available processors), and logs the time to depth of each number of threads
+ * and its speedup over a single thread. Each search starts with an empty table.
+ */
+public final class SearchSpeedupTool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SearchSpeedupTool.class);
+    private static final int DEFAULT_DEPTH = 4;
+    private static final int DEFAULT_POSITIONS = 8;
+    private static final int MAX_OPENING_TURNS = 12;
+    private static final int TABLE_MEGABYTES = 64;
+    private static final Duration NO_TIME_LIMIT = Duration.ofHours(1);
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private SearchSpeedupTool() {
+    }
+
+    /**
+     * Runs the measure.
+     * @param args the depth, the maximum number of threads and the number of positions
+     * @throws IOException if the configuration of the Variant mode cannot be read
+     */
+    public static void main(final String... args) throws IOException {
+        final int depth = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_DEPTH;
+        final int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        final int count = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_POSITIONS;
+        final List<Model> positions = createPositions(count);
+        final List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads < maxThreads; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        threadCounts.add(maxThreads);
+        long singleThreadNanos = 0;
+        for (final int threads : threadCounts) {
+            long nanos = 0;
+            long nodes = 0;
+            for (final Model position : positions) {
+                final LazySmpEngine engine = new LazySmpEngine(DefaultEvaluation::new, NO_TIME_LIMIT, depth,
+                        threads, new TranspositionTableImpl(TABLE_MEGABYTES));
+                final SearchResult result = engine.search(position).orElseThrow();
+                nanos += result.getNanos();
+                nodes += result.getNodes();
+            }
+            if (threads == 1) {
+                singleThreadNanos = nanos;
+            }
+            LOGGER.info(String.format(Locale.ROOT, "%d threads: %.1f ms, %d nodes, speedup %.2f",
+                    threads, nanos / NANOS_PER_MILLI, nodes, (double) singleThreadNanos / nanos));
+        }
+    }
+
+    /*
+     * The first position is the initial one, the others are reached by playing at random
+     * a few turns, without ending the match.
+     */
+    private static List<Model> createPositions(final int count) throws IOException {
+        final List<Model> positions = new ArrayList<>();
+        final MoveBuffer moves = new MoveBuffer();
+        for (int i = 0; i < count; i++) {
+            final Model match = PerftTool.createMatch(true);
+            final Random random = new Random(i);
+            final int turns = i == 0 ? 0 : 2 + random.nextInt(MAX_OPENING_TURNS - 1);
+            for (int turn = 0; turn < turns; turn++) {
+                match.generateLegalMoves(match.getActivePlayer(), moves);
+                final int move = moves.get(random.nextInt(moves.size()));
+                match.pushMove(Position.of(MoveBuffer.sourceX(move), MoveBuffer.sourceY(move)),
+                        Position.of(MoveBuffer.destinationX(move), MoveBuffer.destinationY(move)));
+                if (match.getMatchEndStatus().isPresent()) {
+                    match.popMove();
+                }
+            }
+            positions.add(match);
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,63 @@
+package taflgames;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import taflgames.controller.server.api.GameServer;
+import taflgames.controller.server.code.GameServerImpl;
+import taflgames.controller.server.code.LoadGenerator;
+import taflgames.controller.server.code.LoadReport;
+
+/**
+ * Command line entry point of the game server and of its load generator.
+ * Usage: {@code ServerTool serve [port]} starts a server on the loopback address, on the given port
+ * (by default, 7878), which runs until the process is stopped;
+ * {@code ServerTool load [port] [connections] [matches per connection]} plays random matches
+ * on the server listening on the given port (by default, 7878) with the given number
+ * of connections (by default, 64) and of matches for each connection (by default, 16),
+ * and logs the requests served per second and the latency of the requests.
+ */
+public final class ServerTool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ServerTool.class);
+    private static final int DEFAULT_PORT = 7878;
+    private static final int DEFAULT_CONNECTIONS = 64;
+    private static final int DEFAULT_MATCHES = 16;
+    private static final int MAX_MOVES = 200;
+    private static final long SEED = 23;
+    private static final double NANOS_PER_MICRO = 1e3;
+
+    private ServerTool() {
+    }
+
+    /**
+     * Starts the server or the load generator.
+     * @param args {@code serve} and the port, or {@code load}, the port, the number of connections
+     * and the number of matches per connection
+     * @throws IOException if the server cannot be started or a connection fails
+     * @throws InterruptedException if the tool is interrupted
+     */
+    public static void main(final String... args) throws IOException, InterruptedException {
+        final String command = args.length > 0 ? args[0] : "serve";
+        final int port = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PORT;
+        if ("serve".equals(command)) {
+            final GameServer server = new GameServerImpl(port);
+            server.start();
+            LOGGER.info("Serving matches on port " + server.getPort());
+            Thread.currentThread().join();
+        } else if ("load".equals(command)) {
+            final int connections = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_CONNECTIONS;
+            final int matches = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_MATCHES;
+            final LoadReport report = new LoadGenerator(port, connections, matches, MAX_MOVES, SEED).run();
+            LOGGER.info(String.format(Locale.ROOT,
+                    "%d matches, %d requests, %.0f requests per second, latency median %.0f us, 99th percentile %.0f us",
+                    report.getFinishedMatches(), report.getRequests(), report.getRequestsPerSecond(),
+                    report.getMedianLatency() / NANOS_PER_MICRO, report.getTailLatency() / NANOS_PER_MICRO));
+        } else {
+            throw new IllegalArgumentException("Unknown command: " + command);
+        }
+    }
+}
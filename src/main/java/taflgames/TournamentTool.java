@@ -0,0 +1,74 @@
+package taflgames;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import taflgames.controller.headless.code.EngineAgent;
+import taflgames.controller.headless.code.RandomAgent;
+import taflgames.controller.tournament.code.Contestant;
+import taflgames.controller.tournament.code.PairingStats;
+import taflgames.controller.tournament.code.TournamentImpl;
+import taflgames.controller.tournament.code.TournamentResults;
+import taflgames.model.ai.code.AlphaBetaEngine;
+import taflgames.model.ai.code.DefaultEvaluation;
+
+/**
+ * Command line entry point that plays a self-play tournament between some configurations of the engine.
+ * Usage: {@code TournamentTool [games per pairing] [threads] [results file]}; a random player
+ * and the alpha-beta search limited to 1, 2 and 3 plies play against each other the given number
+ * of games (by default, 100) in both modes, on the given number of threads (by default, the available
+ * processors). The result of each game is appended to the results file (by default,
+ * {@code tournament.results}), so that running the tool again with the same file resumes the tournament.
+ * At the end, it logs the results of each pairing, with the estimated difference of the Elo ratings,
+ * and the number of games played per second.
+ */
+public final class TournamentTool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TournamentTool.class);
+    private static final int DEFAULT_GAMES = 100;
+    private static final String DEFAULT_RESULTS = "tournament.results";
+    private static final int MAX_DEPTH = 3;
+    private static final int OPENING_MOVES = 2;
+    private static final int MAX_MOVES = 400;
+    private static final long SEED = 22;
+    private static final Duration TIME_BUDGET = Duration.ofSeconds(5);
+
+    private TournamentTool() {
+    }
+
+    /**
+     * Plays the tournament.
+     * @param args the number of games per pairing, the number of threads and the path of the results file
+     * @throws IOException if the results file cannot be read or written
+     * @throws InterruptedException if the tool is interrupted while waiting for the games
+     */
+    public static void main(final String... args) throws IOException, InterruptedException {
+        final int games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+        final int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        final Path results = Path.of(args.length > 2 ? args[2] : DEFAULT_RESULTS);
+        final List<Contestant> contestants = new ArrayList<>();
+        contestants.add(new Contestant("random", seed -> new RandomAgent(new Random(seed))));
+        for (int depth = 1; depth <= MAX_DEPTH; depth++) {
+            final int maxDepth = depth;
+            contestants.add(new Contestant("alphabeta" + depth, seed -> new EngineAgent(
+                    new AlphaBetaEngine(new DefaultEvaluation(), TIME_BUDGET, maxDepth))));
+        }
+        final TournamentResults tournament = new TournamentImpl(contestants, games, threads,
+                OPENING_MOVES, MAX_MOVES, SEED).play(results);
+        for (final PairingStats pairing : tournament.getPairings()) {
+            LOGGER.info(String.format(Locale.ROOT, "%s vs %s: +%d =%d -%d, Elo difference %+.0f +/- %.0f",
+                    pairing.getFirst(), pairing.getSecond(), pairing.getWins(), pairing.getDraws(),
+                    pairing.getLosses(), pairing.getEloDifference(), pairing.getEloError()));
+        }
+        LOGGER.info(String.format(Locale.ROOT, "%d games played, %.2f games per second",
+                tournament.getPlayedGames(), tournament.getGamesPerSecond()));
+    }
+}
@@ -20,10 +20,10 @@ public class ImplFactoryHitbox implements FactoryHitbox {
             throw new IllegalArgumentException("distance was set as 0");
         }
         final Set<Position> s = new HashSet<>();
-        s.add(new Position(t.intValue(), 0));
-        s.add(new Position(0, t.intValue()));
-        s.add(new Position(-t.intValue(), 0));
-        s.add(new Position(0, -t.intValue()));
+        s.add(Position.of(t.intValue(), 0));
+        s.add(Position.of(0, t.intValue()));
+        s.add(Position.of(-t.intValue(), 0));
+        s.add(Position.of(0, -t.intValue()));
         return s;
     }
     /**
@@ -0,0 +1,182 @@
+package taflgames.common.code;
+
+import java.util.Arrays;
+
+/**
+ * A growable buffer of moves, meant to be reused across calls so that
+ * enumerating the moves of a player does not allocate any object per move.
+ * Each move is packed in a single {@code int}, holding the coordinates
+ * of the source and of the destination in one byte each; this is enough
+ * for any board up to 256x256.
+ */
+public final class MoveBuffer {
+
+    private static final int DEFAULT_CAPACITY = 128;
+    private static final int COORDINATE_BITS = 8;
+    private static final int COORDINATE_MASK = (1 << COORDINATE_BITS) - 1;
+    private static final int SOURCE_X_SHIFT = 3 * COORDINATE_BITS;
+    private static final int SOURCE_Y_SHIFT = 2 * COORDINATE_BITS;
+    private static final int DESTINATION_X_SHIFT = COORDINATE_BITS;
+
+    private int[] moves;
+    private int size;
+
+    /**
+     * Creates an empty buffer with a default capacity.
+     */
+    public MoveBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty buffer.
+     * @param capacity the initial number of moves the buffer can hold without growing.
+     */
+    public MoveBuffer(final int capacity) {
+        this.moves = new int[Math.max(1, capacity)];
+    }
+
+    /**
+     * Packs a move in a single int.
+     * @param sourceX the x coordinate of the source
+     * @param sourceY the y coordinate of the source
+     * @param destinationX the x coordinate of the destination
+     * @param destinationY the y coordinate of the destination
+     * @return the packed move
+     */
+    public static int encode(final int sourceX, final int sourceY, final int destinationX, final int destinationY) {
+        return sourceX << SOURCE_X_SHIFT | sourceY << SOURCE_Y_SHIFT | destinationX << DESTINATION_X_SHIFT | destinationY;
+    }
+
+    /**
+     * @param move a packed move
+     * @return the x coordinate of the source of the move
+     */
+    public static int sourceX(final int move) {
+        return move >>> SOURCE_X_SHIFT & COORDINATE_MASK;
+    }
+
+    /**
+     * @param move a packed move
+     * @return the y coordinate of the source of the move
+     */
+    public static int sourceY(final int move) {
+        return move >>> SOURCE_Y_SHIFT & COORDINATE_MASK;
+    }
+
+    /**
+     * @param move a packed move
+     * @return the x coordinate of the destination of the move
+     */
+    public static int destinationX(final int move) {
+        return move >>> DESTINATION_X_SHIFT & COORDINATE_MASK;
+    }
+
+    /**
+     * @param move a packed move
+     * @return the y coordinate of the destination of the move
+     */
+    public static int destinationY(final int move) {
+        return move & COORDINATE_MASK;
+    }
+
+    /**
+     * Removes all the moves from the buffer, keeping its capacity.
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * Appends a move to the buffer.
+     * @param sourceX the x coordinate of the source
+     * @param sourceY the y coordinate of the source
+     * @param destinationX the x coordinate of the destination
+     * @param destinationY the y coordinate of the destination
+     */
+    public void add(final int sourceX, final int sourceY, final int destinationX, final int destinationY) {
+        this.add(encode(sourceX, sourceY, destinationX, destinationY));
+    }
+
+    /**
+     * Appends a packed move to the buffer.
+     * @param move the packed move
+     */
+    public void add(final int move) {
+        if (this.size == this.moves.length) {
+            this.moves = Arrays.copyOf(this.moves, this.moves.length * 2);
+        }
+        this.moves[this.size] = move;
+        this.size++;
+    }
+
+    /**
+     * @return the number of moves in the buffer
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @return true if the buffer holds no moves
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * @param index the index of the move
+     * @return the packed move at the given index
+     */
+    public int get(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return this.moves[index];
+    }
+
+    /**
+     * Exchanges the places of two moves in the buffer, e.g. to sort the moves while searching.
+     * @param first the index of a move
+     * @param second the index of the other move
+     */
+    public void swap(final int first, final int second) {
+        final int move = get(first);
+        this.moves[first] = get(second);
+        this.moves[second] = move;
+    }
+
+    /**
+     * @param index the index of the move
+     * @return the source of the move at the given index
+     */
+    public Position getSource(final int index) {
+        final int move = get(index);
+        return Position.of(sourceX(move), sourceY(move));
+    }
+
+    /**
+     * @param index the index of the move
+     * @return the destination of the move at the given index
+     */
+    public Position getDestination(final int index) {
+        final int move = get(index);
+        return Position.of(destinationX(move), destinationY(move));
+    }
+
+    /**
+     * Checks whether the buffer holds the given move.
+     * @param source the source of the move
+     * @param destination the destination of the move
+     * @return true if the move is in the buffer
+     */
+    public boolean contains(final Position source, final Position destination) {
+        final int move = encode(source.getX(), source.getY(), destination.getX(), destination.getY());
+        for (int i = 0; i < this.size; i++) {
+            if (this.moves[i] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,8 +2,28 @@ package taflgames.common.code;
 
 /**
  * A class modelling a 2D point in space.
+ * <p>
+ * Since a Position is immutable, the instances returned by {@link #of(int, int)} are shared:
+ * every call with the same coordinates returns the same instance, as long as they are
+ * within the range of the boards and of the offsets used around them. The hot paths
+ * should use {@link #of(int, int)} instead of the constructor, so that they allocate nothing
+ * and the comparisons of the shared instances end with the identity check.
  */
 public class Position {
+    /*
+     * The shared instances cover the coordinates from -CACHE_OFFSET to CACHE_SIDE - CACHE_OFFSET - 1,
+     * that is every board up to 48x48 together with the squares just outside of it.
+     */
+    private static final int CACHE_OFFSET = 16;
+    private static final int CACHE_SIDE = 64;
+    private static final Position[] CACHE = new Position[CACHE_SIDE * CACHE_SIDE];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new Position(i % CACHE_SIDE - CACHE_OFFSET, i / CACHE_SIDE - CACHE_OFFSET);
+        }
+    }
+
     private final int x;
     private final int y;
 
@@ -28,6 +48,42 @@ public class Position {
         this.y = p.getY();
     }
 
+    /**
+     * Returns the Position with the given coordinates, which is a shared instance
+     * unless the coordinates are far outside of any board.
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @return the Position.
+     */
+    public static Position of(final int x, final int y) {
+        final int cacheX = x + CACHE_OFFSET;
+        final int cacheY = y + CACHE_OFFSET;
+        if (cacheX >= 0 && cacheY >= 0 && cacheX < CACHE_SIDE && cacheY < CACHE_SIDE) {
+            return CACHE[cacheY * CACHE_SIDE + cacheX];
+        }
+        return new Position(x, y);
+    }
+
+    /**
+     * Returns the Position of a square of a board, given its index.
+     * @param index the index of the square, as returned by {@link #index(int)}.
+     * @param size the size of the board.
+     * @return the Position.
+     */
+    public static Position ofIndex(final int index, final int size) {
+        return of(index % size, index / size);
+    }
+
+    /**
+     * Returns the index of this Position on a board, that is {@code y * size + x}: the squares
+     * of a board are numbered from 0 to {@code size * size - 1}, row by row.
+     * @param size the size of the board.
+     * @return the index.
+     */
+    public int index(final int size) {
+        return this.y * size + this.x;
+    }
+
     /**
      * Returns the x coordinate.
      * @return the x coordinate.
@@ -55,8 +55,8 @@ public final class VectorImpl implements Vector {
      * @param isUnitVector states wether this VectorImpl is a unit vector.
      */
     public VectorImpl(final int deltaX, final int deltaY, final boolean isUnitVector) {
-        this.startPos = new Position(0, 0);
-        this.endPos = new Position(deltaX, deltaY);
+        this.startPos = Position.of(0, 0);
+        this.endPos = Position.of(deltaX, deltaY);
         if (this.canBeVersor() && isUnitVector) {
             this.isUnitVector = true;
         } else {
@@ -105,7 +105,7 @@ public final class VectorImpl implements Vector {
      */
     @Override
     public Vector multiplyByScalar(final int scalar) {
-        final Position e = new Position(this.startPos.getX() + scalar * this.deltaX(),
+        final Position e = Position.of(this.startPos.getX() + scalar * this.deltaX(),
                                         this.startPos.getY() + scalar * this.deltaY());
         return new VectorImpl(this.startPos, e);
     }
@@ -115,7 +115,7 @@ public final class VectorImpl implements Vector {
      */
     @Override
     public Position applyToPosition(final Position startingPoint) {
-        return new Position(startingPoint.getX() + this.deltaX(), startingPoint.getY() + this.deltaY());
+        return Position.of(startingPoint.getX() + this.deltaX(), startingPoint.getY() + this.deltaY());
     }
 
     /**
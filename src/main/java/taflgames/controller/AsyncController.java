@@ -0,0 +1,132 @@
+package taflgames.controller;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import taflgames.common.Player;
+import taflgames.common.code.MatchResult;
+import taflgames.common.code.Pair;
+import taflgames.common.code.Position;
+import taflgames.controller.entitystate.CellState;
+import taflgames.controller.entitystate.PieceState;
+import taflgames.controller.gamerecord.api.GameReplay;
+
+/**
+ * The asynchronous version of the {@link Controller}: each method returns at once,
+ * with a {@link CompletableFuture} of the result of the same method of the {@link Controller}.
+ * <br>The operations are performed one at a time, in the order they were requested,
+ * on a thread dedicated to the match, so that slow operations never block the caller;
+ * the futures are completed on the thread chosen by the caller, e.g. the thread of its user interface.
+ * If an operation fails, its future is completed exceptionally with the exception it threw.
+ */
+public interface AsyncController extends AutoCloseable {
+
+    /**
+     * @return a future completed when a new classic mode match is initialized
+     * @see Controller#createClassicModeMatch()
+     */
+    CompletableFuture<Void> createClassicModeMatch();
+
+    /**
+     * @return a future completed when a new variant mode match is initialized
+     * @see Controller#createVariantModeMatch()
+     */
+    CompletableFuture<Void> createVariantModeMatch();
+
+    /**
+     * @param p the selected {@link Position}
+     * @return a future of whether the selection is a valid starting point for a move
+     * @see Controller#isStartingPointValid(Position)
+     */
+    CompletableFuture<Boolean> isStartingPointValid(Position p);
+
+    /**
+     * @param startPos the starting {@link Position}
+     * @param endPos the ending {@link Position}
+     * @return a future of whether the move is valid
+     * @see Controller#isDestinationValid(Position, Position)
+     */
+    CompletableFuture<Boolean> isDestinationValid(Position startPos, Position endPos);
+
+    /**
+     * @param startPos the starting {@link Position}
+     * @param endPos the ending {@link Position}
+     * @return a future of whether the move was legal and then performed
+     * @see Controller#moveIfLegal(Position, Position)
+     */
+    CompletableFuture<Boolean> moveIfLegal(Position startPos, Position endPos);
+
+    /**
+     * @return a future of whether the match is over
+     * @see Controller#isOver()
+     */
+    CompletableFuture<Boolean> isOver();
+
+    /**
+     * @return a future completed when the move is undone
+     * @see Controller#undo()
+     */
+    CompletableFuture<Void> undo();
+
+    /**
+     * @return a future completed when the turn is passed
+     * @see Controller#passTurn()
+     */
+    CompletableFuture<Void> passTurn();
+
+    /**
+     * @return a future of the results of the players, if the match is over
+     * @see Controller#getMatchResult()
+     */
+    CompletableFuture<Optional<Pair<MatchResult, MatchResult>>> getMatchResult();
+
+    /**
+     * @return a future of the state of the cells
+     * @see Controller#getCellsDisposition()
+     */
+    CompletableFuture<Map<Position, CellState>> getCellsDisposition();
+
+    /**
+     * @return a future of the state of the pieces
+     * @see Controller#getPiecesDisposition()
+     */
+    CompletableFuture<Map<Position, PieceState>> getPiecesDisposition();
+
+    /**
+     * @return a future of the player in turn
+     * @see Controller#getCurrentPlayer()
+     */
+    CompletableFuture<Player> getCurrentPlayer();
+
+    /**
+     * @return a future of the entries of the leaderboard
+     * @see Controller#getLeaderboard()
+     */
+    CompletableFuture<Map<String, Pair<Integer, Integer>>> getLeaderboard();
+
+    /**
+     * @return a future completed when the leaderboard is cleared
+     * @see Controller#clearLeaderboard()
+     */
+    CompletableFuture<Void> clearLeaderboard();
+
+    /**
+     * @return a future of the number of games recorded so far
+     * @see Controller#getRecordedGamesCount()
+     */
+    CompletableFuture<Integer> getRecordedGamesCount();
+
+    /**
+     * @param game the index of the game, from 0 for the oldest one
+     * @return a future of the replay of the game, if it can be loaded
+     * @see Controller#loadReplay(int)
+     */
+    CompletableFuture<Optional<GameReplay>> loadReplay(int game);
+
+    /**
+     * Stops accepting operations; the operations already requested are still performed.
+     */
+    @Override
+    void close();
+}
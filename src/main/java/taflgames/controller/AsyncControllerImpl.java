@@ -0,0 +1,228 @@
+package taflgames.controller;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import taflgames.common.Player;
+import taflgames.common.code.MatchResult;
+import taflgames.common.code.Pair;
+import taflgames.common.code.Position;
+import taflgames.controller.entitystate.CellState;
+import taflgames.controller.entitystate.PieceState;
+import taflgames.controller.gamerecord.api.GameReplay;
+
+/**
+ * An {@link AsyncController} that performs the operations of a synchronous {@link Controller}
+ * on a thread of its own. The wrapped controller is used only by that thread,
+ * so it does not need to be thread-safe.
+ */
+public final class AsyncControllerImpl implements AsyncController {
+
+    private static final AtomicInteger MATCH_THREADS = new AtomicInteger();
+
+    private final Controller controller;
+    private final Executor callerExecutor;
+    private final ExecutorService matchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "match-" + MATCH_THREADS.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates an asynchronous controller.
+     * @param controller the controller that performs the operations
+     * @param callerExecutor the executor that completes the futures, e.g. the one that runs tasks
+     * on the thread of the user interface; {@code Runnable::run} completes them on the thread of the match
+     */
+    public AsyncControllerImpl(final Controller controller, final Executor callerExecutor) {
+        this.controller = Objects.requireNonNull(controller);
+        this.callerExecutor = Objects.requireNonNull(callerExecutor);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> createClassicModeMatch() {
+        return this.perform(() -> {
+            this.controller.createClassicModeMatch();
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> createVariantModeMatch() {
+        return this.perform(() -> {
+            this.controller.createVariantModeMatch();
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> isStartingPointValid(final Position p) {
+        return this.perform(() -> this.controller.isStartingPointValid(p));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> isDestinationValid(final Position startPos, final Position endPos) {
+        return this.perform(() -> this.controller.isDestinationValid(startPos, endPos));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> moveIfLegal(final Position startPos, final Position endPos) {
+        return this.perform(() -> this.controller.moveIfLegal(startPos, endPos));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> isOver() {
+        return this.perform(this.controller::isOver);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> undo() {
+        return this.perform(() -> {
+            this.controller.undo();
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> passTurn() {
+        return this.perform(() -> {
+            this.controller.passTurn();
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Optional<Pair<MatchResult, MatchResult>>> getMatchResult() {
+        return this.perform(this.controller::getMatchResult);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Map<Position, CellState>> getCellsDisposition() {
+        return this.perform(this.controller::getCellsDisposition);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Map<Position, PieceState>> getPiecesDisposition() {
+        return this.perform(this.controller::getPiecesDisposition);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Player> getCurrentPlayer() {
+        return this.perform(this.controller::getCurrentPlayer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Map<String, Pair<Integer, Integer>>> getLeaderboard() {
+        return this.perform(this.controller::getLeaderboard);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> clearLeaderboard() {
+        return this.perform(() -> {
+            this.controller.clearLeaderboard();
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Integer> getRecordedGamesCount() {
+        return this.perform(this.controller::getRecordedGamesCount);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Optional<GameReplay>> loadReplay(final int game) {
+        return this.perform(() -> this.controller.loadReplay(game));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        this.matchExecutor.shutdown();
+    }
+
+    /*
+     * Queues the operation on the thread of the match and relays its outcome, whatever it is, through the executor
+     * of the caller, so that the actions attached to the future before it is completed run there too.
+     */
+    private <T> CompletableFuture<T> perform(final Callable<T> operation) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            CompletableFuture.supplyAsync(() -> {
+                try {
+                    return operation.call();
+                } catch (final Exception exception) { // NOPMD: the checked exceptions are relayed as well
+                    throw new CompletionException(exception);
+                }
+            }, this.matchExecutor).whenComplete((value, failure) -> this.callerExecutor.execute(() -> {
+                if (failure == null) {
+                    result.complete(value);
+                } else {
+                    result.completeExceptionally(failure instanceof CompletionException && failure.getCause() != null
+                            ? failure.getCause() : failure);
+                }
+            }));
+        } catch (final RejectedExecutionException exception) {
+            result.completeExceptionally(new IllegalStateException("The controller was closed", exception));
+        }
+        return result;
+    }
+}
@@ -10,6 +10,7 @@ import taflgames.common.code.Pair;
 import taflgames.common.code.Position;
 import taflgames.controller.entitystate.CellState;
 import taflgames.controller.entitystate.PieceState;
+import taflgames.controller.gamerecord.api.GameReplay;
 
 /**
  * This interface describes the controller of the application.
@@ -59,8 +60,8 @@ public interface Controller {
     boolean isOver();
 
     /**
-     * Undoes the last move of this turn, if any. Only the first call
-     * to this method will actually have an impact on the game state.
+     * Undoes the last move of this turn, if any, otherwise the move of the previous turn:
+     * each call goes back one more turn, as long as the history of the match allows it.
      */
     void undo();
 
@@ -113,4 +114,17 @@ public interface Controller {
      * Clears any current leaderboard.
      */
     void clearLeaderboard();
+
+    /**
+     * @return the number of games recorded so far, or 0 if the record cannot be read
+     */
+    int getRecordedGamesCount();
+
+    /**
+     * Loads the replay of one of the games recorded so far, starting from the oldest one.
+     * @param game the index of the game, from 0 for the oldest one
+     * @return the replay of the game, or an empty {@link Optional} if there is no such game
+     * or it cannot be read
+     */
+    Optional<GameReplay> loadReplay(int game);
 }
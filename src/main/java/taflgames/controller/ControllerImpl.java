@@ -1,31 +1,39 @@
 package taflgames.controller;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import taflgames.model.board.code.BoardImpl;
+import taflgames.Installer;
+import taflgames.model.board.code.BitBoardImpl;
 import taflgames.common.Player;
 import taflgames.common.code.MatchResult;
 import taflgames.common.code.Pair;
 import taflgames.common.code.Position;
 import taflgames.controller.entitystate.CellState;
 import taflgames.controller.entitystate.PieceState;
+import taflgames.controller.gamerecord.api.GameRecordListener;
+import taflgames.controller.gamerecord.api.GameRecordReader;
+import taflgames.controller.gamerecord.api.GameRecordWriter;
+import taflgames.controller.gamerecord.api.GameReplay;
+import taflgames.controller.gamerecord.code.GameRecordReaderImpl;
+import taflgames.controller.gamerecord.code.GameRecordWriterImpl;
+import taflgames.controller.gamerecord.code.GameReplayBuilder;
+import taflgames.controller.headless.api.GameMode;
+import taflgames.controller.headless.code.Matches;
 import taflgames.controller.leaderboard.api.LeaderboardSaver;
 import taflgames.controller.leaderboard.code.LeaderBoardImpl;
 import taflgames.controller.leaderboard.code.LeaderboardSaverImpl;
-import taflgames.controller.settingsloader.SettingsLoader;
-import taflgames.controller.settingsloader.SettingsLoaderImpl;
 import taflgames.model.Model;
-import taflgames.model.Match;
-import taflgames.model.builders.CellsCollectionBuilder;
-import taflgames.model.builders.CellsCollectionBuilderImpl;
-import taflgames.model.builders.PiecesCollectionBuilder;
-import taflgames.model.builders.PiecesCollectionBuilderImpl;
+import taflgames.model.codec.code.TextPositionCodec;
 import taflgames.model.memento.api.Caretaker;
 import taflgames.model.memento.code.CaretakerImpl;
 import taflgames.view.View;
@@ -36,10 +44,12 @@ import taflgames.view.View;
 public final class ControllerImpl implements Controller {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ControllerImpl.class);
+    private static final String GAME_RECORD_FILE_NAME = "games.record";
 
     private final View view;
     private Model match;
     private Caretaker caretaker;
+    private GameRecordWriter gameRecord;
 
     /**
      * Instantiates a controller for the application.
@@ -56,46 +66,12 @@ public final class ControllerImpl implements Controller {
 
     @Override
     public void createClassicModeMatch() throws IOException {
-        final SettingsLoader loader = new SettingsLoaderImpl();
-        final CellsCollectionBuilder cellsCollBuilder = new CellsCollectionBuilderImpl();
-        final PiecesCollectionBuilder piecesCollBuilder = new PiecesCollectionBuilderImpl();
-        try {
-            loader.loadClassicModeConfig(cellsCollBuilder, piecesCollBuilder);
-            final var pieces = piecesCollBuilder.build();
-            final var cells = cellsCollBuilder.build();
-            final int size = (int) Math.sqrt(cells.size());
-            this.match = new Match(
-                new BoardImpl(pieces, cells, size)
-            );
-            this.caretaker = new CaretakerImpl(this.match);
-            this.caretaker.updateHistory();
-        } catch (final IOException exception) {
-            final String errorMsg = "Error: cannot initialize a new match.";
-            LOGGER.error(errorMsg, exception);
-            throw exception;
-        }
+        this.createMatch(GameMode.CLASSIC);
     }
 
     @Override
     public void createVariantModeMatch() throws IOException {
-        final SettingsLoader loader = new SettingsLoaderImpl();
-        final CellsCollectionBuilder cellsCollBuilder = new CellsCollectionBuilderImpl();
-        final PiecesCollectionBuilder piecesCollBuilder = new PiecesCollectionBuilderImpl();
-        try {
-            loader.loadVariantModeConfig(cellsCollBuilder, piecesCollBuilder);
-            final var pieces = piecesCollBuilder.build();
-            final var cells = cellsCollBuilder.build();
-            final int size = (int) Math.sqrt(cells.size());
-            this.match = new Match(
-                new BoardImpl(pieces, cells, size)
-            );
-            this.caretaker = new CaretakerImpl(this.match);
-            this.caretaker.updateHistory();
-        } catch (final IOException exception) {
-            final String errorMsg = "Error: cannot initialize a new match. ";
-            LOGGER.error(errorMsg, exception);
-            throw exception;
-        }
+        this.createMatch(GameMode.VARIANT);
     }
 
     /**
@@ -122,6 +98,11 @@ public final class ControllerImpl implements Controller {
         final boolean isMoveLegal = this.match.selectSource(startPos) && this.match.selectDestination(startPos, endPos);
         if (isMoveLegal) {
             this.match.makeMove(startPos, endPos);
+            this.record(gameRecord -> gameRecord.onMove(startPos, endPos));
+            this.match.getMatchEndStatus().ifPresent(result -> {
+                this.record(gameRecord -> gameRecord.onGameEnd(result));
+                this.stopGameRecord();
+            });
             // The move has been performed, so the board view must be updated.
             this.view.update();
         }
@@ -136,6 +117,12 @@ public final class ControllerImpl implements Controller {
         if (!this.isOver()) {
             this.match.setNextActivePlayer();
             this.caretaker.updateHistory();
+            this.record(GameRecordListener::onTurnEnd);
+            this.record(gameRecord -> {
+                if (gameRecord.needsKeyframe()) {
+                    gameRecord.onKeyframe(new TextPositionCodec(BitBoardImpl::new).encode(this.match));
+                }
+            });
             this.view.update();
         }
     }
@@ -191,6 +178,7 @@ public final class ControllerImpl implements Controller {
         if (this.caretaker.isLocked()) {
             this.caretaker.unlockHistory();
             this.caretaker.undo();
+            this.record(GameRecordListener::onUndo);
             this.view.update();
         }
     }
@@ -212,4 +200,99 @@ public final class ControllerImpl implements Controller {
         final LeaderboardSaver l = new LeaderboardSaverImpl();
         l.saveLeaderboard(new LeaderBoardImpl());
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRecordedGamesCount() {
+        final Path file = Path.of(Installer.getFilePath(), GAME_RECORD_FILE_NAME);
+        int count = 0;
+        if (Files.exists(file)) {
+            try (GameRecordReader reader = new GameRecordReaderImpl(file)) {
+                while (reader.skipGame()) {
+                    count++;
+                }
+            } catch (final IOException exception) {
+                LOGGER.error("Error while trying to read the record of the games.", exception);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<GameReplay> loadReplay(final int game) {
+        final Path file = Path.of(Installer.getFilePath(), GAME_RECORD_FILE_NAME);
+        if (game < 0 || !Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (GameRecordReader reader = new GameRecordReaderImpl(file)) {
+            for (int i = 0; i < game; i++) {
+                if (!reader.skipGame()) {
+                    return Optional.empty();
+                }
+            }
+            final GameReplayBuilder builder = new GameReplayBuilder(BitBoardImpl::new);
+            return reader.readGame(builder) ? Optional.of(builder.build()) : Optional.empty();
+        } catch (final IOException | IllegalArgumentException exception) {
+            LOGGER.error("Error while trying to read the record of the games.", exception);
+            return Optional.empty();
+        }
+    }
+
+    private void createMatch(final GameMode mode) throws IOException {
+        try {
+            this.match = Matches.create(mode, BitBoardImpl::new);
+            this.caretaker = new CaretakerImpl(this.match);
+            this.caretaker.updateHistory();
+            this.startGameRecord(mode.getName());
+        } catch (final IOException exception) {
+            final String errorMsg = "Error: cannot initialize a new match.";
+            LOGGER.error(errorMsg, exception);
+            throw exception;
+        }
+    }
+
+    /*
+     * Starts appending the events of the new match to the record of the games played,
+     * which is kept in the same directory of the leaderboard.
+     */
+    private void startGameRecord(final String mode) {
+        this.stopGameRecord();
+        try {
+            this.gameRecord = new GameRecordWriterImpl(Path.of(Installer.getFilePath(), GAME_RECORD_FILE_NAME));
+        } catch (final IOException exception) {
+            LOGGER.error("Error while trying to access the record of the games.", exception);
+            return;
+        }
+        this.record(gameRecord -> gameRecord.onGameStart(mode, new TextPositionCodec(BitBoardImpl::new).encode(this.match)));
+    }
+
+    /*
+     * Records an event of the match; if the record cannot be written, the match goes on without it.
+     */
+    private void record(final Consumer<GameRecordWriter> event) {
+        if (this.gameRecord != null) {
+            try {
+                event.accept(this.gameRecord);
+            } catch (final UncheckedIOException exception) {
+                LOGGER.error("Error while trying to write the record of the games.", exception);
+                this.stopGameRecord();
+            }
+        }
+    }
+
+    private void stopGameRecord() {
+        if (this.gameRecord != null) {
+            try {
+                this.gameRecord.close();
+            } catch (final IOException exception) {
+                LOGGER.error("Error while trying to close the record of the games.", exception);
+            }
+            this.gameRecord = null;
+        }
+    }
 }
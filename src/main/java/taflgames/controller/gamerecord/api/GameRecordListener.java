@@ -0,0 +1,56 @@
+package taflgames.controller.gamerecord.api;
+
+import taflgames.common.code.MatchResult;
+import taflgames.common.code.Pair;
+import taflgames.common.code.Position;
+
+/**
+ * Receives the events of the games, in the order in which they happened: the start of a game,
+ * its moves, the ends of the turns, the undo requests and the end of the game, together with
+ * the keyframes, i.e. the whole state of the match saved from time to time.
+ * The same events are produced by the controller while a game is played, and by a
+ * {@link GameRecordReader} while a record of games is read.
+ */
+public interface GameRecordListener {
+
+    /**
+     * Called when a new game starts.
+     * @param mode the mode of the game, e.g. {@code classic} or {@code variant}, as a single word
+     * @param position the initial state of the game, as written by
+     * {@link taflgames.model.codec.code.TextPositionCodec}
+     */
+    void onGameStart(String mode, String position);
+
+    /**
+     * Called when the player in turn moves a piece.
+     * @param start the position of the piece
+     * @param destination the destination of the piece
+     */
+    void onMove(Position start, Position destination);
+
+    /**
+     * Called when the player in turn passes the turn to the other one.
+     */
+    void onTurnEnd();
+
+    /**
+     * Called when the player in turn asks to undo the last turn.
+     */
+    void onUndo();
+
+    /**
+     * Called with the state of the match at the end of a turn, or after an undo request,
+     * which lets a replay start from there rather than from the beginning of the game.
+     * The keyframes carry no event, so by default they are ignored.
+     * @param position the state of the match, as written by {@link taflgames.model.codec.code.TextPositionCodec}
+     */
+    default void onKeyframe(final String position) {
+        // The keyframes don't change the state of the match
+    }
+
+    /**
+     * Called when the game is over.
+     * @param result the result of the game for the attacker (first element) and the defender (second element)
+     */
+    void onGameEnd(Pair<MatchResult, MatchResult> result);
+}
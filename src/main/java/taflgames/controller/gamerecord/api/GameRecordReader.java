@@ -0,0 +1,30 @@
+package taflgames.controller.gamerecord.api;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads a record of games one game at a time, giving the events of each one to a
+ * {@link GameRecordListener}: only the current line of the record is kept in memory,
+ * so a record of millions of games can be replayed in a single pass.
+ */
+public interface GameRecordReader extends Closeable {
+
+    /**
+     * Reads the next game of the record. A game whose end was not recorded, e.g. because
+     * the application was closed while it was being played, ends without calling
+     * {@link GameRecordListener#onGameEnd}.
+     * @param listener the listener of the events of the game
+     * @return false if there are no more games in the record, true otherwise
+     * @throws IOException if the record cannot be read or it is malformed
+     */
+    boolean readGame(GameRecordListener listener) throws IOException;
+
+    /**
+     * Skips the next game of the record, without reading its events, e.g. to reach a game
+     * in the middle of the record.
+     * @return false if there are no more games in the record, true otherwise
+     * @throws IOException if the record cannot be read or the next game does not start as expected
+     */
+    boolean skipGame() throws IOException;
+}
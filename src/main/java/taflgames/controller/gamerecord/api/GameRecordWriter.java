@@ -0,0 +1,20 @@
+package taflgames.controller.gamerecord.api;
+
+import java.io.Closeable;
+
+/**
+ * A {@link GameRecordListener} that appends each event to a record of games as soon as it happens,
+ * so that the record can grow to any number of games without being kept in memory.
+ * <br><br>Since the events can come from anywhere, the listener methods throw an
+ * {@link java.io.UncheckedIOException} if the record cannot be written.
+ */
+public interface GameRecordWriter extends GameRecordListener, Closeable {
+
+    /**
+     * Tells whether a keyframe should be written now, i.e. whether enough turns have ended
+     * since the start of the game or the last keyframe, so that the record stays seekable
+     * without taking much more room than its moves.
+     * @return true if {@link #onKeyframe(String)} should be called with the current state of the match
+     */
+    boolean needsKeyframe();
+}
@@ -0,0 +1,69 @@
+package taflgames.controller.gamerecord.api;
+
+import java.util.Map;
+import java.util.Optional;
+
+import taflgames.common.Player;
+import taflgames.common.code.MatchResult;
+import taflgames.common.code.Pair;
+import taflgames.common.code.Position;
+import taflgames.controller.entitystate.CellState;
+import taflgames.controller.entitystate.PieceState;
+
+/**
+ * A recorded game that can be watched again, moving to any of its steps.
+ * The steps are the states shown to the players: the start of the game, the state after each
+ * turn that ended or was undone and, if the game ended in the middle of a turn, the final state.
+ * <br><br>Moving to a step decodes the nearest keyframe before it and plays the few moves between them,
+ * so it takes about the same time wherever the step is in the game.
+ */
+public interface GameReplay {
+
+    /**
+     * @return the mode of the game, e.g. {@code classic} or {@code variant}
+     */
+    String getMode();
+
+    /**
+     * @return the number of steps of the game, at least one
+     */
+    int getStepsCount();
+
+    /**
+     * @return the current step, from 0 to {@link #getStepsCount()} - 1
+     */
+    int getCurrentStep();
+
+    /**
+     * Moves to a step of the game.
+     * @param step the step, from 0 to {@link #getStepsCount()} - 1
+     * @throws IndexOutOfBoundsException if there is no such step
+     */
+    void seek(int step);
+
+    /**
+     * @return the number of the turn at the current step
+     */
+    int getTurnNumber();
+
+    /**
+     * @return the {@link Player} in turn at the current step
+     */
+    Player getActivePlayer();
+
+    /**
+     * @return the mapping of each position to the state of its cell at the current step
+     */
+    Map<Position, CellState> getCellsDisposition();
+
+    /**
+     * @return the mapping of each position to the state of its piece at the current step
+     */
+    Map<Position, PieceState> getPiecesDisposition();
+
+    /**
+     * @return the recorded result of the game, for the attacker (first element) and the defender (second element),
+     * or an empty {@link Optional} if the end of the game was not recorded
+     */
+    Optional<Pair<MatchResult, MatchResult>> getResult();
+}
@@ -0,0 +1,92 @@
+package taflgames.controller.gamerecord.code;
+
+import taflgames.common.code.Position;
+
+/**
+ * The format of the records of games: a text file with one event per line, each one
+ * starting with a keyword, so that a record can be appended to and read one line at a time.
+ * <pre>
+ * game variant 3BBABB3/5B5/... a 0 c3u0,i3u0,c9u0,i9u0 - -
+ * move d6 d3
+ * turn
+ * keyframe 3BBABB3/5B5/... d 1 c3u1,i3u1,c9u1,i9u1 - -
+ * undo
+ * end VICTORY DEFEAT
+ * </pre>
+ * A game starts with its mode and its initial state, as written by
+ * {@link taflgames.model.codec.code.TextPositionCodec}; a move is the square of the piece and the one
+ * of its destination, written as the letter of the column, from {@code a} for {@code x = 0},
+ * and the number of the row, from {@code 1} for {@code y = 0}; a keyframe is the state of the match
+ * after the previous line, written in the same way as the initial one; the end of a game is the result
+ * of the attacker and the one of the defender.
+ */
+final class GameRecordFormat {
+
+    /**
+     * The keyword of the start of a game.
+     */
+    static final String GAME = "game";
+    /**
+     * The keyword of a move.
+     */
+    static final String MOVE = "move";
+    /**
+     * The keyword of the end of a turn.
+     */
+    static final String TURN = "turn";
+    /**
+     * The keyword of an undo request.
+     */
+    static final String UNDO = "undo";
+    /**
+     * The keyword of a keyframe.
+     */
+    static final String KEYFRAME = "keyframe";
+    /**
+     * The keyword of the end of a game.
+     */
+    static final String END = "end";
+    /**
+     * The separator of the fields of a line.
+     */
+    static final char SEPARATOR = ' ';
+
+    private static final char FIRST_COLUMN = 'a';
+    private static final char LAST_COLUMN = 'z';
+
+    private GameRecordFormat() {
+    }
+
+    /**
+     * @param position a position
+     * @return the name of the square of the position
+     * @throws IllegalArgumentException if the position cannot be written
+     */
+    static String squareName(final Position position) {
+        if (position.getX() < 0 || position.getX() > LAST_COLUMN - FIRST_COLUMN || position.getY() < 0) {
+            throw new IllegalArgumentException("The position cannot be recorded: " + position);
+        }
+        return (char) (FIRST_COLUMN + position.getX()) + String.valueOf(position.getY() + 1);
+    }
+
+    /**
+     * @param name the name of a square
+     * @return the position of the square
+     * @throws IllegalArgumentException if the name is malformed
+     */
+    static Position parseSquare(final String name) {
+        if (name.length() < 2 || name.charAt(0) < FIRST_COLUMN || name.charAt(0) > LAST_COLUMN) {
+            throw new IllegalArgumentException("Invalid square: " + name);
+        }
+        for (int i = 1; i < name.length(); i++) {
+            if (!Character.isDigit(name.charAt(i))) {
+                throw new IllegalArgumentException("Invalid square: " + name);
+            }
+        }
+        final int row = Integer.parseInt(name.substring(1));
+        if (row == 0) {
+            throw new IllegalArgumentException("Invalid square: " + name);
+        }
+        return Position.of(name.charAt(0) - FIRST_COLUMN, row - 1);
+    }
+}
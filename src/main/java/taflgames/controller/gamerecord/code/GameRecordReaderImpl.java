@@ -0,0 +1,133 @@
+package taflgames.controller.gamerecord.code;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import taflgames.common.code.MatchResult;
+import taflgames.common.code.Pair;
+import taflgames.controller.gamerecord.api.GameRecordListener;
+import taflgames.controller.gamerecord.api.GameRecordReader;
+
+/**
+ * A {@link GameRecordReader} of the records written in the format described in {@link GameRecordFormat}.
+ * The empty lines are skipped.
+ */
+public final class GameRecordReaderImpl implements GameRecordReader {
+
+    private final BufferedReader reader;
+    private String nextLine;
+    private long lineNumber;
+
+    /**
+     * Creates a reader of the record in the given file.
+     * @param file the file of the record
+     * @throws IOException if the file cannot be opened
+     */
+    public GameRecordReaderImpl(final Path file) throws IOException {
+        this(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates a reader of the record given by a reader, which is closed with this one.
+     * @param reader the source of the record
+     */
+    public GameRecordReaderImpl(final Reader reader) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean readGame(final GameRecordListener listener) throws IOException {
+        String line = this.next();
+        if (line == null) {
+            return false;
+        }
+        final String[] start = line.split(String.valueOf(GameRecordFormat.SEPARATOR), 3);
+        if (!GameRecordFormat.GAME.equals(start[0]) || start.length < 3) {
+            throw this.malformed(line);
+        }
+        listener.onGameStart(start[1], start[2]);
+        boolean ended = false;
+        line = this.next();
+        while (line != null && !line.startsWith(GameRecordFormat.GAME + GameRecordFormat.SEPARATOR)) {
+            if (ended) {
+                throw this.malformed(line);
+            }
+            final String[] fields = line.split(String.valueOf(GameRecordFormat.SEPARATOR));
+            try {
+                if (GameRecordFormat.MOVE.equals(fields[0]) && fields.length == 3) {
+                    listener.onMove(GameRecordFormat.parseSquare(fields[1]), GameRecordFormat.parseSquare(fields[2]));
+                } else if (GameRecordFormat.TURN.equals(line)) {
+                    listener.onTurnEnd();
+                } else if (GameRecordFormat.UNDO.equals(line)) {
+                    listener.onUndo();
+                } else if (GameRecordFormat.KEYFRAME.equals(fields[0]) && fields.length > 1) {
+                    listener.onKeyframe(line.substring(GameRecordFormat.KEYFRAME.length() + 1));
+                } else if (GameRecordFormat.END.equals(fields[0]) && fields.length == 3) {
+                    listener.onGameEnd(new Pair<>(MatchResult.valueOf(fields[1]), MatchResult.valueOf(fields[2])));
+                    ended = true;
+                } else {
+                    throw this.malformed(line);
+                }
+            } catch (final IllegalArgumentException e) {
+                throw (IOException) this.malformed(line).initCause(e);
+            }
+            line = this.next();
+        }
+        this.nextLine = line;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean skipGame() throws IOException {
+        String line = this.next();
+        if (line == null) {
+            return false;
+        } else if (!line.startsWith(GameRecordFormat.GAME + GameRecordFormat.SEPARATOR)) {
+            throw this.malformed(line);
+        }
+        do {
+            line = this.next();
+        } while (line != null && !line.startsWith(GameRecordFormat.GAME + GameRecordFormat.SEPARATOR));
+        this.nextLine = line;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    /*
+     * Returns the next line that is not empty, the one that was put back first, if any.
+     */
+    private String next() throws IOException {
+        if (this.nextLine != null) {
+            final String line = this.nextLine;
+            this.nextLine = null;
+            return line;
+        }
+        String line;
+        do {
+            line = this.reader.readLine();
+            this.lineNumber++;
+        } while (line != null && line.isEmpty());
+        return line;
+    }
+
+    private IOException malformed(final String line) {
+        return new IOException("Malformed line " + this.lineNumber + " of the record of games: " + line);
+    }
+}
@@ -0,0 +1,139 @@
+package taflgames.controller.gamerecord.code;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import taflgames.common.code.MatchResult;
+import taflgames.common.code.Pair;
+import taflgames.common.code.Position;
+import taflgames.controller.gamerecord.api.GameRecordWriter;
+
+/**
+ * A {@link GameRecordWriter} that writes the events in the format described in {@link GameRecordFormat}.
+ */
+public final class GameRecordWriterImpl implements GameRecordWriter {
+
+    private static final int KEYFRAME_INTERVAL = 8;
+
+    private final Writer writer;
+    private final boolean autoFlush;
+    private int turnsSinceKeyframe;
+
+    /**
+     * Creates a writer that appends the events to a file, creating it if it does not exist.
+     * Each event is flushed as soon as it is written, so the record is complete up to the last
+     * event even if the application is closed in the middle of a game.
+     * @param file the file of the record
+     * @throws IOException if the file cannot be opened
+     */
+    public GameRecordWriterImpl(final Path file) throws IOException {
+        this(Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND, StandardOpenOption.WRITE), true);
+    }
+
+    /**
+     * Creates a writer that writes the events to the given writer, which is closed with this one.
+     * @param writer the destination of the events
+     * @param autoFlush whether each event is flushed as soon as it is written, rather than when
+     * the buffer of the writer is full
+     */
+    public GameRecordWriterImpl(final Writer writer, final boolean autoFlush) {
+        this.writer = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+        this.autoFlush = autoFlush;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onGameStart(final String mode, final String position) {
+        if (mode.isEmpty() || mode.indexOf(GameRecordFormat.SEPARATOR) >= 0 || position.indexOf('\n') >= 0) {
+            throw new IllegalArgumentException("The game cannot be recorded: " + mode + " " + position);
+        }
+        this.writeLine(GameRecordFormat.GAME + GameRecordFormat.SEPARATOR + mode + GameRecordFormat.SEPARATOR + position);
+        // The initial state is a keyframe
+        this.turnsSinceKeyframe = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onMove(final Position start, final Position destination) {
+        this.writeLine(GameRecordFormat.MOVE + GameRecordFormat.SEPARATOR + GameRecordFormat.squareName(start)
+                + GameRecordFormat.SEPARATOR + GameRecordFormat.squareName(destination));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onTurnEnd() {
+        this.writeLine(GameRecordFormat.TURN);
+        this.turnsSinceKeyframe++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onUndo() {
+        this.writeLine(GameRecordFormat.UNDO);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onKeyframe(final String position) {
+        if (position.indexOf('\n') >= 0) {
+            throw new IllegalArgumentException("The keyframe cannot be recorded: " + position);
+        }
+        this.writeLine(GameRecordFormat.KEYFRAME + GameRecordFormat.SEPARATOR + position);
+        this.turnsSinceKeyframe = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br><br>A keyframe is needed every 8 turns.
+     */
+    @Override
+    public boolean needsKeyframe() {
+        return this.turnsSinceKeyframe >= KEYFRAME_INTERVAL;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onGameEnd(final Pair<MatchResult, MatchResult> result) {
+        this.writeLine(GameRecordFormat.END + GameRecordFormat.SEPARATOR + result.getX()
+                + GameRecordFormat.SEPARATOR + result.getY());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        this.writer.close();
+    }
+
+    private void writeLine(final String line) {
+        try {
+            this.writer.write(line);
+            this.writer.write('\n');
+            if (this.autoFlush) {
+                this.writer.flush();
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
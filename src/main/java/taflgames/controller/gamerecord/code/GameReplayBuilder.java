@@ -0,0 +1,173 @@
+package taflgames.controller.gamerecord.code;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import taflgames.common.code.MatchResult;
+import taflgames.common.code.Pair;
+import taflgames.common.code.Position;
+import taflgames.controller.gamerecord.api.GameRecordListener;
+import taflgames.controller.gamerecord.api.GameReplay;
+import taflgames.model.board.api.BoardFactory;
+
+/**
+ * A {@link GameRecordListener} that collects the events of a recorded game, without playing them,
+ * to build a {@link GameReplay} of it.
+ * <br><br>The undo requests are resolved while the game is read: as the history of the controller
+ * would do, an undo request goes back to the start of the current turn, or to the start of the
+ * previous one if no move was made in the current turn, so a step reached by an undo is the same
+ * as an earlier step and it is never played again.
+ */
+public final class GameReplayBuilder implements GameRecordListener {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int BYTE_BITS = 8;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int MAX_COORDINATE = BYTE_MASK;
+
+    private final BoardFactory boards;
+    private String mode;
+    private int[] moves = new int[INITIAL_CAPACITY];
+    private int movesCount;
+    private final List<GameReplayImpl.Step> steps = new ArrayList<>();
+    private final Map<Integer, String> keyframes = new HashMap<>();
+    private final List<Integer> history = new ArrayList<>();
+    private int currentHistoryStep;
+    private int turnStart;
+    private Optional<Pair<MatchResult, MatchResult>> result = Optional.empty();
+
+    /**
+     * Creates a builder whose replays use the boards of the given factory.
+     * @param boards the factory of the boards of the replays
+     */
+    public GameReplayBuilder(final BoardFactory boards) {
+        this.boards = Objects.requireNonNull(boards);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onGameStart(final String mode, final String position) {
+        if (this.mode != null) {
+            throw new IllegalStateException("The builder already has a game");
+        }
+        this.mode = mode;
+        this.keyframes.put(0, position);
+        this.steps.add(GameReplayImpl.Step.played(0, 0, false));
+        this.history.add(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onMove(final Position start, final Position destination) {
+        this.checkStarted();
+        for (final Position position : List.of(start, destination)) {
+            if (position.getX() < 0 || position.getY() < 0 || position.getX() > MAX_COORDINATE
+                    || position.getY() > MAX_COORDINATE) {
+                throw new IllegalArgumentException("Invalid position: " + position);
+            }
+        }
+        if (this.movesCount == this.moves.length) {
+            this.moves = Arrays.copyOf(this.moves, this.moves.length * 2);
+        }
+        this.moves[this.movesCount++] = start.getX() | start.getY() << BYTE_BITS
+                | destination.getX() << 2 * BYTE_BITS | destination.getY() << 3 * BYTE_BITS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onTurnEnd() {
+        this.checkStarted();
+        this.steps.add(GameReplayImpl.Step.played(this.turnStart, this.movesCount, true));
+        // Ending a turn forgets the turns that were undone
+        this.history.subList(this.currentHistoryStep + 1, this.history.size()).clear();
+        this.history.add(this.steps.size() - 1);
+        this.currentHistoryStep++;
+        this.turnStart = this.movesCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onUndo() {
+        this.checkStarted();
+        if (this.movesCount == this.turnStart && this.currentHistoryStep > 0) {
+            this.currentHistoryStep--;
+        }
+        this.steps.add(GameReplayImpl.Step.sameAs(this.history.get(this.currentHistoryStep)));
+        this.turnStart = this.movesCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws IllegalArgumentException if moves were made since the last step, since
+     * a keyframe can only follow a step
+     */
+    @Override
+    public void onKeyframe(final String position) {
+        this.checkStarted();
+        if (this.movesCount != this.turnStart) {
+            throw new IllegalArgumentException("A keyframe must follow the end of a turn or an undo request");
+        }
+        this.keyframes.put(this.steps.size() - 1, position);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onGameEnd(final Pair<MatchResult, MatchResult> result) {
+        this.checkStarted();
+        this.result = Optional.of(result);
+    }
+
+    /**
+     * Builds the replay of the game, at its first step. If the game ended in the middle of a turn,
+     * its last step is the state after the last move.
+     * @return the replay of the game
+     * @throws IllegalStateException if no game was read
+     * @throws IllegalArgumentException if the initial state or a keyframe of the game is malformed
+     */
+    public GameReplay build() {
+        this.checkStarted();
+        if (this.movesCount > this.turnStart) {
+            this.steps.add(GameReplayImpl.Step.played(this.turnStart, this.movesCount, false));
+            this.turnStart = this.movesCount;
+        }
+        return new GameReplayImpl(this.mode, this.boards, Arrays.copyOf(this.moves, this.movesCount),
+                List.copyOf(this.steps), this.keyframes, this.result);
+    }
+
+    private void checkStarted() {
+        if (this.mode == null) {
+            throw new IllegalStateException("No game was started");
+        }
+    }
+
+    /**
+     * @param move a move, as kept by the builder
+     * @return the position of the moved piece
+     */
+    static Position startOf(final int move) {
+        return Position.of(move & BYTE_MASK, move >>> BYTE_BITS & BYTE_MASK);
+    }
+
+    /**
+     * @param move a move, as kept by the builder
+     * @return the destination of the moved piece
+     */
+    static Position destinationOf(final int move) {
+        return Position.of(move >>> 2 * BYTE_BITS & BYTE_MASK, move >>> 3 * BYTE_BITS & BYTE_MASK);
+    }
+}
@@ -0,0 +1,211 @@
+package taflgames.controller.gamerecord.code;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import taflgames.common.Player;
+import taflgames.common.code.MatchResult;
+import taflgames.common.code.Pair;
+import taflgames.common.code.Position;
+import taflgames.controller.entitystate.CellState;
+import taflgames.controller.entitystate.PieceState;
+import taflgames.controller.gamerecord.api.GameReplay;
+import taflgames.model.Model;
+import taflgames.model.board.api.BoardFactory;
+import taflgames.model.codec.code.TextPositionCodec;
+
+/**
+ * A {@link GameReplay} built by a {@link GameReplayBuilder}.
+ * <br><br>Each step is either the same as an earlier one, if it was reached by an undo request,
+ * or the previous step with some moves played and, possibly, the turn passed. A step is reached from
+ * the nearest one that has a keyframe, or from the current step if it is nearer, so that no more than one
+ * keyframe is decoded; when no keyframe was recorded for a while, e.g. in the records written before
+ * the keyframes were introduced, the replay saves its own keyframes while it plays the moves.
+ */
+final class GameReplayImpl implements GameReplay {
+
+    private static final int KEYFRAME_INTERVAL = 8;
+
+    private final String mode;
+    private final TextPositionCodec codec;
+    private final int[] moves;
+    private final List<Step> steps;
+    private final Map<Integer, String> keyframes;
+    private final Optional<Pair<MatchResult, MatchResult>> result;
+    private Model match;
+    private int currentStep;
+
+    /**
+     * Creates a replay at the first step of the game.
+     * @param mode the mode of the game
+     * @param boards the factory of the boards of the replay
+     * @param moves the moves of the game, as kept by the {@link GameReplayBuilder}
+     * @param steps the steps of the game, the first one with a keyframe
+     * @param keyframes the keyframes of the game, by step
+     * @param result the recorded result of the game, if any
+     * @throws IllegalArgumentException if a keyframe is malformed
+     */
+    GameReplayImpl(final String mode, final BoardFactory boards, final int[] moves, final List<Step> steps,
+            final Map<Integer, String> keyframes, final Optional<Pair<MatchResult, MatchResult>> result) {
+        this.mode = mode;
+        this.codec = new TextPositionCodec(boards);
+        this.moves = moves.clone();
+        this.steps = List.copyOf(steps);
+        this.keyframes = new HashMap<>(keyframes);
+        this.result = result;
+        // The keyframes are decoded now, so that a malformed one is found before the replay is used
+        this.keyframes.values().forEach(this.codec::decode);
+        this.match = this.codec.decode(this.keyframes.get(0));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getMode() {
+        return this.mode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getStepsCount() {
+        return this.steps.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCurrentStep() {
+        return this.currentStep;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws IllegalStateException if a recorded move cannot be played
+     */
+    @Override
+    public void seek(final int step) {
+        Objects.checkIndex(step, this.steps.size());
+        final Deque<Integer> played = new ArrayDeque<>();
+        int base = step;
+        while (base != this.currentStep && !this.keyframes.containsKey(base)) {
+            final Step current = this.steps.get(base);
+            if (current.sameAs >= 0) {
+                base = current.sameAs;
+            } else {
+                played.push(base);
+                base--;
+            }
+        }
+        if (base != this.currentStep) {
+            this.match = this.codec.decode(this.keyframes.get(base));
+        }
+        this.currentStep = base;
+        for (final int next : played) {
+            this.play(this.steps.get(next));
+            this.currentStep = next;
+            if (next % KEYFRAME_INTERVAL == 0) {
+                this.keyframes.computeIfAbsent(next, s -> this.codec.encode(this.match));
+            }
+        }
+        this.currentStep = step;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTurnNumber() {
+        return this.match.getTurnNumber();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Player getActivePlayer() {
+        return this.match.getActivePlayer();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<Position, CellState> getCellsDisposition() {
+        return this.match.getCellsMapping();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<Position, PieceState> getPiecesDisposition() {
+        return this.match.getPiecesMapping();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Pair<MatchResult, MatchResult>> getResult() {
+        return this.result;
+    }
+
+    private void play(final Step step) {
+        for (int i = step.movesStart; i < step.movesEnd; i++) {
+            final Position start = GameReplayBuilder.startOf(this.moves[i]);
+            final Position destination = GameReplayBuilder.destinationOf(this.moves[i]);
+            if (!this.match.selectSource(start) || !this.match.selectDestination(start, destination)) {
+                throw new IllegalStateException("The recorded move from " + start + " to " + destination + " is illegal");
+            }
+            this.match.makeMove(start, destination);
+        }
+        if (step.turnEnd) {
+            this.match.setNextActivePlayer();
+        }
+    }
+
+    /**
+     * A step of a game.
+     */
+    static final class Step {
+
+        private final int sameAs;
+        private final int movesStart;
+        private final int movesEnd;
+        private final boolean turnEnd;
+
+        private Step(final int sameAs, final int movesStart, final int movesEnd, final boolean turnEnd) {
+            this.sameAs = sameAs;
+            this.movesStart = movesStart;
+            this.movesEnd = movesEnd;
+            this.turnEnd = turnEnd;
+        }
+
+        /**
+         * @param movesStart the index of the first move played in the step
+         * @param movesEnd the index after the last move played in the step
+         * @param turnEnd whether the turn is passed after the moves
+         * @return a step reached by playing some moves from the previous one
+         */
+        static Step played(final int movesStart, final int movesEnd, final boolean turnEnd) {
+            return new Step(-1, movesStart, movesEnd, turnEnd);
+        }
+
+        /**
+         * @param step an earlier step
+         * @return a step that is the same as the earlier one
+         */
+        static Step sameAs(final int step) {
+            return new Step(step, 0, 0, false);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package taflgames.controller.gamerecord.code;
+
+import java.util.Optional;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import taflgames.common.code.MatchResult;
+import taflgames.common.code.Pair;
+import taflgames.common.code.Position;
+import taflgames.controller.gamerecord.api.GameRecordListener;
+import taflgames.model.Model;
+import taflgames.model.board.api.BoardFactory;
+import taflgames.model.codec.code.TextPositionCodec;
+import taflgames.model.memento.api.Caretaker;
+import taflgames.model.memento.code.CaretakerImpl;
+
+/**
+ * A {@link GameRecordListener} that plays the recorded games again on a new match,
+ * handling the turns and the undo requests as the controller does, so that after each event
+ * the match is in the same state in which it was when the event was recorded.
+ * <br><br>The listener methods throw an {@link IllegalArgumentException} if an event cannot
+ * happen in the current state of the match, e.g. an illegal move.
+ */
+public final class GameReplayer implements GameRecordListener {
+
+    private final TextPositionCodec codec;
+    private Model match;
+    private Caretaker caretaker;
+
+    /**
+     * Creates a replayer whose matches use the boards of the given factory.
+     * @param boards the factory of the boards of the matches
+     */
+    public GameReplayer(final BoardFactory boards) {
+        this.codec = new TextPositionCodec(boards);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onGameStart(final String mode, final String position) {
+        this.match = this.codec.decode(position);
+        this.caretaker = new CaretakerImpl(this.match);
+        this.caretaker.updateHistory();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onMove(final Position start, final Position destination) {
+        if (!this.getMatch().selectSource(start) || !this.match.selectDestination(start, destination)) {
+            throw new IllegalArgumentException("Illegal move from " + start + " to " + destination);
+        }
+        this.match.makeMove(start, destination);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onTurnEnd() {
+        if (this.getMatch().getMatchEndStatus().isEmpty()) {
+            this.match.setNextActivePlayer();
+            this.caretaker.updateHistory();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onUndo() {
+        this.getMatch();
+        if (this.caretaker.isLocked()) {
+            this.caretaker.unlockHistory();
+            this.caretaker.undo();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onGameEnd(final Pair<MatchResult, MatchResult> result) {
+        if (!this.getMatch().getMatchEndStatus().equals(Optional.of(result))) {
+            throw new IllegalArgumentException("The game did not end as recorded: " + result);
+        }
+    }
+
+    /**
+     * Returns the match of the game being replayed, in the state reached by the last event.
+     * @return the match
+     * @throws IllegalStateException if no game was started
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The match is given to the code that analyses the games while they are replayed."
+    )
+    public Model getMatch() {
+        if (this.match == null) {
+            throw new IllegalStateException("No game was started");
+        }
+        return this.match;
+    }
+}
@@ -0,0 +1,22 @@
+package taflgames.controller.headless.api;
+
+import java.util.Optional;
+
+import taflgames.common.code.Pair;
+import taflgames.common.code.Position;
+import taflgames.model.Model;
+
+/**
+ * A player of a match run by a {@link MatchRunner}, which chooses the moves of its side
+ * without any user interface, e.g. a search engine or a random player.
+ */
+public interface Agent {
+
+    /**
+     * Chooses the move of the player in turn. The match must be left in the state it was in before the call.
+     * @param match the match
+     * @return the source (first element) and the destination (second element) of the move,
+     * or an empty {@link Optional} if the player resigns
+     */
+    Optional<Pair<Position, Position>> chooseMove(Model match);
+}
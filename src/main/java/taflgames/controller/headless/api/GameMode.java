@@ -0,0 +1,24 @@
+package taflgames.controller.headless.api;
+
+import java.util.Locale;
+
+/**
+ * The modes of the game, each one with its own board and pieces.
+ */
+public enum GameMode {
+    /**
+     * The classic mode, with only basic pieces and the king.
+     */
+    CLASSIC,
+    /**
+     * The variant mode, with special pieces and cells.
+     */
+    VARIANT;
+
+    /**
+     * @return the name of the mode, as a single lowercase word, e.g. to be recorded
+     */
+    public String getName() {
+        return this.name().toLowerCase(Locale.ROOT);
+    }
+}
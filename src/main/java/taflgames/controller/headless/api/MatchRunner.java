@@ -0,0 +1,36 @@
+package taflgames.controller.headless.api;
+
+import java.io.IOException;
+
+import taflgames.controller.headless.code.MatchOutcome;
+import taflgames.model.Model;
+
+/**
+ * Runs whole matches between two {@link Agent}s, driving the match directly,
+ * without a view or any other user interface: a move is made, then the turn passes
+ * to the other player, until the match is over.
+ */
+public interface MatchRunner {
+
+    /**
+     * Runs a new match of the given mode.
+     * @param mode the mode of the match
+     * @param attacker the agent of the attacker
+     * @param defender the agent of the defender
+     * @return the outcome of the match
+     * @throws IOException if the configuration of the mode cannot be loaded
+     * @throws IllegalStateException if an agent chooses an illegal move or changes the match
+     */
+    MatchOutcome play(GameMode mode, Agent attacker, Agent defender) throws IOException;
+
+    /**
+     * Runs a match from the state it is in.
+     * @param mode the name of the mode of the match, as a single word
+     * @param match the match, which is played until it is over
+     * @param attacker the agent of the attacker
+     * @param defender the agent of the defender
+     * @return the outcome of the match
+     * @throws IllegalStateException if an agent chooses an illegal move or changes the match
+     */
+    MatchOutcome play(String mode, Model match, Agent attacker, Agent defender);
+}
@@ -0,0 +1,34 @@
+package taflgames.controller.headless.code;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import taflgames.common.code.Pair;
+import taflgames.common.code.Position;
+import taflgames.controller.headless.api.Agent;
+import taflgames.model.Model;
+import taflgames.model.ai.api.Engine;
+
+/**
+ * An {@link Agent} that plays the moves chosen by a search {@link Engine}.
+ */
+public final class EngineAgent implements Agent {
+
+    private final Engine engine;
+
+    /**
+     * Creates an agent that plays the moves of the given engine.
+     * @param engine the engine
+     */
+    public EngineAgent(final Engine engine) {
+        this.engine = Objects.requireNonNull(engine);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Pair<Position, Position>> chooseMove(final Model match) {
+        return this.engine.search(match).map(result -> new Pair<>(result.getSource(), result.getDestination()));
+    }
+}
@@ -0,0 +1,136 @@
+package taflgames.controller.headless.code;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
+
+import taflgames.common.Player;
+import taflgames.common.code.MatchResult;
+import taflgames.common.code.Pair;
+import taflgames.common.code.Position;
+import taflgames.controller.gamerecord.api.GameRecordListener;
+import taflgames.controller.gamerecord.api.GameRecordWriter;
+import taflgames.controller.headless.api.Agent;
+import taflgames.controller.headless.api.GameMode;
+import taflgames.controller.headless.api.MatchRunner;
+import taflgames.model.Model;
+import taflgames.model.board.api.BoardFactory;
+import taflgames.model.codec.code.TextPositionCodec;
+
+/**
+ * A {@link MatchRunner} that plays the moves of the agents the way the controller plays
+ * the moves of the users, but without updating any view, so that it needs neither
+ * a display nor the classes of the user interface.
+ * <p>
+ * No history of the match is kept, since agents never undo their moves.
+ * If a listener is given, the events of the matches are sent to it, so that the matches
+ * can be recorded and replayed; if it is a {@link GameRecordWriter}, it also receives
+ * the keyframes it needs. A match that reaches the maximum number of moves is declared a draw
+ * and a match whose player resigns is won by the other player: in both cases no end
+ * of the game is sent to the listener, since the match is not over by the rules.
+ */
+public final class HeadlessMatchRunner implements MatchRunner {
+
+    private final BoardFactory boards;
+    private final int maxMoves;
+    private final GameRecordListener listener;
+
+    /**
+     * Creates a runner whose matches are not recorded.
+     * @param boards the factory of the boards of the new matches
+     * @param maxMoves the maximum number of moves of a match
+     */
+    public HeadlessMatchRunner(final BoardFactory boards, final int maxMoves) {
+        this(boards, maxMoves, null);
+    }
+
+    /**
+     * Creates a runner that sends the events of its matches to the given listener.
+     * @param boards the factory of the boards of the new matches
+     * @param maxMoves the maximum number of moves of a match
+     * @param listener the listener of the events of the matches, or {@code null} if they are not recorded
+     */
+    public HeadlessMatchRunner(final BoardFactory boards, final int maxMoves, final GameRecordListener listener) {
+        if (maxMoves <= 0) {
+            throw new IllegalArgumentException("The maximum number of moves must be positive: " + maxMoves);
+        }
+        this.boards = Objects.requireNonNull(boards);
+        this.maxMoves = maxMoves;
+        this.listener = listener;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MatchOutcome play(final GameMode mode, final Agent attacker, final Agent defender) throws IOException {
+        return this.play(mode.getName(), Matches.create(mode, this.boards), attacker, defender);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MatchOutcome play(final String mode, final Model match, final Agent attacker, final Agent defender) {
+        final long start = System.nanoTime();
+        if (this.listener != null) {
+            this.listener.onGameStart(mode, this.encode(match));
+        }
+        int moves = 0;
+        while (true) {
+            final Optional<Pair<MatchResult, MatchResult>> status = match.getMatchEndStatus();
+            if (status.isPresent()) {
+                if (this.listener != null) {
+                    this.listener.onGameEnd(status.get());
+                }
+                return new MatchOutcome(status.get(), MatchOutcome.Termination.RULES, moves, System.nanoTime() - start);
+            }
+            if (moves == this.maxMoves) {
+                return new MatchOutcome(new Pair<>(MatchResult.DRAW, MatchResult.DRAW),
+                        MatchOutcome.Termination.MOVES_LIMIT, moves, System.nanoTime() - start);
+            }
+            final Player player = match.getActivePlayer();
+            final long positionKey = match.getPositionKey();
+            final Optional<Pair<Position, Position>> move = (player == Player.ATTACKER ? attacker : defender)
+                    .chooseMove(match);
+            if (match.getPositionKey() != positionKey || match.getActivePlayer() != player) {
+                throw new IllegalStateException("The agent of the " + player + " changed the match");
+            }
+            if (move.isEmpty()) {
+                return new MatchOutcome(player == Player.ATTACKER
+                        ? new Pair<>(MatchResult.DEFEAT, MatchResult.VICTORY)
+                        : new Pair<>(MatchResult.VICTORY, MatchResult.DEFEAT),
+                        MatchOutcome.Termination.RESIGNATION, moves, System.nanoTime() - start);
+            }
+            this.makeMove(match, player, move.get().getX(), move.get().getY());
+            moves++;
+        }
+    }
+
+    /*
+     * Makes the move and, unless it ends the match, passes the turn, as the controller does.
+     */
+    private void makeMove(final Model match, final Player player, final Position source, final Position destination) {
+        if (!match.selectSource(source) || !match.selectDestination(source, destination)) {
+            throw new IllegalStateException("The agent of the " + player + " chose an illegal move: "
+                    + source + " -> " + destination);
+        }
+        match.makeMove(source, destination);
+        if (this.listener != null) {
+            this.listener.onMove(source, destination);
+        }
+        if (match.getMatchEndStatus().isEmpty()) {
+            match.setNextActivePlayer();
+            if (this.listener != null) {
+                this.listener.onTurnEnd();
+                if (this.listener instanceof GameRecordWriter && ((GameRecordWriter) this.listener).needsKeyframe()) {
+                    this.listener.onKeyframe(this.encode(match));
+                }
+            }
+        }
+    }
+
+    private String encode(final Model match) {
+        return new TextPositionCodec(this.boards).encode(match);
+    }
+}
@@ -0,0 +1,82 @@
+package taflgames.controller.headless.code;
+
+import taflgames.common.code.MatchResult;
+import taflgames.common.code.Pair;
+
+/**
+ * The outcome of a match run by a {@link taflgames.controller.headless.api.MatchRunner}.
+ */
+public final class MatchOutcome {
+
+    /**
+     * How a match ended.
+     */
+    public enum Termination {
+        /**
+         * The match ended by the rules of the game, with a victory or a draw.
+         */
+        RULES,
+        /**
+         * A player resigned, so the other one won.
+         */
+        RESIGNATION,
+        /**
+         * The match reached the maximum number of moves, so it was declared a draw.
+         */
+        MOVES_LIMIT
+    }
+
+    private final Pair<MatchResult, MatchResult> result;
+    private final Termination termination;
+    private final int moves;
+    private final long nanos;
+
+    /**
+     * Creates a new outcome.
+     * @param result the results of the attacker (first element) and of the defender (second element)
+     * @param termination how the match ended
+     * @param moves the number of moves made
+     * @param nanos the time taken by the match, in nanoseconds
+     */
+    public MatchOutcome(final Pair<MatchResult, MatchResult> result, final Termination termination,
+            final int moves, final long nanos) {
+        this.result = result;
+        this.termination = termination;
+        this.moves = moves;
+        this.nanos = nanos;
+    }
+
+    /**
+     * @return the results of the attacker (first element) and of the defender (second element)
+     */
+    public Pair<MatchResult, MatchResult> getResult() {
+        return this.result;
+    }
+
+    /**
+     * @return how the match ended
+     */
+    public Termination getTermination() {
+        return this.termination;
+    }
+
+    /**
+     * @return the number of moves made
+     */
+    public int getMoves() {
+        return this.moves;
+    }
+
+    /**
+     * @return the time taken by the match, in nanoseconds
+     */
+    public long getNanos() {
+        return this.nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "MatchOutcome [result=" + this.result + ", termination=" + this.termination
+                + ", moves=" + this.moves + ", nanos=" + this.nanos + "]";
+    }
+}
@@ -0,0 +1,45 @@
+package taflgames.controller.headless.code;
+
+import java.io.IOException;
+
+import taflgames.controller.headless.api.GameMode;
+import taflgames.controller.settingsloader.SettingsLoader;
+import taflgames.controller.settingsloader.SettingsLoaderImpl;
+import taflgames.model.Match;
+import taflgames.model.Model;
+import taflgames.model.board.api.BoardFactory;
+import taflgames.model.builders.CellsCollectionBuilder;
+import taflgames.model.builders.CellsCollectionBuilderImpl;
+import taflgames.model.builders.PiecesCollectionBuilder;
+import taflgames.model.builders.PiecesCollectionBuilderImpl;
+
+/**
+ * Utility class that creates the new matches of each mode from its configuration.
+ */
+public final class Matches {
+
+    private Matches() {
+    }
+
+    /**
+     * Creates a new match of the given mode.
+     * @param mode the mode of the match
+     * @param boards the factory of the board of the match
+     * @return the new match
+     * @throws IOException if the configuration of the mode cannot be loaded
+     */
+    public static Model create(final GameMode mode, final BoardFactory boards) throws IOException {
+        final SettingsLoader loader = new SettingsLoaderImpl();
+        final CellsCollectionBuilder cellsCollBuilder = new CellsCollectionBuilderImpl();
+        final PiecesCollectionBuilder piecesCollBuilder = new PiecesCollectionBuilderImpl();
+        if (mode == GameMode.CLASSIC) {
+            loader.loadClassicModeConfig(cellsCollBuilder, piecesCollBuilder);
+        } else {
+            loader.loadVariantModeConfig(cellsCollBuilder, piecesCollBuilder);
+        }
+        final var pieces = piecesCollBuilder.build();
+        final var cells = cellsCollBuilder.build();
+        final int size = (int) Math.sqrt(cells.size());
+        return new Match(boards.create(pieces, cells, size));
+    }
+}
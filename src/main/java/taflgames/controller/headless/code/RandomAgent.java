@@ -0,0 +1,56 @@
+package taflgames.controller.headless.code;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+
+import taflgames.common.code.MoveBuffer;
+import taflgames.common.code.Pair;
+import taflgames.common.code.Position;
+import taflgames.controller.headless.api.Agent;
+import taflgames.model.Model;
+
+/**
+ * An {@link Agent} that chooses each move at random among the legal ones.
+ * The moves are sorted before choosing, since the order in which they are generated
+ * depends on the board, so that the same seed plays the same moves on every board.
+ */
+public final class RandomAgent implements Agent {
+
+    private final Random random;
+    private final MoveBuffer moves = new MoveBuffer();
+    private int[] sorted = new int[0];
+
+    /**
+     * Creates an agent that draws its moves from the given generator.
+     * @param random the generator of the moves
+     */
+    public RandomAgent(final Random random) {
+        this.random = Objects.requireNonNull(random);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Pair<Position, Position>> chooseMove(final Model match) {
+        this.moves.clear();
+        match.generateLegalMoves(match.getActivePlayer(), this.moves);
+        if (this.moves.isEmpty()) {
+            return Optional.empty();
+        }
+        final int count = this.moves.size();
+        if (this.sorted.length < count) {
+            this.sorted = new int[count];
+        }
+        for (int i = 0; i < count; i++) {
+            this.sorted[i] = this.moves.get(i);
+        }
+        Arrays.sort(this.sorted, 0, count);
+        final int move = this.sorted[this.random.nextInt(count)];
+        return Optional.of(new Pair<>(
+                Position.of(MoveBuffer.sourceX(move), MoveBuffer.sourceY(move)),
+                Position.of(MoveBuffer.destinationX(move), MoveBuffer.destinationY(move))));
+    }
+}
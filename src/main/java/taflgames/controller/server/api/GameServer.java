@@ -0,0 +1,37 @@
+package taflgames.controller.server.api;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A server that hosts many matches at the same time, played by clients connected through sockets
+ * with the protocol of {@link taflgames.controller.server.code.ServerProtocol}.
+ * Each match can be played by any connection, and each connection can play any number of matches.
+ */
+public interface GameServer extends Closeable {
+
+    /**
+     * Starts accepting connections.
+     * @throws IOException if the server cannot listen on its port
+     * @throws IllegalStateException if the server was already started
+     */
+    void start() throws IOException;
+
+    /**
+     * @return the port the server listens on
+     * @throws IllegalStateException if the server was not started
+     */
+    int getPort();
+
+    /**
+     * @return the number of matches hosted by the server
+     */
+    int getMatchesCount();
+
+    /**
+     * Stops accepting connections and closes the open ones; the hosted matches are discarded.
+     * @throws IOException if the socket of the server cannot be closed
+     */
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,145 @@
+package taflgames.controller.server.code;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import taflgames.common.code.MoveBuffer;
+import taflgames.common.code.Position;
+import taflgames.controller.headless.api.GameMode;
+
+/**
+ * Serves the requests of a connection, one at a time, until the client closes it.
+ * The answers are flushed when no more requests are waiting, so that the clients that send
+ * many requests before reading the answers get them in a few writes.
+ */
+final class ConnectionHandler implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionHandler.class);
+    private static final int MOVE_WORDS = 6;
+
+    private final Socket socket;
+    private final MatchRegistry registry;
+    private final MoveBuffer moves = new MoveBuffer();
+
+    /**
+     * Creates the handler of a connection.
+     * @param socket the socket of the connection, which is closed at the end
+     * @param registry the matches of the server
+     */
+    ConnectionHandler(final Socket socket, final MatchRegistry registry) {
+        this.socket = socket;
+        this.registry = registry;
+    }
+
+    @Override
+    public void run() {
+        try (Socket connection = this.socket;
+                BufferedReader in = new BufferedReader(
+                        new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+                BufferedWriter out = new BufferedWriter(
+                        new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8))) {
+            String line = in.readLine();
+            while (line != null) {
+                out.write(this.handle(line));
+                out.newLine();
+                if (!in.ready()) {
+                    out.flush();
+                }
+                line = in.readLine();
+            }
+        } catch (final IOException exception) {
+            LOGGER.debug("A connection was closed.", exception);
+        }
+    }
+
+    /**
+     * Serves a request.
+     * @param request the line of the request
+     * @return the line of the answer
+     */
+    String handle(final String request) {
+        final String[] words = request.trim().split(" +");
+        try {
+            switch (words[0]) {
+                case ServerProtocol.NEW:
+                    checkLength(words, 2);
+                    return ok(Long.toString(this.registry.create(GameMode.valueOf(words[1].toUpperCase(Locale.ROOT)))));
+                case ServerProtocol.MOVES:
+                    checkLength(words, 2);
+                    return ok(this.legalMoves(this.matchOf(words[1])));
+                case ServerProtocol.MOVE:
+                    checkLength(words, MOVE_WORDS);
+                    return this.matchOf(words[1]).move(
+                            Position.of(Integer.parseInt(words[2]), Integer.parseInt(words[3])),
+                            Position.of(Integer.parseInt(words[4]), Integer.parseInt(words[5])))
+                            ? ok("") : error("Illegal move");
+                case ServerProtocol.PASS:
+                    checkLength(words, 2);
+                    return this.matchOf(words[1]).passTurn() ? ok("") : error("No move was made in the turn");
+                case ServerProtocol.UNDO:
+                    checkLength(words, 2);
+                    this.matchOf(words[1]).undo();
+                    return ok("");
+                case ServerProtocol.STATE:
+                    checkLength(words, 2);
+                    return ok(this.matchOf(words[1]).describe());
+                case ServerProtocol.CLOSE:
+                    checkLength(words, 2);
+                    return this.registry.remove(Long.parseLong(words[1])) ? ok("") : error("No match " + words[1]);
+                default:
+                    return error("Unknown request: " + words[0]);
+            }
+        } catch (final IllegalArgumentException exception) {
+            return error(exception.getMessage());
+        }
+    }
+
+    private HostedMatch matchOf(final String id) {
+        final Optional<HostedMatch> match = this.registry.get(Long.parseLong(id));
+        if (match.isEmpty()) {
+            throw new IllegalArgumentException("No match " + id);
+        }
+        return match.get();
+    }
+
+    private String legalMoves(final HostedMatch match) {
+        this.moves.clear();
+        match.generateLegalMoves(this.moves);
+        final StringBuilder answer = new StringBuilder();
+        for (int i = 0; i < this.moves.size(); i++) {
+            final int move = this.moves.get(i);
+            if (i > 0) {
+                answer.append(ServerProtocol.SEPARATOR);
+            }
+            answer.append(MoveBuffer.sourceX(move)).append(ServerProtocol.COORDINATES_SEPARATOR)
+                    .append(MoveBuffer.sourceY(move)).append(ServerProtocol.COORDINATES_SEPARATOR)
+                    .append(MoveBuffer.destinationX(move)).append(ServerProtocol.COORDINATES_SEPARATOR)
+                    .append(MoveBuffer.destinationY(move));
+        }
+        return answer.toString();
+    }
+
+    private static void checkLength(final String[] words, final int length) {
+        if (words.length != length) {
+            throw new IllegalArgumentException("The request " + words[0] + " needs " + (length - 1) + " arguments");
+        }
+    }
+
+    private static String ok(final String result) {
+        return result.isEmpty() ? ServerProtocol.OK : ServerProtocol.OK + ServerProtocol.SEPARATOR + result;
+    }
+
+    private static String error(final String reason) {
+        return ServerProtocol.ERROR + ServerProtocol.SEPARATOR + reason;
+    }
+}
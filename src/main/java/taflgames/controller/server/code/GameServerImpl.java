@@ -0,0 +1,123 @@
+package taflgames.controller.server.code;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import taflgames.controller.server.api.GameServer;
+
+/**
+ * A {@link GameServer} that listens on the loopback address and serves each connection
+ * on its own thread, taken from a pool that grows with the connections.
+ * The threads of the connections never wait for each other, except when they make
+ * requests on the same match at the same time.
+ */
+public final class GameServerImpl implements GameServer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GameServerImpl.class);
+
+    private final int port;
+    private final MatchRegistry registry;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "game-server-connection");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ServerSocket serverSocket;
+
+    /**
+     * Creates a server, which must be started to accept connections.
+     * @param port the port to listen on, or 0 to listen on any free port
+     * @throws IOException if the configuration of the modes cannot be loaded
+     */
+    public GameServerImpl(final int port) throws IOException {
+        this.port = port;
+        this.registry = new MatchRegistry();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void start() throws IOException {
+        if (this.serverSocket != null) {
+            throw new IllegalStateException("The server was already started");
+        }
+        this.serverSocket = new ServerSocket(this.port, 0, InetAddress.getLoopbackAddress());
+        final ServerSocket listening = this.serverSocket;
+        final Thread acceptor = new Thread(() -> this.accept(listening), "game-server-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int getPort() {
+        if (this.serverSocket == null) {
+            throw new IllegalStateException("The server was not started");
+        }
+        return this.serverSocket.getLocalPort();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getMatchesCount() {
+        return this.registry.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.serverSocket != null) {
+            this.serverSocket.close();
+        }
+        this.executor.shutdownNow();
+        for (final Socket connection : this.connections) {
+            connection.close();
+        }
+        this.registry.clear();
+    }
+
+    private void accept(final ServerSocket listening) {
+        try {
+            while (true) {
+                final Socket connection = listening.accept();
+                connection.setTcpNoDelay(true);
+                this.connections.add(connection);
+                try {
+                    this.executor.execute(() -> {
+                        try {
+                            new ConnectionHandler(connection, this.registry).run();
+                        } finally {
+                            this.connections.remove(connection);
+                        }
+                    });
+                } catch (final RejectedExecutionException exception) {
+                    // The server was closed in the meantime.
+                    connection.close();
+                    return;
+                }
+            }
+        } catch (final IOException exception) {
+            if (!listening.isClosed()) {
+                LOGGER.error("Error while accepting the connections.", exception);
+            }
+        }
+    }
+}
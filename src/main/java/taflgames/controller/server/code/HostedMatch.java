@@ -0,0 +1,102 @@
+package taflgames.controller.server.code;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import taflgames.common.code.MatchResult;
+import taflgames.common.code.MoveBuffer;
+import taflgames.common.code.Pair;
+import taflgames.common.code.Position;
+import taflgames.model.Model;
+import taflgames.model.board.code.BitBoardImpl;
+import taflgames.model.codec.code.TextPositionCodec;
+import taflgames.model.memento.api.Caretaker;
+import taflgames.model.memento.code.CaretakerImpl;
+
+/**
+ * A match hosted by the server, with its history, played as the controller plays the matches
+ * of the application: at most a move per turn, then the turn is passed.
+ * The requests on the same match are serialized by the lock of the match,
+ * while the requests on different matches do not wait for each other.
+ */
+final class HostedMatch {
+
+    private static final TextPositionCodec CODEC = new TextPositionCodec(BitBoardImpl::new);
+
+    private final Model match;
+    private final Caretaker caretaker;
+    private boolean wasMoveDone;
+
+    /**
+     * Hosts a new match.
+     * @param match the match, which must not be used by anyone else
+     */
+    HostedMatch(final Model match) {
+        this.match = match;
+        this.caretaker = new CaretakerImpl(match);
+        this.caretaker.updateHistory();
+    }
+
+    /**
+     * Makes a move, if it is legal and no move was made in the turn yet.
+     * @param source the source of the move
+     * @param destination the destination of the move
+     * @return whether the move was made
+     */
+    synchronized boolean move(final Position source, final Position destination) {
+        if (this.wasMoveDone || this.match.getMatchEndStatus().isPresent()
+                || !this.match.selectSource(source) || !this.match.selectDestination(source, destination)) {
+            return false;
+        }
+        this.match.makeMove(source, destination);
+        this.wasMoveDone = true;
+        return true;
+    }
+
+    /**
+     * Passes the turn to the other player, if a move was made in the turn and the match is not over.
+     * @return whether the turn was passed
+     */
+    synchronized boolean passTurn() {
+        if (!this.wasMoveDone || this.match.getMatchEndStatus().isPresent()) {
+            return false;
+        }
+        this.match.setNextActivePlayer();
+        this.caretaker.updateHistory();
+        this.wasMoveDone = false;
+        return true;
+    }
+
+    /**
+     * Takes back the move of the turn or, if none was made, the previous turn.
+     */
+    synchronized void undo() {
+        if (this.caretaker.isLocked()) {
+            this.caretaker.unlockHistory();
+            this.caretaker.undo();
+        }
+        this.wasMoveDone = false;
+    }
+
+    /**
+     * Finds the legal moves of the player in turn.
+     * @param moves the buffer to add the moves to
+     */
+    synchronized void generateLegalMoves(final MoveBuffer moves) {
+        if (!this.wasMoveDone && this.match.getMatchEndStatus().isEmpty()) {
+            this.match.generateLegalMoves(this.match.getActivePlayer(), moves);
+        }
+    }
+
+    /**
+     * @return the player in turn, the result of the attacker and the position,
+     * as they are answered to the request of the state
+     */
+    synchronized String describe() {
+        final Optional<Pair<MatchResult, MatchResult>> result = this.match.getMatchEndStatus();
+        return String.join(ServerProtocol.SEPARATOR,
+                this.match.getActivePlayer().name().toLowerCase(Locale.ROOT),
+                result.isPresent() ? result.get().getX().name().toLowerCase(Locale.ROOT) : ServerProtocol.NO_RESULT,
+                CODEC.encode(this.match));
+    }
+}
@@ -0,0 +1,201 @@
+package taflgames.controller.server.code;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import taflgames.controller.headless.api.GameMode;
+
+/**
+ * Plays many matches at the same time on a game server listening on the loopback address,
+ * to measure how many requests it serves and how fast it answers them.
+ * <p>
+ * Each connection, on its own thread, creates its matches and plays them in turns, a move
+ * at a time, making random legal moves and, now and then, taking a move back, until each match
+ * is over or reaches the maximum number of moves; then it discards the match.
+ */
+public final class LoadGenerator {
+
+    private static final int UNDO_ONE_IN = 16;
+    private static final int INITIAL_LATENCIES = 1024;
+    private static final double MEDIAN = 0.5;
+    private static final double TAIL = 0.99;
+
+    private final int port;
+    private final int connections;
+    private final int matchesPerConnection;
+    private final int maxMoves;
+    private final long seed;
+
+    /**
+     * Creates a load generator.
+     * @param port the port of the server on the loopback address
+     * @param connections the number of connections, each one on its own thread
+     * @param matchesPerConnection the number of matches played by each connection
+     * @param maxMoves the maximum number of moves of a match
+     * @param seed the seed of the moves
+     */
+    public LoadGenerator(final int port, final int connections, final int matchesPerConnection,
+            final int maxMoves, final long seed) {
+        this.port = port;
+        this.connections = connections;
+        this.matchesPerConnection = matchesPerConnection;
+        this.maxMoves = maxMoves;
+        this.seed = seed;
+    }
+
+    /**
+     * Plays the matches.
+     * @return the measures taken
+     * @throws IOException if a connection fails
+     * @throws InterruptedException if the thread is interrupted while waiting for the connections
+     * @throws IllegalStateException if the server answers unexpectedly
+     */
+    public LoadReport run() throws IOException, InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(this.connections);
+        final long start = System.nanoTime();
+        final List<Future<Client>> clients = new ArrayList<>();
+        try {
+            for (int i = 0; i < this.connections; i++) {
+                final long clientSeed = this.seed + i;
+                clients.add(executor.submit(() -> this.play(new Random(clientSeed))));
+            }
+            int finishedMatches = 0;
+            final List<long[]> latencies = new ArrayList<>();
+            for (final Future<Client> client : clients) {
+                finishedMatches += client.get().finishedMatches;
+                latencies.add(client.get().getLatencies());
+            }
+            final long nanos = System.nanoTime() - start;
+            final long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            return new LoadReport(finishedMatches, all.length, nanos, percentile(all, MEDIAN), percentile(all, TAIL));
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException("A connection failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Client play(final Random random) throws IOException {
+        try (Client client = new Client(this.port)) {
+            final List<String> matches = new ArrayList<>();
+            final List<Integer> moves = new ArrayList<>();
+            for (int i = 0; i < this.matchesPerConnection; i++) {
+                final GameMode mode = GameMode.values()[i % GameMode.values().length];
+                matches.add(client.request(ServerProtocol.NEW + ServerProtocol.SEPARATOR + mode.getName()));
+                moves.add(0);
+            }
+            while (!matches.isEmpty()) {
+                for (int i = matches.size() - 1; i >= 0; i--) {
+                    if (!this.playMove(client, matches.get(i), random) || moves.get(i) + 1 == this.maxMoves) {
+                        client.request(ServerProtocol.CLOSE + ServerProtocol.SEPARATOR + matches.get(i));
+                        matches.remove(i);
+                        moves.remove(i);
+                        client.finishedMatches++;
+                    } else {
+                        moves.set(i, moves.get(i) + 1);
+                    }
+                }
+            }
+            return client;
+        }
+    }
+
+    /*
+     * Makes a random move in the match and passes the turn, taking the move back now and then;
+     * returns false if the match is over.
+     */
+    private boolean playMove(final Client client, final String match, final Random random) throws IOException {
+        final String moves = client.request(ServerProtocol.MOVES + ServerProtocol.SEPARATOR + match);
+        if (moves.isEmpty()) {
+            return false;
+        }
+        final String[] legalMoves = moves.split(ServerProtocol.SEPARATOR);
+        final String move = legalMoves[random.nextInt(legalMoves.length)]
+                .replace(ServerProtocol.COORDINATES_SEPARATOR, ServerProtocol.SEPARATOR);
+        client.request(ServerProtocol.MOVE + ServerProtocol.SEPARATOR + match + ServerProtocol.SEPARATOR + move);
+        if (random.nextInt(UNDO_ONE_IN) == 0) {
+            client.request(ServerProtocol.UNDO + ServerProtocol.SEPARATOR + match);
+            return true;
+        }
+        final String state = client.request(ServerProtocol.STATE + ServerProtocol.SEPARATOR + match);
+        if (!state.split(ServerProtocol.SEPARATOR)[1].equals(ServerProtocol.NO_RESULT)) {
+            return false;
+        }
+        client.request(ServerProtocol.PASS + ServerProtocol.SEPARATOR + match);
+        return true;
+    }
+
+    private static long percentile(final long[] sorted, final double fraction) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, Math.floor(sorted.length * fraction))];
+    }
+
+    /**
+     * A connection to the server, which measures the latency of its requests.
+     */
+    private static final class Client implements Closeable {
+
+        private final Socket socket;
+        private final BufferedReader in;
+        private final BufferedWriter out;
+        private long[] latencies = new long[INITIAL_LATENCIES];
+        private int requests;
+        private int finishedMatches;
+
+        Client(final int port) throws IOException {
+            this.socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            this.socket.setTcpNoDelay(true);
+            this.in = new BufferedReader(new InputStreamReader(this.socket.getInputStream(), StandardCharsets.UTF_8));
+            this.out = new BufferedWriter(new OutputStreamWriter(this.socket.getOutputStream(), StandardCharsets.UTF_8));
+        }
+
+        /*
+         * Sends a request and returns the result of the answer, failing if the request failed.
+         */
+        String request(final String request) throws IOException {
+            final long start = System.nanoTime();
+            this.out.write(request);
+            this.out.newLine();
+            this.out.flush();
+            final String answer = this.in.readLine();
+            if (this.requests == this.latencies.length) {
+                this.latencies = Arrays.copyOf(this.latencies, 2 * this.latencies.length);
+            }
+            this.latencies[this.requests] = System.nanoTime() - start;
+            this.requests++;
+            if (answer == null) {
+                throw new IOException("The server closed the connection");
+            }
+            if (!answer.equals(ServerProtocol.OK) && !answer.startsWith(ServerProtocol.OK + ServerProtocol.SEPARATOR)) {
+                throw new IllegalStateException("The request '" + request + "' failed: " + answer);
+            }
+            return answer.substring(Math.min(answer.length(), ServerProtocol.OK.length() + 1));
+        }
+
+        long[] getLatencies() {
+            return Arrays.copyOf(this.latencies, this.requests);
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.socket.close();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package taflgames.controller.server.code;
+
+/**
+ * The measures taken by a {@link LoadGenerator}.
+ */
+public final class LoadReport {
+
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final int finishedMatches;
+    private final long requests;
+    private final long nanos;
+    private final long medianLatency;
+    private final long tailLatency;
+
+    /**
+     * Creates a new report.
+     * @param finishedMatches the number of matches played to their end or to the maximum number of moves
+     * @param requests the number of requests sent
+     * @param nanos the time taken by the load, in nanoseconds
+     * @param medianLatency the median time between a request and its answer, in nanoseconds
+     * @param tailLatency the 99th percentile of the time between a request and its answer, in nanoseconds
+     */
+    public LoadReport(final int finishedMatches, final long requests, final long nanos,
+            final long medianLatency, final long tailLatency) {
+        this.finishedMatches = finishedMatches;
+        this.requests = requests;
+        this.nanos = nanos;
+        this.medianLatency = medianLatency;
+        this.tailLatency = tailLatency;
+    }
+
+    /**
+     * @return the number of matches played to their end or to the maximum number of moves
+     */
+    public int getFinishedMatches() {
+        return this.finishedMatches;
+    }
+
+    /**
+     * @return the number of requests sent
+     */
+    public long getRequests() {
+        return this.requests;
+    }
+
+    /**
+     * @return the time taken by the load, in nanoseconds
+     */
+    public long getNanos() {
+        return this.nanos;
+    }
+
+    /**
+     * @return the number of requests answered per second
+     */
+    public double getRequestsPerSecond() {
+        return this.nanos == 0 ? 0 : this.requests * NANOS_PER_SECOND / this.nanos;
+    }
+
+    /**
+     * @return the median time between a request and its answer, in nanoseconds
+     */
+    public long getMedianLatency() {
+        return this.medianLatency;
+    }
+
+    /**
+     * @return the 99th percentile of the time between a request and its answer, in nanoseconds
+     */
+    public long getTailLatency() {
+        return this.tailLatency;
+    }
+}
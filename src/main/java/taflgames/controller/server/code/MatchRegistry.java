@@ -0,0 +1,81 @@
+package taflgames.controller.server.code;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import taflgames.controller.headless.api.GameMode;
+import taflgames.controller.headless.code.Matches;
+import taflgames.model.Model;
+import taflgames.model.board.code.BitBoardImpl;
+
+/**
+ * The matches hosted by the server, by their identifiers. The registry can be used by many
+ * threads at the same time without locking it as a whole: each match is locked on its own.
+ * <p>
+ * The new matches are copies of a match of each mode created when the registry is created,
+ * so that the configuration of the modes is not read again for each match;
+ * the copied matches are never changed, and copying only reads them.
+ */
+final class MatchRegistry {
+
+    private final Map<GameMode, Model> initialMatches = new EnumMap<>(GameMode.class);
+    private final ConcurrentMap<Long, HostedMatch> matches = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+
+    /**
+     * Creates an empty registry.
+     * @throws IOException if the configuration of a mode cannot be loaded
+     */
+    MatchRegistry() throws IOException {
+        for (final GameMode mode : GameMode.values()) {
+            this.initialMatches.put(mode, Matches.create(mode, BitBoardImpl::new));
+        }
+    }
+
+    /**
+     * Creates a new match.
+     * @param mode the mode of the match
+     * @return the identifier of the match
+     */
+    long create(final GameMode mode) {
+        final long id = this.nextId.getAndIncrement();
+        this.matches.put(id, new HostedMatch(this.initialMatches.get(mode).copy()));
+        return id;
+    }
+
+    /**
+     * @param id the identifier of a match
+     * @return the match, or an empty {@link Optional} if there is no such match
+     */
+    Optional<HostedMatch> get(final long id) {
+        return Optional.ofNullable(this.matches.get(id));
+    }
+
+    /**
+     * Discards a match.
+     * @param id the identifier of the match
+     * @return whether there was such a match
+     */
+    boolean remove(final long id) {
+        return this.matches.remove(id) != null;
+    }
+
+    /**
+     * @return the number of matches
+     */
+    int size() {
+        return this.matches.size();
+    }
+
+    /**
+     * Discards all the matches.
+     */
+    void clear() {
+        this.matches.clear();
+    }
+}
@@ -0,0 +1,78 @@
+package taflgames.controller.server.code;
+
+/**
+ * Utility class with the protocol between the game server and its clients.
+ * <p>
+ * Each request is a line of words separated by spaces, and the server answers each request,
+ * in order, with a line that is either {@code ok}, followed by the result of the request, if any,
+ * or {@code error}, followed by the reason. The requests are:
+ * <ul>
+ * <li>{@code new <mode>}: creates a match of the mode ({@code classic} or {@code variant}),
+ * answering with the identifier of the match;</li>
+ * <li>{@code moves <id>}: answers with the legal moves of the player in turn, each one as
+ * {@code <source x>,<source y>,<destination x>,<destination y>};</li>
+ * <li>{@code move <id> <source x> <source y> <destination x> <destination y>}: makes the move,
+ * if it is legal and no move was made in the turn yet;</li>
+ * <li>{@code pass <id>}: passes the turn to the other player, after the move of the turn;</li>
+ * <li>{@code undo <id>}: takes back the move of the turn or, if none was made, the previous turn;</li>
+ * <li>{@code state <id>}: answers with the player in turn, the result of the attacker
+ * ({@code none} if the match is not over) and the position, in the notation of
+ * {@link taflgames.model.codec.code.TextPositionCodec};</li>
+ * <li>{@code close <id>}: discards the match.</li>
+ * </ul>
+ * Requests may be sent before the answers to the previous ones arrive.
+ */
+public final class ServerProtocol {
+
+    /**
+     * The request that creates a match.
+     */
+    public static final String NEW = "new";
+    /**
+     * The request of the legal moves.
+     */
+    public static final String MOVES = "moves";
+    /**
+     * The request that makes a move.
+     */
+    public static final String MOVE = "move";
+    /**
+     * The request that passes the turn.
+     */
+    public static final String PASS = "pass";
+    /**
+     * The request that takes back a move.
+     */
+    public static final String UNDO = "undo";
+    /**
+     * The request of the state of a match.
+     */
+    public static final String STATE = "state";
+    /**
+     * The request that discards a match.
+     */
+    public static final String CLOSE = "close";
+    /**
+     * The answer to a request that succeeded.
+     */
+    public static final String OK = "ok";
+    /**
+     * The answer to a request that failed.
+     */
+    public static final String ERROR = "error";
+    /**
+     * The result of a match that is not over.
+     */
+    public static final String NO_RESULT = "none";
+    /**
+     * The separator of the words of a line.
+     */
+    public static final String SEPARATOR = " ";
+    /**
+     * The separator of the coordinates of a move.
+     */
+    public static final String COORDINATES_SEPARATOR = ",";
+
+    private ServerProtocol() {
+    }
+}
@@ -0,0 +1,24 @@
+package taflgames.controller.tournament.api;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import taflgames.controller.tournament.code.TournamentResults;
+
+/**
+ * A tournament between some configurations of the players, each one playing
+ * a fixed number of games against each other one, in both modes and on both sides.
+ */
+public interface Tournament {
+
+    /**
+     * Plays the games of the tournament, appending the result of each one to the given file as soon as
+     * the game is over. The games whose results are already in the file are not played again,
+     * so that a tournament that was interrupted can be resumed.
+     * @param results the file of the results of the games
+     * @return the results of all the games of the tournament
+     * @throws IOException if the file of the results cannot be read or written
+     * @throws InterruptedException if the thread is interrupted while waiting for the games
+     */
+    TournamentResults play(Path results) throws IOException, InterruptedException;
+}
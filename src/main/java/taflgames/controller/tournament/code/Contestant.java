@@ -0,0 +1,45 @@
+package taflgames.controller.tournament.code;
+
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+import taflgames.controller.headless.api.Agent;
+
+/**
+ * A configuration of a player of a tournament, with its name and the agents that play its games.
+ */
+public final class Contestant {
+
+    private final String name;
+    private final LongFunction<Agent> agents;
+
+    /**
+     * Creates a new contestant.
+     * @param name the name of the contestant, a single word
+     * @param agents the function that creates the agent of a game, from a seed of the game;
+     * each game has its own agent, so that the games can be played at the same time
+     */
+    public Contestant(final String name, final LongFunction<Agent> agents) {
+        if (name.isEmpty() || name.chars().anyMatch(Character::isWhitespace)) {
+            throw new IllegalArgumentException("The name of a contestant must be a single word: '" + name + "'");
+        }
+        this.name = name;
+        this.agents = Objects.requireNonNull(agents);
+    }
+
+    /**
+     * @return the name of the contestant
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Creates the agent of a game.
+     * @param seed the seed of the game
+     * @return the agent
+     */
+    public Agent createAgent(final long seed) {
+        return this.agents.apply(seed);
+    }
+}
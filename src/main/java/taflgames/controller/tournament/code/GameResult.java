@@ -0,0 +1,100 @@
+package taflgames.controller.tournament.code;
+
+import taflgames.common.code.MatchResult;
+import taflgames.controller.headless.api.GameMode;
+import taflgames.controller.headless.code.MatchOutcome;
+
+/**
+ * The result of a game of a tournament, as it is written in the file of the results.
+ */
+public final class GameResult {
+
+    private final int index;
+    private final GameMode mode;
+    private final String attacker;
+    private final String defender;
+    private final MatchResult attackerResult;
+    private final MatchOutcome.Termination termination;
+    private final int moves;
+    private final long nanos;
+
+    /**
+     * Creates a new result.
+     * @param index the index of the game in the schedule of the tournament
+     * @param mode the mode of the game
+     * @param attacker the name of the contestant that played the attacker
+     * @param defender the name of the contestant that played the defender
+     * @param attackerResult the result of the attacker
+     * @param termination how the game ended
+     * @param moves the number of moves made
+     * @param nanos the time taken by the game, in nanoseconds
+     */
+    public GameResult(final int index, final GameMode mode, final String attacker, final String defender,
+            final MatchResult attackerResult, final MatchOutcome.Termination termination, final int moves,
+            final long nanos) {
+        this.index = index;
+        this.mode = mode;
+        this.attacker = attacker;
+        this.defender = defender;
+        this.attackerResult = attackerResult;
+        this.termination = termination;
+        this.moves = moves;
+        this.nanos = nanos;
+    }
+
+    /**
+     * @return the index of the game in the schedule of the tournament
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * @return the mode of the game
+     */
+    public GameMode getMode() {
+        return this.mode;
+    }
+
+    /**
+     * @return the name of the contestant that played the attacker
+     */
+    public String getAttacker() {
+        return this.attacker;
+    }
+
+    /**
+     * @return the name of the contestant that played the defender
+     */
+    public String getDefender() {
+        return this.defender;
+    }
+
+    /**
+     * @return the result of the attacker
+     */
+    public MatchResult getAttackerResult() {
+        return this.attackerResult;
+    }
+
+    /**
+     * @return how the game ended
+     */
+    public MatchOutcome.Termination getTermination() {
+        return this.termination;
+    }
+
+    /**
+     * @return the number of moves made
+     */
+    public int getMoves() {
+        return this.moves;
+    }
+
+    /**
+     * @return the time taken by the game, in nanoseconds
+     */
+    public long getNanos() {
+        return this.nanos;
+    }
+}
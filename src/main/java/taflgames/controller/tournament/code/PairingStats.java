@@ -0,0 +1,141 @@
+package taflgames.controller.tournament.code;
+
+import taflgames.common.code.MatchResult;
+
+/**
+ * The results of the games between two contestants of a tournament, counted for the first one,
+ * with the estimate of the difference of their Elo ratings.
+ * <p>
+ * The difference of the ratings is the one that gives the mean score of the first contestant
+ * (a victory is worth 1, a draw 0.5, a defeat 0) by the logistic curve of the Elo system;
+ * its error is the half-width of the 95% confidence interval of the same curve
+ * over the interval of the mean score, by its standard error.
+ */
+public final class PairingStats {
+
+    private static final double ELO_SCALE = 400;
+    private static final double Z_95 = 1.959_964;
+    private static final double DRAW_SCORE = 0.5;
+
+    private final String first;
+    private final String second;
+    private int wins;
+    private int draws;
+    private int losses;
+
+    /**
+     * Creates the stats of the games between two contestants, with no games yet.
+     * @param first the name of the first contestant
+     * @param second the name of the second contestant
+     */
+    public PairingStats(final String first, final String second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Counts the result of a game between the two contestants.
+     * @param game the result of the game
+     * @throws IllegalArgumentException if the game was not played by the two contestants
+     */
+    public void add(final GameResult game) {
+        final MatchResult result;
+        if (game.getAttacker().equals(this.first) && game.getDefender().equals(this.second)) {
+            result = game.getAttackerResult();
+        } else if (game.getAttacker().equals(this.second) && game.getDefender().equals(this.first)) {
+            result = game.getAttackerResult() == MatchResult.DRAW ? MatchResult.DRAW
+                    : game.getAttackerResult() == MatchResult.VICTORY ? MatchResult.DEFEAT : MatchResult.VICTORY;
+        } else {
+            throw new IllegalArgumentException("The game " + game.getIndex() + " was not played by "
+                    + this.first + " and " + this.second);
+        }
+        switch (result) {
+            case VICTORY:
+                this.wins++;
+                break;
+            case DRAW:
+                this.draws++;
+                break;
+            default:
+                this.losses++;
+                break;
+        }
+    }
+
+    /**
+     * @return the name of the first contestant
+     */
+    public String getFirst() {
+        return this.first;
+    }
+
+    /**
+     * @return the name of the second contestant
+     */
+    public String getSecond() {
+        return this.second;
+    }
+
+    /**
+     * @return the number of victories of the first contestant
+     */
+    public int getWins() {
+        return this.wins;
+    }
+
+    /**
+     * @return the number of draws
+     */
+    public int getDraws() {
+        return this.draws;
+    }
+
+    /**
+     * @return the number of defeats of the first contestant
+     */
+    public int getLosses() {
+        return this.losses;
+    }
+
+    /**
+     * @return the number of games
+     */
+    public int getGames() {
+        return this.wins + this.draws + this.losses;
+    }
+
+    /**
+     * @return the mean score of the first contestant, or 0.5 if there are no games
+     */
+    public double getScore() {
+        return this.getGames() == 0 ? DRAW_SCORE : (this.wins + DRAW_SCORE * this.draws) / this.getGames();
+    }
+
+    /**
+     * @return the estimate of the rating of the first contestant minus the one of the second contestant;
+     * it is infinite if a contestant won all the games
+     */
+    public double getEloDifference() {
+        return eloOf(this.getScore());
+    }
+
+    /**
+     * @return the half-width of the 95% confidence interval of the difference of the ratings;
+     * it is infinite if the interval is not bounded
+     */
+    public double getEloError() {
+        final int games = this.getGames();
+        if (games == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        final double score = this.getScore();
+        final double variance = (this.wins * Math.pow(1 - score, 2) + this.draws * Math.pow(DRAW_SCORE - score, 2)
+                + this.losses * Math.pow(score, 2)) / games;
+        final double margin = Z_95 * Math.sqrt(variance / games);
+        return (eloOf(Math.min(1, score + margin)) - eloOf(Math.max(0, score - margin))) / 2;
+    }
+
+    private static double eloOf(final double score) {
+        return -ELO_SCALE * Math.log10(1 / score - 1);
+    }
+}
@@ -0,0 +1,107 @@
+package taflgames.controller.tournament.code;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import taflgames.common.code.MatchResult;
+import taflgames.controller.headless.api.GameMode;
+import taflgames.controller.headless.code.MatchOutcome;
+
+/**
+ * The file of the results of the games of a tournament, with a line for each game:
+ * {@code <index> <mode> <attacker> <defender> <result of the attacker> <termination> <moves> <nanoseconds>}.
+ * Each line is flushed as soon as it is written, so that the file is complete up to the last
+ * game over even if the tournament is interrupted; a last line that was being written
+ * when the tournament was interrupted is removed when the file is opened again.
+ */
+final class ResultsFile implements Closeable {
+
+    private static final String SEPARATOR = " ";
+    private static final char NEW_LINE = '\n';
+    private static final int FIELDS = 8;
+
+    private final BufferedWriter writer;
+
+    /**
+     * Opens the file to append the results of new games.
+     * @param path the path of the file
+     * @throws IOException if the file cannot be opened
+     */
+    ResultsFile(final Path path) throws IOException {
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Reads the results of the games written so far, after removing the incomplete last line, if any.
+     * @param path the path of the file
+     * @return the results of the games, or an empty list if the file does not exist
+     * @throws IOException if the file cannot be read or is malformed
+     */
+    static List<GameResult> read(final Path path) throws IOException {
+        final List<GameResult> results = new ArrayList<>();
+        if (!Files.exists(path)) {
+            return results;
+        }
+        final byte[] content = Files.readAllBytes(path);
+        int complete = content.length;
+        while (complete > 0 && content[complete - 1] != NEW_LINE) {
+            complete--;
+        }
+        if (complete < content.length) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(complete);
+            }
+        }
+        final String[] lines = new String(content, 0, complete, StandardCharsets.UTF_8).split(String.valueOf(NEW_LINE));
+        for (int i = 0; i < lines.length; i++) {
+            if (!lines[i].isEmpty()) {
+                results.add(parse(lines[i], i + 1));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Appends the result of a game and flushes it to the file.
+     * @param result the result of the game
+     * @throws IOException if the result cannot be written
+     */
+    synchronized void append(final GameResult result) throws IOException {
+        this.writer.write(String.join(SEPARATOR, Integer.toString(result.getIndex()), result.getMode().getName(),
+                result.getAttacker(), result.getDefender(), result.getAttackerResult().name().toLowerCase(Locale.ROOT),
+                result.getTermination().name().toLowerCase(Locale.ROOT), Integer.toString(result.getMoves()),
+                Long.toString(result.getNanos())));
+        this.writer.write(NEW_LINE);
+        this.writer.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        this.writer.close();
+    }
+
+    private static GameResult parse(final String line, final int lineNumber) throws IOException {
+        final String[] fields = line.split(SEPARATOR);
+        if (fields.length != FIELDS) {
+            throw new IOException("Malformed result at line " + lineNumber + ": " + line);
+        }
+        try {
+            return new GameResult(Integer.parseInt(fields[0]), GameMode.valueOf(fields[1].toUpperCase(Locale.ROOT)),
+                    fields[2], fields[3], MatchResult.valueOf(fields[4].toUpperCase(Locale.ROOT)),
+                    MatchOutcome.Termination.valueOf(fields[5].toUpperCase(Locale.ROOT)),
+                    Integer.parseInt(fields[6]), Long.parseLong(fields[7]));
+        } catch (final IllegalArgumentException e) {
+            throw new IOException("Malformed result at line " + lineNumber + ": " + line, e);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package taflgames.controller.tournament.code;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import taflgames.common.code.Pair;
+import taflgames.common.code.Position;
+import taflgames.controller.headless.api.Agent;
+import taflgames.controller.headless.api.GameMode;
+import taflgames.controller.headless.api.MatchRunner;
+import taflgames.controller.headless.code.HeadlessMatchRunner;
+import taflgames.controller.headless.code.MatchOutcome;
+import taflgames.controller.headless.code.RandomAgent;
+import taflgames.controller.tournament.api.Tournament;
+import taflgames.model.Model;
+import taflgames.model.board.code.BitBoardImpl;
+
+/**
+ * A {@link Tournament} whose games are played at the same time by a pool of threads,
+ * each game with its own match and its own agents.
+ * <p>
+ * The games follow a fixed schedule: the games of each pairing of contestants come in pairs
+ * with the same opening, one with each contestant as the attacker, and the pairs alternate
+ * between the modes. The opening is made by the first moves of each side, played at random
+ * from seeds given by the seed of the tournament and by the pair of games, so that the games
+ * are not all the same, and so that they are the same when a tournament is resumed.
+ */
+public final class TournamentImpl implements Tournament {
+
+    private static final long SEED_MULTIPLIER = 0x9E37_79B9_7F4A_7C15L;
+
+    private final List<Pair<Contestant, Contestant>> pairings = new ArrayList<>();
+    private final int gamesPerPairing;
+    private final int threads;
+    private final int openingMoves;
+    private final long seed;
+    private final MatchRunner runner;
+
+    /**
+     * Creates a tournament in which each contestant plays against each other one.
+     * @param contestants the contestants, at least two, with different names
+     * @param gamesPerPairing the number of games played by each pairing of contestants
+     * @param threads the number of games played at the same time
+     * @param openingMoves the number of moves of each side played at random at the start of each game
+     * @param maxMoves the maximum number of moves of a game, after which it is a draw
+     * @param seed the seed of the openings and of the agents of the games
+     */
+    public TournamentImpl(final List<Contestant> contestants, final int gamesPerPairing, final int threads,
+            final int openingMoves, final int maxMoves, final long seed) {
+        if (contestants.size() < 2) {
+            throw new IllegalArgumentException("A tournament needs at least two contestants");
+        }
+        final Set<String> names = new HashSet<>();
+        for (final Contestant contestant : contestants) {
+            if (!names.add(contestant.getName())) {
+                throw new IllegalArgumentException("Two contestants are named " + contestant.getName());
+            }
+        }
+        if (gamesPerPairing <= 0 || threads <= 0 || openingMoves < 0) {
+            throw new IllegalArgumentException("Invalid number of games, threads or opening moves");
+        }
+        for (int i = 0; i < contestants.size(); i++) {
+            for (int j = i + 1; j < contestants.size(); j++) {
+                this.pairings.add(new Pair<>(contestants.get(i), contestants.get(j)));
+            }
+        }
+        this.gamesPerPairing = gamesPerPairing;
+        this.threads = threads;
+        this.openingMoves = openingMoves;
+        this.seed = seed;
+        this.runner = new HeadlessMatchRunner(BitBoardImpl::new, maxMoves);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TournamentResults play(final Path results) throws IOException, InterruptedException {
+        final List<GameResult> games = Collections.synchronizedList(new ArrayList<>(ResultsFile.read(results)));
+        final Set<Integer> playedIndexes = new HashSet<>();
+        for (final GameResult game : games) {
+            if (!this.isScheduled(game) || !playedIndexes.add(game.getIndex())) {
+                throw new IOException("The game " + game.getIndex() + " of " + results
+                        + " does not belong to this tournament");
+            }
+        }
+        final AtomicInteger playedGames = new AtomicInteger();
+        final long start = System.nanoTime();
+        final ForkJoinPool pool = new ForkJoinPool(this.threads);
+        try (ResultsFile file = new ResultsFile(results)) {
+            final List<Future<?>> tasks = new ArrayList<>();
+            for (int index = 0; index < this.pairings.size() * this.gamesPerPairing; index++) {
+                if (!playedIndexes.contains(index)) {
+                    final int gameIndex = index;
+                    tasks.add(pool.submit(() -> {
+                        final GameResult game = this.playGame(gameIndex);
+                        file.append(game);
+                        games.add(game);
+                        playedGames.incrementAndGet();
+                        return null;
+                    }));
+                }
+            }
+            for (final Future<?> task : tasks) {
+                task.get();
+            }
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException("A game of the tournament failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        final long nanos = System.nanoTime() - start;
+        final List<PairingStats> stats = new ArrayList<>();
+        for (final Pair<Contestant, Contestant> pairing : this.pairings) {
+            stats.add(new PairingStats(pairing.getX().getName(), pairing.getY().getName()));
+        }
+        synchronized (games) {
+            for (final GameResult game : games) {
+                stats.get(game.getIndex() / this.gamesPerPairing).add(game);
+            }
+        }
+        return new TournamentResults(stats, playedGames.get(), nanos);
+    }
+
+    private GameResult playGame(final int index) throws IOException {
+        final Contestant attacker = this.attackerOf(index);
+        final Contestant defender = this.defenderOf(index);
+        final GameMode mode = this.modeOf(index);
+        final long gameSeed = (this.seed + index - this.indexInPairing(index) % 2) * SEED_MULTIPLIER;
+        final Agent attackerAgent = new OpeningAgent(new RandomAgent(new Random(gameSeed)),
+                attacker.createAgent(gameSeed), this.openingMoves);
+        final Agent defenderAgent = new OpeningAgent(new RandomAgent(new Random(~gameSeed)),
+                defender.createAgent(~gameSeed), this.openingMoves);
+        final MatchOutcome outcome = this.runner.play(mode, attackerAgent, defenderAgent);
+        return new GameResult(index, mode, attacker.getName(), defender.getName(), outcome.getResult().getX(),
+                outcome.getTermination(), outcome.getMoves(), outcome.getNanos());
+    }
+
+    private boolean isScheduled(final GameResult game) {
+        final int index = game.getIndex();
+        return index >= 0 && index < this.pairings.size() * this.gamesPerPairing
+                && game.getMode() == this.modeOf(index)
+                && game.getAttacker().equals(this.attackerOf(index).getName())
+                && game.getDefender().equals(this.defenderOf(index).getName());
+    }
+
+    private int indexInPairing(final int index) {
+        return index % this.gamesPerPairing;
+    }
+
+    private Contestant attackerOf(final int index) {
+        final Pair<Contestant, Contestant> pairing = this.pairings.get(index / this.gamesPerPairing);
+        return this.indexInPairing(index) % 2 == 0 ? pairing.getX() : pairing.getY();
+    }
+
+    private Contestant defenderOf(final int index) {
+        final Pair<Contestant, Contestant> pairing = this.pairings.get(index / this.gamesPerPairing);
+        return this.indexInPairing(index) % 2 == 0 ? pairing.getY() : pairing.getX();
+    }
+
+    private GameMode modeOf(final int index) {
+        return GameMode.values()[this.indexInPairing(index) / 2 % GameMode.values().length];
+    }
+
+    /**
+     * An agent that plays its first moves with another agent.
+     */
+    private static final class OpeningAgent implements Agent {
+
+        private final Agent opening;
+        private final Agent agent;
+        private int openingMoves;
+
+        OpeningAgent(final Agent opening, final Agent agent, final int openingMoves) {
+            this.opening = opening;
+            this.agent = agent;
+            this.openingMoves = openingMoves;
+        }
+
+        @Override
+        public Optional<Pair<Position, Position>> chooseMove(final Model match) {
+            if (this.openingMoves > 0) {
+                this.openingMoves--;
+                return this.opening.chooseMove(match);
+            }
+            return this.agent.chooseMove(match);
+        }
+    }
+}
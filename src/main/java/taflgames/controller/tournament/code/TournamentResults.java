@@ -0,0 +1,56 @@
+package taflgames.controller.tournament.code;
+
+import java.util.List;
+
+/**
+ * The results of a tournament: the stats of each pairing of contestants, over all the games played
+ * so far, and the number of games played by the last run with the time it took.
+ */
+public final class TournamentResults {
+
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final List<PairingStats> pairings;
+    private final int playedGames;
+    private final long nanos;
+
+    /**
+     * Creates the results of a tournament.
+     * @param pairings the stats of each pairing of contestants
+     * @param playedGames the number of games played by the last run
+     * @param nanos the time taken by the last run, in nanoseconds
+     */
+    public TournamentResults(final List<PairingStats> pairings, final int playedGames, final long nanos) {
+        this.pairings = List.copyOf(pairings);
+        this.playedGames = playedGames;
+        this.nanos = nanos;
+    }
+
+    /**
+     * @return the stats of each pairing of contestants
+     */
+    public List<PairingStats> getPairings() {
+        return this.pairings;
+    }
+
+    /**
+     * @return the number of games played by the last run
+     */
+    public int getPlayedGames() {
+        return this.playedGames;
+    }
+
+    /**
+     * @return the time taken by the last run, in nanoseconds
+     */
+    public long getNanos() {
+        return this.nanos;
+    }
+
+    /**
+     * @return the number of games played per second by the last run
+     */
+    public double getGamesPerSecond() {
+        return this.nanos == 0 ? 0 : this.playedGames * NANOS_PER_SECOND / this.nanos;
+    }
+}
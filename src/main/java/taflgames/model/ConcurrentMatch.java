@@ -0,0 +1,311 @@
+package taflgames.model;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import taflgames.common.Player;
+import taflgames.common.code.MatchResult;
+import taflgames.common.code.MoveBuffer;
+import taflgames.common.code.Pair;
+import taflgames.common.code.Position;
+import taflgames.controller.entitystate.CellState;
+import taflgames.controller.entitystate.PieceState;
+import taflgames.model.memento.api.MatchDelta;
+import taflgames.model.memento.api.MatchMemento;
+import taflgames.model.pieces.api.Piece;
+
+/**
+ * A {@link Model} that can be used by many threads at the same time: it wraps a match,
+ * which no one else must use, and makes the readers never wait for the writer.
+ * <p>
+ * The changes of the match are made one at a time, under the lock of the match; after each change
+ * that succeeds and alters what the watchers see, a {@link MatchSnapshot} of the new state is published,
+ * so that the threads that only watch the match read the last published snapshot, without locking,
+ * and never see a change in progress.
+ * {@link #getActivePlayer()}, {@link #getTurnNumber()}, {@link #getPositionKey()},
+ * {@link #getMatchEndStatus()}, {@link #getCellsMapping()} and {@link #getPiecesMapping()}
+ * are answered this way, as {@link #getSnapshot()}, unless they are called by the thread that holds the lock.
+ * <br>The moves made by {@link #pushMove(Position, Position)} are the ones of a search:
+ * the first one takes the lock and the {@link #popMove()} that takes it back releases it, so that
+ * the search has the match for itself and the positions it visits are never published.
+ * All the other methods take the lock only for the time of the call.
+ */
+public final class ConcurrentMatch implements Model {
+
+    private final Model match;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile MatchSnapshot snapshot;
+    private int pushedMoves;
+
+    /**
+     * Wraps a match.
+     * @param match the match, which must not be used other than through this object from now on
+     */
+    public ConcurrentMatch(final Model match) {
+        this.match = match;
+        this.snapshot = new MatchSnapshot(match);
+    }
+
+    /**
+     * @return the last published state of the match; it never waits for the lock
+     */
+    public MatchSnapshot getSnapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Player getActivePlayer() {
+        return this.lock.isHeldByCurrentThread() ? this.match.getActivePlayer() : this.snapshot.getActivePlayer();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTurnNumber() {
+        return this.lock.isHeldByCurrentThread() ? this.match.getTurnNumber() : this.snapshot.getTurnNumber();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setNextActivePlayer() {
+        this.write(this.match::setNextActivePlayer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean selectSource(final Position start) {
+        return this.read(() -> this.match.selectSource(start));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean selectDestination(final Position start, final Position destination) {
+        return this.read(() -> this.match.selectDestination(start, destination));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void makeMove(final Position start, final Position destination) {
+        this.write(() -> this.match.makeMove(start, destination));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pushMove(final Position start, final Position destination) {
+        this.lock.lock();
+        try {
+            this.match.pushMove(start, destination);
+            this.pushedMoves++;
+        } catch (final RuntimeException exception) {
+            this.lock.unlock();
+            throw exception;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws IllegalMonitorStateException if the move was not pushed by this thread
+     */
+    @Override
+    public void popMove() {
+        if (!this.lock.isHeldByCurrentThread() || this.pushedMoves == 0) {
+            throw new IllegalMonitorStateException("No move was pushed by this thread");
+        }
+        try {
+            this.match.popMove();
+        } finally {
+            this.pushedMoves--;
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pushState() {
+        this.read(() -> {
+            this.match.pushState();
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void popState() {
+        this.write(this.match::popState);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void redoState() {
+        this.write(this.match::redoState);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forgetOldestState() {
+        this.read(() -> {
+            this.match.forgetOldestState();
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>The changes of the returned delta are made under the lock of this match too.
+     */
+    @Override
+    public MatchDelta sealState() {
+        final MatchDelta delta = this.read(this.match::sealState);
+        return new MatchDelta() {
+
+            @Override
+            public void undo() {
+                ConcurrentMatch.this.write(delta::undo);
+            }
+
+            @Override
+            public void redo() {
+                ConcurrentMatch.this.write(delta::redo);
+            }
+
+            @Override
+            public boolean isEmpty() {
+                return delta.isEmpty();
+            }
+
+            @Override
+            public long getEstimatedBytes() {
+                return delta.getEstimatedBytes();
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void generateLegalMoves(final Player player, final MoveBuffer moves) {
+        this.read(() -> {
+            this.match.generateLegalMoves(player, moves);
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getPositionKey() {
+        return this.lock.isHeldByCurrentThread() ? this.match.getPositionKey() : this.snapshot.getPositionKey();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>The copy is a plain match, to be used by a single thread.
+     */
+    @Override
+    public Model copy() {
+        return this.read(this.match::copy);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Pair<MatchResult, MatchResult>> getMatchEndStatus() {
+        return this.lock.isHeldByCurrentThread() ? this.match.getMatchEndStatus() : this.snapshot.getMatchEndStatus();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<Position, CellState> getCellsMapping() {
+        return this.lock.isHeldByCurrentThread() ? this.match.getCellsMapping() : this.snapshot.getCellsMapping();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<Position, PieceState> getPiecesMapping() {
+        return this.lock.isHeldByCurrentThread() ? this.match.getPiecesMapping() : this.snapshot.getPiecesMapping();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Piece getPieceAt(final Position position) {
+        return this.lock.isHeldByCurrentThread() ? this.match.getPieceAt(position)
+            : this.read(() -> this.match.getPieceAt(position));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MatchMemento save() {
+        return this.read(this.match::save);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void restore(final MatchMemento matchMemento) {
+        this.write(() -> this.match.restore(matchMemento));
+    }
+
+    /*
+     * Reads the match, or changes it without publishing the change, under the lock.
+     */
+    private <T> T read(final Supplier<T> operation) {
+        this.lock.lock();
+        try {
+            return operation.get();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /*
+     * Changes what the watchers of the match see, under the lock, and publishes the new state
+     * once the change succeeded, unless a search is in progress.
+     */
+    private void write(final Runnable change) {
+        this.lock.lock();
+        try {
+            change.run();
+            if (this.pushedMoves == 0) {
+                this.snapshot = new MatchSnapshot(this.match);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package taflgames.model;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import org.apache.commons.collections4.iterators.LoopingIterator;
@@ -9,23 +11,37 @@ import org.apache.commons.collections4.iterators.LoopingIterator;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import taflgames.common.Player;
 import taflgames.common.code.MatchResult;
+import taflgames.common.code.MoveBuffer;
 import taflgames.common.code.Pair;
 import taflgames.common.code.Position;
 import taflgames.controller.entitystate.CellState;
 import taflgames.controller.entitystate.PieceState;
 import taflgames.model.board.api.Board;
+import taflgames.model.memento.api.BoardDelta;
 import taflgames.model.memento.api.BoardMemento;
+import taflgames.model.memento.api.MatchDelta;
 import taflgames.model.memento.api.MatchMemento;
+import taflgames.model.pieces.api.Piece;
 
 /**
  * This class implements a match.
  */
 public final class Match implements Model {
 
+    private static final int INITIAL_PUSHED_TURNS = 16;
+    private static final Player[] PLAYERS = Player.values();
+
     private final Board board;
     private final LoopingIterator<Player> turnQueue;
     private Player activePlayer;
     private int turnNumber;
+    /*
+     * The turns of the states pushed on the board, encoded as turn number * players + player:
+     * the first pushedStates are open, the next undoneStates can be redone.
+     */
+    private int[] pushedTurns = new int[INITIAL_PUSHED_TURNS];
+    private int pushedStates;
+    private int undoneStates;
 
     /**
      * Creates a new match.
@@ -40,6 +56,23 @@ public final class Match implements Model {
         this.turnNumber = 0;
     }
 
+    /**
+     * Creates a match that is already in the given turn, e.g. to go on from a decoded position.
+     * @param board the board used for the match, in the state it has in the given turn
+     * @param turnNumber the number of the turn
+     * @param activePlayer the player in turn
+     */
+    public Match(final Board board, final int turnNumber, final Player activePlayer) {
+        this(board);
+        if (turnNumber < 0) {
+            throw new IllegalArgumentException("Invalid turn number: " + turnNumber);
+        }
+        this.turnNumber = turnNumber;
+        this.activePlayer = activePlayer;
+        this.alignTurnQueue();
+        this.board.setPlayerInTurn(activePlayer);
+    }
+
     @Override
     public Player getActivePlayer() {
         return this.activePlayer;
@@ -73,6 +106,158 @@ public final class Match implements Model {
         this.board.eat();   // Performs the eatings caused by the move just made.
     }
 
+    @Override
+    public void pushMove(final Position start, final Position destination) {
+        this.pushState();
+        this.makeMove(start, destination);
+        this.setNextActivePlayer();
+    }
+
+    @Override
+    public void popMove() {
+        this.popState();
+    }
+
+    @Override
+    public void pushState() {
+        if (this.pushedStates == this.pushedTurns.length) {
+            this.pushedTurns = Arrays.copyOf(this.pushedTurns, 2 * this.pushedTurns.length);
+        }
+        this.board.pushState();
+        this.pushedTurns[this.pushedStates] = this.encodeTurn();
+        this.pushedStates++;
+        this.undoneStates = 0;
+    }
+
+    @Override
+    public void popState() {
+        if (this.pushedStates == 0) {
+            throw new NoSuchElementException("No state was pushed");
+        }
+        this.board.popState();
+        this.pushedStates--;
+        this.undoneStates++;
+        this.swapTurn(this.pushedStates);
+    }
+
+    @Override
+    public void redoState() {
+        if (this.undoneStates == 0) {
+            throw new NoSuchElementException("No state was popped");
+        }
+        this.board.redoState();
+        this.swapTurn(this.pushedStates);
+        this.pushedStates++;
+        this.undoneStates--;
+    }
+
+    @Override
+    public void forgetOldestState() {
+        if (this.pushedStates == 0) {
+            throw new NoSuchElementException("No state was pushed");
+        }
+        this.board.forgetOldestState();
+        System.arraycopy(this.pushedTurns, 1, this.pushedTurns, 0, this.pushedStates + this.undoneStates - 1);
+        this.pushedStates--;
+    }
+
+    @Override
+    public MatchDelta sealState() {
+        if (this.pushedStates == 0) {
+            throw new NoSuchElementException("No state was pushed");
+        }
+        final BoardDelta boardDelta = this.board.sealState();
+        this.pushedStates--;
+        this.undoneStates = 0;
+        return new MatchDeltaImpl(this.pushedTurns[this.pushedStates], this.encodeTurn(), boardDelta);
+    }
+
+    private int encodeTurn() {
+        return this.turnNumber * PLAYERS.length + this.activePlayer.ordinal();
+    }
+
+    /*
+     * Takes the turn saved in the given slot, saving the current one in its place.
+     */
+    private void swapTurn(final int slot) {
+        final int saved = this.pushedTurns[slot];
+        this.pushedTurns[slot] = this.encodeTurn();
+        this.takeTurn(saved);
+    }
+
+    private void takeTurn(final int turn) {
+        this.turnNumber = turn / PLAYERS.length;
+        this.activePlayer = PLAYERS[turn % PLAYERS.length];
+        this.alignTurnQueue();
+    }
+
+    /*
+     * The changes sealed by sealState, with the encoded turns where they begin and end.
+     */
+    private final class MatchDeltaImpl implements MatchDelta {
+
+        private final int turnBefore;
+        private final int turnAfter;
+        private final BoardDelta boardDelta;
+
+        MatchDeltaImpl(final int turnBefore, final int turnAfter, final BoardDelta boardDelta) {
+            this.turnBefore = turnBefore;
+            this.turnAfter = turnAfter;
+            this.boardDelta = boardDelta;
+        }
+
+        @Override
+        public void undo() {
+            this.checkNoPushedState();
+            this.boardDelta.undo();
+            Match.this.takeTurn(this.turnBefore);
+            Match.this.undoneStates = 0;
+        }
+
+        @Override
+        public void redo() {
+            this.checkNoPushedState();
+            this.boardDelta.redo();
+            Match.this.takeTurn(this.turnAfter);
+            Match.this.undoneStates = 0;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return this.boardDelta.isEmpty() && this.turnBefore == this.turnAfter;
+        }
+
+        @Override
+        public long getEstimatedBytes() {
+            return this.boardDelta.getEstimatedBytes();
+        }
+
+        private void checkNoPushedState() {
+            if (Match.this.pushedStates > 0) {
+                throw new IllegalStateException("A delta cannot be applied while a state is pushed");
+            }
+        }
+    }
+
+    @Override
+    public void generateLegalMoves(final Player player, final MoveBuffer moves) {
+        this.board.generateLegalMoves(player, moves);
+    }
+
+    @Override
+    public long getPositionKey() {
+        return this.board.getPositionKey();
+    }
+
+    @Override
+    public Model copy() {
+        final Match copy = new Match(this.board.copy());
+        copy.turnNumber = this.turnNumber;
+        copy.activePlayer = this.activePlayer;
+        copy.alignTurnQueue();
+        return copy;
+    }
+
     @Override
     public Optional<Pair<MatchResult, MatchResult>> getMatchEndStatus() {
         if (this.board.checkForWinningPlayer().isPresent()) {
@@ -97,6 +282,11 @@ public final class Match implements Model {
         return this.board.getPiecesTagsMapping();
     }
 
+    @Override
+    public Piece getPieceAt(final Position position) {
+        return this.board.getPieceAt(position);
+    }
+
     /**
      * This inner class implements a {@link MatchMemento}, which is responsible
      * for saving the current state of the match and provide it on request.
@@ -150,7 +340,23 @@ public final class Match implements Model {
     public void restore(final MatchMemento matchMemento) {
         this.turnNumber = matchMemento.getTurnNumber();
         this.activePlayer = matchMemento.getActivePlayer();
+        this.alignTurnQueue();
         matchMemento.getBoardMemento().restore();
+        // The board has forgotten its pushed states
+        this.pushedStates = 0;
+        this.undoneStates = 0;
+    }
+
+    /*
+     * Makes the turn queue point again to the player that follows the active one,
+     * otherwise a restore across a turn change would give the next turn to the wrong player.
+     */
+    private void alignTurnQueue() {
+        this.turnQueue.reset();
+        Player next = this.turnQueue.next();
+        while (next != this.activePlayer) {
+            next = this.turnQueue.next();
+        }
     }
 
 }
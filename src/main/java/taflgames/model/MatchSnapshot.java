@@ -0,0 +1,84 @@
+package taflgames.model;
+
+import java.util.Map;
+import java.util.Optional;
+
+import taflgames.common.Player;
+import taflgames.common.code.MatchResult;
+import taflgames.common.code.Pair;
+import taflgames.common.code.Position;
+import taflgames.controller.entitystate.CellState;
+import taflgames.controller.entitystate.PieceState;
+
+/**
+ * An immutable view of the state of a match at some point, as seen by who watches the match:
+ * all of its values were taken at the same time.
+ */
+public final class MatchSnapshot {
+
+    private final Player activePlayer;
+    private final int turnNumber;
+    private final long positionKey;
+    private final Optional<Pair<MatchResult, MatchResult>> matchEndStatus;
+    private final Map<Position, CellState> cellsMapping;
+    private final Map<Position, PieceState> piecesMapping;
+
+    /**
+     * Takes the snapshot of a match.
+     * @param match the match, which must not change while the snapshot is taken
+     */
+    MatchSnapshot(final Model match) {
+        this.activePlayer = match.getActivePlayer();
+        this.turnNumber = match.getTurnNumber();
+        this.positionKey = match.getPositionKey();
+        this.matchEndStatus = match.getMatchEndStatus();
+        this.cellsMapping = Map.copyOf(match.getCellsMapping());
+        this.piecesMapping = Map.copyOf(match.getPiecesMapping());
+    }
+
+    /**
+     * @return the player in turn
+     */
+    public Player getActivePlayer() {
+        return this.activePlayer;
+    }
+
+    /**
+     * @return the number of the turn
+     */
+    public int getTurnNumber() {
+        return this.turnNumber;
+    }
+
+    /**
+     * @return the key of the position
+     * @see Model#getPositionKey()
+     */
+    public long getPositionKey() {
+        return this.positionKey;
+    }
+
+    /**
+     * @return the results of the players, if the match is over
+     * @see Model#getMatchEndStatus()
+     */
+    public Optional<Pair<MatchResult, MatchResult>> getMatchEndStatus() {
+        return this.matchEndStatus;
+    }
+
+    /**
+     * @return an unmodifiable map of the state of the cells
+     * @see Model#getCellsMapping()
+     */
+    public Map<Position, CellState> getCellsMapping() {
+        return this.cellsMapping;
+    }
+
+    /**
+     * @return an unmodifiable map of the state of the pieces
+     * @see Model#getPiecesMapping()
+     */
+    public Map<Position, PieceState> getPiecesMapping() {
+        return this.piecesMapping;
+    }
+}
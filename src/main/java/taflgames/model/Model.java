@@ -1,10 +1,13 @@
 package taflgames.model;
 
+import taflgames.common.code.MoveBuffer;
 import taflgames.common.code.Pair;
 import taflgames.common.code.Position;
 import taflgames.controller.entitystate.CellState;
 import taflgames.controller.entitystate.PieceState;
+import taflgames.model.memento.api.MatchDelta;
 import taflgames.model.memento.api.MatchMemento;
+import taflgames.model.pieces.api.Piece;
 
 import java.util.Map;
 import java.util.Optional;
@@ -56,6 +59,87 @@ public interface Model {
      */
     void makeMove(Position start, Position destination);
 
+    /**
+     * Makes the move from the starting position {@code start} to the destination {@code destination}
+     * and passes the turn, remembering what is needed to take the move back with {@link #popMove()}.
+     * The moves can be nested and must be taken back in reverse order. It is the same as {@link #pushState()}
+     * followed by the move and the end of the turn. Unlike {@link #save()} and
+     * {@link #restore(MatchMemento)}, no snapshot of the whole match is copied, which makes this
+     * the make/unmake path to be used by the searches.
+     * @param start the starting position
+     * @param destination the destination
+     */
+    void pushMove(Position start, Position destination);
+
+    /**
+     * Takes back the last move made with {@link #pushMove(Position, Position)},
+     * giving the turn back to the player that made it.
+     * @throws java.util.NoSuchElementException if there is no move to take back
+     */
+    void popMove();
+
+    /**
+     * Pushes the current state of the match on a stack, so that it can be brought back with {@link #popState()}:
+     * the board records only what changes from now on, which makes this the way to support the "undo"
+     * operation without taking a snapshot of the whole match. The states can be nested, e.g. by
+     * the searches, and the states popped before, which could be redone, are forgotten.
+     */
+    void pushState();
+
+    /**
+     * Brings the match back to the state on top of the stack filled by {@link #pushState()},
+     * removing it from the stack. The changes taken back can be made again with {@link #redoState()}.
+     * @throws java.util.NoSuchElementException if no state was pushed
+     */
+    void popState();
+
+    /**
+     * Makes again the changes taken back by the last {@link #popState()}, pushing its state back on the stack.
+     * @throws java.util.NoSuchElementException if no state was popped since the last {@link #pushState()}
+     */
+    void redoState();
+
+    /**
+     * Forgets the state at the bottom of the stack filled by {@link #pushState()}, without bringing
+     * the match back to it: the changes made since then can no longer be taken back.
+     * @throws java.util.NoSuchElementException if no state was pushed
+     */
+    void forgetOldestState();
+
+    /**
+     * Closes the state on top of the stack filled by {@link #pushState()}, keeping the changes made since then,
+     * and returns them as a {@link MatchDelta}: unlike {@link #popState()}, the changes can be taken back and made
+     * again at any later time, as long as the match is in the state where the delta ends or begins and
+     * no state is pushed. This is how a history of the whole match is kept, one turn after the other.
+     * @return the changes made since the state on top was pushed
+     * @throws java.util.NoSuchElementException if no state was pushed
+     */
+    MatchDelta sealState();
+
+    /**
+     * Writes in the given buffer all the moves that the given player can make,
+     * i.e. the ones accepted by {@link #selectSource(Position)} and
+     * {@link #selectDestination(Position, Position)} when the player is in turn.
+     * The buffer is cleared first, so that it can be reused.
+     * @param player the player whose moves are generated
+     * @param moves the buffer where the moves are written
+     */
+    void generateLegalMoves(Player player, MoveBuffer moves);
+
+    /**
+     * Returns the Zobrist key of the current position, which identifies the position
+     * (player in turn included) with a 64-bit hash that is kept up to date move by move.
+     * @return the key of the current position
+     */
+    long getPositionKey();
+
+    /**
+     * Creates a match in the same state as this one, on a copy of its board,
+     * so that the two matches can be played independently, e.g. by different threads.
+     * @return the copy of this match
+     */
+    Model copy();
+
     /**
      * Checks if the match is over; if it is, then returns the result of the match.
      * @return if the match is over, it returns an {@link Optional} of a {@link Pair} contaning the result of the match
@@ -76,6 +160,14 @@ public interface Model {
      */
     Map<Position, PieceState> getPiecesMapping();
 
+    /**
+     * Gives the piece at the given position, without copying it, so that the engines
+     * can read the board at each node of a search. The piece must not be changed.
+     * @param position the position
+     * @return the piece at the given position, or null if the position is empty
+     */
+    Piece getPieceAt(Position position);
+
     /**
      * Saves a snapshot of the current state of the match, in order to support the "undo" operation.
      * @return the {@link MatchMemento} that holds the snapshot
@@ -83,7 +175,8 @@ public interface Model {
     MatchMemento save();
 
     /**
-     * Restores the state of the match saved in the {@link MatchMemento} passed as argument.
+     * Restores the state of the match saved in the {@link MatchMemento} passed as argument,
+     * forgetting all the states of the stack of {@link #pushState()}.
      * @param matchMemento the {@link MatchMemento} that holds the snapshot
      */
     void restore(MatchMemento matchMemento);
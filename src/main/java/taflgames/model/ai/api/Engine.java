@@ -0,0 +1,21 @@
+package taflgames.model.ai.api;
+
+import java.util.Optional;
+
+import taflgames.model.Model;
+import taflgames.model.ai.code.SearchResult;
+
+/**
+ * A computer opponent, which chooses the moves of the player in turn.
+ */
+public interface Engine {
+
+    /**
+     * Searches the move to be made by the player in turn.
+     * The match is left in the position it was in before the call.
+     * @param match the match
+     * @return the chosen move along with the outcome of the search, or an empty {@link Optional}
+     * if the match is over or the player in turn cannot move
+     */
+    Optional<SearchResult> search(Model match);
+}
@@ -0,0 +1,27 @@
+package taflgames.model.ai.api;
+
+import taflgames.common.Player;
+import taflgames.model.Model;
+
+/**
+ * An evaluation function, which scores the positions at the leaves of a search.
+ */
+@FunctionalInterface
+public interface Evaluation {
+
+    /**
+     * The highest absolute value that an evaluation can return, so that the scores of
+     * the positions can never be confused with the ones of the won and lost matches.
+     */
+    int MAX_SCORE = 100_000;
+
+    /**
+     * Scores a position of a match that is not over, from the point of view of the given player:
+     * the higher the score, the better the position for the player. The score of a position
+     * for a player must be the opposite of its score for the other player.
+     * @param match the match in the position to be scored
+     * @param player the player for whom the position is scored
+     * @return the score, between -{@link #MAX_SCORE} and {@link #MAX_SCORE}
+     */
+    int evaluate(Model match, Player player);
+}
@@ -0,0 +1,48 @@
+package taflgames.model.ai.api;
+
+import taflgames.model.ai.code.TableEntry;
+import taflgames.model.ai.code.TableStats;
+
+/**
+ * A cache of the results of a search, indexed by the position keys of the matches
+ * (see {@link taflgames.model.Model#getPositionKey()}). The entries are packed in a single
+ * {@code long} by {@link TableEntry}. The implementations may be shared by several search threads.
+ */
+public interface TranspositionTable {
+
+    /**
+     * Looks up a position.
+     * @param key the key of the position
+     * @return the entry stored for the position, or {@link TableEntry#NONE} if it is not stored
+     */
+    long probe(long key);
+
+    /**
+     * Stores the result of the search of a position. The table may keep the entry it already has
+     * instead, if it is considered more valuable.
+     * @param key the key of the position
+     * @param move the best move found, packed as in {@link taflgames.common.code.MoveBuffer},
+     * or a negative value if there is none
+     * @param score the score of the position
+     * @param depth the depth of the search
+     * @param bound whether the score is exact or a bound, one of the constants of {@link TableEntry}
+     */
+    void store(long key, int move, int score, int depth, int bound);
+
+    /**
+     * Signals that a new search is starting, so that the entries of the previous searches
+     * can be replaced even if they were searched more deeply.
+     */
+    void newSearch();
+
+    /**
+     * Removes all the entries and resets the statistics.
+     */
+    void clear();
+
+    /**
+     * @return the statistics of the lookups since the table was created or cleared,
+     * along with how full the table is
+     */
+    TableStats getStats();
+}
@@ -0,0 +1,356 @@
+package taflgames.model.ai.code;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import taflgames.common.Player;
+import taflgames.common.code.MatchResult;
+import taflgames.common.code.MoveBuffer;
+import taflgames.common.code.Pair;
+import taflgames.common.code.Position;
+import taflgames.model.Model;
+import taflgames.model.ai.api.Engine;
+import taflgames.model.ai.api.Evaluation;
+import taflgames.model.ai.api.TranspositionTable;
+
+/**
+ * An {@link Engine} that runs a negamax search with alpha-beta pruning and iterative deepening:
+ * the search is repeated with increasing depth until the time budget runs out, and the move
+ * of the last completed iteration is chosen. The first iteration is always completed,
+ * so that a move is found even with a very short budget.
+ * <p>
+ * The results of the searched positions are kept in a {@link TranspositionTable}, so that a position
+ * reached again, through another order of moves or in a later iteration, is not searched again
+ * unless the stored result is not deep enough; even then, its best move is tried first.
+ * <p>
+ * The moves are tried in this order: the best move stored in the table (at the root, the best move
+ * of the previous iteration), the moves of the king to an exit, the moves that likely capture some pieces, the moves of the king that open
+ * a line to an exit, the moves that caused a cutoff at the same depth (killer moves) and finally
+ * the other moves, sorted by how often they caused a cutoff (history heuristic).
+ * <p>
+ * The moves are made and taken back with {@link Model#pushMove(Position, Position)} and
+ * {@link Model#popMove()}. Since the engine keeps the state of the current search,
+ * an instance must not be shared between threads.
+ */
+public final class AlphaBetaEngine implements Engine {
+
+    static final int MAX_PLY = 64;
+    private static final int WIN = 10 * Evaluation.MAX_SCORE;
+    private static final int INFINITY = WIN + MAX_PLY + 1;
+    private static final int NO_MOVE = -1;
+    private static final int TIME_CHECK_MASK = (1 << 7) - 1;
+    private static final int DEFAULT_TABLE_MEGABYTES = 16;
+
+    private static final int FIRST_MOVE = 1 << 30;
+    private static final int KING_TO_EXIT = 1 << 29;
+    private static final int CAPTURE = 1 << 25;
+    private static final int KING_ESCAPE = 1 << 24;
+    private static final int KILLER = 1 << 23;
+
+    private final Evaluation evaluation;
+    private final long budgetNanos;
+    private final int maxDepth;
+    private final TranspositionTable table;
+    private final int firstDepth;
+    private final AtomicBoolean stop;
+
+    private final PiecesGrid grid = new PiecesGrid();
+    private final List<MoveBuffer> buffers = new ArrayList<>();
+    private final List<int[]> orderScores = new ArrayList<>();
+    private final int[][] killers = new int[MAX_PLY][2];
+    private int[] history = new int[0];
+    private Model match;
+    private long deadline;
+    private boolean deadlineActive;
+    private boolean timeUp;
+    private long nodes;
+    private int pvMove;
+    private int rootBestMove;
+
+    /**
+     * Creates an engine with the {@link DefaultEvaluation}.
+     * @param timeBudget the time that can be spent on each search
+     */
+    public AlphaBetaEngine(final Duration timeBudget) {
+        this(new DefaultEvaluation(), timeBudget);
+    }
+
+    /**
+     * Creates an engine that searches as deep as the time budget allows.
+     * @param evaluation the evaluation of the positions at the leaves of the search
+     * @param timeBudget the time that can be spent on each search
+     */
+    public AlphaBetaEngine(final Evaluation evaluation, final Duration timeBudget) {
+        this(evaluation, timeBudget, MAX_PLY);
+    }
+
+    /**
+     * Creates an engine with a transposition table of its own, of 16 MB.
+     * @param evaluation the evaluation of the positions at the leaves of the search
+     * @param timeBudget the time that can be spent on each search
+     * @param maxDepth the maximum depth of the search, at most 64
+     */
+    public AlphaBetaEngine(final Evaluation evaluation, final Duration timeBudget, final int maxDepth) {
+        this(evaluation, timeBudget, maxDepth, new TranspositionTableImpl(DEFAULT_TABLE_MEGABYTES));
+    }
+
+    /**
+     * Creates an engine.
+     * @param evaluation the evaluation of the positions at the leaves of the search
+     * @param timeBudget the time that can be spent on each search
+     * @param maxDepth the maximum depth of the search, at most 64
+     * @param table the transposition table, which is kept across the searches
+     */
+    public AlphaBetaEngine(final Evaluation evaluation, final Duration timeBudget, final int maxDepth,
+            final TranspositionTable table) {
+        this(evaluation, timeBudget, maxDepth, table, 1, null);
+    }
+
+    /*
+     * Creates a worker of a parallel search, which starts iterating from the given depth
+     * and stops as soon as the shared signal is set. The workers share the table, whose
+     * searches are started by the parallel engine, so a worker with a stop signal does not
+     * start a new search of the table on its own.
+     */
+    AlphaBetaEngine(final Evaluation evaluation, final Duration timeBudget, final int maxDepth,
+            final TranspositionTable table, final int firstDepth, final AtomicBoolean stop) {
+        if (timeBudget.isNegative() || maxDepth < 1 || maxDepth > MAX_PLY
+                || firstDepth < 1 || firstDepth > maxDepth) {
+            throw new IllegalArgumentException("Invalid time budget or depth: " + timeBudget + ", " + maxDepth);
+        }
+        this.evaluation = evaluation;
+        this.budgetNanos = timeBudget.toNanos();
+        this.maxDepth = maxDepth;
+        this.table = table;
+        this.firstDepth = firstDepth;
+        this.stop = stop;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<SearchResult> search(final Model match) {
+        final long start = System.nanoTime();
+        if (match.getMatchEndStatus().isPresent()) {
+            return Optional.empty();
+        }
+        final MoveBuffer rootMoves = this.bufferAt(0);
+        match.generateLegalMoves(match.getActivePlayer(), rootMoves);
+        if (rootMoves.isEmpty()) {
+            return Optional.empty();
+        }
+        this.prepare(match, start);
+        int bestMove = rootMoves.get(0);
+        int bestScore = 0;
+        int completedDepth = 0;
+        for (int depth = this.firstDepth; depth <= this.maxDepth; depth++) {
+            this.deadlineActive = completedDepth > 0;
+            this.pvMove = bestMove;
+            this.rootBestMove = NO_MOVE;
+            final int score = this.negamax(depth, -INFINITY, INFINITY, 0);
+            if (this.timeUp) {
+                break;
+            }
+            bestMove = this.rootBestMove;
+            bestScore = score;
+            completedDepth = depth;
+            if (Math.abs(score) > WIN - MAX_PLY) {
+                // The outcome of the match is already known
+                break;
+            }
+        }
+        this.match = null;
+        return Optional.of(new SearchResult(
+            Position.of(MoveBuffer.sourceX(bestMove), MoveBuffer.sourceY(bestMove)),
+            Position.of(MoveBuffer.destinationX(bestMove), MoveBuffer.destinationY(bestMove)),
+            bestScore, completedDepth, this.nodes, System.nanoTime() - start));
+    }
+
+    private void prepare(final Model match, final long start) {
+        this.match = match;
+        this.deadline = start + this.budgetNanos;
+        this.timeUp = false;
+        this.nodes = 0;
+        if (this.stop == null) {
+            this.table.newSearch();
+        }
+        this.grid.read(match);
+        final int squares = this.grid.size() * this.grid.size();
+        if (this.history.length != squares * squares) {
+            this.history = new int[squares * squares];
+        } else {
+            Arrays.fill(this.history, 0);
+        }
+        for (final int[] killersAtPly : this.killers) {
+            Arrays.fill(killersAtPly, NO_MOVE);
+        }
+    }
+
+    private int negamax(final int depth, final int alpha, final int beta, final int ply) {
+        this.nodes++;
+        if ((this.nodes & TIME_CHECK_MASK) == 0
+                && (this.deadlineActive && System.nanoTime() > this.deadline
+                    || this.stop != null && this.stop.get())) {
+            this.timeUp = true;
+        }
+        if (this.timeUp) {
+            return 0;
+        }
+        final Optional<Pair<MatchResult, MatchResult>> end = this.match.getMatchEndStatus();
+        final Player player = this.match.getActivePlayer();
+        if (end.isPresent()) {
+            final MatchResult result = player == Player.ATTACKER ? end.get().getX() : end.get().getY();
+            return result == MatchResult.VICTORY ? WIN - ply : result == MatchResult.DEFEAT ? ply - WIN : 0;
+        }
+        if (depth == 0 || ply == MAX_PLY - 1) {
+            return this.evaluation.evaluate(this.match, player);
+        }
+        final long key = this.match.getPositionKey();
+        final long entry = this.table.probe(key);
+        int tableMove = NO_MOVE;
+        if (entry != TableEntry.NONE) {
+            tableMove = TableEntry.move(entry);
+            if (ply > 0 && TableEntry.depth(entry) >= depth) {
+                final int score = fromTable(TableEntry.score(entry), ply);
+                final int entryBound = TableEntry.bound(entry);
+                if (entryBound == TableEntry.EXACT
+                        || entryBound == TableEntry.LOWER_BOUND && score >= beta
+                        || entryBound == TableEntry.UPPER_BOUND && score <= alpha) {
+                    return score;
+                }
+            }
+        }
+        final MoveBuffer moves = this.bufferAt(ply);
+        this.match.generateLegalMoves(player, moves);
+        final int[] scores = this.scoreMoves(moves, ply, player, ply == 0 ? this.pvMove : tableMove);
+        int best = -INFINITY;
+        int bestMove = NO_MOVE;
+        int bound = alpha;
+        for (int i = 0; i < moves.size(); i++) {
+            final int move = this.pickNext(moves, scores, i);
+            this.match.pushMove(
+                Position.of(MoveBuffer.sourceX(move), MoveBuffer.sourceY(move)),
+                Position.of(MoveBuffer.destinationX(move), MoveBuffer.destinationY(move)));
+            final int score = -this.negamax(depth - 1, -beta, -bound, ply + 1);
+            this.match.popMove();
+            if (this.timeUp) {
+                return 0;
+            }
+            if (score > best) {
+                best = score;
+                bestMove = move;
+                if (ply == 0) {
+                    this.rootBestMove = move;
+                }
+                if (score > bound) {
+                    bound = score;
+                    if (bound >= beta) {
+                        this.onCutoff(move, depth, ply);
+                        break;
+                    }
+                }
+            }
+        }
+        if (moves.isEmpty()) {
+            return 0;
+        }
+        final int entryBound = best <= alpha ? TableEntry.UPPER_BOUND
+                : best >= beta ? TableEntry.LOWER_BOUND : TableEntry.EXACT;
+        this.table.store(key, bestMove, toTable(best, ply), depth, entryBound);
+        return best;
+    }
+
+    /*
+     * The scores of the won and lost positions depend on the distance from the root,
+     * so they are stored as distances from the position itself.
+     */
+    private static int toTable(final int score, final int ply) {
+        return score > WIN - MAX_PLY ? score + ply : score < MAX_PLY - WIN ? score - ply : score;
+    }
+
+    private static int fromTable(final int score, final int ply) {
+        return score > WIN - MAX_PLY ? score - ply : score < MAX_PLY - WIN ? score + ply : score;
+    }
+
+    /*
+     * Gives each move a score that tells how early it must be tried.
+     */
+    private int[] scoreMoves(final MoveBuffer moves, final int ply, final Player player, final int firstMove) {
+        if (this.orderScores.size() <= ply) {
+            this.orderScores.add(new int[moves.size()]);
+        }
+        int[] scores = this.orderScores.get(ply);
+        if (scores.length < moves.size()) {
+            scores = new int[moves.size()];
+            this.orderScores.set(ply, scores);
+        }
+        final int king = this.grid.kingSquare();
+        for (int i = 0; i < moves.size(); i++) {
+            final int move = moves.get(i);
+            final int source = this.grid.indexOf(MoveBuffer.sourceX(move), MoveBuffer.sourceY(move));
+            final int destination = this.grid.indexOf(MoveBuffer.destinationX(move), MoveBuffer.destinationY(move));
+            int score = this.history[this.historyIndex(source, destination)];
+            if (move == firstMove) {
+                score = FIRST_MOVE;
+            } else if (source == king && this.grid.isExit(destination)) {
+                score = KING_TO_EXIT;
+            } else {
+                score += CAPTURE * this.grid.likelyCaptures(source, destination, player);
+                if (source == king) {
+                    score += KING_ESCAPE * this.grid.openLinesToExit(destination, source);
+                }
+                if (move == this.killers[ply][0] || move == this.killers[ply][1]) {
+                    score += KILLER;
+                }
+            }
+            scores[i] = score;
+        }
+        return scores;
+    }
+
+    /*
+     * Moves the best of the moves not yet tried to the given index, and returns it.
+     */
+    private int pickNext(final MoveBuffer moves, final int[] scores, final int index) {
+        int best = index;
+        for (int i = index + 1; i < moves.size(); i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+        if (best != index) {
+            moves.swap(index, best);
+            final int score = scores[index];
+            scores[index] = scores[best];
+            scores[best] = score;
+        }
+        return moves.get(index);
+    }
+
+    private void onCutoff(final int move, final int depth, final int ply) {
+        if (move != this.killers[ply][0]) {
+            this.killers[ply][1] = this.killers[ply][0];
+            this.killers[ply][0] = move;
+        }
+        final int index = this.historyIndex(
+            this.grid.indexOf(MoveBuffer.sourceX(move), MoveBuffer.sourceY(move)),
+            this.grid.indexOf(MoveBuffer.destinationX(move), MoveBuffer.destinationY(move)));
+        this.history[index] = Math.min(KILLER - 1, this.history[index] + depth * depth);
+    }
+
+    private int historyIndex(final int source, final int destination) {
+        return source * this.grid.size() * this.grid.size() + destination;
+    }
+
+    private MoveBuffer bufferAt(final int ply) {
+        while (this.buffers.size() <= ply) {
+            this.buffers.add(new MoveBuffer());
+        }
+        return this.buffers.get(ply);
+    }
+}
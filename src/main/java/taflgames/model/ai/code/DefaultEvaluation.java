@@ -0,0 +1,66 @@
+package taflgames.model.ai.code;
+
+import java.util.Map;
+
+import taflgames.common.Player;
+import taflgames.model.Model;
+import taflgames.model.ai.api.Evaluation;
+import taflgames.model.pieces.api.Piece;
+
+/**
+ * The default {@link Evaluation}: it weighs the material of the two players and the
+ * chances of the king to escape, that is its distance from the nearest exit, the open lines
+ * towards the exits and the attackers that surround it.
+ * Since it keeps a view of the last match it evaluated, an instance must not be shared between threads.
+ */
+public final class DefaultEvaluation implements Evaluation {
+
+    private static final Map<String, Integer> MATERIAL = Map.of(
+        "BASIC_PIECE", 100,
+        "QUEEN", 300,
+        "ARCHER", 250,
+        "SHIELD", 250,
+        "SWAPPER", 200
+    );
+    private static final int OPEN_LINE_TO_EXIT = 400;
+    private static final int STEP_TO_EXIT = 15;
+    private static final int ATTACKER_NEXT_TO_KING = 60;
+
+    private final PiecesGrid grid = new PiecesGrid();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int evaluate(final Model match, final Player player) {
+        this.grid.read(match);
+        int score = 0;  // for the defender
+        for (int square = 0; square < this.grid.size() * this.grid.size(); square++) {
+            final Piece piece = this.grid.pieceAt(square);
+            if (piece != null) {
+                final int material = MATERIAL.getOrDefault(piece.getMyType().getTypeOfPiece(), 0);
+                score += piece.getPlayer() == Player.DEFENDER ? material : -material;
+            }
+        }
+        final int king = this.grid.kingSquare();
+        if (king >= 0) {
+            score += OPEN_LINE_TO_EXIT * this.grid.openLinesToExit(king, -1);
+            score += STEP_TO_EXIT * (2 * this.grid.size() - this.distanceToExit(king));
+            score -= ATTACKER_NEXT_TO_KING * this.grid.adjacentPieces(king, Player.ATTACKER);
+        }
+        score = Math.max(-MAX_SCORE, Math.min(MAX_SCORE, score));
+        return player == Player.DEFENDER ? score : -score;
+    }
+
+    private int distanceToExit(final int king) {
+        final int size = this.grid.size();
+        int distance = 2 * size;
+        for (int square = 0; square < size * size; square++) {
+            if (this.grid.isExit(square)) {
+                distance = Math.min(distance,
+                    Math.abs(square % size - king % size) + Math.abs(square / size - king / size));
+            }
+        }
+        return distance;
+    }
+}
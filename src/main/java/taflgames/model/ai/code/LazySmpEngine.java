@@ -0,0 +1,113 @@
+package taflgames.model.ai.code;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import taflgames.model.Model;
+import taflgames.model.ai.api.Engine;
+import taflgames.model.ai.api.Evaluation;
+import taflgames.model.ai.api.TranspositionTable;
+
+/**
+ * An {@link Engine} that runs a parallel search with the Lazy SMP scheme: some workers run
+ * the same {@link AlphaBetaEngine} search at the same time, each on its own copy of the match,
+ * and share only the {@link TranspositionTable}. The workers don't split the moves among them:
+ * they speed each other up because the results stored in the table by one of them cut the
+ * searches of the others. Half of the helper workers start from a deeper iteration,
+ * so that the workers don't all search the same positions in the same order.
+ * <p>
+ * The main worker searches on the match given by the caller, in the thread of the caller,
+ * while the helpers run on daemon threads that the engine keeps across its searches;
+ * when the main worker is done, the helpers are stopped.
+ * The chosen move is the one of the deepest completed iteration, the main worker winning the ties.
+ * Like the single workers, an instance must not be shared between threads.
+ */
+public final class LazySmpEngine implements Engine {
+
+    private final TranspositionTable table;
+    private final AtomicBoolean stop = new AtomicBoolean();
+    private final List<AlphaBetaEngine> workers = new ArrayList<>();
+    private final ExecutorService helperThreads;
+
+    /**
+     * Creates an engine with the {@link DefaultEvaluation}, which searches as deep as the time budget allows.
+     * @param timeBudget the time that can be spent on each search
+     * @param threads the number of threads of the search
+     * @param table the transposition table shared by the workers, which is kept across the searches
+     */
+    public LazySmpEngine(final Duration timeBudget, final int threads, final TranspositionTable table) {
+        this(DefaultEvaluation::new, timeBudget, AlphaBetaEngine.MAX_PLY, threads, table);
+    }
+
+    /**
+     * Creates an engine.
+     * @param evaluations the supplier of the evaluations, one for each worker, since an evaluation
+     * does not need to be thread-safe
+     * @param timeBudget the time that can be spent on each search
+     * @param maxDepth the maximum depth of the search, at most 64
+     * @param threads the number of threads of the search
+     * @param table the transposition table shared by the workers, which is kept across the searches
+     */
+    public LazySmpEngine(final Supplier<Evaluation> evaluations, final Duration timeBudget, final int maxDepth,
+            final int threads, final TranspositionTable table) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Invalid number of threads: " + threads);
+        }
+        this.table = table;
+        for (int i = 0; i < threads; i++) {
+            // The odd helpers skip the first iteration
+            final int firstDepth = Math.min(maxDepth, 1 + i % 2);
+            this.workers.add(new AlphaBetaEngine(evaluations.get(), timeBudget, maxDepth, table, firstDepth, this.stop));
+        }
+        this.helperThreads = SearchThreads.create("lazy-smp-helper", threads - 1);
+    }
+
+    /**
+     * @return the number of threads of the search
+     */
+    public int getThreads() {
+        return this.workers.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<SearchResult> search(final Model match) {
+        final long start = System.nanoTime();
+        this.stop.set(false);
+        this.table.newSearch();
+        // Each helper gets its copy here, while the match is still in the position to search
+        final List<CompletableFuture<Optional<SearchResult>>> helpers = new ArrayList<>();
+        for (int i = 1; i < this.workers.size(); i++) {
+            final AlphaBetaEngine helper = this.workers.get(i);
+            final Model copy = match.copy();
+            helpers.add(CompletableFuture.supplyAsync(() -> helper.search(copy), this.helperThreads));
+        }
+        Optional<SearchResult> best;
+        try {
+            best = this.workers.get(0).search(match);
+        } finally {
+            this.stop.set(true);
+        }
+        long nodes = best.map(SearchResult::getNodes).orElse(0L);
+        for (final CompletableFuture<Optional<SearchResult>> helper : helpers) {
+            final Optional<SearchResult> result = helper.join();
+            if (result.isPresent()) {
+                nodes += result.get().getNodes();
+                if (best.isEmpty() || result.get().getDepth() > best.get().getDepth()) {
+                    best = result;
+                }
+            }
+        }
+        final long totalNodes = nodes;
+        return best.map(result -> new SearchResult(result.getSource(), result.getDestination(),
+                result.getScore(), result.getDepth(), totalNodes, System.nanoTime() - start));
+    }
+}
@@ -0,0 +1,275 @@
+package taflgames.model.ai.code;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+import taflgames.common.Player;
+import taflgames.common.code.MatchResult;
+import taflgames.common.code.MoveBuffer;
+import taflgames.common.code.Pair;
+import taflgames.common.code.Position;
+import taflgames.model.Model;
+import taflgames.model.ai.api.Engine;
+import taflgames.model.ai.api.Evaluation;
+
+/**
+ * An {@link Engine} that runs a Monte Carlo tree search with the UCT selection: each iteration
+ * descends the tree choosing the children with the highest upper confidence bound, expands the
+ * reached node and plays a random playout from it, whose outcome is propagated back to the root.
+ * The chosen move is the most visited child of the root. Since the playouts don't need to foresee
+ * the effects of the tombs, the sliders and the lives of the pieces, but only to make the moves,
+ * the search copes with the Variant rules as well as with the Classic ones.
+ * <p>
+ * The moves are made and taken back with {@link Model#pushMove(Position, Position)} and
+ * {@link Model#popMove()}, on a copy of the match for each thread, so no snapshot of the match
+ * is ever taken; the helper threads are daemons, which the engine keeps across its searches.
+ * A playout that does not end the match within a fixed number of moves is scored
+ * by the {@link Evaluation}. With more than one thread, the threads either build a tree each and
+ * sum the visits of their roots at the end ({@link Parallelism#ROOT}) or share the same tree,
+ * using virtual losses to spread over it ({@link Parallelism#TREE}).
+ * <p>
+ * The nodes of the results are the playouts, so {@link SearchResult#getNodesPerSecond()}
+ * is the number of playouts per second; the depth is the deepest node of the tree
+ * and the score is the average reward of the chosen move, scaled to the scores of the evaluations.
+ * An instance must not be shared between threads.
+ */
+public final class MctsEngine implements Engine {
+
+    /**
+     * How the threads of a search share the work.
+     */
+    public enum Parallelism {
+        /**
+         * Each thread builds a tree of its own.
+         */
+        ROOT,
+        /**
+         * The threads build the same tree.
+         */
+        TREE
+    }
+
+    private static final int NO_MOVE = -1;
+    private static final double EXPLORATION = Math.sqrt(2);
+    private static final int EXPANSION_VISITS = 2;
+    private static final int MAX_PLAYOUT_MOVES = 40;
+    private static final double EVALUATION_SCALE = 1000;
+    private static final double DRAW = 0.5;
+
+    private final Duration timeBudget;
+    private final Parallelism parallelism;
+    private final List<Worker> workers = new ArrayList<>();
+    private final ExecutorService helperThreads;
+
+    /**
+     * Creates an engine with the {@link DefaultEvaluation} and random playouts seeded from the clock.
+     * @param timeBudget the time that can be spent on each search
+     * @param threads the number of threads of the search
+     * @param parallelism how the threads share the work
+     */
+    public MctsEngine(final Duration timeBudget, final int threads, final Parallelism parallelism) {
+        this(DefaultEvaluation::new, timeBudget, threads, parallelism, System.nanoTime());
+    }
+
+    /**
+     * Creates an engine.
+     * @param evaluations the supplier of the evaluations, one for each thread, since an evaluation
+     * does not need to be thread-safe
+     * @param timeBudget the time that can be spent on each search
+     * @param threads the number of threads of the search
+     * @param parallelism how the threads share the work
+     * @param seed the seed of the random playouts
+     */
+    public MctsEngine(final Supplier<Evaluation> evaluations, final Duration timeBudget, final int threads,
+            final Parallelism parallelism, final long seed) {
+        if (timeBudget.isNegative() || threads < 1) {
+            throw new IllegalArgumentException("Invalid time budget or number of threads: " + timeBudget + ", " + threads);
+        }
+        this.timeBudget = timeBudget;
+        this.parallelism = parallelism;
+        for (int i = 0; i < threads; i++) {
+            this.workers.add(new Worker(evaluations.get(), new Random(seed + i)));
+        }
+        this.helperThreads = SearchThreads.create("mcts-helper", threads - 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<SearchResult> search(final Model match) {
+        final long start = System.nanoTime();
+        if (match.getMatchEndStatus().isPresent()) {
+            return Optional.empty();
+        }
+        final MoveBuffer rootMoves = new MoveBuffer();
+        match.generateLegalMoves(match.getActivePlayer(), rootMoves);
+        if (rootMoves.isEmpty()) {
+            return Optional.empty();
+        }
+        final long deadline = start + this.timeBudget.toNanos();
+        final List<MctsNode> roots = new ArrayList<>();
+        for (int i = 0; i < (this.parallelism == Parallelism.ROOT ? this.workers.size() : 1); i++) {
+            // The root is reached by no move, so it has no mover
+            final MctsNode root = new MctsNode(NO_MOVE, null);
+            root.expand(rootMoves, match.getActivePlayer(), this.workers.get(i).random);
+            roots.add(root);
+        }
+        // The playouts of the main worker push moves on the match, so the helpers' copies are taken first
+        final List<CompletableFuture<Void>> helpers = new ArrayList<>();
+        for (int i = 1; i < this.workers.size(); i++) {
+            final Worker helper = this.workers.get(i);
+            final Model copy = match.copy();
+            final MctsNode root = roots.get(this.parallelism == Parallelism.ROOT ? i : 0);
+            helpers.add(CompletableFuture.runAsync(() -> helper.run(copy, root, deadline), this.helperThreads));
+        }
+        this.workers.get(0).run(match, roots.get(0), deadline);
+        helpers.forEach(CompletableFuture::join);
+        return Optional.of(this.result(roots, start));
+    }
+
+    /*
+     * Sums the visits and the rewards of the moves of all the roots and chooses the most visited move.
+     */
+    private SearchResult result(final List<MctsNode> roots, final long start) {
+        final Map<Integer, double[]> totals = new HashMap<>();
+        for (final MctsNode root : roots) {
+            for (final MctsNode child : root.getChildren()) {
+                final double[] total = totals.computeIfAbsent(child.getMove(), move -> new double[2]);
+                total[0] += child.getVisits();
+                total[1] += child.getReward();
+            }
+        }
+        int bestMove = roots.get(0).getChildren().get(0).getMove();
+        double[] best = totals.get(bestMove);
+        for (final Map.Entry<Integer, double[]> entry : totals.entrySet()) {
+            if (entry.getValue()[0] > best[0]) {
+                bestMove = entry.getKey();
+                best = entry.getValue();
+            }
+        }
+        final double averageReward = best[0] == 0 ? DRAW : best[1] / best[0];
+        long playouts = 0;
+        int depth = 0;
+        for (final Worker worker : this.workers) {
+            playouts += worker.playouts;
+            depth = Math.max(depth, worker.maxDepth);
+        }
+        return new SearchResult(
+            Position.of(MoveBuffer.sourceX(bestMove), MoveBuffer.sourceY(bestMove)),
+            Position.of(MoveBuffer.destinationX(bestMove), MoveBuffer.destinationY(bestMove)),
+            (int) Math.round((2 * averageReward - 1) * Evaluation.MAX_SCORE),
+            depth, playouts, System.nanoTime() - start);
+    }
+
+    /*
+     * A thread of the search, with its own evaluation, random numbers and buffers.
+     */
+    private static final class Worker {
+
+        private final Evaluation evaluation;
+        private final Random random;
+        private final MoveBuffer moves = new MoveBuffer();
+        private final List<MctsNode> path = new ArrayList<>();
+        private long playouts;
+        private int maxDepth;
+
+        Worker(final Evaluation evaluation, final Random random) {
+            this.evaluation = evaluation;
+            this.random = random;
+        }
+
+        void run(final Model match, final MctsNode root, final long deadline) {
+            this.playouts = 0;
+            this.maxDepth = 0;
+            do {
+                this.iterate(match, root);
+                this.playouts++;
+            } while (System.nanoTime() < deadline);
+        }
+
+        private void iterate(final Model match, final MctsNode root) {
+            this.path.clear();
+            root.addVisit();
+            MctsNode node = root;
+            Optional<Pair<MatchResult, MatchResult>> end = Optional.empty();
+            while (end.isEmpty()) {
+                if (!node.isExpanded()) {
+                    if (node.getVisits() < EXPANSION_VISITS) {
+                        break;
+                    }
+                    match.generateLegalMoves(match.getActivePlayer(), this.moves);
+                    node.expand(this.moves, match.getActivePlayer(), this.random);
+                }
+                if (node.getChildren().isEmpty()) {
+                    break;
+                }
+                node = node.select(EXPLORATION);
+                this.path.add(node);
+                push(match, node.getMove());
+                end = match.getMatchEndStatus();
+                if (end.isPresent() && moverReward(node, defenderReward(end.get())) == 1) {
+                    node.markWinning();
+                }
+            }
+            this.maxDepth = Math.max(this.maxDepth, this.path.size());
+            final double defenderReward = end.isPresent() ? defenderReward(end.get()) : this.playout(match);
+            for (final MctsNode visited : this.path) {
+                visited.addReward(moverReward(visited, defenderReward));
+                match.popMove();
+            }
+        }
+
+        /*
+         * Plays random moves until the match ends or the moves run out, takes them back
+         * and returns the reward of the defender.
+         */
+        private double playout(final Model match) {
+            double reward = -1;
+            int made = 0;
+            while (reward < 0) {
+                final Optional<Pair<MatchResult, MatchResult>> end = match.getMatchEndStatus();
+                if (end.isPresent()) {
+                    reward = defenderReward(end.get());
+                } else if (made == MAX_PLAYOUT_MOVES) {
+                    final int score = this.evaluation.evaluate(match, Player.DEFENDER);
+                    reward = 1 / (1 + Math.exp(-score / EVALUATION_SCALE));
+                } else {
+                    match.generateLegalMoves(match.getActivePlayer(), this.moves);
+                    if (this.moves.isEmpty()) {
+                        reward = DRAW;
+                    } else {
+                        push(match, this.moves.get(this.random.nextInt(this.moves.size())));
+                        made++;
+                    }
+                }
+            }
+            for (int i = 0; i < made; i++) {
+                match.popMove();
+            }
+            return reward;
+        }
+
+        private static void push(final Model match, final int move) {
+            match.pushMove(
+                Position.of(MoveBuffer.sourceX(move), MoveBuffer.sourceY(move)),
+                Position.of(MoveBuffer.destinationX(move), MoveBuffer.destinationY(move)));
+        }
+
+        private static double moverReward(final MctsNode node, final double defenderReward) {
+            return node.getMover() == Player.DEFENDER ? defenderReward : 1 - defenderReward;
+        }
+
+        private static double defenderReward(final Pair<MatchResult, MatchResult> end) {
+            return end.getY() == MatchResult.VICTORY ? 1 : end.getY() == MatchResult.DEFEAT ? 0 : DRAW;
+        }
+    }
+}
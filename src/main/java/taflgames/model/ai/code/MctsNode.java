@@ -0,0 +1,155 @@
+package taflgames.model.ai.code;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import taflgames.common.Player;
+import taflgames.common.code.MoveBuffer;
+
+/**
+ * A node of the tree of a Monte Carlo search: the position reached by a move, with the number
+ * of playouts that went through it and the sum of their rewards for the player who made the move.
+ * <p>
+ * Since the tree can be shared by the threads of a search, the methods are synchronized;
+ * a thread holding the lock of a node may take the lock of its children, never the other way round.
+ */
+final class MctsNode {
+
+    private final int move;
+    private final Player mover;
+    private List<MctsNode> children;
+    private int visits;
+    private double reward;
+    private boolean winning;
+
+    /**
+     * Creates a new node.
+     * @param move the move that reaches the node, encoded as in {@link MoveBuffer}
+     * @param mover the player who made the move
+     */
+    MctsNode(final int move, final Player mover) {
+        this.move = move;
+        this.mover = mover;
+    }
+
+    /**
+     * @return the move that reaches the node
+     */
+    int getMove() {
+        return this.move;
+    }
+
+    /**
+     * @return the player who made the move that reaches the node
+     */
+    Player getMover() {
+        return this.mover;
+    }
+
+    /**
+     * @return the number of playouts that went through the node, including the running ones
+     */
+    synchronized int getVisits() {
+        return this.visits;
+    }
+
+    /**
+     * @return the sum of the rewards of the playouts for the player who made the move
+     */
+    synchronized double getReward() {
+        return this.reward;
+    }
+
+    /**
+     * @return whether the move that reaches the node wins the match
+     */
+    synchronized boolean isWinning() {
+        return this.winning;
+    }
+
+    /**
+     * Records that the move that reaches the node wins the match, so that it is always
+     * chosen from now on.
+     */
+    synchronized void markWinning() {
+        this.winning = true;
+    }
+
+    /**
+     * @return whether the children of the node have been created
+     */
+    synchronized boolean isExpanded() {
+        return this.children != null;
+    }
+
+    /**
+     * @return the children of the node, or an empty list if it was not expanded
+     */
+    synchronized List<MctsNode> getChildren() {
+        return this.children == null ? List.of() : Collections.unmodifiableList(this.children);
+    }
+
+    /**
+     * Creates a child for each legal move, in random order, unless another thread already did it.
+     * @param moves the legal moves of the position
+     * @param player the player in turn in the position
+     * @param random the source of the order of the children
+     */
+    synchronized void expand(final MoveBuffer moves, final Player player, final Random random) {
+        if (this.children == null) {
+            final List<MctsNode> created = new ArrayList<>(moves.size());
+            for (int i = 0; i < moves.size(); i++) {
+                created.add(new MctsNode(moves.get(i), player));
+            }
+            Collections.shuffle(created, random);
+            this.children = created;
+        }
+    }
+
+    /**
+     * Chooses the child with the highest upper confidence bound (UCT) and counts a visit to it
+     * right away, so that the threads that are descending the tree at the same time
+     * see it as a loss until the reward of the playout arrives (virtual loss).
+     * A child whose move wins the match is always chosen; otherwise, the children that were
+     * never visited come first.
+     * @param exploration the weight of the exploration term of the bound
+     * @return the chosen child
+     */
+    synchronized MctsNode select(final double exploration) {
+        final double logVisits = Math.log(Math.max(1, this.visits));
+        MctsNode best = null;
+        double bestBound = Double.NEGATIVE_INFINITY;
+        for (final MctsNode child : this.children) {
+            if (child.isWinning()) {
+                best = child;
+                break;
+            }
+            final int childVisits = child.getVisits();
+            final double bound = childVisits == 0 ? Double.POSITIVE_INFINITY
+                    : child.getReward() / childVisits + exploration * Math.sqrt(logVisits / childVisits);
+            if (bound > bestBound) {
+                best = child;
+                bestBound = bound;
+            }
+        }
+        best.addVisit();
+        return best;
+    }
+
+    /**
+     * Counts a visit to the node, whose reward will arrive with {@link #addReward(double)}.
+     */
+    synchronized void addVisit() {
+        this.visits++;
+    }
+
+    /**
+     * Adds the reward of a playout that went through the node.
+     * @param value the reward for the player who made the move, between 0 and 1
+     */
+    synchronized void addReward(final double value) {
+        this.reward += value;
+    }
+}
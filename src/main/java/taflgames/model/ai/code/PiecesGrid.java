@@ -0,0 +1,201 @@
+package taflgames.model.ai.code;
+
+import taflgames.common.Player;
+import taflgames.common.code.Position;
+import taflgames.model.Model;
+import taflgames.model.pieces.api.Piece;
+
+/**
+ * A view of the pieces of a match laid on a flat grid, in which each square is mapped
+ * to the index {@code y * size + x}. It lets the engine and the evaluation inspect
+ * the neighbourhood of a square, reading the pieces straight from the board of the match
+ * instead of copying them at each node of the search.
+ * The layout of the special cells is read once for each match.
+ */
+final class PiecesGrid {
+
+    private static final String KING = "KING";
+    private static final String EXIT = "Exit";
+    private static final String THRONE = "Throne";
+    private static final int[][] DIRECTIONS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+
+    private Model match;
+    private int size;
+    private Position[] positions = new Position[0];
+    private boolean[] exits = new boolean[0];
+    private boolean[] hostile = new boolean[0];
+    private int kingSquare = -1;
+
+    /**
+     * Lets the grid read the pieces of the given match, reading its layout if it is not the last one read.
+     * @param match the match
+     */
+    void read(final Model match) {
+        if (match != this.match) {
+            this.readLayout(match);
+        }
+    }
+
+    private void readLayout(final Model match) {
+        this.match = match;
+        this.size = (int) Math.sqrt(match.getCellsMapping().size());
+        final int squares = this.size * this.size;
+        this.positions = new Position[squares];
+        this.exits = new boolean[squares];
+        this.hostile = new boolean[squares];
+        this.kingSquare = -1;
+        match.getCellsMapping().forEach((position, cell) -> {
+            final int square = this.indexOf(position);
+            this.positions[square] = position;
+            this.exits[square] = EXIT.equals(cell.getPrimaryName());
+            this.hostile[square] = this.exits[square] || THRONE.equals(cell.getPrimaryName());
+        });
+    }
+
+    /**
+     * @return the size of the board
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * @param position a position of the board
+     * @return the index of the square at the given position
+     */
+    int indexOf(final Position position) {
+        return this.indexOf(position.getX(), position.getY());
+    }
+
+    /**
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the index of the square at the given coordinates, or -1 if they are outside of the board
+     */
+    int indexOf(final int x, final int y) {
+        return x < 0 || y < 0 || x >= this.size || y >= this.size ? -1 : y * this.size + x;
+    }
+
+    /**
+     * @param square the index of a square
+     * @return the piece on the square, or null if the square is empty
+     */
+    Piece pieceAt(final int square) {
+        return this.match.getPieceAt(this.positions[square]);
+    }
+
+    /**
+     * @param square the index of a square
+     * @return the owner of the piece on the square, or null if the square is empty
+     */
+    Player ownerAt(final int square) {
+        final Piece piece = this.pieceAt(square);
+        return piece == null ? null : piece.getPlayer();
+    }
+
+    /**
+     * @param square the index of a square
+     * @return true if the square is an exit
+     */
+    boolean isExit(final int square) {
+        return this.exits[square];
+    }
+
+    /**
+     * @param square the index of a square
+     * @return true if the square is a throne or an exit, which take part in the captures
+     */
+    boolean isHostile(final int square) {
+        return this.hostile[square];
+    }
+
+    /**
+     * @return the index of the square of the king, or -1 if the king is not on the board
+     */
+    int kingSquare() {
+        // The king is looked for on the board only when it is not where it was last found
+        if (this.kingSquare < 0 || !this.isKing(this.kingSquare)) {
+            this.kingSquare = -1;
+            for (int square = 0; square < this.positions.length && this.kingSquare < 0; square++) {
+                if (this.isKing(square)) {
+                    this.kingSquare = square;
+                }
+            }
+        }
+        return this.kingSquare;
+    }
+
+    private boolean isKing(final int square) {
+        final Piece piece = this.pieceAt(square);
+        return piece != null && KING.equals(piece.getMyType().getTypeOfPiece());
+    }
+
+    /**
+     * Counts the straight lines along which the king could reach an exit from the given square.
+     * @param square the index of the square of the king
+     * @param vacated the index of a square to be considered empty, e.g. the one the king comes from
+     * @return the number of open lines to an exit, between 0 and 4
+     */
+    int openLinesToExit(final int square, final int vacated) {
+        int lines = 0;
+        final int x = square % this.size;
+        final int y = square / this.size;
+        for (final int[] direction : DIRECTIONS) {
+            int target = this.indexOf(x + direction[0], y + direction[1]);
+            for (int step = 2; target >= 0 && (this.ownerAt(target) == null || target == vacated); step++) {
+                if (this.exits[target]) {
+                    lines++;
+                    break;
+                }
+                target = this.indexOf(x + step * direction[0], y + step * direction[1]);
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Counts the squares next to the given one that are occupied by the pieces of a player.
+     * @param square the index of a square
+     * @param player the player
+     * @return the number of adjacent pieces of the player, between 0 and 4
+     */
+    int adjacentPieces(final int square, final Player player) {
+        int count = 0;
+        for (final int[] direction : DIRECTIONS) {
+            final int adjacent = this.indexOf(square % this.size + direction[0], square / this.size + direction[1]);
+            if (adjacent >= 0 && this.ownerAt(adjacent) == player) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Estimates how many enemy pieces would be captured by moving a piece to the given square:
+     * an enemy piece, other than the king, is likely captured if it stands next to the destination
+     * and on the opposite side there is an allied piece or a throne or an exit.
+     * @param source the index of the square the piece comes from
+     * @param destination the index of the square the piece goes to
+     * @param player the owner of the moved piece
+     * @return the number of likely captures
+     */
+    int likelyCaptures(final int source, final int destination, final Player player) {
+        int captures = 0;
+        final int king = this.kingSquare();
+        final int x = destination % this.size;
+        final int y = destination / this.size;
+        for (final int[] direction : DIRECTIONS) {
+            final int enemy = this.indexOf(x + direction[0], y + direction[1]);
+            final int beyond = this.indexOf(x + 2 * direction[0], y + 2 * direction[1]);
+            if (enemy >= 0 && beyond >= 0 && enemy != king && beyond != source) {
+                final Player enemyOwner = this.ownerAt(enemy);
+                final Player beyondOwner = this.ownerAt(beyond);
+                if (enemyOwner != null && enemyOwner != player
+                        && (beyondOwner == player || beyondOwner == null && this.hostile[beyond])) {
+                    captures++;
+                }
+            }
+        }
+        return captures;
+    }
+}
@@ -0,0 +1,93 @@
+package taflgames.model.ai.code;
+
+import java.util.concurrent.TimeUnit;
+
+import taflgames.common.code.Position;
+
+/**
+ * The outcome of a search: the chosen move, its score and some statistics of the search.
+ */
+public final class SearchResult {
+
+    private final Position source;
+    private final Position destination;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+    private final long nanos;
+
+    /**
+     * Creates a new result.
+     * @param source the source of the chosen move
+     * @param destination the destination of the chosen move
+     * @param score the score of the move for the player in turn
+     * @param depth the depth of the last completed iteration of the search
+     * @param nodes the number of positions visited
+     * @param nanos the time taken by the search, in nanoseconds
+     */
+    public SearchResult(final Position source, final Position destination, final int score,
+            final int depth, final long nodes, final long nanos) {
+        this.source = source;
+        this.destination = destination;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.nanos = nanos;
+    }
+
+    /**
+     * @return the source of the chosen move
+     */
+    public Position getSource() {
+        return this.source;
+    }
+
+    /**
+     * @return the destination of the chosen move
+     */
+    public Position getDestination() {
+        return this.destination;
+    }
+
+    /**
+     * @return the score of the move for the player in turn
+     */
+    public int getScore() {
+        return this.score;
+    }
+
+    /**
+     * @return the depth of the last completed iteration of the search
+     */
+    public int getDepth() {
+        return this.depth;
+    }
+
+    /**
+     * @return the number of positions visited
+     */
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    /**
+     * @return the time taken by the search, in nanoseconds
+     */
+    public long getNanos() {
+        return this.nanos;
+    }
+
+    /**
+     * @return the number of positions visited per second
+     */
+    public double getNodesPerSecond() {
+        return this.nanos == 0 ? 0 : this.nodes * (double) TimeUnit.SECONDS.toNanos(1) / this.nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s -> %s: score %d, depth %d, %d nodes in %.3f ms (%.0f nodes/s)",
+                this.source, this.destination, this.score, this.depth, this.nodes,
+                this.nanos / (double) TimeUnit.MILLISECONDS.toNanos(1), getNodesPerSecond());
+    }
+}
@@ -0,0 +1,40 @@
+package taflgames.model.ai.code;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Utility class that creates the threads on which the helpers of a parallel search run.
+ */
+final class SearchThreads {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private SearchThreads() {
+    }
+
+    /**
+     * Creates the executor of the helpers of an engine, to be reused by all its searches.
+     * The threads are daemons, so that an engine never keeps the application alive,
+     * and they are started on demand and stopped after a minute without searches,
+     * so that an engine that is no longer used does not hold them.
+     * @param name the prefix of the names of the threads
+     * @param helpers the number of helpers of each search
+     * @return the executor
+     */
+    static ExecutorService create(final String name, final int helpers) {
+        final AtomicInteger count = new AtomicInteger(1);
+        final int size = Math.max(1, helpers);
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(size, size, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    final Thread thread = new Thread(runnable, name + "-" + count.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,134 @@
+package taflgames.model.ai.code;
+
+import taflgames.common.code.MoveBuffer;
+
+/**
+ * Packs and unpacks the entries of a {@link taflgames.model.ai.api.TranspositionTable}.
+ * An entry fits in a single {@code long}, from the lowest bits: the bound (2 bits),
+ * the depth (8 bits), the search that stored it (8 bits), the score (22 bits) and the best move
+ * (24 bits, 6 for each coordinate, which is enough for any board up to 64x64).
+ * Since the bound of a valid entry is never zero, no entry is equal to {@link #NONE}.
+ */
+public final class TableEntry {
+
+    /**
+     * The value returned by a lookup that found nothing.
+     */
+    public static final long NONE = 0L;
+    /**
+     * The score is exact.
+     */
+    public static final int EXACT = 1;
+    /**
+     * The score is a lower bound, since the search was cut off by a better move.
+     */
+    public static final int LOWER_BOUND = 2;
+    /**
+     * The score is an upper bound, since no move reached the lower end of the window.
+     */
+    public static final int UPPER_BOUND = 3;
+    /**
+     * The largest depth that can be stored.
+     */
+    public static final int MAX_DEPTH = 255;
+
+    private static final int BOUND_BITS = 2;
+    private static final int DEPTH_BITS = 8;
+    private static final int GENERATION_BITS = 8;
+    private static final int SCORE_BITS = 22;
+    private static final int COORDINATE_BITS = 6;
+    private static final int DEPTH_SHIFT = BOUND_BITS;
+    private static final int GENERATION_SHIFT = DEPTH_SHIFT + DEPTH_BITS;
+    private static final int SCORE_SHIFT = GENERATION_SHIFT + GENERATION_BITS;
+    private static final int MOVE_SHIFT = SCORE_SHIFT + SCORE_BITS;
+    private static final int SCORE_OFFSET = 1 << SCORE_BITS - 1;
+    private static final int COORDINATE_MASK = (1 << COORDINATE_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << GENERATION_BITS) - 1;
+    // The move stored when there is none, which is never a legal move since it does not move anything
+    private static final int NO_MOVE = 0;
+
+    private TableEntry() {
+    }
+
+    /**
+     * Packs an entry.
+     * @param move the best move, packed as in {@link MoveBuffer}, or a negative value if there is none
+     * @param score the score, whose absolute value must be less than 2^21
+     * @param depth the depth, between 0 and {@link #MAX_DEPTH}
+     * @param bound one of {@link #EXACT}, {@link #LOWER_BOUND} and {@link #UPPER_BOUND}
+     * @param generation the search that stores the entry, of which only the lowest 8 bits are kept
+     * @return the packed entry
+     */
+    public static long pack(final int move, final int score, final int depth, final int bound, final int generation) {
+        if (Math.abs(score) >= SCORE_OFFSET || depth < 0 || depth > MAX_DEPTH || bound < EXACT || bound > UPPER_BOUND) {
+            throw new IllegalArgumentException("Invalid entry: score " + score + ", depth " + depth + ", bound " + bound);
+        }
+        final long packedMove = move < 0 ? NO_MOVE
+                : MoveBuffer.sourceX(move) << 3 * COORDINATE_BITS
+                | MoveBuffer.sourceY(move) << 2 * COORDINATE_BITS
+                | MoveBuffer.destinationX(move) << COORDINATE_BITS
+                | MoveBuffer.destinationY(move);
+        return bound
+                | (long) depth << DEPTH_SHIFT
+                | (long) (generation & GENERATION_MASK) << GENERATION_SHIFT
+                | (long) (score + SCORE_OFFSET) << SCORE_SHIFT
+                | packedMove << MOVE_SHIFT;
+    }
+
+    /**
+     * @param entry a packed entry
+     * @return the best move, packed as in {@link MoveBuffer}, or -1 if there is none
+     */
+    public static int move(final long entry) {
+        final int packedMove = (int) (entry >>> MOVE_SHIFT);
+        if (packedMove == NO_MOVE) {
+            return -1;
+        }
+        return MoveBuffer.encode(
+                packedMove >>> 3 * COORDINATE_BITS & COORDINATE_MASK,
+                packedMove >>> 2 * COORDINATE_BITS & COORDINATE_MASK,
+                packedMove >>> COORDINATE_BITS & COORDINATE_MASK,
+                packedMove & COORDINATE_MASK);
+    }
+
+    /**
+     * @param entry a packed entry
+     * @return the score
+     */
+    public static int score(final long entry) {
+        return (int) (entry >>> SCORE_SHIFT & (1L << SCORE_BITS) - 1) - SCORE_OFFSET;
+    }
+
+    /**
+     * @param entry a packed entry
+     * @return the depth
+     */
+    public static int depth(final long entry) {
+        return (int) (entry >>> DEPTH_SHIFT & (1 << DEPTH_BITS) - 1);
+    }
+
+    /**
+     * @param entry a packed entry
+     * @return the bound, one of {@link #EXACT}, {@link #LOWER_BOUND} and {@link #UPPER_BOUND}
+     */
+    public static int bound(final long entry) {
+        return (int) (entry & (1 << BOUND_BITS) - 1);
+    }
+
+    /**
+     * @param entry a packed entry
+     * @return the lowest 8 bits of the search that stored the entry
+     */
+    public static int generation(final long entry) {
+        return (int) (entry >>> GENERATION_SHIFT & GENERATION_MASK);
+    }
+
+    /**
+     * @param entry a packed entry
+     * @param generation a search
+     * @return whether the entry was stored by the given search, as far as the lowest 8 bits can tell
+     */
+    public static boolean isOfGeneration(final long entry, final int generation) {
+        return generation(entry) == (generation & GENERATION_MASK);
+    }
+}
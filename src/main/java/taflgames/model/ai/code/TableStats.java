@@ -0,0 +1,76 @@
+package taflgames.model.ai.code;
+
+/**
+ * The statistics of a {@link taflgames.model.ai.api.TranspositionTable}.
+ */
+public final class TableStats {
+
+    private static final double PERCENT = 100.0;
+
+    private final long probes;
+    private final long hits;
+    private final long collisions;
+    private final double fillPercentage;
+
+    /**
+     * Creates new statistics.
+     * @param probes the number of lookups
+     * @param hits the number of lookups that found the position
+     * @param collisions the number of lookups that found the slot taken by another position
+     * @param fillPercentage the percentage of the slots that are in use
+     */
+    public TableStats(final long probes, final long hits, final long collisions, final double fillPercentage) {
+        this.probes = probes;
+        this.hits = hits;
+        this.collisions = collisions;
+        this.fillPercentage = fillPercentage;
+    }
+
+    /**
+     * @return the number of lookups
+     */
+    public long getProbes() {
+        return this.probes;
+    }
+
+    /**
+     * @return the number of lookups that found the position
+     */
+    public long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * @return the number of lookups that found the slot taken by another position
+     */
+    public long getCollisions() {
+        return this.collisions;
+    }
+
+    /**
+     * @return the percentage of the lookups that found the position
+     */
+    public double getHitRate() {
+        return this.probes == 0 ? 0 : PERCENT * this.hits / this.probes;
+    }
+
+    /**
+     * @return the percentage of the lookups that found the slot taken by another position
+     */
+    public double getCollisionRate() {
+        return this.probes == 0 ? 0 : PERCENT * this.collisions / this.probes;
+    }
+
+    /**
+     * @return the percentage of the slots that are in use
+     */
+    public double getFillPercentage() {
+        return this.fillPercentage;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d probes, %.1f%% hits, %.1f%% collisions, %.1f%% full",
+                this.probes, getHitRate(), getCollisionRate(), this.fillPercentage);
+    }
+}
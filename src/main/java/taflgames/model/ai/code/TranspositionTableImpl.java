@@ -0,0 +1,144 @@
+package taflgames.model.ai.code;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import taflgames.model.ai.api.TranspositionTable;
+
+/**
+ * A {@link TranspositionTable} with a fixed number of slots, one entry each, that can be shared
+ * by many threads without any lock. Each slot is made of two {@code long}s: the entry and the entry
+ * XORed with the key of the position. Two threads writing the same slot at the same time may
+ * leave it with halves of different entries, but then the XOR of the halves does not give back
+ * the key and the slot is read as taken by another position, so a lookup never returns
+ * an entry of the wrong position (unless two positions have the same key).
+ * <p>
+ * An entry is replaced by a new one if it was stored by a previous search
+ * or if the new one has been searched at least as deeply.
+ */
+public final class TranspositionTableImpl implements TranspositionTable {
+
+    private static final long BYTES_PER_MEGABYTE = 1L << 20;
+    private static final int LONGS_PER_SLOT = 2;
+    private static final int BYTES_PER_SLOT = LONGS_PER_SLOT * Long.BYTES;
+    /* The largest power of two of slots whose longs still fit in an array. */
+    private static final long MAX_SLOTS = 1L << 29;
+    private static final double PERCENT = 100.0;
+
+    private final long[] slots;
+    private final int mask;
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+    private final AtomicInteger generation = new AtomicInteger();
+
+    /**
+     * Creates a table that takes the given memory, rounded down to a power of two.
+     * @param megabytes the size of the table in megabytes
+     * @see #capacityOf(int)
+     */
+    public TranspositionTableImpl(final int megabytes) {
+        final int slotsCount = capacityOf(megabytes);
+        this.slots = new long[slotsCount * LONGS_PER_SLOT];
+        this.mask = slotsCount - 1;
+    }
+
+    /**
+     * Computes the number of entries of a table of the given size, without creating it.
+     * The tables of 8 GB or more hold 2<sup>29</sup> entries, the most whose slots fit in an array.
+     * @param megabytes the size of the table in megabytes
+     * @return the number of entries the table can hold
+     */
+    public static int capacityOf(final int megabytes) {
+        if (megabytes <= 0) {
+            throw new IllegalArgumentException("The size of the table must be positive: " + megabytes);
+        }
+        return (int) Long.highestOneBit(Math.min(MAX_SLOTS, megabytes * BYTES_PER_MEGABYTE / BYTES_PER_SLOT));
+    }
+
+    /**
+     * @return the number of entries the table can hold
+     */
+    public int getCapacity() {
+        return this.mask + 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long probe(final long key) {
+        this.probes.increment();
+        final int index = indexOf(key);
+        final long entry = this.slots[index];
+        final long check = this.slots[index + 1];
+        if (entry != TableEntry.NONE) {
+            if ((check ^ entry) == key) {
+                this.hits.increment();
+                return entry;
+            }
+            this.collisions.increment();
+        }
+        return TableEntry.NONE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void store(final long key, final int move, final int score, final int depth, final int bound) {
+        final int index = indexOf(key);
+        final long old = this.slots[index];
+        final int currentGeneration = this.generation.get();
+        final boolean samePosition = old != TableEntry.NONE && (this.slots[index + 1] ^ old) == key;
+        if (old == TableEntry.NONE || !TableEntry.isOfGeneration(old, currentGeneration)
+                || depth >= TableEntry.depth(old)) {
+            // A search that found no move does not make the table forget the one it had
+            final int bestMove = move < 0 && samePosition ? TableEntry.move(old) : move;
+            final long entry = TableEntry.pack(bestMove, score, Math.min(depth, TableEntry.MAX_DEPTH),
+                    bound, currentGeneration);
+            this.slots[index] = entry;
+            this.slots[index + 1] = key ^ entry;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void newSearch() {
+        this.generation.incrementAndGet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(this.slots, 0L);
+        this.probes.reset();
+        this.hits.reset();
+        this.collisions.reset();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The fill percentage is computed by scanning the whole table.
+     */
+    @Override
+    public TableStats getStats() {
+        long used = 0;
+        for (int index = 0; index < this.slots.length; index += LONGS_PER_SLOT) {
+            if (this.slots[index] != TableEntry.NONE) {
+                used++;
+            }
+        }
+        return new TableStats(this.probes.sum(), this.hits.sum(), this.collisions.sum(),
+                PERCENT * used / getCapacity());
+    }
+
+    private int indexOf(final long key) {
+        return ((int) (key ^ key >>> Integer.SIZE) & this.mask) * LONGS_PER_SLOT;
+    }
+}
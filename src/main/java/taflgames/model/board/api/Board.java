@@ -1,10 +1,12 @@
 package taflgames.model.board.api;
 
 import taflgames.common.api.Vector;
+import taflgames.common.code.MoveBuffer;
 import taflgames.common.code.Position;
 import taflgames.controller.entitystate.CellState;
 import taflgames.controller.entitystate.PieceState;
 import taflgames.model.cell.api.Cell;
+import taflgames.model.memento.api.BoardDelta;
 import taflgames.model.memento.api.BoardMemento;
 import taflgames.model.pieces.api.Piece;
 
@@ -43,6 +45,16 @@ public interface Board {
      */
     boolean isDestinationValid(Position start, Position dest, Player player);
 
+    /**
+     * Enumerates all the moves that the given player can make, that is all the pairs of start
+     * and destination for which {@link #isStartingPointValid(Position, Player)} and
+     * {@link #isDestinationValid(Position, Position, Player)} would both be true.
+     * The buffer is cleared before being filled, so that it can be reused by the caller.
+     * @param player the player whose moves are generated.
+     * @param moves the buffer where the moves are written.
+     */
+    void generateLegalMoves(Player player, MoveBuffer moves);
+
     /**
      * Update the Position of a piece thanks to method {@link #movePlaceholder(Position, Position, Player)}
      * and notify the cell the piece moved to and the ones adjacent to it that the piece was moved.
@@ -99,6 +111,14 @@ public interface Board {
      */
     void notifyTurnHasEnded(int turn);
 
+    /**
+     * Sets the player in turn, which is part of the key of the position, without ending the turn.
+     * It is meant to set up a board in the middle of a match, e.g. when a position is decoded,
+     * so the change is not recorded in the stack of {@link #pushState()}.
+     * @param player the player in turn.
+     */
+    void setPlayerInTurn(Player player);
+
     /**
      * Return the map of Position and Cell that that associate 
      * to each Position of the Board the type of Cell that is placed there.
@@ -106,6 +126,12 @@ public interface Board {
      */
     Map<Position, Cell> getMapCells();
 
+    /**
+     * Return the size of the Board, that is the number of cells on each side.
+     * @return the size of the Board.
+     */
+    int getSize();
+
     /**
      * Return the Map that associate to each Player it's own map of Position and Piece
      * in which each of the Player's Piece is associated to it's own Position.
@@ -113,6 +139,14 @@ public interface Board {
      */
     Map<Player, Map<Position, Piece>> getMapPieces();
 
+    /**
+     * Return the Piece that is on the given Position, without copying it:
+     * it is meant to read the board often, as the engines do, and must not be changed.
+     * @param position the position.
+     * @return the Piece that is on the Position given, or null if the Position is empty.
+     */
+    Piece getPieceAt(Position position);
+
     /**
      * @return a collection that maps each position of the grid to a list of labels
      * that indicate the cell and (if present) the cells components located at that position.
@@ -126,9 +160,67 @@ public interface Board {
     Map<Position, PieceState> getPiecesTagsMapping();
 
     /**
-     * Saves a snapshot of the current board state.
+     * Returns the Zobrist key of the current position, that is a 64-bit hash of the pieces
+     * (with their lives), of the orientations of the sliders and of the player in turn.
+     * The key is kept up to date while the pieces move, so reading it costs nothing.
+     * Two boards of the same size agree on the key of the same position.
+     * @return the key of the current position.
+     */
+    long getPositionKey();
+
+    /**
+     * Creates a board in the same state as this one, with copies of all the cells and of all the pieces,
+     * so that the two boards can be used independently, e.g. by different threads.
+     * The stack of {@link #pushState()} is not copied.
+     * @return the copy of this board.
+     */
+    Board copy();
+
+    /**
+     * Saves a snapshot of the current board state. Restoring a snapshot forgets all the states
+     * of the stack of {@link #pushState()}.
      * @return a {@link BoardMemento} that holds the snapshot
      */
     BoardMemento save();
 
+    /**
+     * Pushes the current state of the board on an internal stack, so that it can be
+     * brought back with {@link #popState()}. It is the make/unmake path of the searches and
+     * of the undo of the matches: unlike {@link #save()}, the board records only what changes
+     * from now on, and reuses the storage of the popped states.
+     * The states popped before, which could be redone, are forgotten.
+     */
+    void pushState();
+
+    /**
+     * Brings the board back to the state on top of the stack filled by {@link #pushState()},
+     * removing it from the stack. The changes taken back can be made again with {@link #redoState()}.
+     * @throws java.util.NoSuchElementException if no state was pushed
+     */
+    void popState();
+
+    /**
+     * Makes again the changes taken back by the last {@link #popState()}, pushing its state back
+     * on the stack.
+     * @throws java.util.NoSuchElementException if no state was popped since the last {@link #pushState()}
+     */
+    void redoState();
+
+    /**
+     * Forgets the state at the bottom of the stack filled by {@link #pushState()}, without bringing
+     * the board back to it: the changes made since then can no longer be taken back.
+     * @throws java.util.NoSuchElementException if no state was pushed
+     */
+    void forgetOldestState();
+
+    /**
+     * Closes the state on top of the stack filled by {@link #pushState()}, keeping the changes made since then,
+     * and returns them as a delta that can take them back and make them again at any later time,
+     * as long as the board is in the state where the delta ends or begins and no state is pushed.
+     * The states popped before, which could be redone, are forgotten.
+     * @return the changes made since the state on top was pushed
+     * @throws java.util.NoSuchElementException if no state was pushed
+     */
+    BoardDelta sealState();
+
 }
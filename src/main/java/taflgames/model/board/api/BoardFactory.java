@@ -0,0 +1,27 @@
+package taflgames.model.board.api;
+
+import java.util.Map;
+
+import taflgames.common.Player;
+import taflgames.common.code.Position;
+import taflgames.model.cell.api.Cell;
+import taflgames.model.pieces.api.Piece;
+
+/**
+ * Creates a {@link Board} from its pieces and cells, as the constructors of the implementations
+ * do (e.g. {@code BitBoardImpl::new}), so that the code that sets up a board can leave the choice
+ * of the implementation to its caller.
+ */
+@FunctionalInterface
+public interface BoardFactory {
+
+    /**
+     * Creates a board.
+     * @param pieces the Map that associate to each Player it's own Map of Piece and Position.
+     * @param cells the Map of Position and Cell that associate
+     * to each Position of the Board the type of Cell that is placed there.
+     * @param size the size of the board.
+     * @return the new board.
+     */
+    Board create(Map<Player, Map<Position, Piece>> pieces, Map<Position, Cell> cells, int size);
+}
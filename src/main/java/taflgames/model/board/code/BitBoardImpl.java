@@ -0,0 +1,1049 @@
+package taflgames.model.board.code;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import taflgames.common.Player;
+import taflgames.common.api.Vector;
+import taflgames.common.code.MoveBuffer;
+import taflgames.common.code.Position;
+import taflgames.controller.entitystate.CellState;
+import taflgames.controller.entitystate.PieceState;
+import taflgames.controller.entitystate.PieceStateImpl;
+import taflgames.model.board.api.Board;
+import taflgames.model.board.api.Eaten;
+import taflgames.model.cell.api.Cell;
+import taflgames.model.cell.api.Slider;
+import taflgames.model.cell.api.TimedEntity;
+import taflgames.model.memento.api.BoardDelta;
+import taflgames.model.memento.api.BoardMemento;
+import taflgames.model.memento.api.CellMemento;
+import taflgames.model.memento.api.PieceMemento;
+import taflgames.model.pieces.api.Piece;
+import taflgames.model.pieces.code.AbstractPiece;
+import taflgames.model.pieces.code.BasicPiece;
+
+/**
+ * This class models a {@link taflgames.model.board.api.Board} that keeps the occupancy of the squares,
+ * the types of the pieces and the types of the special cells in packed bitboards.
+ * Each square of the grid is mapped to the bit of index {@code y * size + x}, so that boards of any size
+ * (19x19 included) fit in a few {@code long} words.
+ * <p>
+ * Move validation, path checks and the search for the pieces taking part in a capture only test bits,
+ * while {@link taflgames.model.cell.api.Cell} and {@link taflgames.model.pieces.api.Piece} objects
+ * are still kept up to date, since the cells and the pieces are the ones that apply the special
+ * effects (sliders, tombs, lives of the pieces) and that save their own state in mementos.
+ * The behaviour is the same as {@link BoardImpl}, which means that the two implementations
+ * can be swapped with each other.
+ */
+public final class BitBoardImpl implements Board, TimedEntity {
+
+    private static final String THRONE = "Throne";
+    private static final String EXIT = "Exit";
+    private static final String SLIDER = "Slider";
+    private static final String ARCHER = "ARCHER";
+    private static final List<String> PIECE_TYPES = List.of("BASIC_PIECE", "KING", "QUEEN", ARCHER, "SHIELD", "SWAPPER");
+    private static final int KING = PIECE_TYPES.indexOf("KING");
+    private static final int QUEEN = PIECE_TYPES.indexOf("QUEEN");
+    private static final int SWAPPER = PIECE_TYPES.indexOf("SWAPPER");
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_BITS = 64;
+    private static final int[][] ADJACENT = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+
+    private final Map<Position, Cell> cells;
+    private final Map<Player, Map<Position, Piece>> pieces;
+    private final int size;
+    private Position currentPos;
+    private Set<Slider> slidersEntities = new HashSet<>();
+    private final Eaten eatingManager;
+
+    private final Position[] positions;
+    private final Piece[] squares;
+    private final long[][] occupancy;
+    private final long[][] types;
+    private final long[] throneOrExit;
+    private final long[] exits;
+    private final long[] sliders;
+    private final long[] withComponents;
+    private final int[][][] hitRays = new int[PIECE_TYPES.size()][][];
+    private final int[][][] moveDirections = new int[PIECE_TYPES.size()][][];
+    private final Map<Player, Piece[]> cellsAsPieces = new HashMap<>();
+    private final int[] hitboxBuffer;
+    private final Cell[] cellAt;
+    private final BoardJournal journal;
+    private final ZobristKeys zobristKeys;
+    private final long[] squareKeys;
+    private long positionKey;
+    private boolean defenderToMove;
+
+    /**
+     * Create a new BitBoardImpl based on the Map cells, the Map pieces and the size given.
+     * As in {@link BoardImpl}, the board works on the maps of the pieces of the players it is given:
+     * the changes that the caller makes to them are read back at the next call, unless a state is pushed.
+     * @param pieces the Map that associate to each Player it's own Map of Piece and Position.
+     * @param cells the Map of Position and Cell that that associate
+     * to each Position of the Board the type of Cell that is placed there.
+     * @param size the size of the board.
+     */
+    public BitBoardImpl(final Map<Player, Map<Position, Piece>> pieces, final Map<Position, Cell> cells, final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The size of the board must be positive");
+        }
+        this.size = size;
+        this.pieces = pieces != null ? new HashMap<>(pieces) : new HashMap<>();
+        for (final Player player : Player.values()) {
+            this.pieces.putIfAbsent(player, new HashMap<>());
+        }
+        this.cellAt = IndexedCells.toArray(cells != null ? cells : Map.of(), size);
+        this.cells = new IndexedCells(this.cellAt, size);
+        this.eatingManager = new EatenImpl(this);
+        this.journal = new BoardJournal(this.pieces, this.cellAt, size);
+
+        final int squaresCount = size * size;
+        final int words = (squaresCount + WORD_BITS - 1) >>> WORD_SHIFT;
+        this.positions = new Position[squaresCount];
+        for (int i = 0; i < squaresCount; i++) {
+            this.positions[i] = Position.ofIndex(i, size);
+        }
+        this.squares = new Piece[squaresCount];
+        this.occupancy = new long[Player.values().length][words];
+        this.types = new long[PIECE_TYPES.size()][words];
+        this.throneOrExit = new long[words];
+        this.exits = new long[words];
+        this.sliders = new long[words];
+        this.withComponents = new long[words];
+        this.hitboxBuffer = new int[squaresCount];
+        this.zobristKeys = new ZobristKeys(size);
+        this.squareKeys = new long[squaresCount];
+        final Piece basicPiece = new BasicPiece(new Position(0, 0), Player.ATTACKER);
+        this.hitRays[0] = raysOf(basicPiece);
+        this.moveDirections[0] = directionsOf(basicPiece);
+
+        for (final Slider slider : this.cells.values().stream()
+                            .filter(cell -> SLIDER.equals(cell.getType()))
+                            .map(slider -> (Slider) slider)
+                            .collect(Collectors.toSet())) {
+            slider.addMediator(this);
+            slidersEntities.add(slider);
+        }
+        this.rebuild();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isStartingPointValid(final Position start, final Player player) {
+        this.readChangedPieces();
+        final int from = indexOf(start);
+        if (from >= 0 && get(this.occupancy[player.ordinal()], from) && this.squares[from].isAlive()) {
+            this.currentPos = start;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDestinationValid(final Position start, final Position dest, final Player player) {
+        this.readChangedPieces();
+        final int from = indexOf(start);
+        final int to = indexOf(dest);
+        if (from < 0 || to < 0 || !get(this.occupancy[player.ordinal()], from)) {
+            return false;
+        }
+        final int type = typeAt(from);
+        if (type != SWAPPER) {
+            if (!canAccept(type, to)) {
+                return false;
+            }
+        } else if (get(this.throneOrExit, to) || get(this.occupancy[player.ordinal()], to)) {
+            return false;
+        }
+        if (!isOccupied(to)) {
+            return isReachable(from, to, type);
+        }
+        /* A Swapper can swap its position with any opponent's piece but the king. */
+        return type == SWAPPER && !get(this.types[KING], to);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void generateLegalMoves(final Player player, final MoveBuffer moves) {
+        this.readChangedPieces();
+        moves.clear();
+        final long[] own = this.occupancy[player.ordinal()];
+        final long[] opponents = this.occupancy[opponentOf(player).ordinal()];
+        for (int square = nextSetBit(own, 0); square >= 0; square = nextSetBit(own, square + 1)) {
+            if (!this.squares[square].isAlive()) {
+                continue;
+            }
+            final int type = typeAt(square);
+            final int x = square % this.size;
+            final int y = square / this.size;
+            for (final int[] direction : this.moveDirections[type]) {
+                int targetX = x + direction[0];
+                int targetY = y + direction[1];
+                int target = indexOf(targetX, targetY);
+                while (target >= 0 && canAccept(type, target)) {
+                    moves.add(x, y, targetX, targetY);
+                    targetX += direction[0];
+                    targetY += direction[1];
+                    target = indexOf(targetX, targetY);
+                }
+            }
+            if (type == SWAPPER) {
+                for (int target = nextSetBit(opponents, 0); target >= 0; target = nextSetBit(opponents, target + 1)) {
+                    if (!get(this.types[KING], target) && !get(this.throneOrExit, target)) {
+                        moves.add(x, y, target % this.size, target / this.size);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void movePlaceholder(final Position oldPos, final Position newPos, final Player currentPlayer) {
+        this.readChangedPieces();
+        final int from = indexOf(oldPos);
+        final int to = indexOf(newPos);
+        if (from == to) {
+            return;
+        }
+        final Piece pieceInTurn = this.squares[from];
+        this.journal.record(from);
+        this.journal.record(to);
+        if (!isOccupied(to)) {
+            pieces.get(currentPlayer).remove(oldPos);
+            pieces.get(currentPlayer).put(newPos, pieceInTurn);
+            pieceInTurn.setCurrentPosition(newPos);
+            cells.get(oldPos).setFree(true);
+            cells.get(newPos).setFree(false);
+            clearSquare(from);
+            fillSquare(to, pieceInTurn);
+            this.currentPos = newPos;
+        } else if (pieceInTurn.canSwap()) {
+            final Map<Position, Piece> opponentPieces = pieces.get(opponentOf(currentPlayer));
+            pieces.get(currentPlayer).remove(oldPos);
+            pieces.get(currentPlayer).put(newPos, pieceInTurn);
+            pieceInTurn.setCurrentPosition(newPos);
+
+            final Piece pieceToSwap = opponentPieces.remove(newPos);
+            opponentPieces.put(oldPos, pieceToSwap);
+            pieceToSwap.setCurrentPosition(oldPos);
+            clearSquare(from);
+            clearSquare(to);
+            fillSquare(to, pieceInTurn);
+            fillSquare(from, pieceToSwap);
+            this.currentPos = newPos;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updatePiecePos(final Position oldPos, final Position newPos, final Player currentPlayer) {
+        movePlaceholder(oldPos, newPos, currentPlayer);
+        signalOnMove(currentPos, this.squares[indexOf(currentPos)]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Position getFurthestReachablePos(final Position startPos, final Vector direction) {  // NOPMD
+        // The Vector class models a vector and provides features that a List does not support.
+        this.readChangedPieces();
+        final int type = typeAt(indexOf(startPos));
+        Position furthestReachable = startPos;
+        for (int numberOfBox = 1; numberOfBox < this.size; numberOfBox++) {
+            final Position reachablePos = direction.multiplyByScalar(numberOfBox).applyToPosition(startPos);
+            final int index = indexOf(reachablePos);
+            if (index < 0 || !canAccept(type, index)) {
+                break;
+            }
+            furthestReachable = reachablePos;
+        }
+        return furthestReachable;
+    }
+
+    /**
+     * This method is called by {@link #updatePiecePos(Position, Position, Player)}.
+     * It notify a Cell that a Piece is moved there, the cells in the hitbox of the piece are notified too.
+     * Since the cells may change the pieces on the board (e.g. tombs), the notified squares
+     * are read back from the maps afterwards.
+     * @param source the Position where the Piece moved to.
+     * @param movedPiece the Piece that was moved.
+     */
+    private void signalOnMove(final Position source, final Piece movedPiece) {
+        if (get(this.sliders, indexOf(source))) {
+            cells.get(source).notify(source, movedPiece, List.of(movedPiece.sendSignalMove()), pieces, cells);
+        }
+        final int square = indexOf(movedPiece.getCurrentPosition());
+        final int triggered = trimmedHitbox(square, movedPiece.getPlayer(), typeAt(square), this.hitboxBuffer);
+        if (triggered > 0) {
+            final int[] triggeredSquares = new int[triggered];
+            System.arraycopy(this.hitboxBuffer, 0, triggeredSquares, 0, triggered);
+            final List<String> events = List.of(movedPiece.sendSignalMove());
+            for (final int index : triggeredSquares) {
+                this.journal.record(index);
+                this.cellAt[index].notify(source, movedPiece, events, pieces, cells);
+                syncSquare(index);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyTurnHasEnded(final int turn) {
+        this.readChangedPieces();
+        // The sliders are about to turn and the inactive components to be detached
+        for (int square = nextSetBit(this.sliders, 0); square >= 0; square = nextSetBit(this.sliders, square + 1)) {
+            this.journal.record(square);
+        }
+        for (int square = nextSetBit(this.withComponents, 0); square >= 0;
+                square = nextSetBit(this.withComponents, square + 1)) {
+            this.journal.record(square);
+        }
+        if (this.slidersEntities != null) {
+            this.positionKey ^= slidersKey();
+            this.slidersEntities.forEach(e -> {
+                e.reset();
+                e.notifyTurnHasEnded(turn);
+            });
+            this.positionKey ^= slidersKey();
+        }
+        this.defenderToMove = !this.defenderToMove;
+        this.positionKey ^= this.zobristKeys.defenderToMove();
+        for (final Cell cell : this.cellAt) {
+            if (cell != null) {
+                cell.notifyCellThatTurnHasEnded();
+            }
+        }
+        // The inactive components have just been detached
+        for (int square = nextSetBit(this.withComponents, 0); square >= 0;
+                square = nextSetBit(this.withComponents, square + 1)) {
+            syncComponents(square);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPlayerInTurn(final Player player) {
+        if (this.defenderToMove != (player == Player.DEFENDER)) {
+            this.defenderToMove = !this.defenderToMove;
+            this.positionKey ^= this.zobristKeys.defenderToMove();
+        }
+    }
+
+    @Override
+    public Map<Position, Cell> getMapCells() {
+        return this.cells;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSize() {
+        return this.size;
+    }
+
+    @Override
+    public Map<Player, Map<Position, Piece>> getMapPieces() {
+        return Collections.unmodifiableMap(this.pieces);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Piece getPieceAt(final Position position) {
+        this.readChangedPieces();
+        final int square = this.indexOf(position);
+        return square < 0 ? null : this.squares[square];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void eat() {
+        this.readChangedPieces();
+        final int square = indexOf(currentPos);
+        final Piece currPiece = this.squares[square];
+        final Player player = currPiece.getPlayer();
+        final long[] enemies = this.occupancy[opponentOf(player).ordinal()];
+        final int hit = trimmedHitbox(square, player, typeAt(square), this.hitboxBuffer);
+        final Map<Piece, Set<Piece>> enemiesAndAllies = new HashMap<>();
+        final List<Integer> threatened = new ArrayList<>();
+        for (int i = 0; i < hit; i++) {
+            if (get(enemies, this.hitboxBuffer[i])) {
+                threatened.add(this.hitboxBuffer[i]);
+            }
+        }
+        for (final int enemy : threatened) {
+            this.journal.record(enemy);
+            enemiesAndAllies.put(this.squares[enemy], killersOf(enemy, player));
+        }
+        if (!enemiesAndAllies.isEmpty()) {
+            eatingManager.notifyAllThreatened(enemiesAndAllies, currPiece, cells, pieces, this.doTombsSpawn());
+            threatened.forEach(this::syncSquare);
+            // The captured pieces may have left tombs
+            threatened.forEach(this::syncComponents);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDraw(final Player playerInTurn) {
+        this.readChangedPieces();
+        final int king = kingSquare();
+        if (king < 0) {
+            throw new NoSuchElementException("There is no king on the board");
+        }
+        /*If the king is on the border, the position adjacent to it are controlled to see if the king is trapped */
+        final int kingX = king % this.size;
+        final int kingY = king / this.size;
+        if (kingX == 0 || kingY == 0 || kingX == this.size - 1 || kingY == this.size - 1) {
+            int attackers = 0;
+            for (final int[] direction : ADJACENT) {
+                final int adjacent = indexOf(kingX + direction[0], kingY + direction[1]);
+                if (adjacent >= 0 && get(this.occupancy[Player.ATTACKER.ordinal()], adjacent)) {
+                    attackers++;
+                }
+            }
+            if (attackers == 3) {
+                return true;
+            }
+        }
+        /* If there are no pieces that can move for the player in turn, it is automatically a draw. */
+        final long[] own = this.occupancy[playerInTurn.ordinal()];
+        for (int square = nextSetBit(own, 0); square >= 0; square = nextSetBit(own, square + 1)) {
+            final int type = typeAt(square);
+            for (final int[] direction : ADJACENT) {
+                final int adjacent = indexOf(square % this.size + direction[0], square / this.size + direction[1]);
+                if (adjacent >= 0 && canAccept(type, adjacent)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Player> checkForWinningPlayer() {
+        this.readChangedPieces();
+        final int king = kingSquare();
+        if (king < 0) {
+            return Optional.of(Player.ATTACKER);
+        }
+        return get(this.exits, king) ? Optional.of(Player.DEFENDER) : Optional.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getPositionKey() {
+        this.readChangedPieces();
+        return this.positionKey;
+    }
+
+    @Override
+    public Map<Position, CellState> getCellsTagsMapping() {
+        return this.cells.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().getCellState()))
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    @Override
+    public Map<Position, PieceState> getPiecesTagsMapping() {
+        return this.pieces.entrySet().stream()
+                .flatMap(bigEntry -> bigEntry.getValue().entrySet().stream())
+                .map(entry -> Map.entry(entry.getKey(),
+                    new PieceStateImpl(entry.getValue().getMyType().getTypeOfPiece(), entry.getValue().getPlayer())))
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    /**
+     * Collects the pieces that take part in the capture of the opponent's piece located
+     * on the given square. The search goes backwards from the target: for every type of piece
+     * and every offset of its hitbox, only the square from which that offset would reach
+     * the target is tested. Throne and exits behave as basic pieces of the player in turn.
+     * @param target the square of the threatened piece.
+     * @param player the player that is trying to capture the piece.
+     * @return the pieces whose hitbox contains the target.
+     */
+    private Set<Piece> killersOf(final int target, final Player player) {
+        final Set<Piece> killers = new HashSet<>();
+        final long[] own = this.occupancy[player.ordinal()];
+        final int targetX = target % this.size;
+        final int targetY = target / this.size;
+        for (int type = 0; type < PIECE_TYPES.size(); type++) {
+            if (this.hitRays[type] == null) {
+                continue;
+            }
+            final boolean blockedByAllies = ARCHER.equals(PIECE_TYPES.get(type));
+            for (final int[] ray : this.hitRays[type]) {
+                for (int k = 0; k < ray.length; k += 2) {
+                    final int ally = indexOf(targetX - ray[k], targetY - ray[k + 1]);
+                    if (ally >= 0 && get(own, ally) && get(this.types[type], ally) && !get(this.throneOrExit, ally)
+                            && (!blockedByAllies || isRayFree(ally, ray, k, own))) {
+                        killers.add(this.squares[ally]);
+                    }
+                }
+            }
+        }
+        final Piece[] pseudoPieces = this.cellsAsPieces.computeIfAbsent(player, p -> new Piece[this.squares.length]);
+        for (final int[] ray : this.hitRays[0]) {
+            final int cell = indexOf(targetX - ray[0], targetY - ray[1]);
+            if (cell >= 0 && get(this.throneOrExit, cell)) {
+                if (pseudoPieces[cell] == null) {
+                    pseudoPieces[cell] = new BasicPiece(this.positions[cell], player);
+                }
+                killers.add(pseudoPieces[cell]);
+            }
+        }
+        return killers;
+    }
+
+    /*
+     * Checks that no allied piece stands on the first k / 2 squares of the given ray,
+     * i.e. between the origin and the square reached by the k-th offset.
+     */
+    private boolean isRayFree(final int origin, final int[] ray, final int k, final long[] own) {
+        final int originX = origin % this.size;
+        final int originY = origin / this.size;
+        for (int j = 0; j < k; j += 2) {
+            final int square = indexOf(originX + ray[j], originY + ray[j + 1]);
+            if (square >= 0 && get(own, square)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes in the given buffer the squares in the hitbox of a piece, without the squares
+     * outside of the board and the squares occupied by allied pieces. The allied pieces
+     * also stop the rays of the archers.
+     * @param square the square of the piece.
+     * @param player the owner of the piece.
+     * @param type the index of the type of the piece.
+     * @param buffer the buffer where to write the squares.
+     * @return the number of squares written in the buffer.
+     */
+    private int trimmedHitbox(final int square, final Player player, final int type, final int[] buffer) {
+        final long[] own = this.occupancy[player.ordinal()];
+        final boolean blockedByAllies = ARCHER.equals(PIECE_TYPES.get(type));
+        final int x = square % this.size;
+        final int y = square / this.size;
+        int count = 0;
+        for (final int[] ray : this.hitRays[type]) {
+            for (int k = 0; k < ray.length; k += 2) {
+                final int target = indexOf(x + ray[k], y + ray[k + 1]);
+                if (target < 0) {
+                    continue;
+                }
+                if (get(own, target)) {
+                    if (blockedByAllies) {
+                        break;
+                    }
+                    continue;
+                }
+                buffer[count] = target;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /*
+     * Checks whether a piece of the given type can move along a straight line from a square to another.
+     */
+    private boolean isReachable(final int from, final int to, final int type) {
+        final int fromX = from % this.size;
+        final int fromY = from / this.size;
+        final int toX = to % this.size;
+        final int toY = to / this.size;
+        for (final int[] direction : this.moveDirections[type]) {
+            final int dx = toX - fromX;
+            final int dy = toY - fromY;
+            final int steps = direction[0] != 0 ? dx / direction[0] : dy / direction[1];
+            if (steps > 0 && dx == steps * direction[0] && dy == steps * direction[1]) {
+                final int stride = direction[1] * this.size + direction[0];
+                for (int square = from + stride; square != to; square += stride) {
+                    if (!canAccept(type, square)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean canAccept(final int type, final int square) {
+        return !isOccupied(square) && (type == KING || !get(this.throneOrExit, square));
+    }
+
+    private boolean isOccupied(final int square) {
+        final int word = square >>> WORD_SHIFT;
+        final long mask = 1L << square;
+        return ((this.occupancy[0][word] | this.occupancy[1][word]) & mask) != 0;
+    }
+
+    private int typeAt(final int square) {
+        for (int type = 0; type < PIECE_TYPES.size(); type++) {
+            if (get(this.types[type], square)) {
+                return type;
+            }
+        }
+        throw new IllegalStateException("No piece at " + this.positions[square]);
+    }
+
+    private int kingSquare() {
+        final long[] defenders = this.occupancy[Player.DEFENDER.ordinal()];
+        final long[] kings = this.types[KING];
+        for (int word = 0; word < kings.length; word++) {
+            final long bits = kings[word] & defenders[word];
+            if (bits != 0) {
+                return (word << WORD_SHIFT) + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return -1;
+    }
+
+    /* Tombs don't spawn if there are no more Queens. */
+    private boolean doTombsSpawn() {
+        for (final long word : this.types[QUEEN]) {
+            if (word != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int indexOf(final Position position) {
+        return indexOf(position.getX(), position.getY());
+    }
+
+    private int indexOf(final int x, final int y) {
+        return x < 0 || y < 0 || x >= this.size || y >= this.size ? -1 : y * this.size + x;
+    }
+
+    private void fillSquare(final int square, final Piece piece) {
+        final int type = PIECE_TYPES.indexOf(piece.getMyType().getTypeOfPiece());
+        if (type < 0) {
+            throw new IllegalStateException("Unknown type of piece: " + piece.getMyType().getTypeOfPiece());
+        }
+        if (this.hitRays[type] == null) {
+            this.hitRays[type] = raysOf(piece);
+        }
+        if (this.moveDirections[type] == null) {
+            this.moveDirections[type] = directionsOf(piece);
+        }
+        set(this.occupancy[piece.getPlayer().ordinal()], square);
+        set(this.types[type], square);
+        this.squares[square] = piece;
+        this.squareKeys[square] = this.zobristKeys.pieceKey(piece, square);
+        this.positionKey ^= this.squareKeys[square];
+    }
+
+    private void clearSquare(final int square) {
+        for (final long[] board : this.occupancy) {
+            clear(board, square);
+        }
+        for (final long[] board : this.types) {
+            clear(board, square);
+        }
+        this.squares[square] = null;
+        // The key that was XORed in is kept, since the piece might have lost a life since then
+        this.positionKey ^= this.squareKeys[square];
+        this.squareKeys[square] = 0L;
+    }
+
+    /*
+     * Builds again the bitboards if the caller changed the maps of the pieces since the last call.
+     * While a state is pushed, e.g. during a search, the maps are changed only by this board,
+     * so they are not checked.
+     */
+    private void readChangedPieces() {
+        if (this.journal.isRecording()) {
+            return;
+        }
+        int count = 0;
+        for (final Map.Entry<Player, Map<Position, Piece>> playerPieces : this.pieces.entrySet()) {
+            final long[] own = this.occupancy[playerPieces.getKey().ordinal()];
+            for (final Map.Entry<Position, Piece> entry : playerPieces.getValue().entrySet()) {
+                final int square = indexOf(entry.getKey());
+                if (square >= 0) {
+                    if (this.squares[square] != entry.getValue() || !get(own, square)) {
+                        this.rebuild();
+                        return;
+                    }
+                    count++;
+                }
+            }
+        }
+        int occupied = 0;
+        for (int word = 0; word < this.throneOrExit.length; word++) {
+            occupied += Long.bitCount(this.occupancy[0][word] | this.occupancy[1][word]);
+        }
+        if (count != occupied) {
+            this.rebuild();
+        }
+    }
+
+    /*
+     * Reads back a square from the maps of the pieces, after that a cell might have changed it.
+     */
+    private void syncSquare(final int square) {
+        clearSquare(square);
+        for (final Player player : Player.values()) {
+            final Piece piece = this.pieces.get(player).get(this.positions[square]);
+            if (piece != null) {
+                fillSquare(square, piece);
+            }
+        }
+    }
+
+    /*
+     * Reads back from the cell whether it has some components attached.
+     */
+    private void syncComponents(final int square) {
+        if (this.cellAt[square] != null && !this.cellAt[square].getComponents().isEmpty()) {
+            set(this.withComponents, square);
+        } else {
+            clear(this.withComponents, square);
+        }
+    }
+
+    private long slidersKey() {
+        long key = 0L;
+        for (int square = nextSetBit(this.sliders, 0); square >= 0; square = nextSetBit(this.sliders, square + 1)) {
+            key ^= this.zobristKeys.sliderKey((Slider) this.cellAt[square], square);
+        }
+        return key;
+    }
+
+    /*
+     * Builds again all the bitboards, and the key of the position,
+     * from the maps of the cells and of the pieces.
+     */
+    private void rebuild() {
+        for (int square = 0; square < this.squares.length; square++) {
+            clearSquare(square);
+            clear(this.throneOrExit, square);
+            clear(this.exits, square);
+            clear(this.sliders, square);
+            clear(this.withComponents, square);
+        }
+        this.positionKey = this.defenderToMove ? this.zobristKeys.defenderToMove() : 0L;
+        for (int square = 0; square < this.cellAt.length; square++) {
+            final Cell cell = this.cellAt[square];
+            if (cell != null) {
+                if (THRONE.equals(cell.getType()) || EXIT.equals(cell.getType())) {
+                    set(this.throneOrExit, square);
+                }
+                if (EXIT.equals(cell.getType())) {
+                    set(this.exits, square);
+                }
+                if (SLIDER.equals(cell.getType())) {
+                    set(this.sliders, square);
+                    this.positionKey ^= this.zobristKeys.sliderKey((Slider) cell, square);
+                }
+                syncComponents(square);
+            }
+        }
+        this.pieces.values().forEach(map -> map.forEach((position, piece) -> {
+            final int square = indexOf(position);
+            if (square >= 0) {
+                fillSquare(square, piece);
+            }
+        }));
+    }
+
+    /*
+     * Groups the hitbox of a piece in rays of offsets, sorted by distance from the piece.
+     * Each ray is stored as a flat array of (dx, dy) pairs.
+     */
+    private static int[][] raysOf(final Piece piece) {
+        final Map<Integer, List<Position>> rays = piece.getMyType().getHitbox().stream()
+                .collect(Collectors.groupingBy(offset -> 3 * Integer.signum(offset.getX()) + Integer.signum(offset.getY())));
+        return rays.values().stream()
+                .map(ray -> ray.stream()
+                        .sorted((a, b) -> Integer.compare(Math.abs(a.getX()) + Math.abs(a.getY()),
+                                Math.abs(b.getX()) + Math.abs(b.getY())))
+                        .flatMapToInt(offset -> IntStream.of(offset.getX(), offset.getY()))
+                        .toArray())
+                .toArray(int[][]::new);
+    }
+
+    private static int[][] directionsOf(final Piece piece) {
+        return piece.getMyType().getMoveSet().stream()
+                .filter(Vector::isUnitVector)
+                .map(vector -> new int[] {vector.deltaX(), vector.deltaY()})
+                .toArray(int[][]::new);
+    }
+
+    private static Player opponentOf(final Player player) {
+        return Player.values()[(player.ordinal() + 1) % Player.values().length];
+    }
+
+    private static boolean get(final long[] board, final int square) {
+        return (board[square >>> WORD_SHIFT] & 1L << square) != 0;
+    }
+
+    private static void set(final long[] board, final int square) {
+        board[square >>> WORD_SHIFT] |= 1L << square;
+    }
+
+    private static void clear(final long[] board, final int square) {
+        board[square >>> WORD_SHIFT] &= ~(1L << square);
+    }
+
+    private static int nextSetBit(final long[] board, final int from) {
+        int word = from >>> WORD_SHIFT;
+        if (word >= board.length) {
+            return -1;
+        }
+        long bits = board[word] & -1L << from;
+        while (bits == 0) {
+            word++;
+            if (word == board.length) {
+                return -1;
+            }
+            bits = board[word];
+        }
+        return (word << WORD_SHIFT) + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The states are frames of a {@link BoardJournal}, which records the squares touched by the moves,
+     * the captures, the tombs and the sliders; the bitboards of those squares are read back
+     * from the maps when a frame is taken back or redone.
+     */
+    @Override
+    public void pushState() {
+        this.readChangedPieces();
+        this.journal.push(this.currentPos, this.positionKey, this.defenderToMove);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void popState() {
+        this.sync(this.journal.undo(this.currentPos, this.positionKey, this.defenderToMove));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void redoState() {
+        this.sync(this.journal.redo(this.currentPos, this.positionKey, this.defenderToMove));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forgetOldestState() {
+        this.journal.forgetOldest();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BoardDelta sealState() {
+        return this.journal.seal(this.currentPos, this.positionKey, this.defenderToMove, this::sync);
+    }
+
+    /*
+     * Reads back the squares of a frame that has just been applied by the journal, and takes its scalar state.
+     */
+    private void sync(final BoardJournal.Frame frame) {
+        for (int i = 0; i < frame.size(); i++) {
+            syncSquare(frame.square(i));
+            syncComponents(frame.square(i));
+        }
+        // The key was changed by the squares read back, it is taken from the frame afterwards
+        this.positionKey = frame.getPositionKey();
+        this.defenderToMove = frame.isDefenderToMove();
+        this.currentPos = frame.getCurrentPos();
+    }
+
+    /**
+     * This class is used to save the BitBoard's current status.
+     */
+    public class BitBoardMementoImpl implements BoardMemento {
+        private final Cell[] innerCells;
+        private final Map<Position, Piece> innerAttackerPieces;
+        private final Map<Position, Piece> innerDefenderPieces;
+        private final Position innerCurrentPos;
+        private final List<PieceMemento> piecesMemento;
+        private final List<CellMemento> cellsMemento;
+        private final Set<Slider> innerSlidersEntities;
+        private final boolean innerDefenderToMove;
+
+        /**
+         * Creates a BoardMemento from which the board will be able to restore its previous state.
+         * @param piecesMemento a List of the saved states of the pieces.
+         * @param cellsMemento a List of the saved states of the cells.
+         */
+        public BitBoardMementoImpl(final List<PieceMemento> piecesMemento, final List<CellMemento> cellsMemento) {
+            this.innerCells = BitBoardImpl.this.cellAt.clone();
+            this.innerAttackerPieces = new HashMap<>(BitBoardImpl.this.pieces.get(Player.ATTACKER));
+            this.innerDefenderPieces = new HashMap<>(BitBoardImpl.this.pieces.get(Player.DEFENDER));
+            this.innerCurrentPos = BitBoardImpl.this.currentPos;
+            this.innerSlidersEntities = new HashSet<>(BitBoardImpl.this.slidersEntities);
+            this.innerDefenderToMove = BitBoardImpl.this.defenderToMove;
+            this.piecesMemento = List.copyOf(piecesMemento);
+            this.cellsMemento = List.copyOf(cellsMemento);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<PieceMemento> getPiecesMemento() {
+            return List.copyOf(this.piecesMemento);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<CellMemento> getCellsMemento() {
+            return List.copyOf(this.cellsMemento);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Map<Position, Cell> getInnerCells() {
+            return new HashMap<>(new IndexedCells(this.innerCells, BitBoardImpl.this.size));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Map<Position, Piece> getInnerAttackerPieces() {
+            return new HashMap<>(this.innerAttackerPieces);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Map<Position, Piece> getInnerDefenderPieces() {
+            return new HashMap<>(this.innerDefenderPieces);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Position getInnerCurrentPos() {
+            return this.innerCurrentPos;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Set<Slider> getInnerSlidersEntities() {
+            return new HashSet<>(this.innerSlidersEntities);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void restore() {
+            BitBoardImpl.this.restore(this);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Board copy() {
+        this.readChangedPieces();
+        final BitBoardImpl copy = new BitBoardImpl(BoardCopies.copyOfPieces(this.pieces), BoardCopies.copyOfCells(this.cells), this.size);
+        copy.currentPos = this.currentPos;
+        copy.defenderToMove = this.defenderToMove;
+        copy.positionKey = this.positionKey;
+        return copy;
+    }
+
+    /**
+     * Saves a snapshot of the current state of this board.
+     * @return the BoardMemento deriving from the saving of the board status.
+     */
+    @Override
+    public BoardMemento save() {
+        this.readChangedPieces();
+        return this.new BitBoardMementoImpl(
+            this.pieces.values().stream()
+            .flatMap(map -> map.values().stream())
+            .map(piece -> ((AbstractPiece) piece).save())
+            .toList(),
+            this.cells.values().stream()
+            .map(cell -> cell.save())
+            .toList());
+    }
+
+    /**
+     * Restores the status of this board to the one contained in the
+     * {@link taflgames.model.board.code.BitBoardImpl.BitBoardMementoImpl}.
+     * @param bm the BoardMemento from which to extract the information
+     * required to restore the state of the board.
+     */
+    private void restore(final BitBoardMementoImpl bm) {
+        this.defenderToMove = bm.innerDefenderToMove;
+        System.arraycopy(bm.innerCells, 0, this.cellAt, 0, this.cellAt.length);
+        this.pieces.put(Player.ATTACKER, bm.getInnerAttackerPieces());
+        this.pieces.put(Player.DEFENDER, bm.getInnerDefenderPieces());
+        this.currentPos = bm.getInnerCurrentPos();
+        this.slidersEntities = bm.getInnerSlidersEntities();
+        bm.getCellsMemento().forEach(c -> c.restore());
+        bm.getPiecesMemento().forEach(p -> p.restore());
+        this.journal.clear();
+        this.rebuild();
+    }
+}
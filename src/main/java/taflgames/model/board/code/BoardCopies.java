@@ -0,0 +1,43 @@
+package taflgames.model.board.code;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import taflgames.common.Player;
+import taflgames.common.code.Position;
+import taflgames.model.cell.api.Cell;
+import taflgames.model.pieces.api.Piece;
+
+/**
+ * Deep copies of the maps of the pieces and of the cells, used by the boards to create copies of themselves.
+ */
+final class BoardCopies {
+
+    private BoardCopies() {
+    }
+
+    /**
+     * @param pieces the pieces of a board
+     * @return a map with copies of the given pieces at the same positions
+     */
+    static Map<Player, Map<Position, Piece>> copyOfPieces(final Map<Player, Map<Position, Piece>> pieces) {
+        final Map<Player, Map<Position, Piece>> copy = new EnumMap<>(Player.class);
+        pieces.forEach((player, map) -> {
+            final Map<Position, Piece> mapCopy = new HashMap<>();
+            map.forEach((position, piece) -> mapCopy.put(position, piece.copy()));
+            copy.put(player, mapCopy);
+        });
+        return copy;
+    }
+
+    /**
+     * @param cells the cells of a board
+     * @return a map with copies of the given cells at the same positions
+     */
+    static Map<Position, Cell> copyOfCells(final Map<Position, Cell> cells) {
+        final Map<Position, Cell> copy = new HashMap<>();
+        cells.forEach((position, cell) -> copy.put(position, cell.copy()));
+        return copy;
+    }
+}
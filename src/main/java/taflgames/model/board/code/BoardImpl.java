@@ -5,12 +5,14 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import taflgames.common.Player;
 import taflgames.common.api.Vector;
+import taflgames.common.code.MoveBuffer;
 import taflgames.common.code.Position;
 import taflgames.controller.entitystate.CellState;
 import taflgames.controller.entitystate.PieceState;
@@ -20,6 +22,7 @@ import taflgames.model.board.api.Eaten;
 import taflgames.model.cell.api.Cell;
 import taflgames.model.cell.api.Slider;
 import taflgames.model.cell.api.TimedEntity;
+import taflgames.model.memento.api.BoardDelta;
 import taflgames.model.memento.api.BoardMemento;
 import taflgames.model.memento.api.CellMemento;
 import taflgames.model.memento.api.PieceMemento;
@@ -36,13 +39,20 @@ public final class BoardImpl implements Board, TimedEntity {
     private static final String SLIDER = "Slider";
     private static final String KING = "KING";
     private static final String QUEEN = "QUEEN";
+    private static final Player[] PLAYERS = Player.values();
 
-    private Map<Position, Cell> cells;
+    // The cells, indexed as y * size + x, and the read-only map view of them
+    private final Cell[] cellsByIndex;
+    private final Map<Position, Cell> cells;
     private final Map<Player, Map<Position, Piece>> pieces;
     private final int size;
     private Position currentPos;
     private Set<Slider> slidersEntities = new HashSet<>();
     private final Eaten eatingManager;
+    private final BoardJournal journal;
+    private final ZobristKeys zobristKeys;
+    private long positionKey;
+    private boolean defenderToMove;
 
     /**
      * Create a new BoardImpl based on the Map cells, the Map pieces and the size given. 
@@ -58,12 +68,9 @@ public final class BoardImpl implements Board, TimedEntity {
         } else {
             this.pieces = new HashMap<>();
         }
-        if (cells != null) {
-            this.cells = new HashMap<>(cells);
-        } else {
-            this.cells = new HashMap<>();
-        }
         this.size = size;
+        this.cellsByIndex = IndexedCells.toArray(cells != null ? cells : Map.of(), size);
+        this.cells = new IndexedCells(this.cellsByIndex, size);
         this.eatingManager = new EatenImpl(this);
         for (final Slider slider : this.cells.values().stream()
                             .filter(cell -> SLIDER.equals(cell.getType()))
@@ -72,6 +79,9 @@ public final class BoardImpl implements Board, TimedEntity {
             slider.addMediator(this);
             slidersEntities.add(slider);
         } 
+        this.zobristKeys = new ZobristKeys(size);
+        this.positionKey = this.computePositionKey();
+        this.journal = new BoardJournal(this.pieces, this.cellsByIndex, size);
     }
 
     /**
@@ -93,23 +103,23 @@ public final class BoardImpl implements Board, TimedEntity {
     @Override
     public boolean isDestinationValid(final Position start, final Position dest, final Player player) {
         final Piece piece = pieces.get(player).get(start);
+        final Cell destCell = cells.get(dest);
         /*
          * For the pieces that aren't a Swapper it's controlled that the destination's Position is free and can accept them.
          * Otherwise if the Piece is a Swapper it's controlled that the destination cell can accept it.
          */
         if (!piece.canSwap()) {
-            if (!cells.get(dest).canAccept(piece)) {
+            if (!destCell.canAccept(piece)) {
                 return false;
             }
-        } else if (THRONE.equals(cells.get(dest).getType()) 
-                || EXIT.equals(cells.get(dest).getType())
-                || !cells.get(dest).isFree() && getPieceAtPosition(dest).getPlayer().equals(player)) {
+        } else if (THRONE.equals(destCell.getType()) 
+                || EXIT.equals(destCell.getType())
+                || !destCell.isFree() && getPieceAtPosition(dest).getPlayer().equals(player)) {
                 return false;
         }
 
-        /*This set represent the possible movements of a piece expressed by Vector*/
-        final Set<Vector> vectors = piece.whereToMove();
-        /* In the case of basic pieces, the returned vectors will be (-1,0), (0,1), (1,0), (0,-1).
+        /* The possible movements of a piece are the directions of its move-set, as {deltaX, deltaY} pairs:
+        * In the case of basic pieces, they will be (-1,0), (0,1), (1,0), (0,-1).
         *
         * NOTE1: a displacement is equivalent to adding the starting position to a vector v 
         * indicating the displacement: start + v = dest
@@ -118,7 +128,7 @@ public final class BoardImpl implements Board, TimedEntity {
         * this is equivalent to saying that dest = start + N * (0, 1);
         * this is also equivalent to saying that the displacement given by the vector (0, 1) is applied N times.
         *
-        * So to check whether a move is valid, we check whether, for one of the vectors (v) given by piece.getVectors(), 
+        * So to check whether a move is valid, we check whether, for one of the directions (v) of the piece, 
         * exists a scalar N such that start + N * v = dest.
         * If one is found, it should be verified that all cells in the path 
         * that takes the piece from start to dest are free.
@@ -127,14 +137,15 @@ public final class BoardImpl implements Board, TimedEntity {
 
         /* checks if the destination cell is free,
         since if it isn't the swapper needs to be handled in a different way */
-        if (cells.get(dest).isFree()) {
-            for (final Vector vector : vectors) { // NOPMD
-                // The Vector class models a vector and provides features that a List does not support.
-                for (int numberOfBox = 1; numberOfBox < this.size; numberOfBox++) {
-                    if (vector.multiplyByScalar(numberOfBox).applyToPosition(start).equals(dest)
-                        && isPathFree(start, dest)) {
-                            return true;
-                    }
+        if (destCell.isFree()) {
+            final int deltaX = dest.getX() - start.getX();
+            final int deltaY = dest.getY() - start.getY();
+            for (final int[] direction : piece.getMyType().getMoveDirections()) {
+                final int numberOfBoxes = direction[0] != 0 ? deltaX / direction[0] : deltaY / direction[1];
+                if (numberOfBoxes > 0 && numberOfBoxes < this.size
+                        && deltaX == numberOfBoxes * direction[0] && deltaY == numberOfBoxes * direction[1]
+                        && isPathFree(start, dest, piece)) {
+                    return true;
                 }
             }
         }
@@ -145,8 +156,8 @@ public final class BoardImpl implements Board, TimedEntity {
         * we can equip any piece with a canSwap() method, which returns true in case it is a Swapper and false otherwise.
         */
         if (piece.canSwap() 
-            && (!EXIT.equals(cells.get(dest).getType()) || !THRONE.equals(cells.get(dest).getType()))
-            && !cells.get(dest).isFree()) {
+            && (!EXIT.equals(destCell.getType()) || !THRONE.equals(destCell.getType()))
+            && !destCell.isFree()) {
             /* It is checked whether the dest position is one of the positions occupied by an opposing piece. 
             * If it is, then the move is valid, otherwise not. */
 
@@ -158,12 +169,59 @@ public final class BoardImpl implements Board, TimedEntity {
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void generateLegalMoves(final Player player, final MoveBuffer moves) {
+        moves.clear();
+        final Player opponent = Player.values()[(player.ordinal() + 1) % Player.values().length];
+        for (final Map.Entry<Position, Piece> entry : pieces.get(player).entrySet()) {
+            final Position start = entry.getKey();
+            final Piece piece = entry.getValue();
+            if (!piece.isAlive()) {
+                continue;
+            }
+            /*
+             * A single walk along each direction of the moveset: the walk stops at the first cell
+             * that cannot accept the piece, exactly as isPathFree() would do for the cells beyond it.
+             */
+            for (final int[] direction : piece.getMyType().getMoveDirections()) {
+                int x = start.getX() + direction[0];
+                int y = start.getY() + direction[1];
+                while (x >= 0 && y >= 0 && x < this.size && y < this.size
+                        && this.cellsByIndex[y * this.size + x].canAccept(piece)) {
+                    moves.add(start.getX(), start.getY(), x, y);
+                    x += direction[0];
+                    y += direction[1];
+                }
+            }
+            /* A Swapper can also swap its position with any opponent's piece but the king. */
+            if (piece.canSwap()) {
+                for (final Map.Entry<Position, Piece> target : pieces.get(opponent).entrySet()) {
+                    final Position targetPos = target.getKey();
+                    final String cellType = this.cellsByIndex[targetPos.index(this.size)].getType();
+                    if (!KING.equals(target.getValue().getMyType().getTypeOfPiece())
+                            && !THRONE.equals(cellType) && !EXIT.equals(cellType)) {
+                        moves.add(start.getX(), start.getY(), targetPos.getX(), targetPos.getY());
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void movePlaceholder(final Position oldPos, final Position newPos, final Player currentPlayer) {
+        if (oldPos.equals(newPos)) {
+            // e.g. a piece that is stuck on a slider: there is nothing to move or to swap with
+            return;
+        }
         final Piece pieceInTurn = getPieceAtPosition(oldPos);
+        this.journal.record(oldPos.index(this.size));
+        this.journal.record(newPos.index(this.size));
         if (cells.get(newPos).isFree()) {
             pieces.get(currentPlayer).remove(oldPos);
             pieces.get(currentPlayer).put(newPos, pieceInTurn);
@@ -171,6 +229,7 @@ public final class BoardImpl implements Board, TimedEntity {
             cells.get(oldPos).setFree(true);
             cells.get(newPos).setFree(false);
             this.currentPos = newPos;
+            this.positionKey ^= pieceKey(pieceInTurn, oldPos) ^ pieceKey(pieceInTurn, newPos);
 
         } else if (pieceInTurn.canSwap()) {
             pieces.get(currentPlayer).remove(oldPos);
@@ -183,6 +242,8 @@ public final class BoardImpl implements Board, TimedEntity {
             pieces.get(Player.values()[(currentPlayer.ordinal() + 1) % Player.values().length]).put(oldPos, pieceToSwap);
             pieceToSwap.setCurrentPosition(oldPos);
             this.currentPos = newPos;
+            this.positionKey ^= pieceKey(pieceInTurn, oldPos) ^ pieceKey(pieceInTurn, newPos)
+                    ^ pieceKey(pieceToSwap, newPos) ^ pieceKey(pieceToSwap, oldPos);
         }
     }
 
@@ -206,7 +267,7 @@ public final class BoardImpl implements Board, TimedEntity {
             final Position reachablePos = direction.multiplyByScalar(numberOfBox).applyToPosition(startPos);
             if (reachablePos.getX() == this.size || reachablePos.getY() == this.size
                 || reachablePos.getX() < 0 || reachablePos.getY() < 0 
-                || !cells.get(reachablePos).canAccept(getPieceAtPosition(startPos))) {
+                || !this.cellsByIndex[reachablePos.index(this.size)].canAccept(getPieceAtPosition(startPos))) {
                 break;
             } else {
                 furthestReachable = reachablePos;
@@ -233,7 +294,13 @@ public final class BoardImpl implements Board, TimedEntity {
         if (!triggeredPos.isEmpty()) {
             for (final Position pos : triggeredPos) {
                 final Cell cell = cells.get(pos);
+                this.journal.record(pos.index(this.size));
+                final boolean wasFree = cell.isFree();
                 cell.notify(source, movedPiece, List.of(movedPiece.sendSignalMove()), pieces, cells);
+                if (wasFree && !cell.isFree()) {
+                    // A tomb has brought a piece back to life
+                    this.positionKey ^= pieceKey(getPieceAtPosition(pos), pos);
+                }
             }
         }
     }
@@ -242,38 +309,21 @@ public final class BoardImpl implements Board, TimedEntity {
      * This method verify if the path between two Position that are on the same row or column is free from pieces.
      * @param start the starting Position.
      * @param dest the Position to reach.
+     * @param piece the Piece that moves.
      * @return true if the path is free, false otherwise 
      */
-    private boolean isPathFree(final Position start, final Position dest) {
-        if (start.getX() == dest.getX()) { 
-            if (start.getY() < dest.getY()) {
-                for (int i = start.getY() + 1; i < dest.getY(); i++) {
-                    if (!cells.get(new Position(start.getX(), i)).canAccept(getPieceAtPosition(start))) {
-                        return false;
-                    }
-                }
-            } else {
-                for (int i = start.getY() - 1; i > dest.getY(); i--) {
-                    if (!cells.get(new Position(start.getX(), i)).canAccept(getPieceAtPosition(start))) {
-                        return false;
-                    }
-                }
-            }
-        } else {
-            if (start.getX() < dest.getX()) {
-                for (int i = start.getX() + 1; i < dest.getX(); i++) {
-                    if (!cells.get(new Position(i, start.getY())).canAccept(getPieceAtPosition(start))) {
-                        return false;
-                    }
-                }
-            } else {
-                for (int i = start.getX() - 1; i > dest.getX(); i--) {
-                    if (!cells.get(new Position(i, start.getY())).canAccept(getPieceAtPosition(start))) {
-                        return false;
-                    }
-                }
+    private boolean isPathFree(final Position start, final Position dest, final Piece piece) {
+        final int stepX = Integer.signum(dest.getX() - start.getX());
+        final int stepY = Integer.signum(dest.getY() - start.getY());
+        int x = start.getX() + stepX;
+        int y = start.getY() + stepY;
+        while (x != dest.getX() || y != dest.getY()) {
+            if (!this.cellsByIndex[y * this.size + x].canAccept(piece)) {
+                return false;
             }
-        } 
+            x += stepX;
+            y += stepY;
+        }
         return true;
     }
 
@@ -282,21 +332,57 @@ public final class BoardImpl implements Board, TimedEntity {
      */
     @Override
     public void notifyTurnHasEnded(final int turn) {
+        if (this.journal.isRecording()) {
+            // The sliders are about to turn and the inactive components to be detached
+            for (int square = 0; square < this.cellsByIndex.length; square++) {
+                final Cell cell = this.cellsByIndex[square];
+                if (cell != null && (SLIDER.equals(cell.getType()) || !cell.getComponents().isEmpty())) {
+                    this.journal.record(square);
+                }
+            }
+        }
         if (this.slidersEntities != null) {
+            this.positionKey ^= slidersKey();
             this.slidersEntities.forEach(e -> {
                 e.reset();
                 e.notifyTurnHasEnded(turn);
             });
+            this.positionKey ^= slidersKey();
         }
+        this.defenderToMove = !this.defenderToMove;
+        this.positionKey ^= this.zobristKeys.defenderToMove();
         /* The following line determines if any inactive CellComponents
          * attached to the Cells should be removed.
          */
-        this.cells.values().forEach(cell -> cell.notifyCellThatTurnHasEnded());
+        for (final Cell cell : this.cellsByIndex) {
+            if (cell != null) {
+                cell.notifyCellThatTurnHasEnded();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPlayerInTurn(final Player player) {
+        if (this.defenderToMove != (player == Player.DEFENDER)) {
+            this.defenderToMove = !this.defenderToMove;
+            this.positionKey ^= this.zobristKeys.defenderToMove();
+        }
     }
 
     @Override
     public Map<Position, Cell> getMapCells() {
-        return Collections.unmodifiableMap(this.cells);
+        return this.cells;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSize() {
+        return this.size;
     }
 
     @Override
@@ -304,6 +390,21 @@ public final class BoardImpl implements Board, TimedEntity {
         return Collections.unmodifiableMap(this.pieces);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Piece getPieceAt(final Position position) {
+        // A lookup in each map, without streams or iterators, since it is on the path of the validation of the moves
+        for (final Player player : PLAYERS) {
+            final Piece piece = pieces.getOrDefault(player, Map.of()).get(position);
+            if (piece != null) {
+                return piece;
+            }
+        }
+        return null;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -316,7 +417,16 @@ public final class BoardImpl implements Board, TimedEntity {
             if (!enemies.isEmpty()) {
                 final Map<Piece, Set<Piece>> enemiesAndAllies = eatingManager.checkAllies(
                     enemies, pieces, currPiece, cells, size);
+                /* The threatened pieces are taken out of the key and put back if they are still
+                 * on the board afterwards, since they might have been captured or lost a life. */
+                enemiesAndAllies.keySet().forEach(enemy -> {
+                    this.journal.record(enemy.getCurrentPosition().index(this.size));
+                    this.positionKey ^= pieceKey(enemy, enemy.getCurrentPosition());
+                });
                 eatingManager.notifyAllThreatened(enemiesAndAllies, currPiece, cells, pieces, this.doTombsSpawn());
+                enemiesAndAllies.keySet().stream()
+                        .filter(enemy -> pieces.get(enemy.getPlayer()).get(enemy.getCurrentPosition()) == enemy)
+                        .forEach(enemy -> this.positionKey ^= pieceKey(enemy, enemy.getCurrentPosition()));
             }
         }
     }
@@ -377,6 +487,14 @@ public final class BoardImpl implements Board, TimedEntity {
         } 
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getPositionKey() {
+        return this.positionKey;
+    }
+
     @Override
     public Map<Position, CellState> getCellsTagsMapping() {
         return this.cells.entrySet().stream()
@@ -399,19 +517,42 @@ public final class BoardImpl implements Board, TimedEntity {
      * @return the Piece that is on the Position given.
      */
     private Piece getPieceAtPosition(final Position pos) {
-        return pieces.entrySet().stream()
-                .filter(x -> x.getValue().containsKey(pos))
-                .map(x -> x.getValue().get(pos))
-                .findAny()
-                .get();
+        final Piece piece = this.getPieceAt(pos);
+        if (piece == null) {
+            throw new NoSuchElementException("No piece in " + pos);
+        }
+        return piece;
+    }
+
+    private long pieceKey(final Piece piece, final Position pos) {
+        return this.zobristKeys.pieceKey(piece, pos.getY() * this.size + pos.getX());
+    }
+
+    private long slidersKey() {
+        return this.cells.entrySet().stream()
+                .filter(entry -> SLIDER.equals(entry.getValue().getType()))
+                .mapToLong(entry -> this.zobristKeys.sliderKey((Slider) entry.getValue(),
+                        entry.getKey().getY() * this.size + entry.getKey().getX()))
+                .reduce(0L, (a, b) -> a ^ b);
+    }
+
+    /*
+     * Computes the key of the current position from scratch.
+     */
+    private long computePositionKey() {
+        final long piecesKey = this.pieces.values().stream()
+                .flatMap(map -> map.entrySet().stream())
+                .mapToLong(entry -> pieceKey(entry.getValue(), entry.getKey()))
+                .reduce(0L, (a, b) -> a ^ b);
+        return piecesKey ^ slidersKey() ^ (this.defenderToMove ? this.zobristKeys.defenderToMove() : 0L);
     }
 
     private Set<Position> getAdjacentPositions(final Position currPos) {
         final Set<Position> setOfPosition = new HashSet<>();
-        setOfPosition.add(new Position(currPos.getX() + 1, currPos.getY()));
-        setOfPosition.add(new Position(currPos.getX() - 1, currPos.getY()));
-        setOfPosition.add(new Position(currPos.getX(), currPos.getY() + 1));
-        setOfPosition.add(new Position(currPos.getX(), currPos.getY() - 1));
+        setOfPosition.add(Position.of(currPos.getX() + 1, currPos.getY()));
+        setOfPosition.add(Position.of(currPos.getX() - 1, currPos.getY()));
+        setOfPosition.add(Position.of(currPos.getX(), currPos.getY() + 1));
+        setOfPosition.add(Position.of(currPos.getX(), currPos.getY() - 1));
         return setOfPosition.stream()
                                 .filter(pos -> pos.getX() >= 0 && pos.getY() >= 0
                                         && pos.getX() < this.size && pos.getY() < this.size)
@@ -422,13 +563,15 @@ public final class BoardImpl implements Board, TimedEntity {
      * This class is used to save the Board's current status.
      */
     public class BoardMementoImpl implements BoardMemento {
-        private final Map<Position, Cell> innerCells;
+        private final Cell[] innerCells;
         private final Map<Position, Piece> innerAttackerPieces;
         private final Map<Position, Piece> innerDefenderPieces;
         private final Position innerCurrentPos;
         private final List<PieceMemento> piecesMemento;
         private final List<CellMemento> cellsMemento;
         private final Set<Slider> innerSlidersEntities;
+        private final long innerPositionKey;
+        private final boolean innerDefenderToMove;
 
         /**
          * Creates a BoardMemento from which the board will be able to restore its previous state.
@@ -436,13 +579,14 @@ public final class BoardImpl implements Board, TimedEntity {
          * @param cellsMemento a List of the saved states of the cells.
          */
         public BoardMementoImpl(final List<PieceMemento> piecesMemento, final List<CellMemento> cellsMemento) {
-            this.innerCells = new HashMap<>(BoardImpl.this.cells).entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            this.innerCells = BoardImpl.this.cellsByIndex.clone();
             this.innerAttackerPieces = new HashMap<>(BoardImpl.this.pieces).get(Player.ATTACKER).entrySet().stream()
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
             this.innerDefenderPieces = new HashMap<>(BoardImpl.this.pieces).get(Player.DEFENDER).entrySet().stream()
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
             this.innerCurrentPos = BoardImpl.this.currentPos;
+            this.innerPositionKey = BoardImpl.this.positionKey;
+            this.innerDefenderToMove = BoardImpl.this.defenderToMove;
             if (BoardImpl.this.slidersEntities != null) {
                 this.innerSlidersEntities = new HashSet<>(BoardImpl.this.slidersEntities).stream()
                     .collect(Collectors.toSet());
@@ -475,7 +619,7 @@ public final class BoardImpl implements Board, TimedEntity {
          */
         @Override
         public Map<Position, Cell> getInnerCells() {
-            return new HashMap<>(this.innerCells);
+            return new HashMap<>(new IndexedCells(this.innerCells, BoardImpl.this.size));
         }
 
         /**
@@ -520,6 +664,18 @@ public final class BoardImpl implements Board, TimedEntity {
 
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Board copy() {
+        final BoardImpl copy = new BoardImpl(BoardCopies.copyOfPieces(this.pieces), BoardCopies.copyOfCells(this.cells), this.size);
+        copy.currentPos = this.currentPos;
+        copy.defenderToMove = this.defenderToMove;
+        copy.positionKey = this.positionKey;
+        return copy;
+    }
+
     /**
      * Saves a snapshot of the current state of this board.
      * @return the BoardMemento deriving from the saving of the board status.
@@ -543,14 +699,68 @@ public final class BoardImpl implements Board, TimedEntity {
      * @param bm the BoardMemento from which to extract the information
      * required to restore the state of the board.
      */
-    private void restore(final BoardMemento bm) {
-        this.cells = bm.getInnerCells();
+    private void restore(final BoardMementoImpl bm) {
+        this.positionKey = bm.innerPositionKey;
+        this.defenderToMove = bm.innerDefenderToMove;
+        System.arraycopy(bm.innerCells, 0, this.cellsByIndex, 0, this.cellsByIndex.length);
         this.pieces.put(Player.ATTACKER, bm.getInnerAttackerPieces());
         this.pieces.put(Player.DEFENDER, bm.getInnerDefenderPieces());
         this.currentPos = bm.getInnerCurrentPos();
         this.slidersEntities = bm.getInnerSlidersEntities();
         bm.getCellsMemento().forEach(c -> c.restore());
         bm.getPiecesMemento().forEach(p -> p.restore());
+        this.journal.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The states are frames of a {@link BoardJournal}, which records the squares touched by the moves,
+     * the captures, the tombs and the sliders.
+     */
+    @Override
+    public void pushState() {
+        this.journal.push(this.currentPos, this.positionKey, this.defenderToMove);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void popState() {
+        this.restore(this.journal.undo(this.currentPos, this.positionKey, this.defenderToMove));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void redoState() {
+        this.restore(this.journal.redo(this.currentPos, this.positionKey, this.defenderToMove));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forgetOldestState() {
+        this.journal.forgetOldest();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BoardDelta sealState() {
+        return this.journal.seal(this.currentPos, this.positionKey, this.defenderToMove, this::restore);
+    }
+
+    /*
+     * Takes the scalar state of a frame that has just been applied by the journal.
+     */
+    private void restore(final BoardJournal.Frame frame) {
+        this.currentPos = frame.getCurrentPos();
+        this.positionKey = frame.getPositionKey();
+        this.defenderToMove = frame.isDefenderToMove();
     }
 
     /* Tombs don't spawn if there are no more Queens. */
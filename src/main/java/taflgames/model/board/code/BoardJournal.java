@@ -0,0 +1,462 @@
+package taflgames.model.board.code;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import taflgames.common.Player;
+import taflgames.common.code.Position;
+import taflgames.model.cell.api.Cell;
+import taflgames.model.memento.api.BoardDelta;
+import taflgames.model.memento.api.CellMemento;
+import taflgames.model.pieces.api.Piece;
+
+/**
+ * The undo journal of a board. Instead of a snapshot of the whole board, each frame of the journal
+ * keeps only the squares that were changed while it was on top of the stack: for each of them,
+ * the pieces that were standing there, with their lives, and the memento of the cell, which
+ * holds whether it was free and the state of its components (e.g. the queue of a tomb or the
+ * orientation of a slider). The board tells the journal which squares it is about to change
+ * with {@link #record(int)}, before changing them.
+ * <p>
+ * Taking a frame back swaps the saved state of its squares with the current one, so the same frame
+ * can be applied again to redo the changes, and so on. The frames are reused once forgotten,
+ * so that the make/unmake path of the searches allocates nothing but the cell mementos.
+ * The scalar state of the board (the last moved piece, the key of the position and the player in
+ * turn) is kept in the frames as well, but it is up to the board to read it back.
+ * <p>
+ * The frame on top can also be sealed into a {@link BoardDelta}, which leaves the journal and keeps
+ * the state of its squares both before and after the changes: it is how the history of a match
+ * keeps one turn after the other without holding a frame open for each of them.
+ */
+final class BoardJournal {
+
+    private static final Player[] PLAYERS = Player.values();
+    private static final int INITIAL_CAPACITY = 8;
+    // Rough sizes of a sealed frame and of each of its records (square, pieces, lives and memento)
+    private static final long FRAME_BYTES = 128;
+    private static final long RECORD_BYTES = 96;
+
+    private final Map<Player, Map<Position, Piece>> pieces;
+    private final Cell[] cells;
+    private final Position[] positions;
+    // The frames [0, depth) are open, the frames [depth, depth + undone) can be redone
+    private final List<Frame> frames = new ArrayList<>();
+    private int depth;
+    private int undone;
+    // The squares already recorded in the frame on top, marked with the stamp of the frame
+    private final long[] recordedIn;
+    private long nextStamp;
+
+    /**
+     * Creates an empty journal.
+     * @param pieces the pieces of the board, by player; the maps of the players are looked up
+     * every time, since the board might replace them
+     * @param cells the cells of the board, indexed as {@code y * size + x}
+     * @param size the size of the board
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The journal must change the pieces and the cells of the board that owns it."
+    )
+    BoardJournal(final Map<Player, Map<Position, Piece>> pieces, final Cell[] cells, final int size) {
+        this.pieces = pieces;
+        this.cells = cells;
+        this.positions = new Position[size * size];
+        for (int square = 0; square < this.positions.length; square++) {
+            this.positions[square] = Position.ofIndex(square, size);
+        }
+        this.recordedIn = new long[this.positions.length];
+    }
+
+    /**
+     * @return whether a frame is open, i.e. whether the changes of the board must be recorded
+     */
+    boolean isRecording() {
+        return this.depth > 0;
+    }
+
+    /**
+     * @return the number of open frames
+     */
+    int getDepth() {
+        return this.depth;
+    }
+
+    /**
+     * Opens a new frame, which records the changes from now on. The frames that could be redone are forgotten.
+     * @param currentPos the last moved piece
+     * @param positionKey the key of the position
+     * @param defenderToMove whether the defender is in turn
+     */
+    void push(final Position currentPos, final long positionKey, final boolean defenderToMove) {
+        this.undone = 0;
+        if (this.depth == this.frames.size()) {
+            this.frames.add(new Frame());
+        }
+        final Frame frame = this.frames.get(this.depth);
+        this.depth++;
+        frame.count = 0;
+        // A new stamp, so that no square counts as recorded in the new frame
+        this.nextStamp++;
+        frame.stamp = this.nextStamp;
+        frame.currentPos = currentPos;
+        frame.positionKey = positionKey;
+        frame.defenderToMove = defenderToMove;
+    }
+
+    /**
+     * Saves the state of a square in the frame on top, unless it was already saved there.
+     * Nothing is saved if no frame is open. Since the board changes, the frames that could
+     * be redone are forgotten.
+     * @param square the square that is about to change
+     */
+    void record(final int square) {
+        this.undone = 0;
+        if (this.depth == 0) {
+            return;
+        }
+        final Frame frame = this.frames.get(this.depth - 1);
+        if (this.recordedIn[square] == frame.stamp) {
+            return;
+        }
+        this.recordedIn[square] = frame.stamp;
+        frame.add(square, this.cells[square]);
+    }
+
+    /**
+     * Takes back the changes recorded in the frame on top, which can then be redone with {@link #redo}.
+     * @param currentPos the last moved piece now
+     * @param positionKey the key of the position now
+     * @param defenderToMove whether the defender is in turn now
+     * @return the frame, whose squares are the ones that changed and whose scalar state
+     * is the one that the board must take again
+     * @throws NoSuchElementException if no frame is open
+     */
+    Frame undo(final Position currentPos, final long positionKey, final boolean defenderToMove) {
+        if (this.depth == 0) {
+            throw new NoSuchElementException("No state was pushed");
+        }
+        this.depth--;
+        this.undone++;
+        return this.swap(this.frames.get(this.depth), currentPos, positionKey, defenderToMove);
+    }
+
+    /**
+     * Makes again the changes taken back by the last {@link #undo}, opening its frame again.
+     * @param currentPos the last moved piece now
+     * @param positionKey the key of the position now
+     * @param defenderToMove whether the defender is in turn now
+     * @return the frame, as in {@link #undo}
+     * @throws NoSuchElementException if there is nothing to redo
+     */
+    Frame redo(final Position currentPos, final long positionKey, final boolean defenderToMove) {
+        if (this.undone == 0) {
+            throw new NoSuchElementException("No state was popped");
+        }
+        this.undone--;
+        final Frame frame = this.frames.get(this.depth);
+        this.depth++;
+        // The frame may record again the squares it holds, the earliest record still wins
+        this.nextStamp++;
+        frame.stamp = this.nextStamp;
+        return this.swap(frame, currentPos, positionKey, defenderToMove);
+    }
+
+    /**
+     * Forgets the oldest open frame, keeping its changes: they cannot be taken back anymore.
+     * @throws NoSuchElementException if no frame is open
+     */
+    void forgetOldest() {
+        if (this.depth == 0) {
+            throw new NoSuchElementException("No state was pushed");
+        }
+        // The frame is moved to the end of the list, to be reused
+        this.frames.add(this.frames.remove(0).clear());
+        this.depth--;
+    }
+
+    /**
+     * Closes the frame on top, keeping its changes, and turns it into a delta that holds the state
+     * of its squares before and after the changes. The frames that could be redone are forgotten.
+     * @param currentPos the last moved piece now
+     * @param positionKey the key of the position now
+     * @param defenderToMove whether the defender is in turn now
+     * @param sync what the board must do after a delta has been applied, given the frame that
+     * was applied, as it does after {@link #undo} and {@link #redo}
+     * @return the delta
+     * @throws NoSuchElementException if no frame is open
+     */
+    BoardDelta seal(final Position currentPos, final long positionKey, final boolean defenderToMove,
+            final Consumer<Frame> sync) {
+        if (this.depth == 0) {
+            throw new NoSuchElementException("No state was pushed");
+        }
+        this.undone = 0;
+        this.depth--;
+        // The frame leaves the journal with its twin, which takes the state after the changes
+        final Frame before = this.frames.remove(this.depth);
+        final Frame after = before.twin;
+        after.count = 0;
+        this.nextStamp++;
+        for (int i = 0; i < before.count; i++) {
+            final int square = before.squares[i];
+            if (this.recordedIn[square] != this.nextStamp) {
+                this.recordedIn[square] = this.nextStamp;
+                after.add(square, this.cells[square]);
+            }
+        }
+        after.currentPos = currentPos;
+        after.positionKey = positionKey;
+        after.defenderToMove = defenderToMove;
+        before.trim();
+        after.trim();
+        return new Delta(before, sync);
+    }
+
+    /**
+     * Forgets all the frames, e.g. because the whole board was restored from a snapshot.
+     */
+    void clear() {
+        for (int i = 0; i < this.depth + this.undone; i++) {
+            this.frames.get(i).clear();
+        }
+        this.depth = 0;
+        this.undone = 0;
+    }
+
+    /*
+     * Saves the current state of the squares of the frame in its twin, puts back the saved one
+     * and swaps the two frames, so that the frame keeps what is needed to change the squares back again.
+     */
+    private Frame swap(final Frame frame, final Position currentPos, final long positionKey, final boolean defenderToMove) {
+        final Frame twin = frame.twin;
+        twin.count = 0;
+        for (int i = 0; i < frame.count; i++) {
+            twin.add(frame.squares[i], this.cells[frame.squares[i]]);
+        }
+        // The latest records go first, so that the earliest state of a square recorded twice wins
+        for (int i = frame.count - 1; i >= 0; i--) {
+            frame.apply(i);
+        }
+        twin.currentPos = currentPos;
+        twin.positionKey = positionKey;
+        twin.defenderToMove = defenderToMove;
+        frame.exchange();
+        return twin;
+    }
+
+    /**
+     * A frame sealed by {@link BoardJournal#seal}, with its twin holding the state after the changes.
+     */
+    private final class Delta implements BoardDelta {
+
+        private final Frame before;
+        private final Consumer<Frame> sync;
+
+        Delta(final Frame before, final Consumer<Frame> sync) {
+            this.before = before;
+            this.sync = sync;
+        }
+
+        @Override
+        public void undo() {
+            this.checkNotRecording();
+            // The latest records go first, as in swap
+            for (int i = this.before.count - 1; i >= 0; i--) {
+                this.before.apply(i);
+            }
+            this.applied(this.before);
+        }
+
+        @Override
+        public void redo() {
+            this.checkNotRecording();
+            final Frame after = this.before.twin;
+            for (int i = 0; i < after.count; i++) {
+                after.apply(i);
+            }
+            this.applied(after);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return this.before.count == 0;
+        }
+
+        @Override
+        public long getEstimatedBytes() {
+            return FRAME_BYTES + RECORD_BYTES * (this.before.count + this.before.twin.count);
+        }
+
+        private void checkNotRecording() {
+            if (BoardJournal.this.isRecording()) {
+                throw new IllegalStateException("A delta cannot be applied while a state is pushed");
+            }
+        }
+
+        private void applied(final Frame frame) {
+            // The popped frames don't fit the board anymore
+            BoardJournal.this.clear();
+            this.sync.accept(frame);
+        }
+    }
+
+    /**
+     * The state of the squares changed while a frame was on top of the stack. The state that
+     * is not in use is kept in a twin frame, so that undoing and redoing allocate nothing but the mementos.
+     */
+    final class Frame {
+
+        private int[] squares = new int[INITIAL_CAPACITY];
+        private Piece[][] squarePieces = new Piece[INITIAL_CAPACITY][PLAYERS.length];
+        private int[][] lives = new int[INITIAL_CAPACITY][PLAYERS.length];
+        private CellMemento[] cellMementos = new CellMemento[INITIAL_CAPACITY];
+        private int count;
+        private long stamp;
+        private Position currentPos;
+        private long positionKey;
+        private boolean defenderToMove;
+        private final Frame twin;
+
+        private Frame() {
+            this.twin = new Frame(this);
+        }
+
+        private Frame(final Frame twin) {
+            this.twin = twin;
+        }
+
+        /**
+         * @return the number of records of the frame; a square may be recorded more than once
+         */
+        int size() {
+            return this.count;
+        }
+
+        /**
+         * @param i the index of a record, less than {@link #size()}
+         * @return the square of the record
+         */
+        int square(final int i) {
+            return this.squares[i];
+        }
+
+        /**
+         * @return the last moved piece saved in the frame
+         */
+        Position getCurrentPos() {
+            return this.currentPos;
+        }
+
+        /**
+         * @return the key of the position saved in the frame
+         */
+        long getPositionKey() {
+            return this.positionKey;
+        }
+
+        /**
+         * @return whether the defender was in turn
+         */
+        boolean isDefenderToMove() {
+            return this.defenderToMove;
+        }
+
+        private void add(final int square, final Cell cell) {
+            if (this.count == this.squares.length) {
+                final int capacity = 2 * this.count;
+                this.squares = Arrays.copyOf(this.squares, capacity);
+                this.squarePieces = Arrays.copyOf(this.squarePieces, capacity);
+                this.lives = Arrays.copyOf(this.lives, capacity);
+                this.cellMementos = Arrays.copyOf(this.cellMementos, capacity);
+                for (int i = this.count; i < capacity; i++) {
+                    this.squarePieces[i] = new Piece[PLAYERS.length];
+                    this.lives[i] = new int[PLAYERS.length];
+                }
+            }
+            final Position position = BoardJournal.this.positions[square];
+            this.squares[this.count] = square;
+            for (final Player player : PLAYERS) {
+                final Piece piece = BoardJournal.this.pieces.get(player).get(position);
+                this.squarePieces[this.count][player.ordinal()] = piece;
+                this.lives[this.count][player.ordinal()] = piece != null ? piece.getCurrNumbOfLives() : 0;
+            }
+            this.cellMementos[this.count] = cell != null ? cell.save() : null;
+            this.count++;
+        }
+
+        private void apply(final int i) {
+            final Position position = BoardJournal.this.positions[this.squares[i]];
+            for (final Player player : PLAYERS) {
+                final Piece piece = this.squarePieces[i][player.ordinal()];
+                if (piece == null) {
+                    BoardJournal.this.pieces.get(player).remove(position);
+                } else {
+                    BoardJournal.this.pieces.get(player).put(position, piece);
+                    piece.setCurrentPosition(position);
+                    piece.setCurrNumbOfLivesLimited(this.lives[i][player.ordinal()]);
+                }
+            }
+            if (this.cellMementos[i] != null) {
+                this.cellMementos[i].restore();
+            }
+        }
+
+        /*
+         * Swaps the records and the scalar state of this frame with the ones of its twin.
+         */
+        private void exchange() {
+            final Frame other = this.twin;
+            final int[] squares = other.squares;
+            final Piece[][] squarePieces = other.squarePieces;
+            final int[][] lives = other.lives;
+            final CellMemento[] cellMementos = other.cellMementos;
+            final int count = other.count;
+            final Position currentPos = other.currentPos;
+            final long positionKey = other.positionKey;
+            final boolean defenderToMove = other.defenderToMove;
+            other.squares = this.squares;
+            other.squarePieces = this.squarePieces;
+            other.lives = this.lives;
+            other.cellMementos = this.cellMementos;
+            other.count = this.count;
+            other.currentPos = this.currentPos;
+            other.positionKey = this.positionKey;
+            other.defenderToMove = this.defenderToMove;
+            this.squares = squares;
+            this.squarePieces = squarePieces;
+            this.lives = lives;
+            this.cellMementos = cellMementos;
+            this.count = count;
+            this.currentPos = currentPos;
+            this.positionKey = positionKey;
+            this.defenderToMove = defenderToMove;
+        }
+
+        /*
+         * Shrinks the arrays to the records, once the frame is sealed and will not grow anymore.
+         */
+        private void trim() {
+            this.squares = Arrays.copyOf(this.squares, this.count);
+            this.squarePieces = Arrays.copyOf(this.squarePieces, this.count);
+            this.lives = Arrays.copyOf(this.lives, this.count);
+            this.cellMementos = Arrays.copyOf(this.cellMementos, this.count);
+        }
+
+        /*
+         * Drops the records of the frame and of its twin, so that the mementos can be collected.
+         */
+        private Frame clear() {
+            Arrays.fill(this.cellMementos, 0, this.count, null);
+            Arrays.fill(this.twin.cellMementos, 0, this.twin.count, null);
+            this.count = 0;
+            this.twin.count = 0;
+            return this;
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package taflgames.model.board.code;
 
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import taflgames.common.Player;
 import taflgames.common.code.Position;
@@ -18,13 +19,21 @@ import taflgames.model.pieces.api.Piece;
  * {@link taflgames.model.cell.code.Throne} and
  * {@link taflgames.model.cell.code.Exit}. This class was created for compatibility
  * reasons only.
+ * <p>
+ * Since these cells never change during a match, the squares where they are, the squares
+ * they hit and the pieces that stand for them are computed once, when the board is given,
+ * and stored by the index {@code y * size + x} of their square.
  */
 public class CellsHitbox {
 
     private static final String THRONE = "Throne";
     private static final String EXIT = "Exit";
 
-    private final Set<Position> throneAndExitsPositions;
+    private final int size;
+    private final boolean[] throneOrExit;
+    private final boolean[] hit;
+    private final Piece[][] cellsAsPieces = new Piece[Player.values().length][];
+    private final Map<Player, Set<Piece>> cellsAsPiecesSets = new EnumMap<>(Player.class);
 
     /**
      * Builds a new class able to return cells with hitboxes as if they were pieces.
@@ -32,24 +41,106 @@ public class CellsHitbox {
      * to take the positions of special cells.
      */
     public CellsHitbox(final Board inputBoard) {
-        final Set<Position> relevantPositions = new HashSet<>();
-        inputBoard.getMapCells().entrySet().stream()
-            .filter(entry -> THRONE.equals(entry.getValue().getType())
-                    || EXIT.equals(entry.getValue().getType()))
-            .forEach(entry -> relevantPositions.add(entry.getKey()));
-        this.throneAndExitsPositions = Collections.unmodifiableSet(relevantPositions);
+        this.size = inputBoard.getSize();
+        this.throneOrExit = new boolean[this.size * this.size];
+        this.hit = new boolean[this.size * this.size];
+        inputBoard.getMapCells().forEach((position, cell) -> {
+            final int square = this.indexOf(position);
+            if (square >= 0 && (THRONE.equals(cell.getType()) || EXIT.equals(cell.getType()))) {
+                this.throneOrExit[square] = true;
+            }
+        });
+        for (final Player player : Player.values()) {
+            final Piece[] playerPieces = new Piece[this.size * this.size];
+            final Set<Piece> playerPiecesSet = new HashSet<>();
+            for (int square = 0; square < playerPieces.length; square++) {
+                if (this.throneOrExit[square]) {
+                    final Piece piece = new BasicPiece(Position.ofIndex(square, this.size), player);
+                    playerPieces[square] = piece;
+                    playerPiecesSet.add(piece);
+                    for (final Position position : piece.whereToHit()) {
+                        final int hitSquare = this.indexOf(position);
+                        if (hitSquare >= 0) {
+                            this.hit[hitSquare] = true;
+                        }
+                    }
+                }
+            }
+            this.cellsAsPieces[player.ordinal()] = playerPieces;
+            this.cellsAsPiecesSets.put(player, Collections.unmodifiableSet(playerPiecesSet));
+        }
     }
 
     /**
      * This method returns a Set of {@link taflgames.model.pieces.api.Piece}
-     * for compatibility reasons only.
+     * for compatibility reasons only. The same Set is returned at each call.
      * @param playerInTurn the player in turn.
      * @return a Set of Pieces with the exact hitbox of the Exits and the Throne.
      */
     public Set<Piece> getCellsAsPiecesWithHitbox(final Player playerInTurn) {
-        return this.throneAndExitsPositions.stream()
-                .map(pos -> (Piece) new BasicPiece(pos, playerInTurn))
-                .collect(Collectors.toUnmodifiableSet());
+        return this.cellsAsPiecesSets.get(playerInTurn);
+    }
+
+    /**
+     * Returns the piece that stands for the Throne or the Exit in the given position.
+     * The same piece is returned at each call.
+     * @param position the position of the cell.
+     * @param playerInTurn the player in turn, who the cell is an ally of.
+     * @return the piece that stands for the cell, or null if there is no Throne or Exit in the position.
+     */
+    public Piece getCellAsPiece(final Position position, final Player playerInTurn) {
+        final int square = this.indexOf(position);
+        return square < 0 ? null : this.getCellAsPiece(square, playerInTurn);
+    }
+
+    /**
+     * Returns the piece that stands for the Throne or the Exit in the given square.
+     * The same piece is returned at each call.
+     * @param square the index {@code y * size + x} of the square of the cell.
+     * @param playerInTurn the player in turn, who the cell is an ally of.
+     * @return the piece that stands for the cell, or null if there is no Throne or Exit in the square.
+     */
+    public Piece getCellAsPiece(final int square, final Player playerInTurn) {
+        return this.cellsAsPieces[playerInTurn.ordinal()][square];
+    }
+
+    /**
+     * @param position a position of the board.
+     * @return true if there is a Throne or an Exit in the position.
+     */
+    public boolean isThroneOrExit(final Position position) {
+        final int square = this.indexOf(position);
+        return square >= 0 && this.throneOrExit[square];
+    }
+
+    /**
+     * @param square the index {@code y * size + x} of a square of the board.
+     * @return true if there is a Throne or an Exit in the square.
+     */
+    public boolean isThroneOrExit(final int square) {
+        return this.throneOrExit[square];
+    }
+
+    /**
+     * @param position a position of the board.
+     * @return true if the position is in the hitbox of a Throne or of an Exit.
+     */
+    public boolean isHitByCells(final Position position) {
+        final int square = this.indexOf(position);
+        return square >= 0 && this.hit[square];
+    }
+
+    /**
+     * @param square the index {@code y * size + x} of a square of the board.
+     * @return true if the square is in the hitbox of a Throne or of an Exit.
+     */
+    public boolean isHitByCells(final int square) {
+        return this.hit[square];
+    }
+
+    private int indexOf(final Position position) {
+        return position.getX() < 0 || position.getY() < 0 || position.getX() >= this.size || position.getY() >= this.size
+            ? -1 : position.index(this.size);
     }
 
 }
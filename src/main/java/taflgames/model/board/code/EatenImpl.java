@@ -1,5 +1,6 @@
 package taflgames.model.board.code;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -25,7 +26,12 @@ public class EatenImpl implements Eaten {
     private static final String ARCHER = "ARCHER";
     private static final String DEAD_PIECE = "DEAD_PIECE"; //to signal the death of a piece to Tomb cells
 
+    private static final int[][] DIRECTIONS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+
     private final CellsHitbox cellsHitbox;
+    private int tablesSize = -1;
+    private int[][] neighbours;
+    private int[][][] rays;
 
     /**
      * Create a new EatenImpl.
@@ -95,37 +101,102 @@ public class EatenImpl implements Eaten {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Instead of testing the hitbox of every allied piece against every enemy, the allies are
+     * looked for only where they could hit the enemy from: the exits and the throne next to it,
+     * and the first allied piece along each of the four rays that leave its square. Since only
+     * the archers hit beyond the adjacent squares, and their shots are stopped by the allied pieces,
+     * the pieces that come after the first one of a ray can't take part in the capture.
      */
     @Override
     public Map<Piece, Set<Piece>> checkAllies(final List<Piece> enemiesList, final Map<Player, Map<Position, Piece>> pieces, 
                                                 final Piece lastMovedPiece, final Map<Position, Cell> cells, final int size) {
         final Map<Piece, Set<Piece>> mapOfEnemiesAndTheirKillers = new HashMap<>();
-        /* The following map represents the allies of the piece attempting to eat the enemy
-        that are on the same row and the same column as the piece */
-        final Map<Position, Piece> allies = new HashMap<>();
-        pieces.get(lastMovedPiece.getPlayer()).entrySet().stream().forEach(ally -> allies.put(ally.getKey(), ally.getValue()));
-        /* Exits and Thrones can be considered as allies of the current player! 
-         * This simple addition should work as normal.
-        */
-        this.cellsHitbox.getCellsAsPiecesWithHitbox(lastMovedPiece.getPlayer())
-                        .forEach(piece -> allies.put(piece.getCurrentPosition(), piece));
+        if (enemiesList.isEmpty()) {
+            return mapOfEnemiesAndTheirKillers;
+        }
+        this.computeTables(size);
+        final Player player = lastMovedPiece.getPlayer();
+        final Map<Position, Piece> allies = pieces.get(player);
 
         for (final Piece enemy : enemiesList) {
-            allies.entrySet().stream().forEach(x -> {
-                if (trimHitbox(x.getValue(), pieces, cells, size).contains(enemy.getCurrentPosition())) {
-                    if (!mapOfEnemiesAndTheirKillers.containsKey(enemy)) {
-                        final Set<Piece> alliesPositions = new HashSet<>();
-                        alliesPositions.add(x.getValue());
-                        mapOfEnemiesAndTheirKillers.put(enemy, alliesPositions);
-                    } else {
-                        mapOfEnemiesAndTheirKillers.get(enemy).add(x.getValue());
+            final Position target = enemy.getCurrentPosition();
+            final int square = target.index(size);
+            final Set<Piece> killers = new HashSet<>();
+            /* Exits and Thrones can be considered as allies of the current player,
+             * which take the place of the pieces standing on them.
+            */
+            if (this.cellsHitbox.isHitByCells(square)) {
+                for (final int neighbour : this.neighbours[square]) {
+                    final Piece cell = this.cellsHitbox.getCellAsPiece(neighbour, player);
+                    if (cell != null) {
+                        killers.add(cell);
+                    }
+                }
+            }
+            for (final int[] ray : this.rays[square]) {
+                for (final int next : ray) {
+                    final Piece ally = allies.get(Position.ofIndex(next, size));
+                    if (ally != null) {
+                        if (!this.cellsHitbox.isThroneOrExit(next) && this.canHit(ally, target)) {
+                            killers.add(ally);
+                        }
+                        break;
                     }
                 }
-            });
+            }
+            if (!killers.isEmpty()) {
+                mapOfEnemiesAndTheirKillers.put(enemy, killers);
+            }
         }
         return mapOfEnemiesAndTheirKillers;
     }
 
+    /*
+     * Checks whether the target is in the hitbox of the piece, without building the hitbox
+     * around the piece.
+     */
+    private boolean canHit(final Piece piece, final Position target) {
+        return piece.getMyType().getHitbox().contains(Position.of(
+                target.getX() - piece.getCurrentPosition().getX(), target.getY() - piece.getCurrentPosition().getY()));
+    }
+
+    /*
+     * Computes, for each square of a board of the given size, the adjacent squares and the squares
+     * along each of the four directions, from the nearest to the edge of the board.
+     * The tables are computed again only if the size changes.
+     */
+    private void computeTables(final int size) {
+        if (this.tablesSize == size) {
+            return;
+        }
+        this.neighbours = new int[size * size][];
+        this.rays = new int[size * size][][];
+        for (int square = 0; square < size * size; square++) {
+            final int x = square % size;
+            final int y = square / size;
+            final List<int[]> squareRays = new ArrayList<>();
+            final List<Integer> adjacent = new ArrayList<>();
+            for (final int[] direction : DIRECTIONS) {
+                final List<Integer> ray = new ArrayList<>();
+                int rayX = x + direction[0];
+                int rayY = y + direction[1];
+                while (rayX >= 0 && rayY >= 0 && rayX < size && rayY < size) {
+                    ray.add(rayY * size + rayX);
+                    rayX += direction[0];
+                    rayY += direction[1];
+                }
+                if (!ray.isEmpty()) {
+                    adjacent.add(ray.get(0));
+                    squareRays.add(ray.stream().mapToInt(Integer::intValue).toArray());
+                }
+            }
+            this.neighbours[square] = adjacent.stream().mapToInt(Integer::intValue).toArray();
+            this.rays[square] = squareRays.toArray(new int[0][]);
+        }
+        this.tablesSize = size;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,136 @@
+package taflgames.model.board.code;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import taflgames.common.code.Position;
+import taflgames.model.cell.api.Cell;
+
+/**
+ * A read-only {@link Map} view of the cells of a board, which the board keeps in an array
+ * indexed as {@code y * size + x}: a lookup is an array load instead of a hash probe.
+ * The view is given to the code that needs the cells as a map, such as the cells themselves
+ * and the {@link taflgames.model.board.api.Eaten}, and it reflects the changes of the array.
+ */
+final class IndexedCells extends AbstractMap<Position, Cell> {
+
+    private final Cell[] cells;
+    private final int size;
+
+    /**
+     * Creates a view of the given array.
+     * @param cells the cells of the board, indexed as {@code y * size + x}, possibly with empty squares
+     * @param size the size of the board
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The view must reflect the array, which is owned by the board."
+    )
+    IndexedCells(final Cell[] cells, final int size) {
+        this.cells = cells;
+        this.size = size;
+    }
+
+    /**
+     * Puts the cells of a map in an array indexed as {@code y * size + x}.
+     * @param cells the cells of a board
+     * @param size the size of the board
+     * @return the array of the cells
+     * @throws IllegalArgumentException if a cell is outside of the board
+     */
+    static Cell[] toArray(final Map<Position, Cell> cells, final int size) {
+        final Cell[] array = new Cell[size * size];
+        cells.forEach((position, cell) -> {
+            if (position.getX() < 0 || position.getY() < 0 || position.getX() >= size || position.getY() >= size) {
+                throw new IllegalArgumentException("The cell in " + position + " is outside of the board");
+            }
+            array[position.index(size)] = cell;
+        });
+        return array;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Cell get(final Object key) {
+        if (key instanceof Position) {
+            final Position position = (Position) key;
+            if (position.getX() >= 0 && position.getY() >= 0 && position.getX() < this.size && position.getY() < this.size) {
+                return this.cells[position.index(this.size)];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.get(key) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        int count = 0;
+        for (final Cell cell : this.cells) {
+            if (cell != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Map.Entry<Position, Cell>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<Position, Cell>> iterator() {
+                return new Iterator<>() {
+                    private int next = nextSquare(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.next < cells.length;
+                    }
+
+                    @Override
+                    public Map.Entry<Position, Cell> next() {
+                        if (!this.hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        final Map.Entry<Position, Cell> entry =
+                                new SimpleImmutableEntry<>(Position.ofIndex(this.next, size), cells[this.next]);
+                        this.next = nextSquare(this.next + 1);
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return IndexedCells.this.size();
+            }
+        };
+    }
+
+    private int nextSquare(final int from) {
+        int square = from;
+        while (square < this.cells.length && this.cells[square] == null) {
+            square++;
+        }
+        return square;
+    }
+}
@@ -0,0 +1,84 @@
+package taflgames.model.board.code;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import taflgames.common.Player;
+import taflgames.common.api.Vector;
+import taflgames.model.cell.api.Slider;
+import taflgames.model.pieces.api.Piece;
+
+/**
+ * The random keys used by the boards to compute the Zobrist key of a position: the key
+ * of a position is the XOR of the keys of its pieces (by player, type, number of lives and square),
+ * of the orientations of its sliders and, if the defender is the player in turn, of the side key.
+ * Since the XOR is its own inverse, a board can keep the key up to date by XORing in and out
+ * the keys of what changes, instead of computing it again from the maps.
+ * <p>
+ * The keys are generated from a fixed seed, so all the boards of the same size agree on
+ * the key of a position. The squares are indexed as {@code y * size + x}.
+ */
+final class ZobristKeys {
+
+    private static final long SEED = 0x7AF1_2023_5EED_0001L;
+    // Pieces with more lives than this share the keys of the last number of lives
+    private static final int MAX_LIVES = 3;
+    private static final int ORIENTATIONS = 9;
+
+    private final int squares;
+    private final long defenderToMove;
+    private final long[] sliderKeys;
+    private final Map<String, long[]> pieceKeys = new HashMap<>();
+
+    /**
+     * Generates the keys for a board of the given size.
+     * @param size the size of the board
+     */
+    ZobristKeys(final int size) {
+        this.squares = size * size;
+        final SplittableRandom random = new SplittableRandom(SEED ^ size);
+        this.defenderToMove = random.nextLong();
+        this.sliderKeys = random.longs(this.squares * ORIENTATIONS).toArray();
+    }
+
+    /**
+     * @return the key that is XORed in when the defender is the player in turn
+     */
+    long defenderToMove() {
+        return this.defenderToMove;
+    }
+
+    /**
+     * @param piece a piece
+     * @param square the square where the piece is
+     * @return the key of the piece on the given square, which also depends on its current lives
+     */
+    long pieceKey(final Piece piece, final int square) {
+        final long[] keys = this.pieceKeys.computeIfAbsent(piece.getMyType().getTypeOfPiece(), this::generate);
+        final int lives = Math.max(0, Math.min(MAX_LIVES, piece.getCurrNumbOfLives()));
+        return keys[(piece.getPlayer().ordinal() * (MAX_LIVES + 1) + lives) * this.squares + square];
+    }
+
+    /**
+     * @param slider a slider
+     * @param square the square of the slider
+     * @return the key of the current orientation of the slider
+     */
+    long sliderKey(final Slider slider, final int square) {
+        final Vector orientation = slider.getOrientation();    // NOPMD
+        // The Vector class models a vector and provides features that a List does not support.
+        final int index = (Integer.signum(orientation.deltaX()) + 1) * 3 + Integer.signum(orientation.deltaY()) + 1;
+        return this.sliderKeys[square * ORIENTATIONS + index];
+    }
+
+    /*
+     * The keys of each type of piece are generated on first use, from a seed that depends
+     * only on the name of the type, so that they don't depend on the order of the requests.
+     */
+    private long[] generate(final String type) {
+        return new SplittableRandom(SEED ^ this.squares ^ (long) type.hashCode() << Integer.SIZE)
+                .longs(Player.values().length * (MAX_LIVES + 1) * this.squares)
+                .toArray();
+    }
+}
@@ -96,4 +96,13 @@ public interface Cell {
      * describing the current state of this Cell.
      */
     CellState getCellState();
+
+    /**
+     * Creates a new cell of the same type and in the same state as this one, with copies
+     * of its components, that can be changed without affecting this one.
+     * A cell that needs to talk with the board (e.g. a slider) is connected
+     * to the board the copy is given to.
+     * @return the copy of this cell.
+     */
+    Cell copy();
 }
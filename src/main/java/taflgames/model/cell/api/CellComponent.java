@@ -46,4 +46,11 @@ public interface CellComponent {
      * describing the saved state of this CellComponent.
      */
     CellComponentMemento saveComponentState();
+
+    /**
+     * Creates a new CellComponent in the same state as this one,
+     * that can be changed without affecting this one.
+     * @return the copy of this CellComponent.
+     */
+    CellComponent copyComponent();
 }
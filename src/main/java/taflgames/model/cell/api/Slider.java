@@ -23,4 +23,19 @@ public interface Slider extends Cell, Resettable, TimedEntity {
     Vector getOrientation();    // NOPMD
     // The Vector class models a vector and provides features that a List does not support.
 
+    /**
+     * @return true if the slider moves the pieces that land on it in this turn
+     */
+    boolean isActive();
+
+    /**
+     * @return true if the slider has already moved a piece in this turn
+     */
+    boolean isTriggered();
+
+    /**
+     * @return the last turn at whose end the slider was turned and activated
+     */
+    int getLastActivityTurn();
+
 }
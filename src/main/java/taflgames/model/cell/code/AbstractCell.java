@@ -162,6 +162,22 @@ public abstract class AbstractCell implements Cell {
         cm.getComponentMementos().forEach(component -> component.restore());
     }
 
+    /**
+     * Only subclasses should be able to access this method. Restores this Cell's status
+     * to the snapshot saved in the given CellMemento parameter, attaching exactly the
+     * components that were attached when the snapshot was taken: this way the components
+     * attached or detached in later turns are handled too.
+     * @param cm the CellMemento containing the status to which this Cell will be reverted.
+     * @param components the CellComponents attached to this Cell when the snapshot was taken.
+     */
+    protected void restore(final CellMemento cm, final Set<CellComponent> components) {
+        this.cellStatus = cm.getCellStatus();
+        this.cellComponents.clear();
+        this.cellComponents.addAll(components);
+        this.justAddedComponents = new HashSet<>();
+        cm.getComponentMementos().forEach(component -> component.restore());
+    }
+
     /**
      * Represents the state of this Cell at a given turn
      * in the match.
@@ -170,6 +186,7 @@ public abstract class AbstractCell implements Cell {
 
         private final boolean innerCellStatus;
         private final List<CellComponentMemento> componentMementos;
+        private final Set<CellComponent> innerComponents;
 
         /**
          * Builds a new CellMemento representing
@@ -187,6 +204,7 @@ public abstract class AbstractCell implements Cell {
         public CellMementoImpl(final List<CellComponentMemento> componentMementos) {
             this.innerCellStatus = AbstractCell.this.cellStatus;
             this.componentMementos = List.copyOf(componentMementos);
+            this.innerComponents = Set.copyOf(AbstractCell.this.cellComponents);
         }
 
         /**
@@ -210,7 +228,7 @@ public abstract class AbstractCell implements Cell {
          */
         @Override
         public void restore() {
-            AbstractCell.this.restore(this);
+            AbstractCell.this.restore(this, this.innerComponents);
         }
     }
 
@@ -238,6 +256,26 @@ public abstract class AbstractCell implements Cell {
     protected abstract CellState getSubclassCellState();
 
 
+    /**
+     * Only subclasses should be able to access this method. Gives the given new Cell
+     * the status of this Cell and copies of its components.
+     * @param <T> the type of the Cell.
+     * @param copy a new Cell of the same type of this one.
+     * @return the given Cell.
+     */
+    protected <T extends AbstractCell> T copyStateTo(final T copy) {
+        final AbstractCell target = copy;
+        target.cellStatus = this.cellStatus;
+        for (final CellComponent component : this.cellComponents) {
+            final CellComponent componentCopy = component.copyComponent();
+            target.cellComponents.add(componentCopy);
+            if (this.justAddedComponents.contains(component)) {
+                target.justAddedComponents.add(componentCopy);
+            }
+        }
+        return copy;
+    }
+
     /**
      * Returns the CellComponents that have just been added to this Cell; 
      * this is required if subclasses need to store additional information in their CellMementos.
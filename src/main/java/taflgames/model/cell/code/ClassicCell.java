@@ -53,4 +53,12 @@ public class ClassicCell extends AbstractCell {
     public CellState getSubclassCellState() {
         return new CellStateImpl(this.getType(), new VectorImpl(0, 0), null);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Cell copy() {
+        return this.copyStateTo(new ClassicCell());
+    }
 }
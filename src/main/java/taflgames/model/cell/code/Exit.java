@@ -58,4 +58,11 @@ public class Exit extends AbstractCell {
         return new CellStateImpl(this.getType(), new VectorImpl(0, 0), null);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Cell copy() {
+        return this.copyStateTo(new Exit());
+    }
 }
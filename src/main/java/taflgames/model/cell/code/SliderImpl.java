@@ -15,6 +15,7 @@ import taflgames.controller.entitystate.CellState;
 import taflgames.controller.entitystate.CellStateImpl;
 import taflgames.model.pieces.api.Piece;
 import taflgames.model.cell.api.Cell;
+import taflgames.model.cell.api.CellComponent;
 import taflgames.model.cell.api.SliderMediator;
 import taflgames.model.memento.api.CellComponentMemento;
 import taflgames.model.memento.api.CellMemento;
@@ -49,6 +50,24 @@ public final class SliderImpl extends AbstractCell implements Slider {
         this.triggered = false;
     }
 
+    /**
+     * Create a new SliderImpl in the Position that is given, in the given state,
+     * e.g. to set up a board in the middle of a match.
+     * @param sliderPos the Position of the map where there will be a Slider.
+     * @param orientation the direction of the sliding.
+     * @param active true if the slider moves the pieces in the current turn.
+     * @param triggered true if the slider has already moved a piece in the current turn.
+     * @param lastActivityTurn the last turn at whose end the slider was activated.
+     */
+    public SliderImpl(final Position sliderPos, final Vector orientation, final boolean active,
+            final boolean triggered, final int lastActivityTurn) {
+        this(sliderPos);
+        this.orientation = orientation;
+        this.active = active;
+        this.triggered = triggered;
+        this.lastActivityTurn = lastActivityTurn;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -73,7 +92,8 @@ public final class SliderImpl extends AbstractCell implements Slider {
         final Map<Player, Map<Position, Piece>> pieces, 
         final Map<Position, Cell> cells
     ) {
-        if (this.sliderPos.equals(source) && !this.triggered && this.active) {
+        // A piece that has just been killed on this cell must not slide away.
+        if (this.sliderPos.equals(source) && !this.triggered && this.active && movedPiece.isAlive()) {
             this.triggered = true;
             Objects.requireNonNull(this.mediator);
             final Position newPosition = this.mediator.requestMove(source, this.orientation);
@@ -137,6 +157,30 @@ public final class SliderImpl extends AbstractCell implements Slider {
         return this.orientation;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isActive() {
+        return this.active;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isTriggered() {
+        return this.triggered;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLastActivityTurn() {
+        return this.lastActivityTurn;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -145,6 +189,19 @@ public final class SliderImpl extends AbstractCell implements Slider {
         return new CellStateImpl(this.getType(), this.getOrientation(), null);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Cell copy() {
+        final SliderImpl copy = new SliderImpl(this.sliderPos);
+        copy.orientation = this.orientation;
+        copy.triggered = this.triggered;
+        copy.lastActivityTurn = this.lastActivityTurn;
+        copy.active = this.active;
+        return this.copyStateTo(copy);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -153,9 +210,6 @@ public final class SliderImpl extends AbstractCell implements Slider {
         return this.new SliderMementoImpl(super.getComponents().stream()
                     .map(component -> component.saveComponentState())
                     .collect(Collectors.toUnmodifiableSet()),
-                super.getJustAddedComponents().stream()
-                    .map(component -> component.saveComponentState())
-                    .collect(Collectors.toUnmodifiableSet()),
                 super.isFree());
     }
 
@@ -177,16 +231,16 @@ public final class SliderImpl extends AbstractCell implements Slider {
         private final boolean innerTriggered; //dice se è già stata attivata in questo turno
         private final int innerLastActivityTurn;
         private final boolean innerActive;
+        private final Vector innerOrientation; // NOPMD
+        // The Vector class models a vector and provides features that a List does not support.
         private final boolean innerCellStatus;
         private final Set<CellComponentMemento> innerComponents;
-        private final Set<CellComponentMemento> innerJustAddedComponents;
+        private final Set<CellComponent> innerAttachedComponents;
 
         /**
          * Builds a new SliderMementoImpl.
-         * @param components the Set of all the {@link taflgames.model.cell.api.CellComponent} attached
-         * to this Cell.
-         * @param justAddedComponents the Set of all the {@link taflgames.model.cell.api.CellComponent}
-         * that were attached this turn.
+         * @param components the Set of the mementos of all the {@link taflgames.model.cell.api.CellComponent}
+         * attached to this Cell.
          * @param cellStatus the status of this Cell (true if this Cell is free, false if it is occupied).
          */
         @SuppressFBWarnings(
@@ -196,13 +250,13 @@ public final class SliderImpl extends AbstractCell implements Slider {
                 CellComponentMemento are guaranteed not to be changed by any code.
                 """
         )
-        public SliderMementoImpl(final Set<CellComponentMemento> components,
-                                 final Set<CellComponentMemento> justAddedComponents, final boolean cellStatus) {
+        public SliderMementoImpl(final Set<CellComponentMemento> components, final boolean cellStatus) {
             this.innerTriggered = SliderImpl.this.triggered;
             this.innerLastActivityTurn = SliderImpl.this.lastActivityTurn;
             this.innerActive = SliderImpl.this.active;
+            this.innerOrientation = SliderImpl.this.orientation;
             this.innerComponents = components.stream().collect(Collectors.toUnmodifiableSet());
-            this.innerJustAddedComponents = justAddedComponents.stream().collect(Collectors.toUnmodifiableSet());
+            this.innerAttachedComponents = Set.copyOf(SliderImpl.this.getComponents());
             this.innerCellStatus = cellStatus;
         }
 
@@ -211,7 +265,8 @@ public final class SliderImpl extends AbstractCell implements Slider {
          */
         @Override
         public void restore() {
-            SliderImpl.this.restore(this);
+            SliderImpl.this.restore(this, this.innerAttachedComponents);
+            SliderImpl.this.orientation = this.innerOrientation;
             SliderImpl.this.active = this.innerActive;
             SliderImpl.this.lastActivityTurn = this.innerLastActivityTurn;
             SliderImpl.this.triggered = this.innerTriggered;
@@ -230,9 +285,6 @@ public final class SliderImpl extends AbstractCell implements Slider {
          */
         @Override
         public List<CellComponentMemento> getComponentMementos() {
-            if (!this.innerJustAddedComponents.isEmpty()) {
-                this.innerComponents.removeAll(this.innerJustAddedComponents);
-            }
             return this.innerComponents.stream().toList();
         }
     }
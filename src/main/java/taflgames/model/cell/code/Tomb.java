@@ -70,8 +70,11 @@ public final class Tomb extends AbstractCell implements CellComponent {
         final Map<Player, Map<Position, Piece>> pieces,
         final Map<Position, Cell> cells
     ) {
-        /* Controls if on the tomb there are any dead pieces of the current player */
-        if (this.deadPieces.get(player) != null && !deadPieces.get(player).isEmpty()) {
+        /* Controls if on the tomb there are any dead pieces of the current player
+         * and if there is room for the piece to come back.
+         */
+        if (this.deadPieces.get(player) != null && !deadPieces.get(player).isEmpty()
+                && cells.get(deadPieces.get(player).peek().getCurrentPosition()).isFree()) {
             final Piece pieceToResume = deadPieces.get(player).poll();    // get the first piece in the queue
             pieceToResume.reanimate();  // resurrect the piece, now it's alive
             cells.get(pieceToResume.getCurrentPosition()).setFree(false);
@@ -95,6 +98,25 @@ public final class Tomb extends AbstractCell implements CellComponent {
         }
     }
 
+    /**
+     * Adds a dead piece to the queue of its player, as if it had just died on the tomb,
+     * e.g. to set up a board in the middle of a match.
+     * @param piece the dead Piece.
+     */
+    public void addDeadPiece(final Piece piece) {
+        this.addDeadPieces(piece.getPlayer(), piece);
+    }
+
+    /**
+     * Returns the pieces of the given player that died on the tomb, in the order
+     * in which they will be resumed.
+     * @param player the Player whose dead pieces are returned.
+     * @return an unmodifiable List of the dead pieces.
+     */
+    public List<Piece> getDeadPieces(final Player player) {
+        return this.deadPieces.containsKey(player) ? List.copyOf(this.deadPieces.get(player)) : List.of();
+    }
+
     /**
      * Used for view purposes. If the tomb only contains pieces of the same team,
      * it returns the name of that team; otherwise it returns null.
@@ -125,6 +147,27 @@ public final class Tomb extends AbstractCell implements CellComponent {
         return TOMB_TYPE;
     }
 
+    /**
+     * {@inheritDoc}
+     * The dead pieces are copied too.
+     */
+    @Override
+    public Tomb copy() {
+        final Tomb copy = new Tomb();
+        this.deadPieces.forEach((player, queue) -> copy.deadPieces.put(player, queue.stream()
+                .map(Piece::copy)
+                .collect(Collectors.toCollection(LinkedList::new))));
+        return this.copyStateTo(copy);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CellComponent copyComponent() {
+        return this.copy();
+    }
+
     /**
      * {@inheritDoc}
      */
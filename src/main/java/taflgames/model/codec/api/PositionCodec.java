@@ -0,0 +1,29 @@
+package taflgames.model.codec.api;
+
+import taflgames.model.Model;
+
+/**
+ * Encodes the whole state of a match in a compact form, and decodes it back into a new match.
+ * The encoding holds everything the rules depend on: the cells, the state of the sliders,
+ * the tombs with the queues of their dead pieces, the pieces with their remaining lives,
+ * the player in turn and the number of the turn. The last moved piece is not encoded, since it
+ * only matters while a move is being made.
+ * @param <T> the type of the encoded positions
+ */
+public interface PositionCodec<T> {
+
+    /**
+     * Encodes the current state of a match.
+     * @param match the match to encode
+     * @return the encoded state
+     */
+    T encode(Model match);
+
+    /**
+     * Creates a match in the state encoded by {@link #encode(Model)}.
+     * @param encoded the encoded state
+     * @return a new match in that state
+     * @throws IllegalArgumentException if the encoded state is malformed
+     */
+    Model decode(T encoded);
+}
@@ -0,0 +1,280 @@
+package taflgames.model.codec.code;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import taflgames.common.Player;
+import taflgames.model.Model;
+import taflgames.model.board.api.BoardFactory;
+import taflgames.model.codec.api.PositionCodec;
+
+/**
+ * A {@link PositionCodec} that writes the state of a match in a fixed binary layout,
+ * a few dozen bytes long for the boards of the game.
+ * <p>
+ * The layout is, in order: the version of the layout and the size of the board (a byte each),
+ * the number of the turn, a byte of flags (the lowest bit is set if the defender is in turn),
+ * the special cells (their number, then the square and the code of each one), a bitset of the occupied squares,
+ * the codes of the pieces of the occupied squares (four bits each), the pieces that have lost some lives
+ * (their number, then the square and the lives of each one) and the tombs (their number, then the square,
+ * the number of dead attackers and of dead defenders and the codes of the dead pieces of each one).
+ * The numbers are variable-length integers, seven bits per byte, while the squares, indexed as
+ * {@code y * size + x}, take a byte each; each group of four-bit codes is padded to a whole byte.
+ */
+public final class BinaryPositionCodec implements PositionCodec<byte[]> {
+
+    private static final int VERSION = 1;
+    private static final int MAX_SIZE = 16;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int BYTE_BITS = 8;
+    private static final int NIBBLE_BITS = 4;
+    private static final int NIBBLE_MASK = 0xF;
+    private static final int VARINT_BITS = 7;
+    private static final int VARINT_MASK = 0x7F;
+    private static final int VARINT_MORE = 0x80;
+    private static final int MAX_VARINT_BYTES = 5;
+    private static final int DEFENDER_FLAG = 1;
+
+    private final BoardFactory boards;
+
+    /**
+     * Creates a codec whose decoded matches use the boards of the given factory.
+     * @param boards the factory of the boards of the decoded matches
+     */
+    public BinaryPositionCodec(final BoardFactory boards) {
+        this.boards = Objects.requireNonNull(boards);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws IllegalArgumentException if the board is larger than 16 x 16
+     */
+    @Override
+    public byte[] encode(final Model match) {
+        final PositionState state = PositionState.of(match);
+        final int size = state.getSize();
+        if (size > MAX_SIZE) {
+            throw new IllegalArgumentException("The board is too large: " + size);
+        }
+        final int squares = size * size;
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(VERSION);
+        out.write(size);
+        writeVarint(out, state.getTurnNumber());
+        out.write(state.getActivePlayer() == Player.DEFENDER ? DEFENDER_FLAG : 0);
+
+        int specialCells = 0;
+        for (int square = 0; square < squares; square++) {
+            if (PositionState.kindOf(state.getCell(square)) != PositionState.CLASSIC) {
+                specialCells++;
+            }
+        }
+        writeVarint(out, specialCells);
+        for (int square = 0; square < squares; square++) {
+            if (PositionState.kindOf(state.getCell(square)) != PositionState.CLASSIC) {
+                out.write(square);
+                out.write(state.getCell(square));
+            }
+        }
+
+        final byte[] occupancy = new byte[(squares + BYTE_BITS - 1) / BYTE_BITS];
+        final NibbleWriter codes = new NibbleWriter(out);
+        int wounded = 0;
+        for (int square = 0; square < squares; square++) {
+            if (state.getPiece(square) != PositionState.EMPTY) {
+                occupancy[square / BYTE_BITS] |= 1 << square % BYTE_BITS;
+                if (state.getLives(square) != PositionState.totalLivesOf(state.getPiece(square))) {
+                    wounded++;
+                }
+            }
+        }
+        out.writeBytes(occupancy);
+        for (int square = 0; square < squares; square++) {
+            if (state.getPiece(square) != PositionState.EMPTY) {
+                codes.write(state.getPiece(square));
+            }
+        }
+        codes.flush();
+        writeVarint(out, wounded);
+        for (int square = 0; square < squares; square++) {
+            if (state.getPiece(square) != PositionState.EMPTY
+                    && state.getLives(square) != PositionState.totalLivesOf(state.getPiece(square))) {
+                out.write(square);
+                out.write(state.getLives(square));
+            }
+        }
+
+        writeVarint(out, state.getTombs().size());
+        for (final Map.Entry<Integer, List<Integer>> tomb : state.getTombs().entrySet()) {
+            out.write(tomb.getKey());
+            for (final Player player : Player.values()) {
+                writeVarint(out, (int) tomb.getValue().stream().filter(code -> PositionState.playerOf(code) == player).count());
+            }
+            for (final Player player : Player.values()) {
+                tomb.getValue().stream().filter(code -> PositionState.playerOf(code) == player).forEach(codes::write);
+            }
+            codes.flush();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Model decode(final byte[] encoded) {
+        final ByteBuffer in = ByteBuffer.wrap(encoded).asReadOnlyBuffer();
+        try {
+            final int version = readByte(in);
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unknown version: " + version);
+            }
+            final int size = readByte(in);
+            if (size == 0 || size > MAX_SIZE) {
+                throw new IllegalArgumentException("Invalid size of the board: " + size);
+            }
+            final int squares = size * size;
+            final int turnNumber = readVarint(in);
+            final int flags = readByte(in);
+            if ((flags & ~DEFENDER_FLAG) != 0) {
+                throw new IllegalArgumentException("Unknown flags: " + flags);
+            }
+            final PositionState state = new PositionState(size, turnNumber,
+                    (flags & DEFENDER_FLAG) != 0 ? Player.DEFENDER : Player.ATTACKER);
+
+            final int specialCells = readVarint(in);
+            for (int i = 0; i < specialCells; i++) {
+                state.setCell(readSquare(in, squares), readByte(in));
+            }
+
+            final byte[] occupancy = new byte[(squares + BYTE_BITS - 1) / BYTE_BITS];
+            in.get(occupancy);
+            final NibbleReader codes = new NibbleReader(in);
+            for (int square = 0; square < squares; square++) {
+                if ((occupancy[square / BYTE_BITS] >> square % BYTE_BITS & 1) != 0) {
+                    final int code = codes.read();
+                    state.setPiece(square, code, PositionState.totalLivesOf(code));
+                }
+            }
+            codes.skipPadding();
+            final int wounded = readVarint(in);
+            for (int i = 0; i < wounded; i++) {
+                final int square = readSquare(in, squares);
+                if (state.getPiece(square) == PositionState.EMPTY) {
+                    throw new IllegalArgumentException("No piece in the square " + square);
+                }
+                state.setPiece(square, state.getPiece(square), readByte(in));
+            }
+
+            final int tombs = readVarint(in);
+            for (int i = 0; i < tombs; i++) {
+                final List<Integer> deadPieces = state.addTomb(readSquare(in, squares));
+                final int deadCount = readVarint(in) + readVarint(in);
+                for (int j = 0; j < deadCount; j++) {
+                    deadPieces.add(codes.read());
+                }
+                codes.skipPadding();
+            }
+            if (in.hasRemaining()) {
+                throw new IllegalArgumentException("Unexpected bytes after the position: " + in.remaining());
+            }
+            return state.toMatch(this.boards);
+        } catch (final BufferUnderflowException e) {
+            throw new IllegalArgumentException("The position is truncated", e);
+        }
+    }
+
+    private static int readByte(final ByteBuffer in) {
+        return in.get() & BYTE_MASK;
+    }
+
+    private static int readSquare(final ByteBuffer in, final int squares) {
+        final int square = readByte(in);
+        if (square >= squares) {
+            throw new IllegalArgumentException("Invalid square: " + square);
+        }
+        return square;
+    }
+
+    private static void writeVarint(final ByteArrayOutputStream out, final int value) {
+        int rest = value;
+        while ((rest & ~VARINT_MASK) != 0) {
+            out.write(rest & VARINT_MASK | VARINT_MORE);
+            rest >>>= VARINT_BITS;
+        }
+        out.write(rest);
+    }
+
+    private static int readVarint(final ByteBuffer in) {
+        int value = 0;
+        for (int i = 0; i < MAX_VARINT_BYTES; i++) {
+            final int current = readByte(in);
+            value |= (current & VARINT_MASK) << VARINT_BITS * i;
+            if ((current & VARINT_MORE) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("A number is too long");
+    }
+
+    /**
+     * Writes four-bit codes, two per byte, the first one in the lowest bits.
+     */
+    private static final class NibbleWriter {
+
+        private final ByteArrayOutputStream out;
+        private int pending = -1;
+
+        NibbleWriter(final ByteArrayOutputStream out) {
+            this.out = out;
+        }
+
+        void write(final int nibble) {
+            if (this.pending < 0) {
+                this.pending = nibble;
+            } else {
+                this.out.write(this.pending | nibble << NIBBLE_BITS);
+                this.pending = -1;
+            }
+        }
+
+        void flush() {
+            if (this.pending >= 0) {
+                this.out.write(this.pending);
+                this.pending = -1;
+            }
+        }
+    }
+
+    /**
+     * Reads the four-bit codes written by a {@link NibbleWriter}.
+     */
+    private static final class NibbleReader {
+
+        private final ByteBuffer in;
+        private int pending = -1;
+
+        NibbleReader(final ByteBuffer in) {
+            this.in = in;
+        }
+
+        int read() {
+            if (this.pending >= 0) {
+                final int nibble = this.pending;
+                this.pending = -1;
+                return nibble;
+            }
+            final int current = readByte(this.in);
+            this.pending = current >> NIBBLE_BITS;
+            return current & NIBBLE_MASK;
+        }
+
+        void skipPadding() {
+            this.pending = -1;
+        }
+    }
+}
@@ -0,0 +1,430 @@
+package taflgames.model.codec.code;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import taflgames.common.Player;
+import taflgames.common.api.Vector;
+import taflgames.common.code.Position;
+import taflgames.model.Match;
+import taflgames.model.Model;
+import taflgames.model.board.api.BoardFactory;
+import taflgames.model.cell.api.Cell;
+import taflgames.model.cell.api.CellComponent;
+import taflgames.model.cell.api.Slider;
+import taflgames.model.cell.code.ClassicCell;
+import taflgames.model.cell.code.Exit;
+import taflgames.model.cell.code.SliderImpl;
+import taflgames.model.cell.code.Throne;
+import taflgames.model.cell.code.Tomb;
+import taflgames.model.memento.api.BoardMemento;
+import taflgames.model.memento.api.MatchMemento;
+import taflgames.model.pieces.api.Piece;
+import taflgames.model.pieces.code.Archer;
+import taflgames.model.pieces.code.BasicPiece;
+import taflgames.model.pieces.code.King;
+import taflgames.model.pieces.code.Queen;
+import taflgames.model.pieces.code.Shield;
+import taflgames.model.pieces.code.Swapper;
+
+/**
+ * The state of a match as the codecs see it: a few small integers for each square,
+ * indexed as {@code y * size + x}, which the codecs write in their own format.
+ * <p>
+ * A piece is coded as {@code player << 3 | type}, where the type is its index in {@link #PIECE_TYPES},
+ * so that it fits in four bits. A cell is coded as its kind (classic, throne, exit or slider)
+ * in the two lowest bits; the cell of a slider holds its state in the upper bits as well:
+ * the orientation (two bits, an index in {@link #ORIENTATIONS}), whether it is active, whether it
+ * has already moved a piece in this turn, and the number of turns since it was last activated
+ * (two bits, since the sliders don't care about the turns beyond the third one).
+ * The tombs are kept apart, each one with the codes of its dead pieces in the order in which
+ * they will be resumed.
+ */
+final class PositionState {
+
+    /**
+     * The types of the pieces, in the order of their codes.
+     */
+    static final List<String> PIECE_TYPES = List.of("BASIC_PIECE", "KING", "QUEEN", "ARCHER", "SHIELD", "SWAPPER");
+    /**
+     * The orientations of the sliders, in the order of their codes, each one turned by 90 degrees from the previous.
+     */
+    static final List<Vector> ORIENTATIONS =
+            List.of(Vector.UP_VECTOR, Vector.LEFT_VECTOR, Vector.DOWN_VECTOR, Vector.RIGHT_VECTOR);
+    /**
+     * The code of an empty square.
+     */
+    static final int EMPTY = -1;
+    /**
+     * The kind of the classic cells.
+     */
+    static final int CLASSIC = 0;
+    /**
+     * The kind of the throne.
+     */
+    static final int THRONE = 1;
+    /**
+     * The kind of the exits.
+     */
+    static final int EXIT = 2;
+    /**
+     * The kind of the sliders.
+     */
+    static final int SLIDER = 3;
+    /**
+     * The largest number of turns since the activation of a slider that is kept.
+     */
+    static final int MAX_TURNS_SINCE_ACTIVITY = 3;
+
+    private static final int PLAYER_SHIFT = 3;
+    private static final int TYPE_MASK = 7;
+    private static final int KIND_MASK = 3;
+    private static final int ORIENTATION_SHIFT = 2;
+    private static final int ACTIVE_BIT = 1 << 4;
+    private static final int TRIGGERED_BIT = 1 << 5;
+    private static final int TURNS_SHIFT = 6;
+    private static final String TOMB = "Tomb";
+    private static final Map<String, Integer> CELL_KINDS =
+            Map.of("ClassicCell", CLASSIC, "Throne", THRONE, "Exit", EXIT, "Slider", SLIDER);
+
+    private static final int[] TOTAL_LIVES = IntStream.range(0, PIECE_TYPES.size())
+            .map(type -> createPiece(Position.of(0, 0), pieceCode(Player.DEFENDER, type)).getMyType().getTotalNumbOfLives())
+            .toArray();
+
+    private final int size;
+    private final int turnNumber;
+    private final Player activePlayer;
+    private final int[] pieces;
+    private final int[] lives;
+    private final int[] cells;
+    private final SortedMap<Integer, List<Integer>> tombs = new TreeMap<>();
+
+    /**
+     * Creates an empty state, whose squares are all classic cells without pieces.
+     * @param size the size of the board
+     * @param turnNumber the number of the turn
+     * @param activePlayer the player in turn
+     */
+    PositionState(final int size, final int turnNumber, final Player activePlayer) {
+        if (size <= 0 || turnNumber < 0) {
+            throw new IllegalArgumentException("Invalid size or turn number: " + size + ", " + turnNumber);
+        }
+        this.size = size;
+        this.turnNumber = turnNumber;
+        this.activePlayer = activePlayer;
+        this.pieces = new int[size * size];
+        this.lives = new int[size * size];
+        this.cells = new int[size * size];
+        Arrays.fill(this.pieces, EMPTY);
+    }
+
+    /**
+     * Reads the state of a match.
+     * @param match the match
+     * @return the state of the match
+     */
+    static PositionState of(final Model match) {
+        final MatchMemento snapshot = match.save();
+        final BoardMemento board = snapshot.getBoardMemento();
+        final Map<Position, Cell> cells = board.getInnerCells();
+        final int size = cells.keySet().stream().mapToInt(position -> Math.max(position.getX(), position.getY()) + 1)
+                .max().orElse(0);
+        final PositionState state = new PositionState(size, snapshot.getTurnNumber(), snapshot.getActivePlayer());
+        cells.forEach((position, cell) -> {
+            final int square = position.index(size);
+            state.cells[square] = cellCode(cell, snapshot.getTurnNumber());
+            for (final CellComponent component : cell.getComponents()) {
+                if (TOMB.equals(component.getComponentType())) {
+                    final List<Integer> deadPieces = state.addTomb(square);
+                    for (final Player player : Player.values()) {
+                        ((Tomb) component).getDeadPieces(player).forEach(piece -> deadPieces.add(pieceCode(piece)));
+                    }
+                }
+            }
+        });
+        for (final Map<Position, Piece> pieces : List.of(board.getInnerAttackerPieces(), board.getInnerDefenderPieces())) {
+            pieces.forEach((position, piece) -> state.setPiece(position.index(size), pieceCode(piece),
+                    piece.getCurrNumbOfLives()));
+        }
+        return state;
+    }
+
+    /**
+     * Creates a match in this state.
+     * @param boards the factory of the board of the match
+     * @return the new match
+     * @throws IllegalArgumentException if the state is not valid, e.g. a piece has no lives
+     */
+    Model toMatch(final BoardFactory boards) {
+        final Map<Player, Map<Position, Piece>> piecesMap = new HashMap<>();
+        for (final Player player : Player.values()) {
+            piecesMap.put(player, new HashMap<>());
+        }
+        final Map<Position, Cell> cellsMap = new HashMap<>();
+        for (int square = 0; square < this.cells.length; square++) {
+            final Position position = Position.ofIndex(square, this.size);
+            final Cell cell = this.createCell(position, this.cells[square]);
+            cellsMap.put(position, cell);
+            if (this.pieces[square] != EMPTY) {
+                final Piece piece = createPiece(position, this.pieces[square]);
+                if (this.lives[square] <= 0 || this.lives[square] > TOTAL_LIVES[typeOf(this.pieces[square])]) {
+                    throw new IllegalArgumentException("Invalid lives for the piece in " + position + ": " + this.lives[square]);
+                }
+                piece.setCurrNumbOfLivesLimited(this.lives[square]);
+                piecesMap.get(piece.getPlayer()).put(position, piece);
+                cell.setFree(false);
+            }
+        }
+        this.tombs.forEach((square, deadPieces) -> {
+            final Position position = Position.ofIndex(square, this.size);
+            final Tomb tomb = new Tomb();
+            for (final int code : deadPieces) {
+                final Piece piece = createPiece(position, code);
+                piece.setCurrNumbOfLivesLimited(0);
+                tomb.addDeadPiece(piece);
+            }
+            cellsMap.get(position).attachComponent(tomb);
+        });
+        return new Match(boards.create(piecesMap, cellsMap, this.size), this.turnNumber, this.activePlayer);
+    }
+
+    /**
+     * @return the size of the board
+     */
+    int getSize() {
+        return this.size;
+    }
+
+    /**
+     * @return the number of the turn
+     */
+    int getTurnNumber() {
+        return this.turnNumber;
+    }
+
+    /**
+     * @return the player in turn
+     */
+    Player getActivePlayer() {
+        return this.activePlayer;
+    }
+
+    /**
+     * @param square a square
+     * @return the code of the piece in the square, or {@link #EMPTY}
+     */
+    int getPiece(final int square) {
+        return this.pieces[square];
+    }
+
+    /**
+     * @param square a square with a piece
+     * @return the lives of the piece
+     */
+    int getLives(final int square) {
+        return this.lives[square];
+    }
+
+    /**
+     * @param square a square
+     * @return the code of the cell
+     */
+    int getCell(final int square) {
+        return this.cells[square];
+    }
+
+    /**
+     * @return the dead pieces of the tombs, by square, in the order of the squares
+     */
+    SortedMap<Integer, List<Integer>> getTombs() {
+        return Collections.unmodifiableSortedMap(this.tombs);
+    }
+
+    /**
+     * Puts a piece in a square.
+     * @param square the square
+     * @param code the code of the piece
+     * @param pieceLives the lives of the piece
+     */
+    void setPiece(final int square, final int code, final int pieceLives) {
+        checkPieceCode(code);
+        this.pieces[square] = code;
+        this.lives[square] = pieceLives;
+    }
+
+    /**
+     * Sets the cell of a square.
+     * @param square the square
+     * @param code the code of the cell
+     */
+    void setCell(final int square, final int code) {
+        this.cells[square] = code;
+    }
+
+    /**
+     * Adds a tomb, without dead pieces yet.
+     * @param square the square of the tomb
+     * @return the codes of the dead pieces of the tomb, to which the new ones can be added
+     */
+    List<Integer> addTomb(final int square) {
+        return this.tombs.computeIfAbsent(square, s -> new ArrayList<>());
+    }
+
+    /**
+     * @param code the code of a piece
+     * @return the player of the piece
+     */
+    static Player playerOf(final int code) {
+        return Player.values()[code >> PLAYER_SHIFT];
+    }
+
+    /**
+     * @param code the code of a piece
+     * @return the index of the type of the piece in {@link #PIECE_TYPES}
+     */
+    static int typeOf(final int code) {
+        return code & TYPE_MASK;
+    }
+
+    /**
+     * @param player a player
+     * @param type the index of a type in {@link #PIECE_TYPES}
+     * @return the code of the piece
+     */
+    static int pieceCode(final Player player, final int type) {
+        return player.ordinal() << PLAYER_SHIFT | type;
+    }
+
+    /**
+     * @param code the code of a cell
+     * @return the kind of the cell
+     */
+    static int kindOf(final int code) {
+        return code & KIND_MASK;
+    }
+
+    /**
+     * @param code the code of a slider
+     * @return the index of the orientation of the slider in {@link #ORIENTATIONS}
+     */
+    static int orientationOf(final int code) {
+        return code >> ORIENTATION_SHIFT & KIND_MASK;
+    }
+
+    /**
+     * @param code the code of a slider
+     * @return whether the slider is active
+     */
+    static boolean isActive(final int code) {
+        return (code & ACTIVE_BIT) != 0;
+    }
+
+    /**
+     * @param code the code of a slider
+     * @return whether the slider has already moved a piece in this turn
+     */
+    static boolean isTriggered(final int code) {
+        return (code & TRIGGERED_BIT) != 0;
+    }
+
+    /**
+     * @param code the code of a slider
+     * @return the turns since the slider was last activated, up to {@link #MAX_TURNS_SINCE_ACTIVITY}
+     */
+    static int turnsSinceActivityOf(final int code) {
+        return code >> TURNS_SHIFT & KIND_MASK;
+    }
+
+    /**
+     * @param orientation the index of the orientation in {@link #ORIENTATIONS}
+     * @param active whether the slider is active
+     * @param triggered whether the slider has already moved a piece in this turn
+     * @param turnsSinceActivity the turns since the slider was last activated, up to {@link #MAX_TURNS_SINCE_ACTIVITY}
+     * @return the code of the slider
+     */
+    static int sliderCode(final int orientation, final boolean active, final boolean triggered,
+            final int turnsSinceActivity) {
+        return SLIDER | orientation << ORIENTATION_SHIFT | (active ? ACTIVE_BIT : 0) | (triggered ? TRIGGERED_BIT : 0)
+                | Math.min(turnsSinceActivity, MAX_TURNS_SINCE_ACTIVITY) << TURNS_SHIFT;
+    }
+
+    /**
+     * @param code the code of a piece
+     * @return the lives of the piece when it is not wounded
+     */
+    static int totalLivesOf(final int code) {
+        checkPieceCode(code);
+        return TOTAL_LIVES[typeOf(code)];
+    }
+
+    private static int pieceCode(final Piece piece) {
+        return pieceCode(piece.getPlayer(), PIECE_TYPES.indexOf(piece.getMyType().getTypeOfPiece()));
+    }
+
+    private static void checkPieceCode(final int code) {
+        if (code < 0 || code >> PLAYER_SHIFT >= Player.values().length || typeOf(code) >= PIECE_TYPES.size()
+                || code == pieceCode(Player.ATTACKER, PIECE_TYPES.indexOf("KING"))) {
+            throw new IllegalArgumentException("Invalid piece: " + code);
+        }
+    }
+
+    private static int cellCode(final Cell cell, final int turnNumber) {
+        final Integer kind = CELL_KINDS.get(cell.getType());
+        if (kind == null) {
+            throw new IllegalArgumentException("Unknown cell: " + cell.getType());
+        } else if (kind != SLIDER) {
+            return kind;
+        }
+        final Slider slider = (Slider) cell;
+        final Vector orientation = slider.getOrientation();
+        int index = 0;
+        while (index < ORIENTATIONS.size() && (ORIENTATIONS.get(index).deltaX() != orientation.deltaX()
+                || ORIENTATIONS.get(index).deltaY() != orientation.deltaY())) {
+            index++;
+        }
+        if (index == ORIENTATIONS.size()) {
+            throw new IllegalArgumentException("Unknown orientation of a slider: " + orientation);
+        }
+        return sliderCode(index, slider.isActive(), slider.isTriggered(), turnNumber - slider.getLastActivityTurn());
+    }
+
+    private Cell createCell(final Position position, final int code) {
+        switch (kindOf(code)) {
+            case THRONE:
+                return new Throne();
+            case EXIT:
+                return new Exit();
+            case SLIDER:
+                return new SliderImpl(position, ORIENTATIONS.get(orientationOf(code)), isActive(code), isTriggered(code),
+                        this.turnNumber - turnsSinceActivityOf(code));
+            default:
+                return new ClassicCell();
+        }
+    }
+
+    private static Piece createPiece(final Position position, final int code) {
+        checkPieceCode(code);
+        final Player player = playerOf(code);
+        switch (PIECE_TYPES.get(typeOf(code))) {
+            case "KING":
+                return new King(position);
+            case "QUEEN":
+                return new Queen(position, player);
+            case "ARCHER":
+                return new Archer(position, player);
+            case "SHIELD":
+                return new Shield(position, player);
+            case "SWAPPER":
+                return new Swapper(position, player);
+            default:
+                return new BasicPiece(position, player);
+        }
+    }
+}
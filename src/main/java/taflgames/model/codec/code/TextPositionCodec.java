@@ -0,0 +1,301 @@
+package taflgames.model.codec.code;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import taflgames.common.Player;
+import taflgames.model.Model;
+import taflgames.model.board.api.BoardFactory;
+import taflgames.model.codec.api.PositionCodec;
+
+/**
+ * A {@link PositionCodec} that writes the state of a match in a text notation similar to
+ * the Forsyth-Edwards Notation of chess, which can be read and written by hand.
+ * <p>
+ * The notation has seven fields, separated by a space:
+ * <ol>
+ * <li>the pieces, row by row from {@code y = 0}, the rows separated by {@code /}: each piece is a letter
+ * ({@code b} basic piece, {@code k} king, {@code q} queen, {@code a} archer, {@code s} shield, {@code w} swapper),
+ * uppercase for the attacker and lowercase for the defender, while a number is a run of empty squares;</li>
+ * <li>the cells, in the same way: {@code t} the throne, {@code e} an exit, {@code s} a slider,
+ * while a number is a run of classic cells;</li>
+ * <li>the player in turn, {@code a} or {@code d};</li>
+ * <li>the number of the turn;</li>
+ * <li>the sliders, separated by a comma, each one as its square, its orientation ({@code u}, {@code l},
+ * {@code d} or {@code r}), a {@code *} if it is active, a {@code !} if it has already moved a piece in this turn
+ * and the number of turns since it was last activated, up to 3 (e.g. {@code c3u*0});</li>
+ * <li>the tombs, separated by a comma, each one as its square, a colon and the letters of its dead pieces
+ * in the order in which they will be resumed (e.g. {@code f6:Bb});</li>
+ * <li>the pieces that have lost some lives, separated by a comma, each one as its square, a colon and
+ * its lives (e.g. {@code f6:1}).</li>
+ * </ol>
+ * A square is written as the letter of its column, from {@code a} for {@code x = 0}, and the number of its row,
+ * from {@code 1} for {@code y = 0}; an empty list is written as {@code -}.
+ */
+public final class TextPositionCodec implements PositionCodec<String> {
+
+    private static final String PIECE_LETTERS = "bkqasw";
+    private static final String CELL_LETTERS = " tes";
+    private static final String ORIENTATION_LETTERS = "uldr";
+    private static final char ATTACKER_LETTER = 'a';
+    private static final char DEFENDER_LETTER = 'd';
+    private static final char ACTIVE_MARK = '*';
+    private static final char TRIGGERED_MARK = '!';
+    private static final char ROW_SEPARATOR = '/';
+    private static final String FIELD_SEPARATOR = " ";
+    private static final String LIST_SEPARATOR = ",";
+    private static final String ENTRY_SEPARATOR = ":";
+    private static final String NONE = "-";
+    private static final int FIELDS = 7;
+    private static final int MAX_SIZE = 26;
+
+    private final BoardFactory boards;
+
+    /**
+     * Creates a codec whose decoded matches use the boards of the given factory.
+     * @param boards the factory of the boards of the decoded matches
+     */
+    public TextPositionCodec(final BoardFactory boards) {
+        this.boards = Objects.requireNonNull(boards);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws IllegalArgumentException if the board is larger than 26 x 26
+     */
+    @Override
+    public String encode(final Model match) {
+        final PositionState state = PositionState.of(match);
+        final int size = state.getSize();
+        if (size > MAX_SIZE) {
+            throw new IllegalArgumentException("The board is too large: " + size);
+        }
+        final List<String> sliders = new ArrayList<>();
+        final List<String> wounded = new ArrayList<>();
+        final List<String> tombs = new ArrayList<>();
+        for (int square = 0; square < size * size; square++) {
+            final int cell = state.getCell(square);
+            if (PositionState.kindOf(cell) == PositionState.SLIDER) {
+                sliders.add(squareName(square, size) + ORIENTATION_LETTERS.charAt(PositionState.orientationOf(cell))
+                        + (PositionState.isActive(cell) ? String.valueOf(ACTIVE_MARK) : "")
+                        + (PositionState.isTriggered(cell) ? String.valueOf(TRIGGERED_MARK) : "")
+                        + PositionState.turnsSinceActivityOf(cell));
+            }
+            final int piece = state.getPiece(square);
+            if (piece != PositionState.EMPTY && state.getLives(square) != PositionState.totalLivesOf(piece)) {
+                wounded.add(squareName(square, size) + ENTRY_SEPARATOR + state.getLives(square));
+            }
+        }
+        for (final Map.Entry<Integer, List<Integer>> tomb : state.getTombs().entrySet()) {
+            final StringBuilder deadPieces = new StringBuilder();
+            tomb.getValue().forEach(code -> deadPieces.append(pieceLetter(code)));
+            tombs.add(squareName(tomb.getKey(), size) + ENTRY_SEPARATOR + deadPieces);
+        }
+        return String.join(FIELD_SEPARATOR,
+                grid(size, square -> state.getPiece(square) == PositionState.EMPTY
+                        ? 0 : pieceLetter(state.getPiece(square))),
+                grid(size, square -> CELL_LETTERS.charAt(PositionState.kindOf(state.getCell(square))) == ' '
+                        ? 0 : CELL_LETTERS.charAt(PositionState.kindOf(state.getCell(square)))),
+                String.valueOf(state.getActivePlayer() == Player.DEFENDER ? DEFENDER_LETTER : ATTACKER_LETTER),
+                String.valueOf(state.getTurnNumber()),
+                list(sliders),
+                list(tombs),
+                list(wounded));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Model decode(final String encoded) {
+        final String[] fields = encoded.trim().split(FIELD_SEPARATOR);
+        if (fields.length != FIELDS) {
+            throw new IllegalArgumentException("Expected " + FIELDS + " fields, found " + fields.length);
+        }
+        final String[] pieceRows = fields[0].split(String.valueOf(ROW_SEPARATOR), -1);
+        final int size = pieceRows.length;
+        if (size > MAX_SIZE) {
+            throw new IllegalArgumentException("The board is too large: " + size);
+        }
+        final Player activePlayer;
+        if (fields[2].equals(String.valueOf(ATTACKER_LETTER))) {
+            activePlayer = Player.ATTACKER;
+        } else if (fields[2].equals(String.valueOf(DEFENDER_LETTER))) {
+            activePlayer = Player.DEFENDER;
+        } else {
+            throw new IllegalArgumentException("Unknown player: " + fields[2]);
+        }
+        final PositionState state = new PositionState(size, parseNumber(fields[3]), activePlayer);
+
+        final char[] pieces = readGrid(pieceRows, size);
+        final char[] cells = readGrid(fields[1].split(String.valueOf(ROW_SEPARATOR), -1), size);
+        for (int square = 0; square < size * size; square++) {
+            if (pieces[square] != 0) {
+                final int code = pieceCode(pieces[square]);
+                state.setPiece(square, code, PositionState.totalLivesOf(code));
+            }
+            if (cells[square] != 0) {
+                final int kind = CELL_LETTERS.indexOf(cells[square]);
+                if (kind <= PositionState.CLASSIC) {
+                    throw new IllegalArgumentException("Unknown cell: " + cells[square]);
+                }
+                state.setCell(square, kind);
+            }
+        }
+
+        for (final String slider : entries(fields[4])) {
+            final int[] cursor = new int[1];
+            final int square = parseSquare(slider, cursor, size);
+            if (PositionState.kindOf(state.getCell(square)) != PositionState.SLIDER || cursor[0] >= slider.length()) {
+                throw new IllegalArgumentException("Invalid slider: " + slider);
+            }
+            final int orientation = ORIENTATION_LETTERS.indexOf(slider.charAt(cursor[0]++));
+            final boolean active = cursor[0] < slider.length() && slider.charAt(cursor[0]) == ACTIVE_MARK;
+            cursor[0] += active ? 1 : 0;
+            final boolean triggered = cursor[0] < slider.length() && slider.charAt(cursor[0]) == TRIGGERED_MARK;
+            cursor[0] += triggered ? 1 : 0;
+            final int turnsSinceActivity = parseNumber(slider.substring(cursor[0]));
+            if (orientation < 0 || turnsSinceActivity > PositionState.MAX_TURNS_SINCE_ACTIVITY) {
+                throw new IllegalArgumentException("Invalid slider: " + slider);
+            }
+            state.setCell(square, PositionState.sliderCode(orientation, active, triggered, turnsSinceActivity));
+        }
+        for (final String tomb : entries(fields[5])) {
+            final int[] cursor = new int[1];
+            final int square = parseSquare(tomb, cursor, size);
+            if (!tomb.startsWith(ENTRY_SEPARATOR, cursor[0])) {
+                throw new IllegalArgumentException("Invalid tomb: " + tomb);
+            }
+            final List<Integer> deadPieces = state.addTomb(square);
+            for (final char letter : tomb.substring(cursor[0] + 1).toCharArray()) {
+                deadPieces.add(pieceCode(letter));
+            }
+        }
+        for (final String piece : entries(fields[6])) {
+            final int[] cursor = new int[1];
+            final int square = parseSquare(piece, cursor, size);
+            if (!piece.startsWith(ENTRY_SEPARATOR, cursor[0]) || state.getPiece(square) == PositionState.EMPTY) {
+                throw new IllegalArgumentException("Invalid lives: " + piece);
+            }
+            state.setPiece(square, state.getPiece(square), parseNumber(piece.substring(cursor[0] + 1)));
+        }
+        return state.toMatch(this.boards);
+    }
+
+    private static String grid(final int size, final SquareLetter letters) {
+        final StringBuilder grid = new StringBuilder();
+        for (int y = 0; y < size; y++) {
+            if (y > 0) {
+                grid.append(ROW_SEPARATOR);
+            }
+            int run = 0;
+            for (int x = 0; x < size; x++) {
+                final char letter = letters.letterOf(y * size + x);
+                if (letter == 0) {
+                    run++;
+                } else {
+                    if (run > 0) {
+                        grid.append(run);
+                        run = 0;
+                    }
+                    grid.append(letter);
+                }
+            }
+            if (run > 0) {
+                grid.append(run);
+            }
+        }
+        return grid.toString();
+    }
+
+    private static char[] readGrid(final String[] rows, final int size) {
+        if (rows.length != size) {
+            throw new IllegalArgumentException("Expected " + size + " rows, found " + rows.length);
+        }
+        final char[] grid = new char[size * size];
+        for (int y = 0; y < size; y++) {
+            int x = 0;
+            int i = 0;
+            while (i < rows[y].length()) {
+                if (Character.isDigit(rows[y].charAt(i))) {
+                    final int start = i;
+                    while (i < rows[y].length() && Character.isDigit(rows[y].charAt(i))) {
+                        i++;
+                    }
+                    x += parseNumber(rows[y].substring(start, i));
+                } else {
+                    if (x < size) {
+                        grid[y * size + x] = rows[y].charAt(i);
+                    }
+                    x++;
+                    i++;
+                }
+            }
+            if (x != size) {
+                throw new IllegalArgumentException("The row " + (y + 1) + " has " + x + " squares instead of " + size);
+            }
+        }
+        return grid;
+    }
+
+    private static String list(final List<String> entries) {
+        return entries.isEmpty() ? NONE : String.join(LIST_SEPARATOR, entries);
+    }
+
+    private static List<String> entries(final String field) {
+        return NONE.equals(field) ? List.of() : List.of(field.split(LIST_SEPARATOR, -1));
+    }
+
+    private static char pieceLetter(final int code) {
+        final char letter = PIECE_LETTERS.charAt(PositionState.typeOf(code));
+        return PositionState.playerOf(code) == Player.ATTACKER ? Character.toUpperCase(letter) : letter;
+    }
+
+    private static int pieceCode(final char letter) {
+        final int type = PIECE_LETTERS.indexOf(Character.toLowerCase(letter));
+        if (type < 0) {
+            throw new IllegalArgumentException("Unknown piece: " + letter);
+        }
+        return PositionState.pieceCode(Character.isUpperCase(letter) ? Player.ATTACKER : Player.DEFENDER, type);
+    }
+
+    private static String squareName(final int square, final int size) {
+        return (char) ('a' + square % size) + String.valueOf(square / size + 1);
+    }
+
+    private static int parseSquare(final String text, final int[] cursor, final int size) {
+        int i = cursor[0];
+        if (i >= text.length() || text.charAt(i) < 'a' || text.charAt(i) >= 'a' + size) {
+            throw new IllegalArgumentException("Invalid square in " + text);
+        }
+        final int x = text.charAt(i++) - 'a';
+        final int start = i;
+        while (i < text.length() && Character.isDigit(text.charAt(i))) {
+            i++;
+        }
+        final int y = parseNumber(text.substring(start, i)) - 1;
+        if (y < 0 || y >= size) {
+            throw new IllegalArgumentException("Invalid square in " + text);
+        }
+        cursor[0] = i;
+        return y * size + x;
+    }
+
+    private static int parseNumber(final String text) {
+        try {
+            return Integer.parseInt(text);
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number: " + text, e);
+        }
+    }
+
+    /**
+     * The letter of each square of a grid, or {@code 0} if it is left out.
+     */
+    @FunctionalInterface
+    private interface SquareLetter {
+        char letterOf(int square);
+    }
+}
@@ -0,0 +1,34 @@
+package taflgames.model.memento.api;
+
+/**
+ * An interface modelling the changes made to a Board between two states, as returned by
+ * {@link taflgames.model.board.api.Board#sealState()}. Unlike a {@link BoardMemento}, a delta holds
+ * only the squares that changed, with their state before and after the changes, so it can take
+ * the board from one of the two states to the other, in both directions.
+ * <br>A delta can be applied only to the board that created it, when it is in the state where
+ * the delta begins ({@link #undo()}) or ends ({@link #redo()}), and while no state is pushed on it.
+ */
+public interface BoardDelta {
+
+    /**
+     * Takes the board back to the state where this delta begins.
+     * @throws IllegalStateException if a state is pushed on the board
+     */
+    void undo();
+
+    /**
+     * Takes the board to the state where this delta ends.
+     * @throws IllegalStateException if a state is pushed on the board
+     */
+    void redo();
+
+    /**
+     * @return whether no square was changed
+     */
+    boolean isEmpty();
+
+    /**
+     * @return an estimate of the memory held by this delta, in bytes
+     */
+    long getEstimatedBytes();
+}
@@ -16,7 +16,7 @@ package taflgames.model.memento.api;
 public interface Caretaker {
 
     /**
-     * Registers a new MatchMemento, by pushing it onto the history stack.
+     * Registers a new step of the history, holding the changes made since the last one.
      * This method should be called by a handler at the beginning of a turn,
      * in order to save the starting state of the match before any changes.
      * The call to this method causes the history to expand, and also
@@ -26,10 +26,46 @@ public interface Caretaker {
     void updateHistory();
 
     /**
-     * Returns to the previous saved state.
+     * Returns to the previous saved state: the beginning of the turn, if something changed
+     * since then, otherwise the beginning of the previous turn. Nothing happens if there is no
+     * previous state. The changes of the turn that are taken back do not become a step
+     * of the history, so they cannot be redone.
      */
     void undo();
 
+    /**
+     * Makes again the turn taken back by the last undo, if it was not
+     * replaced by new changes in the meantime.
+     */
+    void redo();
+
+    /**
+     * Brings the match to a step of the history. Step 0 is the state of the match when the
+     * history was first updated, and each following step is the state after one more turn
+     * (or after the changes taken back by an undo). The oldest steps may be forgotten
+     * to keep the history within its memory limit.
+     * <br>The changes made since the last update of the history are taken back:
+     * only {@link #updateHistory()} adds steps to the history.
+     * @param step the step to go to, between {@link #getOldestStep()} and {@link #getLatestStep()}
+     * @throws IllegalArgumentException if the step is not in the history
+     */
+    void goToStep(int step);
+
+    /**
+     * @return the step of the history the match is in
+     */
+    int getCurrentStep();
+
+    /**
+     * @return the oldest step that the history can go back to
+     */
+    int getOldestStep();
+
+    /**
+     * @return the latest step that the history can go forward to
+     */
+    int getLatestStep();
+
     /**
      * Must be called before any {@link #undo()} operation
      * can be performed. This additional step ensures that the state
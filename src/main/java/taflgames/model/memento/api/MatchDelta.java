@@ -0,0 +1,33 @@
+package taflgames.model.memento.api;
+
+/**
+ * An interface modelling the changes made to a Match between two states, as returned by
+ * {@link taflgames.model.Model#sealState()}: the {@link BoardDelta} of its board and the turns
+ * where the changes begin and end.
+ * <br>A delta can be applied only to the match that created it, when it is in the state where
+ * the delta begins ({@link #undo()}) or ends ({@link #redo()}), and while no state is pushed on it.
+ */
+public interface MatchDelta {
+
+    /**
+     * Takes the match back to the state where this delta begins.
+     * @throws IllegalStateException if a state is pushed on the match
+     */
+    void undo();
+
+    /**
+     * Takes the match to the state where this delta ends.
+     * @throws IllegalStateException if a state is pushed on the match
+     */
+    void redo();
+
+    /**
+     * @return whether neither the board nor the turn was changed
+     */
+    boolean isEmpty();
+
+    /**
+     * @return an estimate of the memory held by this delta, in bytes
+     */
+    long getEstimatedBytes();
+}
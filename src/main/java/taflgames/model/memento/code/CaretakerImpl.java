@@ -1,10 +1,15 @@
 package taflgames.model.memento.code;
 
-import java.util.Stack;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import taflgames.model.Model;
 import taflgames.model.memento.api.Caretaker;
+import taflgames.model.memento.api.MatchDelta;
 import taflgames.model.memento.api.MatchMemento;
 
 /**
@@ -14,20 +19,55 @@ import taflgames.model.memento.api.MatchMemento;
  * <br>The updateHistory() method should be called each time a new turn begins, while
  * the undo() method could be called at any given moment in a turn.
  * 
- * This class will be implemented with a Stack, in order to allow methods 
- * "pop" and "push" on the history
+ * The history is a list of {@link MatchDelta}, one for each turn: the match records only
+ * what changes during the turn (the moved and captured pieces, the cells they touched,
+ * the tombs and the sliders) with {@link Model#pushState()}, and the changes are sealed
+ * with {@link Model#sealState()} when the next turn begins, and only then: the changes of a turn
+ * that is not over are taken back with {@link Model#popState()}. Every few steps a snapshot of
+ * the whole match is kept as well, so that going to any step of the history costs at most
+ * the restore of a snapshot and a few deltas, however long the match.
  * 
- * In this version of the implementation, the Caretaker will dump
- * any existing state each time a new state is saved.
+ * The history is kept within a limit of memory: when it grows beyond it, the oldest steps
+ * are forgotten.
  */
 public class CaretakerImpl implements Caretaker {
+
+    /**
+     * The default limit of the memory held by the history, in bytes.
+     */
+    public static final long DEFAULT_MAX_BYTES = 16L * 1024 * 1024;
+    private static final int KEYFRAME_INTERVAL = 16;
+    // Restoring a snapshot costs about as much as applying this many deltas
+    private static final int KEYFRAME_COST = 4;
+    // Rough size of the memento of a piece or of a cell in a snapshot
+    private static final long KEYFRAME_ENTRY_BYTES = 64;
+
     private final Model originator;
-    private final Stack<MatchMemento> history;
+    private final long maxBytes;
+    // The delta at index i takes the match from step oldestStep + i to the next one
+    private final List<MatchDelta> deltas = new ArrayList<>();
+    private final NavigableMap<Integer, MatchMemento> keyframes = new TreeMap<>();
+    private int oldestStep;
+    private int currentStep;
+    // The position key of the match when the current turn began
+    private long turnKey;
+    private long bytes;
+    private boolean saved;
     private boolean locked;
 
+    /**
+     * Builds a new Caretaker, whose history holds at most {@link #DEFAULT_MAX_BYTES}.
+     * @param originator the Match to save the state of.
+     */
+    public CaretakerImpl(final Model originator) {
+        this(originator, DEFAULT_MAX_BYTES);
+    }
+
     /**
      * Builds a new Caretaker.
      * @param originator the Match to save the state of.
+     * @param maxBytes the limit of the memory held by the history, in bytes; the history
+     * keeps at least the current step, whatever the limit.
      */
     @SuppressFBWarnings(
             value = "EI_EXPOSE_REP",
@@ -35,9 +75,13 @@ public class CaretakerImpl implements Caretaker {
                 A method to get a copy of an object of type Model is not provided.
                 """
         )
-    public CaretakerImpl(final Model originator) {
+    public CaretakerImpl(final Model originator, final long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Invalid memory limit: " + maxBytes);
+        }
         this.originator = originator;
-        this.history = new Stack<>();
+        this.maxBytes = maxBytes;
+        this.saved = false;
         this.locked = false;
     }
 
@@ -46,10 +90,8 @@ public class CaretakerImpl implements Caretaker {
      */
     @Override
     public void updateHistory() {
-        if (!this.history.isEmpty()) {
-            this.history.clear();
-        }
-        this.history.push(this.originator.save());
+        this.sealTurn();
+        this.openTurn();
         this.locked = true;
     }
 
@@ -58,18 +100,80 @@ public class CaretakerImpl implements Caretaker {
      */
     @Override
     public void undo() {
-        if (this.history.isEmpty()) {
+        if (!this.saved) {
             return;
         } else if (this.locked) {
             throw new HistoryLockedException();
         }
-        this.originator.restore(this.history.pop());
-        /* When going back to a certain state, there needs
-         * to be another save in case the player makes a mistake
-         * again and wants to go back once more. This will
-         * result in another lock, which is fine.
+        final boolean turnChanged = this.originator.getPositionKey() != this.turnKey;
+        this.dropTurn();
+        if (!turnChanged && this.currentStep > this.oldestStep) {
+            this.moveTo(this.currentStep - 1);
+        }
+        this.openTurn();
+        /* When going back to a certain state, the history
+         * is locked again, in case the player makes a mistake
+         * again and wants to go back once more.
          */
-        this.updateHistory();
+        this.locked = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void redo() {
+        if (!this.saved) {
+            return;
+        }
+        // If something changed since the last undo, the steps that could be redone are about to be replaced
+        if (this.originator.getPositionKey() != this.turnKey || this.currentStep == this.getLatestStep()) {
+            return;
+        }
+        this.dropTurn();
+        this.moveTo(this.currentStep + 1);
+        this.openTurn();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void goToStep(final int step) {
+        this.dropTurn();
+        try {
+            if (step < this.oldestStep || step > this.getLatestStep()) {
+                throw new IllegalArgumentException("Step " + step + " is not in the history, which goes from "
+                    + this.oldestStep + " to " + this.getLatestStep());
+            }
+            this.moveTo(step);
+        } finally {
+            this.openTurn();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCurrentStep() {
+        return this.currentStep;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getOldestStep() {
+        return this.oldestStep;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLatestStep() {
+        return this.oldestStep + this.deltas.size();
     }
 
     /**
@@ -88,4 +192,98 @@ public class CaretakerImpl implements Caretaker {
         return this.locked;
     }
 
+    /*
+     * Starts recording the changes of the match from the current step.
+     */
+    private void openTurn() {
+        this.originator.pushState();
+        this.turnKey = this.originator.getPositionKey();
+        this.saved = true;
+    }
+
+    /*
+     * Takes back the changes recorded since the last step, if any, without keeping them in the history.
+     */
+    private void dropTurn() {
+        if (this.saved) {
+            this.originator.popState();
+            this.saved = false;
+        }
+    }
+
+    /*
+     * Seals the changes recorded since the last step, if any, into a new step that replaces
+     * the ones that could be redone.
+     */
+    private void sealTurn() {
+        if (!this.saved) {
+            return;
+        }
+        final MatchDelta delta = this.originator.sealState();
+        this.saved = false;
+        if (delta.isEmpty()) {
+            return;
+        }
+        while (this.getLatestStep() > this.currentStep) {
+            this.forgetLatest();
+        }
+        this.deltas.add(delta);
+        this.bytes += delta.getEstimatedBytes();
+        this.currentStep++;
+        if (this.currentStep % KEYFRAME_INTERVAL == 0) {
+            final MatchMemento keyframe = this.originator.save();
+            this.keyframes.put(this.currentStep, keyframe);
+            this.bytes += keyframeBytes(keyframe);
+        }
+        while (this.bytes > this.maxBytes && this.oldestStep < this.currentStep) {
+            this.forgetOldest();
+        }
+    }
+
+    /*
+     * Brings the match from the current step to the given one, starting from the nearest
+     * snapshot if it is cheaper than applying the deltas from here.
+     */
+    private void moveTo(final int step) {
+        final Map.Entry<Integer, MatchMemento> below = this.keyframes.floorEntry(step);
+        final Map.Entry<Integer, MatchMemento> above = this.keyframes.ceilingEntry(step);
+        final Map.Entry<Integer, MatchMemento> nearest = below == null ? above
+            : above == null || step - below.getKey() <= above.getKey() - step ? below : above;
+        if (nearest != null
+                && KEYFRAME_COST + Math.abs(step - nearest.getKey()) < Math.abs(step - this.currentStep)) {
+            this.originator.restore(nearest.getValue());
+            this.currentStep = nearest.getKey();
+        }
+        while (this.currentStep > step) {
+            this.currentStep--;
+            this.deltas.get(this.currentStep - this.oldestStep).undo();
+        }
+        while (this.currentStep < step) {
+            this.deltas.get(this.currentStep - this.oldestStep).redo();
+            this.currentStep++;
+        }
+    }
+
+    private void forgetOldest() {
+        this.bytes -= this.deltas.remove(0).getEstimatedBytes();
+        this.forgetKeyframe(this.oldestStep);
+        this.oldestStep++;
+    }
+
+    private void forgetLatest() {
+        this.forgetKeyframe(this.getLatestStep());
+        this.bytes -= this.deltas.remove(this.deltas.size() - 1).getEstimatedBytes();
+    }
+
+    private void forgetKeyframe(final int step) {
+        final MatchMemento keyframe = this.keyframes.remove(step);
+        if (keyframe != null) {
+            this.bytes -= keyframeBytes(keyframe);
+        }
+    }
+
+    private static long keyframeBytes(final MatchMemento keyframe) {
+        return KEYFRAME_ENTRY_BYTES * (keyframe.getBoardMemento().getPiecesMemento().size()
+            + keyframe.getBoardMemento().getCellsMemento().size());
+    }
 }
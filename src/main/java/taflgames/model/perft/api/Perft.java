@@ -0,0 +1,36 @@
+package taflgames.model.perft.api;
+
+import java.util.Map;
+
+import taflgames.model.perft.code.PerftResult;
+
+/**
+ * A performance test of the move generation: it walks the whole tree of the legal
+ * moves from the current position of a match and counts its leaves.
+ * The counts are a fingerprint of the rules of the game, so they can be used to check
+ * that an optimization of the board did not change its behaviour, while the time
+ * needed to compute them measures the speed of the move generation and of
+ * the make/unmake of the moves.
+ */
+public interface Perft {
+
+    /**
+     * Counts the positions that can be reached by playing exactly {@code depth} moves
+     * from the current position. A match that is over is a leaf of the tree,
+     * so it is counted only when no move is left to play.
+     * The match is left in the position it was in before the call.
+     * @param depth the number of moves to play
+     * @return the number of positions reached, along with the time taken to count them
+     */
+    PerftResult count(int depth);
+
+    /**
+     * Counts the positions reachable after each of the moves of the player in turn.
+     * The sum of the values is equal to the count returned by {@link #count(int)},
+     * while the single values help to locate the move for which two boards disagree.
+     * @param depth the number of moves to play, including the first one
+     * @return a map from each move, described as {@code "source -> destination"},
+     * to the number of positions reachable after it, in the order in which the moves are generated
+     */
+    Map<String, Long> divide(int depth);
+}
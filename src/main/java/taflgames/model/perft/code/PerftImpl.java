@@ -0,0 +1,114 @@
+package taflgames.model.perft.code;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import taflgames.common.code.MoveBuffer;
+import taflgames.common.code.Position;
+import taflgames.model.Model;
+import taflgames.model.memento.api.MatchMemento;
+import taflgames.model.perft.api.Perft;
+
+/**
+ * Implementation of {@link Perft} that plays the moves through the {@link Model},
+ * exactly as the controller does, and takes them back with a snapshot of the match.
+ * A single snapshot is taken for each inner node of the tree and it is restored
+ * after each of its children, and a single move buffer is kept for each ply,
+ * so that the count does not depend on the speed of the garbage collector.
+ */
+public final class PerftImpl implements Perft {
+
+    private final Model match;
+    private final List<MoveBuffer> buffers = new ArrayList<>();
+
+    /**
+     * Creates a perft on the given match.
+     * @param match the match whose current position is the root of the tree
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The perft plays the moves on the match it is given, "
+            + "always restoring it to its initial position."
+    )
+    public PerftImpl(final Model match) {
+        this.match = match;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PerftResult count(final int depth) {
+        checkDepth(depth);
+        final long start = System.nanoTime();
+        final long nodes = this.perft(depth, 0);
+        return new PerftResult(depth, nodes, System.nanoTime() - start);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> divide(final int depth) {
+        checkDepth(depth);
+        final Map<String, Long> result = new LinkedHashMap<>();
+        if (depth == 0 || this.match.getMatchEndStatus().isPresent()) {
+            return result;
+        }
+        final MoveBuffer moves = this.bufferAt(0);
+        this.match.generateLegalMoves(this.match.getActivePlayer(), moves);
+        final MatchMemento snapshot = this.match.save();
+        for (int i = 0; i < moves.size(); i++) {
+            this.play(moves.get(i));
+            result.put(moves.getSource(i) + " -> " + moves.getDestination(i), this.perft(depth - 1, 1));
+            this.match.restore(snapshot);
+        }
+        return result;
+    }
+
+    private long perft(final int depth, final int ply) {
+        if (depth == 0) {
+            return 1;
+        }
+        if (this.match.getMatchEndStatus().isPresent()) {
+            return 0;
+        }
+        final MoveBuffer moves = this.bufferAt(ply);
+        this.match.generateLegalMoves(this.match.getActivePlayer(), moves);
+        if (depth == 1) {
+            return moves.size();
+        }
+        final MatchMemento snapshot = this.match.save();
+        long nodes = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            this.play(moves.get(i));
+            nodes += this.perft(depth - 1, ply + 1);
+            this.match.restore(snapshot);
+        }
+        return nodes;
+    }
+
+    private void play(final int move) {
+        final Position source = Position.of(MoveBuffer.sourceX(move), MoveBuffer.sourceY(move));
+        final Position destination = Position.of(MoveBuffer.destinationX(move), MoveBuffer.destinationY(move));
+        this.match.selectSource(source);
+        this.match.makeMove(source, destination);
+        this.match.setNextActivePlayer();
+    }
+
+    private MoveBuffer bufferAt(final int ply) {
+        while (this.buffers.size() <= ply) {
+            this.buffers.add(new MoveBuffer());
+        }
+        return this.buffers.get(ply);
+    }
+
+    private static void checkDepth(final int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("The depth cannot be negative: " + depth);
+        }
+    }
+}
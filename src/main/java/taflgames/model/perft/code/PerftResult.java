@@ -0,0 +1,60 @@
+package taflgames.model.perft.code;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The outcome of a perft run: the number of leaves counted at a given depth
+ * and the time it took to count them.
+ */
+public final class PerftResult {
+
+    private final int depth;
+    private final long nodes;
+    private final long nanos;
+
+    /**
+     * Creates a new result.
+     * @param depth the depth of the search
+     * @param nodes the number of leaves counted
+     * @param nanos the time taken by the search, in nanoseconds
+     */
+    public PerftResult(final int depth, final long nodes, final long nanos) {
+        this.depth = depth;
+        this.nodes = nodes;
+        this.nanos = nanos;
+    }
+
+    /**
+     * @return the depth of the search
+     */
+    public int getDepth() {
+        return this.depth;
+    }
+
+    /**
+     * @return the number of leaves counted
+     */
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    /**
+     * @return the time taken by the search, in nanoseconds
+     */
+    public long getNanos() {
+        return this.nanos;
+    }
+
+    /**
+     * @return the number of leaves counted per second
+     */
+    public double getNodesPerSecond() {
+        return this.nanos == 0 ? 0 : this.nodes * (double) TimeUnit.SECONDS.toNanos(1) / this.nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("depth %d: %d nodes in %.3f ms (%.0f nodes/s)",
+                this.depth, this.nodes, this.nanos / (double) TimeUnit.MILLISECONDS.toNanos(1), getNodesPerSecond());
+    }
+}
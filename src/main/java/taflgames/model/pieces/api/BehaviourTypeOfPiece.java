@@ -73,6 +73,20 @@ public interface BehaviourTypeOfPiece {
      * @return hit-box.
      */
     Set<Position> getHitbox();
+    /**
+     * returns the move-set as an array of (deltaX, deltaY) pairs,
+     * for the code that reads it at every move.
+     * The array is shared and must not be modified.
+     * @return the directions of the move-set.
+     */
+    int[][] getMoveDirections();
+    /**
+     * returns the hit-box as an array of (x, y) offsets from the piece,
+     * for the code that reads it at every capture.
+     * The array is shared and must not be modified.
+     * @return the offsets of the hit-box.
+     */
+    int[][] getHitboxOffsets();
 
     /**
      * returns the type of this piece.
@@ -119,4 +119,11 @@ public interface Piece {
      * reanimates this piece.
      */
     void reanimate();
+
+    /**
+     * creates a new piece of the same type and player, with the same position
+     * and lives, that can be changed without affecting this one.
+     * @return the copy of this piece
+     */
+    Piece copy();
 }
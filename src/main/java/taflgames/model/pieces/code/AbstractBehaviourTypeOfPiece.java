@@ -1,8 +1,8 @@
 package taflgames.model.pieces.code;
 
-import java.util.HashSet;
 import java.util.Set;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import taflgames.common.api.FactoryHitbox;
 import taflgames.common.api.FactoryMoveSet;
 import taflgames.common.api.Vector;
@@ -15,18 +15,22 @@ import taflgames.model.pieces.api.Piece;
 * {@inheritDoc}.
 */
 public abstract class AbstractBehaviourTypeOfPiece implements BehaviourTypeOfPiece {
+    /* The factories have no state, so all the behaviours share them. */
+    private static final FactoryHitbox FACTORY_HITBOX = new ImplFactoryHitbox();
+    private static final FactoryMoveSet FACTORY_MOVE_SET = new ImplFactoryMoveset();
     private String typeName;
     private int totalNumbOfLives;
-    private Set<Vector> moveSet = new HashSet<>();
-    private Set<Position> hitbox = new HashSet<>();
-    private final FactoryHitbox factoryHitbox = new ImplFactoryHitbox();
-    private final FactoryMoveSet factoryMoveSet = new ImplFactoryMoveset();
+    private Set<Vector> moveSet = Set.of();
+    private Set<Position> hitbox = Set.of();
+    private int[][] moveDirections;
+    private int[][] hitboxOffsets;
     /**
      * {@inheritDoc}.
      */
     @Override
     public void setMoveSet(final Set<Vector> moveSet) {
         this.moveSet = Set.copyOf(moveSet);
+        this.moveDirections = null;
     }
     /**
      * {@inheritDoc}.
@@ -34,6 +38,7 @@ public abstract class AbstractBehaviourTypeOfPiece implements BehaviourTypeOfPie
     @Override
     public void setHitbox(final Set<Position> hitbox) {
         this.hitbox = Set.copyOf(hitbox);
+        this.hitboxOffsets = null;
     }
     /**
      * {@inheritDoc}.
@@ -58,7 +63,7 @@ public abstract class AbstractBehaviourTypeOfPiece implements BehaviourTypeOfPie
         if (this.moveSet.isEmpty()) {
             setMoveSet(this.generateMoveSet());
         }
-        return Set.copyOf(this.moveSet);
+        return this.moveSet;
     }
     /**
      * {@inheritDoc}.
@@ -68,7 +73,39 @@ public abstract class AbstractBehaviourTypeOfPiece implements BehaviourTypeOfPie
        if (this.hitbox.isEmpty()) {
         setHitbox(this.generateHitbox());
        }
-       return Set.copyOf(this.hitbox);
+       return this.hitbox;
+    }
+    /**
+     * {@inheritDoc}.
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The array is read at every move, so it is not copied; the callers must not modify it."
+    )
+    @Override
+    public int[][] getMoveDirections() {
+        if (this.moveDirections == null) {
+            this.moveDirections = this.getMoveSet().stream()
+                    .map(vector -> new int[] {vector.deltaX(), vector.deltaY()})
+                    .toArray(int[][]::new);
+        }
+        return this.moveDirections;
+    }
+    /**
+     * {@inheritDoc}.
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The array is read at every capture, so it is not copied; the callers must not modify it."
+    )
+    @Override
+    public int[][] getHitboxOffsets() {
+        if (this.hitboxOffsets == null) {
+            this.hitboxOffsets = this.getHitbox().stream()
+                    .map(offset -> new int[] {offset.getX(), offset.getY()})
+                    .toArray(int[][]::new);
+        }
+        return this.hitboxOffsets;
     }
     /**
      * {@inheritDoc}.
@@ -170,13 +207,13 @@ public abstract class AbstractBehaviourTypeOfPiece implements BehaviourTypeOfPie
      */
     @Override
     public FactoryHitbox getFacHitbox() {
-        return this.factoryHitbox;
+        return FACTORY_HITBOX;
     }
      /**
      * {@inheritDoc}
      */
     @Override
     public FactoryMoveSet getFacMoveSet() {
-        return this.factoryMoveSet;
+        return FACTORY_MOVE_SET;
     }
 }
@@ -19,16 +19,17 @@ import taflgames.model.memento.api.PieceMemento;
 * Implements Piece.
 */
 public abstract class AbstractPiece implements Piece {
+    /* The factory has no state of its own, so all the pieces share it. */
+    private static final FactoryBehaviourTypeOfPiece FACTORY = new ImplFactoryBehaviourTypeOfPiece();
     private Position currentPosition;
     private int currentNumbOfLives;
     private BehaviourTypeOfPiece myType;
     private Player myPlayer;
-    private final FactoryBehaviourTypeOfPiece factory = new ImplFactoryBehaviourTypeOfPiece();
     /**
      * {@inheritDoc}.
      */
     public final FactoryBehaviourTypeOfPiece getFactory() {
-        return this.factory;
+        return FACTORY;
     }
     /**
      * {@inheritDoc}.
@@ -70,7 +71,7 @@ public abstract class AbstractPiece implements Piece {
         )
         public PieceMementoImpl() {
             this.backupCurrentNumbOfLives = AbstractPiece.this.currentNumbOfLives;
-            this.backupPosition = new Position(AbstractPiece.this.currentPosition);
+            this.backupPosition = AbstractPiece.this.currentPosition;
         }
         /**
         * {@inheritDoc}.
@@ -137,7 +138,7 @@ public abstract class AbstractPiece implements Piece {
         a.addAll(this.myType.getMoveSet().stream()
         .filter(v -> v.isUnitVector())
         .map(v -> new VectorImpl(this.currentPosition, 
-            new Position(this.currentPosition.getX() + v.getEndPos().getX(), this.currentPosition.getY() + v.getEndPos().getY()), 
+            Position.of(this.currentPosition.getX() + v.getEndPos().getX(), this.currentPosition.getY() + v.getEndPos().getY()), 
             true))
             .collect(Collectors.toSet()));
         return a;
@@ -148,7 +149,7 @@ public abstract class AbstractPiece implements Piece {
     @Override
     public Set<Position> whereToHit() {
         return new HashSet<>(this.myType.getHitbox().stream()
-        .map(p -> new Position(p.getX() + this.currentPosition.getX(), p.getY() + this.currentPosition.getY()))
+        .map(p -> Position.of(p.getX() + this.currentPosition.getX(), p.getY() + this.currentPosition.getY()))
         .collect(Collectors.toSet()));
     }
     /**
@@ -312,4 +313,20 @@ public abstract class AbstractPiece implements Piece {
     public void reanimate() {
         this.setCurrNumbOfLivesLimited(this.myType.getTotalNumbOfLives());
     }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Piece copy() {
+        final AbstractPiece copy = this.newPiece(this.currentPosition, this.myPlayer);
+        copy.currentNumbOfLives = this.currentNumbOfLives;
+        return copy;
+    }
+    /**
+     * creates a new piece of the same type of this one, with all its lives.
+     * @param position the position of the new piece
+     * @param player the player of the new piece
+     * @return the new piece
+     */
+    protected abstract AbstractPiece newPiece(Position position, Player player);
 }
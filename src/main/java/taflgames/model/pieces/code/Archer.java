@@ -14,8 +14,14 @@ public class Archer extends AbstractPiece {
     public Archer(final Position startingPosition, final Player p) {
         this.setCurrentPosition(startingPosition);
         this.setMyPlayer(p);
-        this.setMyType(this.getFactory().createArcherBehaviour());
-        this.getMyType().generate();
+        this.setMyType(SharedBehaviourTypeOfPiece.ARCHER);
         this.setCurrNumbOfLivesLimited(this.getMyType().getTotalNumbOfLives());
     }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected AbstractPiece newPiece(final Position position, final Player player) {
+        return new Archer(position, player);
+    }
 }
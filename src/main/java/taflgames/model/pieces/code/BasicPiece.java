@@ -14,8 +14,14 @@ public class BasicPiece extends AbstractPiece {
     public BasicPiece(final Position startingPosition, final Player p) {
         this.setCurrentPosition(startingPosition);
         this.setMyPlayer(p);
-        this.setMyType(this.getFactory().createBasicPieceBehaviour());
-        this.getMyType().generate();
+        this.setMyType(SharedBehaviourTypeOfPiece.BASIC_PIECE);
         this.setCurrNumbOfLivesLimited(this.getMyType().getTotalNumbOfLives());
     }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected AbstractPiece newPiece(final Position position, final Player player) {
+        return new BasicPiece(position, player);
+    }
 }
@@ -13,8 +13,14 @@ public class King extends AbstractPiece {
     public King(final Position startingPosition) {
         this.setCurrentPosition(startingPosition);
         this.setMyPlayer(Player.DEFENDER);
-        this.setMyType(this.getFactory().createKingBehaviour());
-        this.getMyType().generate();
+        this.setMyType(SharedBehaviourTypeOfPiece.KING);
         this.setCurrNumbOfLivesLimited(this.getMyType().getTotalNumbOfLives());
     }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected AbstractPiece newPiece(final Position position, final Player player) {
+        return new King(position);
+    }
 }
@@ -15,8 +15,14 @@ public class Queen extends AbstractPiece {
     public Queen(final Position startingPosition, final Player p) {
         this.setCurrentPosition(startingPosition);
         this.setMyPlayer(p);
-        this.setMyType(this.getFactory().createQueenBehaviour());
-        this.getMyType().generate();
+        this.setMyType(SharedBehaviourTypeOfPiece.QUEEN);
         this.setCurrNumbOfLivesLimited(this.getMyType().getTotalNumbOfLives());
     }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected AbstractPiece newPiece(final Position position, final Player player) {
+        return new Queen(position, player);
+    }
 }
@@ -0,0 +1,220 @@
+package taflgames.model.pieces.code;
+
+import java.util.Set;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import taflgames.common.api.FactoryHitbox;
+import taflgames.common.api.FactoryMoveSet;
+import taflgames.common.api.Vector;
+import taflgames.common.code.Position;
+import taflgames.model.pieces.api.BehaviourTypeOfPiece;
+import taflgames.model.pieces.api.FactoryBehaviourTypeOfPiece;
+import taflgames.model.pieces.api.Piece;
+
+/**
+ * An immutable behaviour, shared by all the pieces of the same type: it is generated once,
+ * when the class is loaded, so a new piece costs no hit-box, move-set or factory of its own.
+ * The setters throw an {@link UnsupportedOperationException}, while {@link #generate()} does nothing,
+ * since the behaviour is already generated.
+ */
+final class SharedBehaviourTypeOfPiece implements BehaviourTypeOfPiece {
+
+    private static final FactoryBehaviourTypeOfPiece FACTORY = new ImplFactoryBehaviourTypeOfPiece();
+    /**
+     * The behaviour of the basic pieces.
+     */
+    static final BehaviourTypeOfPiece BASIC_PIECE = new SharedBehaviourTypeOfPiece(FACTORY.createBasicPieceBehaviour());
+    /**
+     * The behaviour of the king.
+     */
+    static final BehaviourTypeOfPiece KING = new SharedBehaviourTypeOfPiece(FACTORY.createKingBehaviour());
+    /**
+     * The behaviour of the queens.
+     */
+    static final BehaviourTypeOfPiece QUEEN = new SharedBehaviourTypeOfPiece(FACTORY.createQueenBehaviour());
+    /**
+     * The behaviour of the archers.
+     */
+    static final BehaviourTypeOfPiece ARCHER = new SharedBehaviourTypeOfPiece(FACTORY.createArcherBehaviour());
+    /**
+     * The behaviour of the shields.
+     */
+    static final BehaviourTypeOfPiece SHIELD = new SharedBehaviourTypeOfPiece(FACTORY.createShieldBehaviour());
+    /**
+     * The behaviour of the swappers.
+     */
+    static final BehaviourTypeOfPiece SWAPPER = new SharedBehaviourTypeOfPiece(FACTORY.createSwapperBehaviour());
+
+    private final BehaviourTypeOfPiece behaviour;
+    private final int hashCode;
+
+    private SharedBehaviourTypeOfPiece(final BehaviourTypeOfPiece behaviour) {
+        behaviour.generate();
+        // The arrays are computed now, so that the shared behaviour is never written again
+        behaviour.getMoveDirections();
+        behaviour.getHitboxOffsets();
+        this.behaviour = behaviour;
+        this.hashCode = behaviour.hashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Position> generateHitbox() {
+        return this.behaviour.generateHitbox();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Vector> generateMoveSet() {
+        return this.behaviour.generateMoveSet();
+    }
+
+    /**
+     * Does nothing, since the behaviour was generated when it was created.
+     */
+    @Override
+    public void generate() {
+        // The behaviour is already generated
+    }
+
+    /**
+     * @throws UnsupportedOperationException always, since the behaviour is shared
+     */
+    @Override
+    public void setTotNumbOfLives(final int numbLives) {
+        throw new UnsupportedOperationException("The behaviour of " + this.getTypeOfPiece() + " is shared");
+    }
+
+    /**
+     * @throws UnsupportedOperationException always, since the behaviour is shared
+     */
+    @Override
+    public void setNameTypeOfPiece(final String name) {
+        throw new UnsupportedOperationException("The behaviour of " + this.getTypeOfPiece() + " is shared");
+    }
+
+    /**
+     * @throws UnsupportedOperationException always, since the behaviour is shared
+     */
+    @Override
+    public void setMoveSet(final Set<Vector> moveSet) {
+        throw new UnsupportedOperationException("The behaviour of " + this.getTypeOfPiece() + " is shared");
+    }
+
+    /**
+     * @throws UnsupportedOperationException always, since the behaviour is shared
+     */
+    @Override
+    public void setHitbox(final Set<Position> hitbox) {
+        throw new UnsupportedOperationException("The behaviour of " + this.getTypeOfPiece() + " is shared");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Vector> getMoveSet() {
+        return this.behaviour.getMoveSet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Position> getHitbox() {
+        return this.behaviour.getHitbox();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The array is read at every move, so it is not copied; the callers must not modify it."
+    )
+    @Override
+    public int[][] getMoveDirections() {
+        return this.behaviour.getMoveDirections();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The array is read at every capture, so it is not copied; the callers must not modify it."
+    )
+    @Override
+    public int[][] getHitboxOffsets() {
+        return this.behaviour.getHitboxOffsets();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getTypeOfPiece() {
+        return this.behaviour.getTypeOfPiece();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTotalNumbOfLives() {
+        return this.behaviour.getTotalNumbOfLives();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean wasHit(final Set<Piece> enemies, final Position lastEnemyMoved) {
+        return this.behaviour.wasHit(enemies, lastEnemyMoved);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FactoryHitbox getFacHitbox() {
+        return this.behaviour.getFacHitbox();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FactoryMoveSet getFacMoveSet() {
+        return this.behaviour.getFacMoveSet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    /**
+     * There is only one shared behaviour for each type of piece, so two of them are equal
+     * only if they are the same object.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return this.behaviour.toString();
+    }
+}
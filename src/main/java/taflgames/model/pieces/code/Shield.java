@@ -15,8 +15,14 @@ public class Shield extends AbstractPiece {
     public Shield(final Position startingPosition, final Player p) {
         this.setCurrentPosition(startingPosition);
         this.setMyPlayer(p);
-        this.setMyType(this.getFactory().createShieldBehaviour());
-        this.getMyType().generate();
+        this.setMyType(SharedBehaviourTypeOfPiece.SHIELD);
         this.setCurrNumbOfLivesLimited(this.getMyType().getTotalNumbOfLives());
     }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected AbstractPiece newPiece(final Position position, final Player player) {
+        return new Shield(position, player);
+    }
 }
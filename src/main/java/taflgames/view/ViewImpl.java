@@ -7,6 +7,7 @@ import java.net.URL;
 
 import javax.swing.ImageIcon;
 import javax.swing.JFrame;
+import javax.swing.SwingUtilities;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import taflgames.controller.Controller;
@@ -32,7 +33,7 @@ public final class ViewImpl implements View {
     private final JFrame frame;
     private final CardLayout frameLayout;
     private final Dimension defaultFrameSize;
-    private Scene currentScene;
+    private volatile Scene currentScene;
 
     /**
      * Sets up the view.
@@ -90,9 +91,20 @@ public final class ViewImpl implements View {
         return (int) defaultFrameSize.getWidth();
     }
 
+    /**
+     * Updates the current scene. Since the controller may update the view from a thread of its own,
+     * e.g. when it is used through an {@link taflgames.controller.AsyncController}, the state to show
+     * is read by the calling thread, the only one that uses the controller, and only the update
+     * of the scene to that state is moved to the Event Dispatch Thread.
+     */
     @Override
     public void update() {
-        this.currentScene.update();
+        final Runnable update = this.currentScene.prepareUpdate();
+        if (SwingUtilities.isEventDispatchThread()) {
+            update.run();
+        } else {
+            SwingUtilities.invokeLater(update);
+        }
     }
 
     @SuppressFBWarnings(
@@ -16,13 +16,18 @@ import taflgames.view.scenes.UserRegistrationScene;
  */
 public final class GameOverControllerImpl extends AbstractBasicSceneController implements GameOverController {
 
+    private final Pair<MatchResult, MatchResult> result;
+
     /**
      * Builds a new GameOver scene controller.
      * @param view the main {@link taflgames.view.View} of the application.
      * @param controller the main {@link taflgames.controller.Controller} of the application.
+     * @param result the results of the attacker (first element) and of the defender (second element)
+     * of the match that is over.
      */
-    public GameOverControllerImpl(final View view, final Controller controller) {
+    public GameOverControllerImpl(final View view, final Controller controller, final Pair<MatchResult, MatchResult> result) {
         super(view, controller);
+        this.result = result;
     }
 
     /**
@@ -48,7 +53,7 @@ public final class GameOverControllerImpl extends AbstractBasicSceneController i
     @Override
     public void goToRegistrationScene() {
         this.getView().setScene(new UserRegistrationScene(
-            new UserRegistrationControllerImpl(this.getView(), this.getController())
+            new UserRegistrationControllerImpl(this.getView(), this.getController(), this.result)
         ));
     }
 
@@ -57,12 +62,8 @@ public final class GameOverControllerImpl extends AbstractBasicSceneController i
      */
     @Override
     public Optional<Player> getWinner() {
-        final Optional<Pair<MatchResult, MatchResult>> result = this.getController().getMatchResult();
-        if (result.isEmpty()) {
-            throw new IllegalStateException("No match result obtained in the game over scene.");
-        }
-        final MatchResult attackerResult = result.get().getX();
-        final MatchResult defenderResult = result.get().getY();
+        final MatchResult attackerResult = this.result.getX();
+        final MatchResult defenderResult = this.result.getY();
         if (attackerResult.equals(MatchResult.DRAW) && defenderResult.equals(MatchResult.DRAW)) {
             return Optional.empty();
         } else if (attackerResult.equals(MatchResult.VICTORY)) {
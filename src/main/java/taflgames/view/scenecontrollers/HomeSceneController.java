@@ -16,4 +16,9 @@ public interface HomeSceneController extends BasicSceneController {
      */
     void goToHighScoreScene();
 
+    /**
+     * Moves to the Replay scene.
+     */
+    void goToReplayScene();
+
 }
@@ -4,6 +4,7 @@ import taflgames.controller.Controller;
 import taflgames.view.View;
 import taflgames.view.scenes.GameChoiceScene;
 import taflgames.view.scenes.HighScoreScene;
+import taflgames.view.scenes.ReplayScene;
 
 /**
  * This class implements a scene controller for a {@link taflgames.view.scenes.HomeScene}.
@@ -46,4 +47,14 @@ public final class HomeSceneControllerImpl extends AbstractBasicSceneController
         ));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void goToReplayScene() {
+        this.getView().setScene(new ReplayScene(
+            new ReplaySceneControllerImpl(this.getView(), this.getController())
+        ));
+    }
+
 }
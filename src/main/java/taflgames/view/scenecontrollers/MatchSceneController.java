@@ -1,8 +1,11 @@
 package taflgames.view.scenecontrollers;
 
 import java.util.Map;
+import java.util.Optional;
 
 import taflgames.common.Player;
+import taflgames.common.code.MatchResult;
+import taflgames.common.code.Pair;
 import taflgames.common.code.Position;
 import taflgames.view.scenes.CellImageInfo;
 import taflgames.view.scenes.PieceImageInfo;
@@ -51,6 +54,19 @@ public interface MatchSceneController extends BasicSceneController {
      */
     boolean isMatchOver();
 
+    /**
+     * Asks to the controller of the application the result of the match.
+     * @return the results of the attacker (first element) and of the defender (second element)
+     * if the match is over, or an empty {@link Optional} otherwise
+     */
+    Optional<Pair<MatchResult, MatchResult>> getMatchResult();
+
+    /**
+     * Shows the game over scene of the match ended with the given result.
+     * @param result the results of the attacker (first element) and of the defender (second element)
+     */
+    void goToGameOverScene(Pair<MatchResult, MatchResult> result);
+
     /**
      * Undoes the last move, if any.
      */
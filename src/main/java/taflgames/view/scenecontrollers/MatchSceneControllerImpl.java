@@ -1,9 +1,12 @@
 package taflgames.view.scenecontrollers;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import taflgames.common.Player;
+import taflgames.common.code.MatchResult;
+import taflgames.common.code.Pair;
 import taflgames.common.code.Position;
 import taflgames.controller.Controller;
 import taflgames.controller.mapper.CellImageMapper;
@@ -42,8 +45,17 @@ public final class MatchSceneControllerImpl extends AbstractBasicSceneController
 
     @Override
     public void goToNextScene() {
+        this.goToGameOverScene(this.getMatchResult().orElseThrow(
+            () -> new IllegalStateException("The match is not over.")));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void goToGameOverScene(final Pair<MatchResult, MatchResult> result) {
         this.getView().setScene(new GameOverScene(
-            new GameOverControllerImpl(this.getView(), this.getController())
+            new GameOverControllerImpl(this.getView(), this.getController(), result)
         ));
     }
 
@@ -97,6 +109,14 @@ public final class MatchSceneControllerImpl extends AbstractBasicSceneController
         return this.getController().isOver();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Pair<MatchResult, MatchResult>> getMatchResult() {
+        return this.getController().getMatchResult();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,63 @@
+package taflgames.view.scenecontrollers;
+
+import java.util.Map;
+
+import taflgames.common.code.Position;
+import taflgames.view.scenes.CellImageInfo;
+import taflgames.view.scenes.PieceImageInfo;
+
+/**
+ * This interface extends a generic {@link BasicSceneController}
+ * to add specific functions for a {@link taflgames.view.scenes.ReplayScene}.
+ */
+public interface ReplaySceneController extends BasicSceneController {
+
+    /**
+     * @return the number of recorded games
+     */
+    int getGamesCount();
+
+    /**
+     * Loads one of the recorded games, at its first step.
+     * @param game the index of the game, from 0 for the oldest one
+     * @return true if the game was loaded, false if there is no such game
+     */
+    boolean loadGame(int game);
+
+    /**
+     * @return the index of the loaded game, or -1 if no game is loaded
+     */
+    int getGame();
+
+    /**
+     * @return the number of steps of the loaded game, or 0 if no game is loaded
+     */
+    int getStepsCount();
+
+    /**
+     * @return the current step of the loaded game
+     */
+    int getCurrentStep();
+
+    /**
+     * Moves the loaded game to the given step; nothing happens if no game is loaded.
+     * @param step the step, from 0 to {@link #getStepsCount()} - 1
+     */
+    void seek(int step);
+
+    /**
+     * @return a short description of the loaded game at the current step, to be shown to the user
+     */
+    String getDescription();
+
+    /**
+     * @return the mapping of each position to the type of cell
+     * (and the cells components if present) at the current step.
+     */
+    Map<Position, CellImageInfo> getCellsMapping();
+
+    /**
+     * @return the mapping of the positions of the pieces at the current step
+     */
+    Map<Position, PieceImageInfo> getPiecesMapping();
+}
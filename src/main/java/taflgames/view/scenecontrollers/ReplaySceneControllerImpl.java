@@ -0,0 +1,132 @@
+package taflgames.view.scenecontrollers;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import taflgames.common.code.Position;
+import taflgames.controller.Controller;
+import taflgames.controller.gamerecord.api.GameReplay;
+import taflgames.controller.mapper.CellImageMapper;
+import taflgames.controller.mapper.CellTypeMapper;
+import taflgames.controller.mapper.PieceImageMapper;
+import taflgames.controller.mapper.PieceTypeMapper;
+import taflgames.view.View;
+import taflgames.view.scenes.CellImageInfo;
+import taflgames.view.scenes.HomeScene;
+import taflgames.view.scenes.PieceImageInfo;
+
+/**
+ * This class implements a scene controller for a {@link taflgames.view.scenes.ReplayScene}.
+ */
+public final class ReplaySceneControllerImpl extends AbstractBasicSceneController implements ReplaySceneController {
+
+    private final PieceImageMapper pieceMapper = new PieceTypeMapper();
+    private final CellImageMapper cellMapper = new CellTypeMapper();
+    private Optional<GameReplay> replay = Optional.empty();
+    private int game = -1;
+
+    /**
+     * Creates a new replay scene controller.
+     * @param view the view of the application
+     * @param controller the main controller of the application
+     */
+    public ReplaySceneControllerImpl(final View view, final Controller controller) {
+        super(view, controller);
+    }
+
+    @Override
+    public void goToNextScene() {
+        // There is no scene after the replay scene
+    }
+
+    @Override
+    public void goToPreviousScene() {
+        this.getView().setScene(new HomeScene(
+            new HomeSceneControllerImpl(this.getView(), this.getController())
+        ));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getGamesCount() {
+        return this.getController().getRecordedGamesCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean loadGame(final int game) {
+        final Optional<GameReplay> loaded = this.getController().loadReplay(game);
+        if (loaded.isPresent()) {
+            this.replay = loaded;
+            this.game = game;
+        }
+        return loaded.isPresent();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getGame() {
+        return this.game;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getStepsCount() {
+        return this.replay.map(GameReplay::getStepsCount).orElse(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCurrentStep() {
+        return this.replay.map(GameReplay::getCurrentStep).orElse(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void seek(final int step) {
+        this.replay.ifPresent(r -> r.seek(Math.max(0, Math.min(step, r.getStepsCount() - 1))));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getDescription() {
+        return this.replay.map(r -> "Game " + (this.game + 1) + " (" + r.getMode() + "), step "
+                + (r.getCurrentStep() + 1) + " of " + r.getStepsCount() + ": turn " + r.getTurnNumber() + ", "
+                + r.getActivePlayer() + " in turn"
+                + (r.getCurrentStep() == r.getStepsCount() - 1
+                        ? r.getResult().map(result -> ", attacker " + result.getX() + ", defender " + result.getY()).orElse("")
+                        : ""))
+                .orElse("No recorded games yet.");
+    }
+
+    @Override
+    public Map<Position, CellImageInfo> getCellsMapping() {
+        return this.replay.map(r -> r.getCellsDisposition().entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                    Map.Entry::getKey, elem -> this.cellMapper.mapToImage(elem.getValue()))))
+                .orElse(Map.of());
+    }
+
+    @Override
+    public Map<Position, PieceImageInfo> getPiecesMapping() {
+        return this.replay.map(r -> r.getPiecesDisposition().entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                    Map.Entry::getKey, elem -> this.pieceMapper.mapToImage(elem.getValue()))))
+                .orElse(Map.of());
+    }
+}
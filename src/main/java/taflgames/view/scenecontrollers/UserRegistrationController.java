@@ -9,8 +9,8 @@ import taflgames.common.code.MatchResult;
 public interface UserRegistrationController extends BasicSceneController {
 
     /**
-     * Requests end match results from the main {@link taflgames.controller.Controller}. Throws
-     * an IllegalStateException if there are no match results.
+     * Sets the end match results to the ones of the match that is over,
+     * given when the scene was created.
      */
     void requestEndMatchResults();
 
@@ -4,7 +4,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 
 import taflgames.common.Player;
 import taflgames.common.code.MatchResult;
@@ -26,15 +25,20 @@ import taflgames.view.scenes.HomeScene;
 public final class UserRegistrationControllerImpl extends AbstractBasicSceneController implements UserRegistrationController {
     private final LeaderboardSaver saver;
     private final Leaderboard leaderboard;
+    private final Pair<MatchResult, MatchResult> matchResult;
     private Map<Player, MatchResult> result;
 
     /**
      * Creates a new user registration scene controller.
      * @param view the view of the application
      * @param controller the main controller of the application
+     * @param matchResult the results of the attacker (first element) and of the defender (second element)
+     * of the match that is over
      */
-    public UserRegistrationControllerImpl(final View view, final Controller controller) {
+    public UserRegistrationControllerImpl(final View view, final Controller controller,
+            final Pair<MatchResult, MatchResult> matchResult) {
         super(view, controller);
+        this.matchResult = matchResult;
         this.saver = new LeaderboardSaverImpl();
         this.leaderboard = this.saver.retrieveFromSave();
         this.requestEndMatchResults();
@@ -57,7 +61,7 @@ public final class UserRegistrationControllerImpl extends AbstractBasicSceneCont
     @Override
     public void goToPreviousScene() {
         this.getView().setScene(new GameOverScene(
-            new GameOverControllerImpl(this.getView(), this.getController())
+            new GameOverControllerImpl(this.getView(), this.getController(), this.matchResult)
         ));
     }
 
@@ -66,12 +70,7 @@ public final class UserRegistrationControllerImpl extends AbstractBasicSceneCont
      */
     @Override
     public void requestEndMatchResults() {
-        final Optional<Pair<MatchResult, MatchResult>> matchRes = this.getController().getMatchResult();
-        if (matchRes.isPresent()) {
-            this.setEndMatchResults(matchRes.get().getX(), matchRes.get().getY());
-            return;
-        }
-        throw new IllegalStateException("Match result is not present!");
+        this.setEndMatchResults(this.matchResult.getX(), this.matchResult.getY());
     }
 
     /**
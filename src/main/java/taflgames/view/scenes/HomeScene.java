@@ -26,6 +26,7 @@ public class HomeScene extends AbstractScene {
     private static final String PLAY = "Play";
     private static final String EXIT = "Exit";
     private static final String HIGH_SCORE = "High Score";
+    private static final String REPLAYS = "Replays";
     private static final double BTN_HEIGHT_PROP = 0.10;
     private static final double BTN_WIDTH_PROP = 0.45;
     private static final int WIDTH_RATIO = 200;
@@ -79,6 +80,11 @@ public class HomeScene extends AbstractScene {
         highScoreButton.setPreferredSize(buttonDimension);
         buttonsPanel.add(highScoreButton, gbc);
 
+        final JButton replaysButton = new JButton(REPLAYS);
+        replaysButton.setFont(fontManager.getButtonFont());
+        replaysButton.setPreferredSize(buttonDimension);
+        buttonsPanel.add(replaysButton, gbc);
+
         final JButton exitButton = new JButton(EXIT);
         exitButton.setFont(fontManager.getButtonFont());
         exitButton.setPreferredSize(buttonDimension);
@@ -88,6 +94,8 @@ public class HomeScene extends AbstractScene {
 
         highScoreButton.addActionListener((e) -> this.controller.goToHighScoreScene());
 
+        replaysButton.addActionListener((e) -> this.controller.goToReplayScene());
+
         exitButton.addActionListener((e) -> this.controller.close());
 
         scene.add(titlePanel, BorderLayout.NORTH);
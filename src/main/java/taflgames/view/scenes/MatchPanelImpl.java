@@ -208,6 +208,10 @@ public class MatchPanelImpl extends JPanel implements MatchPanel {
         final ActionListener al = new ActionListener() {
             @Override
             public void actionPerformed(final ActionEvent e) {
+                if (controller == null) {
+                    // The board only shows a match, e.g. in a replay
+                    return;
+                }
                 final var button = (JButton) e.getSource();
                 final var position = mapButtons.get(button);
                 selectPosition(position);
@@ -2,12 +2,15 @@ package taflgames.view.scenes;
 
 import java.awt.Dimension;
 import java.util.Map;
+import java.util.Optional;
 
 import javax.swing.BoxLayout;
 import javax.swing.JButton;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 
+import taflgames.common.code.MatchResult;
+import taflgames.common.code.Pair;
 import taflgames.common.code.Position;
 import taflgames.view.fontmanager.FontManager;
 import taflgames.view.scenecontrollers.MatchSceneController;
@@ -133,17 +136,25 @@ public final class MatchScene extends AbstractScene {
     public void updateBoardInstance(final Map<Position, PieceImageInfo> piecesAlive, final Map<Position, CellImageInfo> cells) {
         removeAllPiecesOnLayer();
         removeAllSpecialCellsOnLayer();
-        drawBackgroundCells(this.controller.getCellsMapping());
+        drawBackgroundCells(cells);
         drawAllSpecialCells(cells);
         drawAllPieces(piecesAlive);
     }
 
     @Override
     public void update() {
-        this.updateBoardInstance(this.controller.getPiecesMapping(), this.controller.getCellsMapping());
-        // Check if the match is over; if it is, then the view switches to the game over scene
-        if (this.controller.isMatchOver()) {
-            this.controller.goToNextScene();
-        }
+        this.prepareUpdate().run();
+    }
+
+    @Override
+    public Runnable prepareUpdate() {
+        final Map<Position, PieceImageInfo> piecesAlive = this.controller.getPiecesMapping();
+        final Map<Position, CellImageInfo> cells = this.controller.getCellsMapping();
+        final Optional<Pair<MatchResult, MatchResult>> result = this.controller.getMatchResult();
+        return () -> {
+            this.updateBoardInstance(piecesAlive, cells);
+            // Check if the match is over; if it is, then the view switches to the game over scene
+            result.ifPresent(this.controller::goToGameOverScene);
+        };
     }
 }
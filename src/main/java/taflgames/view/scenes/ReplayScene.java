@@ -0,0 +1,141 @@
+package taflgames.view.scenes;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Dimension;
+
+import javax.swing.BoxLayout;
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JSlider;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import taflgames.view.fontmanager.FontManager;
+import taflgames.view.scenecontrollers.ReplaySceneController;
+
+/**
+ * A View scene to watch again the recorded games: the slider moves the game to any of its steps,
+ * while the buttons move it by one step, to its ends, or to another game.
+ */
+public final class ReplayScene extends AbstractScene {
+
+    private static final String SCENE_NAME = "Replay";
+    private static final String GO_BACK = "Go Back";
+    private static final String PREVIOUS_GAME = "Previous game";
+    private static final String NEXT_GAME = "Next game";
+    private static final String FIRST_STEP = "|<";
+    private static final String PREVIOUS_STEP = "<";
+    private static final String NEXT_STEP = ">";
+    private static final String LAST_STEP = ">|";
+    private static final int NUMB_CELLS_SIDE = 11;
+
+    private final FontManager fontManager = AbstractScene.getFontManager();
+
+    private final ReplaySceneController controller;
+    private final MatchPanelImpl board;
+    private final JSlider slider = new JSlider(0, 0, 0);
+    private final JLabel description = new JLabel();
+    private boolean updating;
+
+    /**
+     * Creates the replay scene, showing the most recent game.
+     * @param controller the {@link taflgames.view.scenecontrollers.ReplaySceneController}
+     * associated to this scene.
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The scene controller cannot be created inside the class that implements the scene:"
+                + "at the moment of the creation of the scene controller, it must get a reference to the View and the Controller"
+                + "of the application and the class implementing the scene does not have access to them."
+    )
+    public ReplayScene(final ReplaySceneController controller) {
+        super(SCENE_NAME);
+        this.controller = controller;
+        final JPanel scene = super.getScene();
+        scene.setSize(new Dimension(controller.getViewHeight(), controller.getViewWidth()));
+
+        final JPanel elementsPanel = new JPanel();
+        elementsPanel.setBackground(AbstractScene.getTransparency());
+        elementsPanel.setLayout(new BoxLayout(elementsPanel, BoxLayout.Y_AXIS));
+        // The board of a replay only shows the game, so it has no match controller
+        this.board = new MatchPanelImpl(NUMB_CELLS_SIDE, controller.getViewHeight());
+        this.board.setBackground(AbstractScene.getTransparency());
+        elementsPanel.add(this.board);
+
+        this.description.setFont(fontManager.getButtonFont());
+        this.description.setForeground(AbstractScene.getLabelTextColor());
+        this.description.setAlignmentX(Component.CENTER_ALIGNMENT);
+        elementsPanel.add(this.description);
+
+        this.slider.setOpaque(false);
+        this.slider.setForeground(Color.WHITE);
+        this.slider.addChangeListener(e -> {
+            if (!this.updating) {
+                this.controller.seek(this.slider.getValue());
+                this.update();
+            }
+        });
+        elementsPanel.add(this.slider);
+
+        final JPanel buttonsPanel = new JPanel();
+        buttonsPanel.setBackground(AbstractScene.getTransparency());
+        this.addButton(buttonsPanel, PREVIOUS_GAME, () -> this.loadGame(this.controller.getGame() - 1));
+        this.addButton(buttonsPanel, FIRST_STEP, () -> this.seek(0));
+        this.addButton(buttonsPanel, PREVIOUS_STEP, () -> this.seek(this.controller.getCurrentStep() - 1));
+        this.addButton(buttonsPanel, NEXT_STEP, () -> this.seek(this.controller.getCurrentStep() + 1));
+        this.addButton(buttonsPanel, LAST_STEP, () -> this.seek(this.controller.getStepsCount() - 1));
+        this.addButton(buttonsPanel, NEXT_GAME, () -> this.loadGame(this.controller.getGame() + 1));
+        this.addButton(buttonsPanel, GO_BACK, this.controller::goToPreviousScene);
+        elementsPanel.add(buttonsPanel);
+        scene.add(elementsPanel);
+
+        // The most recent game is shown first
+        this.controller.loadGame(this.controller.getGamesCount() - 1);
+        this.update();
+    }
+
+    @Override
+    public void update() {
+        this.prepareUpdate().run();
+    }
+
+    @Override
+    public Runnable prepareUpdate() {
+        final var cells = this.controller.getCellsMapping();
+        final var pieces = this.controller.getPiecesMapping();
+        final int stepsCount = this.controller.getStepsCount();
+        final int currentStep = this.controller.getCurrentStep();
+        final String text = this.controller.getDescription();
+        return () -> {
+            this.board.removeAllIconsOnLayer(this.board.getMapPieces());
+            this.board.removeAllIconsOnLayer(this.board.getMapSpecialCell());
+            this.board.drawBackgroundCells(cells);
+            this.board.drawAllSpecialCells(cells);
+            this.board.drawAllPieces(pieces);
+            this.updating = true;
+            this.slider.setMaximum(Math.max(0, stepsCount - 1));
+            this.slider.setValue(currentStep);
+            this.updating = false;
+            this.description.setText(text);
+        };
+    }
+
+    private void addButton(final JPanel panel, final String text, final Runnable action) {
+        final JButton button = new JButton(text);
+        button.setFont(fontManager.getButtonFont());
+        button.addActionListener(e -> action.run());
+        panel.add(button);
+    }
+
+    private void seek(final int step) {
+        this.controller.seek(step);
+        this.update();
+    }
+
+    private void loadGame(final int game) {
+        if (game >= 0 && this.controller.loadGame(game)) {
+            this.update();
+        }
+    }
+}
@@ -22,4 +22,16 @@ public interface Scene {
      */
     void update();
 
+    /**
+     * Reads, on the calling thread, the state that the scene shows, and returns the update
+     * of the scene to that state, which must run on the Event Dispatch Thread and must not read
+     * the state again: this way, the state can be read by the thread that changes it,
+     * while the scene is updated by the thread of the user interface.
+     * By default, the returned update is {@link #update()} itself.
+     * @return the update of the scene
+     */
+    default Runnable prepareUpdate() {
+        return this::update;
+    }
+
 }
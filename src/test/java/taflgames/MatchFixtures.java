@@ -0,0 +1,99 @@
+package taflgames;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import taflgames.common.Player;
+import taflgames.common.code.Position;
+import taflgames.controller.entitystate.CellState;
+import taflgames.controller.headless.api.GameMode;
+import taflgames.controller.headless.code.Matches;
+import taflgames.model.Match;
+import taflgames.model.Model;
+import taflgames.model.board.api.BoardFactory;
+import taflgames.model.board.code.BitBoardImpl;
+import taflgames.model.board.code.BoardImpl;
+import taflgames.model.cell.api.Cell;
+import taflgames.model.cell.code.ClassicCell;
+import taflgames.model.cell.code.Exit;
+import taflgames.model.cell.code.Throne;
+import taflgames.model.pieces.api.Piece;
+import taflgames.model.pieces.code.BasicPiece;
+import taflgames.model.pieces.code.King;
+
+/**
+ * Matches and descriptions of matches shared by the tests that play on both boards.
+ */
+final class MatchFixtures {
+
+    private static final int SMALL_BOARD_SIZE = 7;
+
+    private MatchFixtures() {
+    }
+
+    /**
+     * @param bitboard whether the board is a {@link BitBoardImpl} rather than a {@link BoardImpl}
+     * @return the factory of the board
+     */
+    static BoardFactory boards(final boolean bitboard) {
+        return bitboard ? BitBoardImpl::new : BoardImpl::new;
+    }
+
+    /**
+     * Creates a new match from the configuration of a mode.
+     * @param variant whether the match is of the variant mode rather than of the classic one
+     * @param bitboard whether the board is a {@link BitBoardImpl} rather than a {@link BoardImpl}
+     * @return the new match
+     * @throws IOException if the configuration cannot be loaded
+     */
+    static Model createMatch(final boolean variant, final boolean bitboard) throws IOException {
+        return Matches.create(variant ? GameMode.VARIANT : GameMode.CLASSIC, boards(bitboard));
+    }
+
+    /**
+     * Creates a 7x7 match with the exits in the corners, the throne in the center and the king in (0, 3),
+     * plus the given basic pieces.
+     * @param bitboard whether the board is a {@link BitBoardImpl} rather than a {@link BoardImpl}
+     * @param basicPieces the owner of each basic piece, by position
+     * @return the new match
+     */
+    static Model createSmallMatch(final boolean bitboard, final Map<Position, Player> basicPieces) {
+        final Map<Position, Cell> cells = new HashMap<>();
+        for (int i = 0; i < SMALL_BOARD_SIZE; i++) {
+            for (int j = 0; j < SMALL_BOARD_SIZE; j++) {
+                cells.put(new Position(i, j), new ClassicCell());
+            }
+        }
+        final int last = SMALL_BOARD_SIZE - 1;
+        List.of(new Position(0, 0), new Position(0, last), new Position(last, 0), new Position(last, last))
+            .forEach(pos -> cells.put(pos, new Exit()));
+        cells.put(new Position(last / 2, last / 2), new Throne());
+        final Map<Player, Map<Position, Piece>> pieces = Map.of(
+            Player.ATTACKER, new HashMap<>(),
+            Player.DEFENDER, new HashMap<>());
+        pieces.get(Player.DEFENDER).put(new Position(0, 3), new King(new Position(0, 3)));
+        basicPieces.forEach((pos, player) -> pieces.get(player).put(pos, new BasicPiece(pos, player)));
+        pieces.values().forEach(map -> map.keySet().forEach(pos -> cells.get(pos).setFree(false)));
+        return new Match(boards(bitboard).create(pieces, cells, SMALL_BOARD_SIZE));
+    }
+
+    /**
+     * Describes everything the players can see of a match, so that two matches can be compared.
+     * @param match the match
+     * @return the description of the match
+     */
+    static String describe(final Model match) {
+        final Map<String, String> description = new TreeMap<>();
+        match.getCellsMapping().forEach((pos, cell) -> description.put(pos.toString(), describe(cell)));
+        match.getPiecesMapping().forEach((pos, piece) ->
+                description.merge(pos.toString(), piece.getName() + " " + piece.getPlayer(), (c, p) -> c + " " + p));
+        return match.getActivePlayer() + " " + match.getTurnNumber() + " " + match.getMatchEndStatus() + description;
+    }
+
+    private static String describe(final CellState cell) {
+        return cell.getPrimaryName() + (cell.getOrientation() == null ? "" : " " + cell.getOrientation().getEndPos());
+    }
+}
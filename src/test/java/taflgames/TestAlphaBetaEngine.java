@@ -0,0 +1,151 @@
+package taflgames;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import taflgames.common.Player;
+import taflgames.common.code.MoveBuffer;
+import taflgames.common.code.Position;
+import taflgames.model.Model;
+import taflgames.model.ai.api.Engine;
+import taflgames.model.ai.api.Evaluation;
+import taflgames.model.ai.code.AlphaBetaEngine;
+import taflgames.model.ai.code.DefaultEvaluation;
+import taflgames.model.ai.code.SearchResult;
+
+/**
+ * JUnit tests for {@link AlphaBetaEngine}.
+ */
+class TestAlphaBetaEngine {
+
+    private static final Duration LONG_BUDGET = Duration.ofSeconds(10);
+    private static final Duration SHORT_BUDGET = Duration.ofMillis(300);
+    private static final Duration SLACK = Duration.ofSeconds(2);
+    private static final int SHALLOW_DEPTH = 1;
+    private static final int TACTICS_DEPTH = 3;
+    private static final int RANDOM_TURNS = 20;
+    private static final long SEED = 11;
+
+    /**
+     * Plays random matches in both game modes and on both boards, checking at each turn
+     * that pushing and popping every legal move, alone or followed by a reply,
+     * leaves the match exactly as it was.
+     */
+    @Test
+    void testPushAndPopMove() throws IOException {
+        final Random random = new Random(SEED);
+        final MoveBuffer moves = new MoveBuffer();
+        final MoveBuffer replies = new MoveBuffer();
+        for (final boolean variant : List.of(false, true)) {
+            for (final boolean bitboard : List.of(false, true)) {
+                final Model match = MatchFixtures.createMatch(variant, bitboard);
+                for (int turn = 0; turn < RANDOM_TURNS && match.getMatchEndStatus().isEmpty(); turn++) {
+                    final String before = MatchFixtures.describe(match);
+                    match.generateLegalMoves(match.getActivePlayer(), moves);
+                    for (int i = 0; i < moves.size(); i++) {
+                        match.pushMove(moves.getSource(i), moves.getDestination(i));
+                        match.generateLegalMoves(match.getActivePlayer(), replies);
+                        if (match.getMatchEndStatus().isEmpty() && !replies.isEmpty()) {
+                            final int reply = random.nextInt(replies.size());
+                            final String afterMove = MatchFixtures.describe(match);
+                            match.pushMove(replies.getSource(reply), replies.getDestination(reply));
+                            match.popMove();
+                            assertEquals(afterMove, MatchFixtures.describe(match));
+                        }
+                        match.popMove();
+                        assertEquals(before, MatchFixtures.describe(match));
+                    }
+                    final int move = random.nextInt(moves.size());
+                    match.selectSource(moves.getSource(move));
+                    match.makeMove(moves.getSource(move), moves.getDestination(move));
+                    match.setNextActivePlayer();
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that the king takes an open way to an exit.
+     */
+    @Test
+    void testKingEscapes() {
+        for (final boolean bitboard : List.of(false, true)) {
+            final Model match = MatchFixtures.createSmallMatch(bitboard, Map.of(
+                new Position(6, 3), Player.ATTACKER,
+                new Position(4, 4), Player.ATTACKER,
+                new Position(0, 5), Player.DEFENDER));
+            match.setNextActivePlayer();
+            final SearchResult result = search(new AlphaBetaEngine(new DefaultEvaluation(), LONG_BUDGET, TACTICS_DEPTH), match);
+            assertEquals(new Position(0, 3), result.getSource());
+            assertEquals(new Position(0, 0), result.getDestination());
+            assertTrue(result.getScore() > Evaluation.MAX_SCORE);
+        }
+    }
+
+    /**
+     * Test that the attackers close the only way of the king to an exit.
+     */
+    @Test
+    void testAttackerBlocksKing() {
+        for (final boolean bitboard : List.of(false, true)) {
+            final Model match = MatchFixtures.createSmallMatch(bitboard, Map.of(
+                new Position(4, 1), Player.ATTACKER,
+                new Position(6, 4), Player.ATTACKER,
+                new Position(0, 5), Player.DEFENDER));
+            final SearchResult result = search(new AlphaBetaEngine(new DefaultEvaluation(), LONG_BUDGET, TACTICS_DEPTH), match);
+            assertTrue(Set.of(new Position(0, 1), new Position(0, 2)).contains(result.getDestination()));
+            assertTrue(result.getScore() > -Evaluation.MAX_SCORE);
+        }
+    }
+
+    /**
+     * Test that a piece that can be captured is captured, when the king has no way out to block.
+     */
+    @Test
+    void testCapture() {
+        for (final boolean bitboard : List.of(false, true)) {
+            final Model match = MatchFixtures.createSmallMatch(bitboard, Map.of(
+                new Position(5, 1), Player.ATTACKER,
+                new Position(6, 3), Player.ATTACKER,
+                new Position(4, 5), Player.ATTACKER,
+                new Position(1, 3), Player.ATTACKER,
+                new Position(0, 1), Player.ATTACKER,
+                new Position(0, 5), Player.ATTACKER,
+                new Position(1, 4), Player.DEFENDER));
+            final SearchResult result = search(new AlphaBetaEngine(new DefaultEvaluation(), LONG_BUDGET, SHALLOW_DEPTH), match);
+            assertEquals(new Position(4, 5), result.getSource());
+            assertEquals(new Position(1, 5), result.getDestination());
+        }
+    }
+
+    /**
+     * Test that a search from the initial position of the Variant mode keeps within its time budget,
+     * returns a legal move and leaves the match as it was.
+     */
+    @Test
+    void testTimeBudget() throws IOException {
+        final Model match = MatchFixtures.createMatch(true, true);
+        final String before = MatchFixtures.describe(match);
+        final long start = System.nanoTime();
+        final SearchResult result = search(new AlphaBetaEngine(SHORT_BUDGET), match);
+        final long elapsed = System.nanoTime() - start;
+        assertTrue(elapsed < SHORT_BUDGET.plus(SLACK).toNanos());
+        assertTrue(result.getDepth() >= 1);
+        assertEquals(before, MatchFixtures.describe(match));
+        assertTrue(match.selectSource(result.getSource()));
+        assertTrue(match.selectDestination(result.getSource(), result.getDestination()));
+    }
+
+    private SearchResult search(final Engine engine, final Model match) {
+        return engine.search(match).orElseThrow();
+    }
+}
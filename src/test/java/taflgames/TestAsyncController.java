@@ -0,0 +1,140 @@
+package taflgames;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import taflgames.common.Player;
+import taflgames.common.code.Position;
+import taflgames.controller.AsyncController;
+import taflgames.controller.AsyncControllerImpl;
+import taflgames.controller.Controller;
+
+/**
+ * JUnit tests for {@link AsyncControllerImpl}.
+ */
+class TestAsyncController {
+
+    private static final String CALLER_THREAD = "caller";
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+    private final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch moveGate = new CountDownLatch(1);
+
+    /**
+     * Test that the operations are performed in order on the thread of the match, without blocking
+     * the caller, and that their results are delivered on the thread of the caller.
+     * @throws Exception if an operation fails
+     */
+    @Test
+    void testOrderAndThreads() throws Exception {
+        final ExecutorService caller = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, CALLER_THREAD));
+        try (AsyncController controller = new AsyncControllerImpl(this.createController(), caller)) {
+            final CompletableFuture<Boolean> move = controller.moveIfLegal(Position.of(3, 0), Position.of(3, 2));
+            final CompletableFuture<String> moveThread = move.thenApply(legal -> Thread.currentThread().getName());
+            final CompletableFuture<Void> pass = controller.passTurn();
+            final CompletableFuture<Player> player = controller.getCurrentPlayer();
+            final CompletableFuture<Boolean> over = controller.isOver();
+            assertFalse(move.isDone() || pass.isDone() || player.isDone() || over.isDone());
+
+            this.moveGate.countDown();
+            /* waiting on the move first could run its dependent on this thread */
+            assertEquals(CALLER_THREAD, moveThread.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertTrue(move.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            pass.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertEquals(Player.DEFENDER, player.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertFalse(over.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertEquals(List.of("moveIfLegal", "passTurn", "getCurrentPlayer", "isOver"), this.calls);
+            assertEquals(1, this.threads.stream().distinct().count());
+            assertFalse(this.threads.get(0).getName().equals(CALLER_THREAD));
+        } finally {
+            caller.shutdownNow();
+        }
+    }
+
+    /**
+     * Test that the failures of the operations are delivered through their futures,
+     * and that no operation is accepted after the controller is closed.
+     * @throws Exception if the futures cannot be waited
+     */
+    @Test
+    void testFailuresAndClose() throws Exception {
+        this.moveGate.countDown();
+        final AsyncController controller = new AsyncControllerImpl(this.createController(), Runnable::run);
+        final CompletableFuture<Void> creation = controller.createClassicModeMatch();
+        final ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> creation.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(failure.getCause() instanceof IOException);
+        final CompletableFuture<Optional<?>> replay = controller.loadReplay(0).thenApply(game -> game);
+        controller.close();
+        assertEquals(Optional.empty(), replay.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        final CompletableFuture<Void> undo = controller.undo();
+        final ExecutionException closed = assertThrows(ExecutionException.class,
+                () -> undo.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(closed.getCause() instanceof IllegalStateException);
+        assertEquals(List.of("createClassicModeMatch", "loadReplay"), this.calls);
+    }
+
+    /**
+     * Test that an operation throwing an error completes its future too,
+     * and that the following operations are still performed.
+     * @throws Exception if the futures cannot be waited
+     */
+    @Test
+    void testErrors() throws Exception {
+        this.moveGate.countDown();
+        try (AsyncController controller = new AsyncControllerImpl(this.createController(), Runnable::run)) {
+            final CompletableFuture<?> leaderboard = controller.getLeaderboard();
+            final ExecutionException failure = assertThrows(ExecutionException.class,
+                    () -> leaderboard.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertTrue(failure.getCause() instanceof AssertionError);
+            assertEquals(Player.DEFENDER, controller.getCurrentPlayer().get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+    }
+
+    /*
+     * A controller that records its calls and their threads; the moves wait for the gate,
+     * to simulate a slow operation.
+     */
+    private Controller createController() {
+        return (Controller) Proxy.newProxyInstance(Controller.class.getClassLoader(), new Class<?>[] {Controller.class},
+                (proxy, method, args) -> {
+                    this.calls.add(method.getName());
+                    this.threads.add(Thread.currentThread());
+                    switch (method.getName()) {
+                        case "createClassicModeMatch":
+                            throw new IOException("No configuration");
+                        case "moveIfLegal":
+                            this.moveGate.await();
+                            return true;
+                        case "isOver":
+                            return false;
+                        case "getCurrentPlayer":
+                            return Player.DEFENDER;
+                        case "getLeaderboard":
+                            throw new AssertionError("Corrupted leaderboard");
+                        case "loadReplay":
+                            return Optional.empty();
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
@@ -0,0 +1,195 @@
+package taflgames;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import taflgames.common.Player;
+import taflgames.common.code.Position;
+import taflgames.model.Model;
+import taflgames.model.board.api.Board;
+import taflgames.model.board.code.BitBoardImpl;
+import taflgames.model.board.code.BoardImpl;
+import taflgames.model.cell.api.Cell;
+import taflgames.model.cell.code.ClassicCell;
+import taflgames.model.memento.api.MatchMemento;
+import taflgames.model.pieces.api.Piece;
+import taflgames.model.pieces.code.Archer;
+import taflgames.model.pieces.code.BasicPiece;
+import taflgames.model.pieces.code.King;
+import taflgames.model.pieces.code.Shield;
+
+/**
+ * JUnit tests for {@link BitBoardImpl}.
+ */
+class TestBitBoard {
+
+    private static final int DEFAULT_BOARD_SIZE = 5;
+    private static final int BIG_BOARD_SIZE = 19;
+    private static final int GAMES_PER_MODE = 2;
+    private static final int MAX_TURNS = 120;
+    private static final long SEED = 42;
+
+    private Map<Position, Cell> cells;
+    private Map<Player, Map<Position, Piece>> pieces;
+
+    private void initEmptyBoard(final int size) {
+        this.cells = new HashMap<>();
+        this.pieces = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                cells.put(new Position(i, j), new ClassicCell());
+            }
+        }
+        pieces.put(Player.ATTACKER, new HashMap<>());
+        pieces.put(Player.DEFENDER, new HashMap<>());
+    }
+
+    private void addPiece(final Piece piece) {
+        pieces.get(piece.getPlayer()).put(piece.getCurrentPosition(), piece);
+        cells.get(piece.getCurrentPosition()).setFree(false);
+    }
+
+    /**
+     * Test that squares beyond the 64th bit are handled like the others.
+     */
+    @Test
+    void testBigBoard() {
+        initEmptyBoard(BIG_BOARD_SIZE);
+        final Position last = new Position(BIG_BOARD_SIZE - 1, BIG_BOARD_SIZE - 1);
+        addPiece(new BasicPiece(last, Player.ATTACKER));
+        addPiece(new BasicPiece(new Position(BIG_BOARD_SIZE - 1, 3), Player.DEFENDER));
+        final Board board = new BitBoardImpl(pieces, cells, BIG_BOARD_SIZE);
+
+        assertTrue(board.isStartingPointValid(last, Player.ATTACKER));
+        assertTrue(board.isDestinationValid(last, new Position(0, BIG_BOARD_SIZE - 1), Player.ATTACKER));
+        assertTrue(board.isDestinationValid(last, new Position(BIG_BOARD_SIZE - 1, 4), Player.ATTACKER));
+        assertFalse(board.isDestinationValid(last, new Position(BIG_BOARD_SIZE - 1, 2), Player.ATTACKER));
+        board.updatePiecePos(last, new Position(BIG_BOARD_SIZE - 1, 4), Player.ATTACKER);
+        assertFalse(board.isStartingPointValid(last, Player.ATTACKER));
+        assertTrue(board.isStartingPointValid(new Position(BIG_BOARD_SIZE - 1, 4), Player.ATTACKER));
+    }
+
+    /**
+     * Test the captures involving the king, the shield and the archer.
+     */
+    @Test
+    void testEat() {
+        // The king needs four enemies around it
+        initEmptyBoard(DEFAULT_BOARD_SIZE);
+        addPiece(new King(new Position(2, 1)));
+        addPiece(new BasicPiece(new Position(2, 0), Player.ATTACKER));
+        addPiece(new BasicPiece(new Position(1, 1), Player.ATTACKER));
+        addPiece(new BasicPiece(new Position(3, 1), Player.ATTACKER));
+        addPiece(new BasicPiece(new Position(2, 3), Player.ATTACKER));
+        Board board = new BitBoardImpl(pieces, cells, DEFAULT_BOARD_SIZE);
+        assertTrue(board.isStartingPointValid(new Position(2, 3), Player.ATTACKER));
+        board.updatePiecePos(new Position(2, 3), new Position(2, 2), Player.ATTACKER);
+        board.eat();
+        assertEquals(Optional.of(Player.ATTACKER), board.checkForWinningPlayer());
+
+        // The shield survives the first capture
+        initEmptyBoard(DEFAULT_BOARD_SIZE);
+        addPiece(new Shield(new Position(2, 2), Player.DEFENDER));
+        addPiece(new BasicPiece(new Position(2, 1), Player.ATTACKER));
+        addPiece(new BasicPiece(new Position(0, 3), Player.ATTACKER));
+        board = new BitBoardImpl(pieces, cells, DEFAULT_BOARD_SIZE);
+        assertTrue(board.isStartingPointValid(new Position(0, 3), Player.ATTACKER));
+        board.updatePiecePos(new Position(0, 3), new Position(2, 3), Player.ATTACKER);
+        board.eat();
+        assertTrue(board.getMapPieces().get(Player.DEFENDER).containsKey(new Position(2, 2)));
+        assertEquals(1, board.getMapPieces().get(Player.DEFENDER).get(new Position(2, 2)).getCurrNumbOfLives());
+
+        // An allied piece stops the shot of the archer
+        initEmptyBoard(DEFAULT_BOARD_SIZE);
+        addPiece(new BasicPiece(new Position(2, 2), Player.DEFENDER));
+        addPiece(new BasicPiece(new Position(2, 1), Player.ATTACKER));
+        addPiece(new Archer(new Position(4, 0), Player.ATTACKER));
+        addPiece(new BasicPiece(new Position(3, 2), Player.ATTACKER));
+        board = new BitBoardImpl(pieces, cells, DEFAULT_BOARD_SIZE);
+        assertTrue(board.isStartingPointValid(new Position(4, 0), Player.ATTACKER));
+        board.updatePiecePos(new Position(4, 0), new Position(4, 2), Player.ATTACKER);
+        board.eat();
+        assertTrue(board.getMapPieces().get(Player.DEFENDER).containsKey(new Position(2, 2)));
+    }
+
+    /**
+     * Plays random matches in both game modes on a {@link BoardImpl} and on a {@link BitBoardImpl}
+     * at the same time, checking that the two boards always agree.
+     */
+    @Test
+    void testSameBehaviourAsBoardImpl() throws IOException {
+        final Random random = new Random(SEED);
+        for (final boolean variant : List.of(false, true)) {
+            for (int game = 0; game < GAMES_PER_MODE; game++) {
+                final Model reference = MatchFixtures.createMatch(variant, false);
+                final Model bitboard = MatchFixtures.createMatch(variant, true);
+                MatchMemento referenceSnapshot = reference.save();
+                MatchMemento bitboardSnapshot = bitboard.save();
+                for (int turn = 0; turn < MAX_TURNS && reference.getMatchEndStatus().isEmpty(); turn++) {
+                    assertTrue(bitboard.getMatchEndStatus().isEmpty());
+                    final List<Position[]> moves = new ArrayList<>();
+                    final Set<Position> occupied = reference.getPiecesMapping().keySet();
+                    for (final Position source : occupied) {
+                        assertEquals(reference.selectSource(source), bitboard.selectSource(source));
+                        if (reference.selectSource(source)) {
+                            /*
+                             * Only the destinations on the same row or column and the occupied ones
+                             * can be valid: the other ones are not worth checking.
+                             */
+                            for (final Position dest : reference.getCellsMapping().keySet().stream()
+                                    .filter(dest -> dest.getX() == source.getX() || dest.getY() == source.getY()
+                                            || occupied.contains(dest))
+                                    .toList()) {
+                                final boolean valid = reference.selectDestination(source, dest);
+                                assertEquals(valid, bitboard.selectDestination(source, dest), source + " -> " + dest);
+                                if (valid) {
+                                    moves.add(new Position[] {source, dest});
+                                }
+                            }
+                        }
+                    }
+                    final Position[] move = moves.get(random.nextInt(moves.size()));
+                    assertTrue(reference.selectSource(move[0]));
+                    assertTrue(bitboard.selectSource(move[0]));
+                    reference.makeMove(move[0], move[1]);
+                    bitboard.makeMove(move[0], move[1]);
+                    reference.setNextActivePlayer();
+                    bitboard.setNextActivePlayer();
+                    assertEquals(describe(reference), describe(bitboard));
+                    if (turn == MAX_TURNS / 2) {
+                        referenceSnapshot = reference.save();
+                        bitboardSnapshot = bitboard.save();
+                    }
+                }
+                assertEquals(reference.getMatchEndStatus(), bitboard.getMatchEndStatus());
+                reference.restore(referenceSnapshot);
+                bitboard.restore(bitboardSnapshot);
+                assertEquals(describe(reference), describe(bitboard));
+            }
+        }
+    }
+
+    private Map<String, String> describe(final Model match) {
+        final Map<String, String> description = new TreeMap<>();
+        match.getPiecesMapping().forEach((pos, piece) -> description.put(
+                "piece " + pos.getX() + "," + pos.getY(), piece.getName() + " " + piece.getPlayer()));
+        match.getCellsMapping().forEach((pos, cell) -> description.put(
+                "cell " + pos.getX() + "," + pos.getY(),
+                cell.getPrimaryName() + " " + cell.getPlayer() + " " + cell.getOrientation()));
+        description.put("turn", match.getTurnNumber() + " " + match.getActivePlayer());
+        return description;
+    }
+}
@@ -0,0 +1,22 @@
+package taflgames;
+
+import java.util.Map;
+
+import taflgames.common.Player;
+import taflgames.common.code.Position;
+import taflgames.model.board.api.Board;
+import taflgames.model.board.code.BitBoardImpl;
+import taflgames.model.cell.api.Cell;
+import taflgames.model.pieces.api.Piece;
+
+/**
+ * JUnit tests for {@link taflgames.model.Model}, running all the tests of {@link TestMatch}
+ * on a {@link BitBoardImpl}.
+ */
+class TestBitBoardMatch extends TestMatch {
+
+    @Override
+    Board createBoard(final Map<Player, Map<Position, Piece>> pieces, final Map<Position, Cell> cells, final int size) {
+        return new BitBoardImpl(pieces, cells, size);
+    }
+}
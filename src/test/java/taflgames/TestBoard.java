@@ -3,9 +3,13 @@ package taflgames;
 import org.junit.jupiter.api.BeforeAll;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.HashMap;
@@ -29,6 +33,7 @@ import taflgames.model.cell.code.Throne;
 /**
  * JUnit tests for {@link Board}.
  */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class TestBoard {
     // 
     /* CPD suppressed because tests are naturally repetitive and their purpose
@@ -36,9 +41,9 @@ class TestBoard {
      */
     private static final int DEFAULT_BOARD_SIZE = 5;
 
-    private static Board board;
-    private static Map<Player, Map<Position, Piece>> pieces = new HashMap<>();
-    private static Map<Position, Cell> cells = new HashMap<>();
+    private Board board;
+    private final Map<Player, Map<Position, Piece>> pieces = new HashMap<>();
+    private final Map<Position, Cell> cells = new HashMap<>();
     private static Player p1 = Player.ATTACKER;
     private static Player p2 = Player.DEFENDER;
 
@@ -46,7 +51,7 @@ class TestBoard {
      * Initializes a board before the first test.
      */
     @BeforeAll
-    static void init() {
+    void init() {
         final Map<Position, Piece> piecesPlayer1 = new HashMap<>();
         final Map<Position, Piece> piecesPlayer2 = new HashMap<>();
         piecesPlayer1.put(new Position(0, 0), new BasicPiece(new Position(0, 0), p1));
@@ -61,7 +66,18 @@ class TestBoard {
         }
         cells.get(new Position(0, 0)).setFree(false);
         cells.get(new Position(3, 3)).setFree(false);
-        board = new BoardImpl(pieces, cells, DEFAULT_BOARD_SIZE);
+        board = createBoard(pieces, cells, DEFAULT_BOARD_SIZE);
+    }
+
+    /**
+     * Creates the board whose rules are tested.
+     * @param pieces the pieces of the two players
+     * @param cells the cells of the board
+     * @param size the size of the board
+     * @return the board
+     */
+    Board createBoard(final Map<Player, Map<Position, Piece>> pieces, final Map<Position, Cell> cells, final int size) {
+        return new BoardImpl(pieces, cells, size);
     }
 
     /**
@@ -75,6 +91,21 @@ class TestBoard {
         assertFalse(board.isStartingPointValid(new Position(2, 2), p1));
     }
 
+    /**
+     * Test that the map of the cells holds the same cells as the one given to the board,
+     * and that it cannot be changed.
+     */
+    @Test
+    void testMapCells() {
+        final Map<Position, Cell> mapCells = board.getMapCells();
+        assertEquals(cells, mapCells);
+        assertEquals(DEFAULT_BOARD_SIZE * DEFAULT_BOARD_SIZE, mapCells.size());
+        cells.forEach((position, cell) -> assertSame(cell, mapCells.get(position)));
+        assertNull(mapCells.get(new Position(DEFAULT_BOARD_SIZE, 0)));
+        assertNull(mapCells.get(new Position(-1, 0)));
+        assertThrows(UnsupportedOperationException.class, () -> mapCells.put(new Position(0, 0), new ClassicCell()));
+    }
+
     /**
      * Test the selection of the destination cell.
      */
@@ -112,7 +143,7 @@ class TestBoard {
         piecesPlayer1.entrySet().stream().forEach(piece -> cells.get(piece.getKey()).setFree(false));
         piecesPlayer2.entrySet().stream().forEach(piece -> cells.get(piece.getKey()).setFree(false));
 
-        board2 = new BoardImpl(pieces, cells, DEFAULT_BOARD_SIZE);
+        board2 = createBoard(pieces, cells, DEFAULT_BOARD_SIZE);
 
         /*testing the validity of a destination if the starting position is 0,0 */
         assertFalse(board2.isDestinationValid(new Position(0, 0), new Position(3, 0), p1));
@@ -168,7 +199,7 @@ class TestBoard {
         } 
         piecesPlayer1.entrySet().stream().forEach(piece -> cells.get(piece.getKey()).setFree(false));
         piecesPlayer2.entrySet().stream().forEach(piece -> cells.get(piece.getKey()).setFree(false));
-        board3 = new BoardImpl(pieces, cells, DEFAULT_BOARD_SIZE);
+        board3 = createBoard(pieces, cells, DEFAULT_BOARD_SIZE);
 
         /*test the position's update of a normal piece*/
         board3.updatePiecePos(new Position(0, 0), new Position(1, 1), p1);
@@ -233,7 +264,7 @@ class TestBoard {
         } 
         piecesPlayer1.entrySet().stream().forEach(piece -> cells.get(piece.getKey()).setFree(false));
         piecesPlayer2.entrySet().stream().forEach(piece -> cells.get(piece.getKey()).setFree(false));
-        board1 = new BoardImpl(pieces, cells, DEFAULT_BOARD_SIZE);
+        board1 = createBoard(pieces, cells, DEFAULT_BOARD_SIZE);
 
         assertEquals(new Position(3, 3), board1.getFurthestReachablePos(new Position(3, 3), new VectorImpl(0, 1)));
         assertEquals(new Position(3, 0), board1.getFurthestReachablePos(new Position(3, 3), new VectorImpl(0, -1))); 
@@ -278,7 +309,7 @@ class TestBoard {
         piecesPlayer1.entrySet().stream().forEach(piece -> cells.get(piece.getKey()).setFree(false));
         piecesPlayer2.entrySet().stream().forEach(piece -> cells.get(piece.getKey()).setFree(false));
 
-        board4 = new BoardImpl(pieces, cells, DEFAULT_BOARD_SIZE);
+        board4 = createBoard(pieces, cells, DEFAULT_BOARD_SIZE);
 
         /*king trapped */
         assertTrue(board4.isDraw(p2));
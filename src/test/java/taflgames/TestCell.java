@@ -10,6 +10,9 @@ import taflgames.model.pieces.code.Queen;
 import taflgames.model.pieces.code.Swapper;
 import taflgames.common.Player;
 import taflgames.common.code.Position;
+import taflgames.model.board.api.Board;
+import taflgames.model.board.api.BoardFactory;
+import taflgames.model.board.code.BitBoardImpl;
 import taflgames.model.board.code.BoardImpl;
 import taflgames.model.cell.api.Cell;
 import taflgames.model.cell.code.AbstractCell;
@@ -142,6 +145,133 @@ class TestCell {
         assertTrue(pieces.get(p1).keySet().contains(new Position(2, 2)));
     }
 
+    /**
+     * Test that a tomb does not resurrect a piece while its cell is taken by another piece,
+     * and that the piece comes back once the cell is free.
+     */
+    @Test
+    void testTombWaitsForFreeCell() {
+        final Map<Player, Map<Position, Piece>> pieces = new HashMap<>();
+        final Map<Position, Cell> cells = new HashMap<>();
+        final Player p1 = Player.ATTACKER;
+        final Player p2 = Player.DEFENDER;
+        final Map<Position, Piece> piecesPlayer1 = new HashMap<>();
+        final Map<Position, Piece> piecesPlayer2 = new HashMap<>();
+        piecesPlayer1.put(new Position(2, 1), new Queen(new Position(2, 1), p1));
+        piecesPlayer2.put(new Position(2, 2), new BasicPiece(new Position(2, 2), p2));
+        pieces.put(p1, piecesPlayer1);
+        pieces.put(p2, piecesPlayer2);
+
+        for (int i = 0; i < DEFAULT_BOARD_SIZE; i++) {
+            for (int j = 0; j < DEFAULT_BOARD_SIZE; j++) {
+                cells.put(new Position(i, j), new ClassicCell());
+                cells.get(new Position(i, j)).setFree(true);
+            }
+        }
+        cells.get(new Position(2, 1)).setFree(false);
+        cells.get(new Position(2, 2)).setFree(false);
+        tomb.notify(new Position(2, 2), new BasicPiece(new Position(2, 2), p1), List.of("DEAD_PIECE"), pieces, cells);
+
+        /* the cell of the tomb is taken by an enemy */
+        tomb.notify(new Position(2, 1), new Queen(new Position(2, 1), p1), List.of("QUEEN_MOVE"), pieces, cells);
+        assertFalse(pieces.get(p1).keySet().contains(new Position(2, 2)));
+        assertTrue(pieces.get(p2).keySet().contains(new Position(2, 2)));
+
+        /* the enemy leaves the cell */
+        piecesPlayer2.remove(new Position(2, 2));
+        cells.get(new Position(2, 2)).setFree(true);
+        tomb.notify(new Position(2, 1), new Queen(new Position(2, 1), p1), List.of("QUEEN_MOVE"), pieces, cells);
+        assertFalse(cells.get(new Position(2, 2)).isFree());
+        assertTrue(pieces.get(p1).keySet().contains(new Position(2, 2)));
+    }
+
+    /**
+     * Test that a piece killed on a slider does not slide,
+     * and that the slider still moves the next piece that ends up on it.
+     */
+    @Test
+    void testKilledPieceDoesNotSlide() {
+        final Map<Player, Map<Position, Piece>> pieces = new HashMap<>();
+        final Map<Position, Cell> cells = new HashMap<>();
+        final Player p1 = Player.ATTACKER;
+        final Player p2 = Player.DEFENDER;
+        final Map<Position, Piece> piecesPlayer1 = new HashMap<>();
+        final Map<Position, Piece> piecesPlayer2 = new HashMap<>();
+        piecesPlayer1.put(new Position(1, 1), new BasicPiece(new Position(1, 1), p1));
+        piecesPlayer2.put(new Position(1, 4), new BasicPiece(new Position(1, 4), p2));
+        pieces.put(p1, piecesPlayer1);
+        pieces.put(p2, piecesPlayer2);
+
+        for (int i = 0; i < DEFAULT_BOARD_SIZE; i++) {
+            for (int j = 0; j < DEFAULT_BOARD_SIZE; j++) {
+                if (i == 1 && j == 1) {
+                    cells.put(new Position(i, j), new SliderImpl(new Position(1, 1)));
+                } else {
+                    cells.put(new Position(i, j), new ClassicCell());
+                }
+                cells.get(new Position(i, j)).setFree(true);
+            }
+        }
+        piecesPlayer1.entrySet().stream().forEach(piece -> cells.get(piece.getKey()).setFree(false));
+        piecesPlayer2.entrySet().stream().forEach(piece -> cells.get(piece.getKey()).setFree(false));
+        new BoardImpl(pieces, cells, DEFAULT_BOARD_SIZE);
+
+        /* the piece on the slider is killed */
+        final Piece killed = piecesPlayer1.get(new Position(1, 1));
+        killed.decrementCurrNumbOfLives();
+        assertFalse(killed.isAlive());
+        cells.get(new Position(1, 1)).notify(new Position(1, 1), killed, List.of("DEAD_PIECE"), pieces, cells);
+        assertFalse(cells.get(new Position(1, 1)).isFree());
+        assertTrue(cells.get(new Position(1, 3)).isFree());
+        assertEquals(new Position(1, 1), killed.getCurrentPosition());
+
+        /* the slider has not been used by the dead piece */
+        final Piece alive = new BasicPiece(new Position(1, 1), p1);
+        piecesPlayer1.put(new Position(1, 1), alive);
+        cells.get(new Position(1, 1)).notify(new Position(1, 1), alive, null, pieces, cells);
+        assertTrue(cells.get(new Position(1, 1)).isFree());
+        assertFalse(cells.get(new Position(1, 3)).isFree());
+    }
+
+    /**
+     * Test that a piece that stays where it is, as a swapper that is stuck on a slider,
+     * does not change either kind of board.
+     */
+    @Test
+    void testStuckPieceDoesNotMove() {
+        final Player p1 = Player.ATTACKER;
+        final Player p2 = Player.DEFENDER;
+        for (final BoardFactory factory : List.<BoardFactory>of(BoardImpl::new, BitBoardImpl::new)) {
+            final Map<Player, Map<Position, Piece>> pieces = new HashMap<>();
+            final Map<Position, Cell> cells = new HashMap<>();
+            final Map<Position, Piece> piecesPlayer1 = new HashMap<>();
+            final Map<Position, Piece> piecesPlayer2 = new HashMap<>();
+            final Piece swapper = new Swapper(new Position(2, 2), p1);
+            piecesPlayer1.put(new Position(2, 2), swapper);
+            piecesPlayer2.put(new Position(2, 4), new BasicPiece(new Position(2, 4), p2));
+            pieces.put(p1, piecesPlayer1);
+            pieces.put(p2, piecesPlayer2);
+
+            for (int i = 0; i < DEFAULT_BOARD_SIZE; i++) {
+                for (int j = 0; j < DEFAULT_BOARD_SIZE; j++) {
+                    cells.put(new Position(i, j), new ClassicCell());
+                    cells.get(new Position(i, j)).setFree(true);
+                }
+            }
+            cells.get(new Position(2, 2)).setFree(false);
+            cells.get(new Position(2, 4)).setFree(false);
+            final Board board = factory.create(pieces, cells, DEFAULT_BOARD_SIZE);
+            final long key = board.getPositionKey();
+
+            board.movePlaceholder(new Position(2, 2), new Position(2, 2), p1);
+            assertEquals(swapper, pieces.get(p1).get(new Position(2, 2)));
+            assertEquals(new Position(2, 2), swapper.getCurrentPosition());
+            assertFalse(cells.get(new Position(2, 2)).isFree());
+            assertEquals(1, pieces.get(p2).size());
+            assertEquals(key, board.getPositionKey());
+        }
+    }
+
     /**
      * Test that a slider is notified when a piece end up on it
      * and then test the piece shifting.
@@ -9,6 +9,10 @@ import taflgames.model.board.code.CellsHitbox;
 import taflgames.model.cell.api.Cell;
 import taflgames.model.cell.code.Exit;
 import taflgames.model.cell.code.Throne;
+import taflgames.model.pieces.api.Piece;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.HashMap;
@@ -48,4 +52,38 @@ class TestCellsHitbox {
                 .flatMap(piece -> piece.whereToHit().stream())
                 .collect(Collectors.toUnmodifiableSet()).containsAll(expectedHitbox));
     }
+
+    /**
+     * Tests that the pieces standing for the cells are created once for each player,
+     * and that the masks of the cells and of their hitboxes match the pieces, by position and by square.
+     */
+    @Test
+    void testHostileSquares() {
+        final Map<Position, Cell> cells = new HashMap<>();
+        cells.put(new Position(2, 2), new Throne());
+        cells.put(new Position(0, 0), new Exit());
+        final CellsHitbox cellsHitbox = new CellsHitbox(new BoardImpl(null, cells, 5));
+
+        for (final Player player : Player.values()) {
+            assertSame(cellsHitbox.getCellsAsPiecesWithHitbox(player), cellsHitbox.getCellsAsPiecesWithHitbox(player));
+            for (final Piece piece : cellsHitbox.getCellsAsPiecesWithHitbox(player)) {
+                assertEquals(player, piece.getPlayer());
+                assertSame(piece, cellsHitbox.getCellAsPiece(piece.getCurrentPosition(), player));
+                assertSame(piece, cellsHitbox.getCellAsPiece(piece.getCurrentPosition().index(5), player));
+            }
+        }
+        assertNull(cellsHitbox.getCellAsPiece(new Position(1, 1), Player.DEFENDER));
+        final Set<Position> hit = cellsHitbox.getCellsAsPiecesWithHitbox(Player.ATTACKER).stream()
+                .flatMap(piece -> piece.whereToHit().stream())
+                .collect(Collectors.toUnmodifiableSet());
+        for (int x = 0; x < 5; x++) {
+            for (int y = 0; y < 5; y++) {
+                final Position position = new Position(x, y);
+                assertEquals(cells.containsKey(position), cellsHitbox.isThroneOrExit(position));
+                assertEquals(hit.contains(position), cellsHitbox.isHitByCells(position));
+                assertEquals(cells.containsKey(position), cellsHitbox.isThroneOrExit(position.index(5)));
+                assertEquals(hit.contains(position), cellsHitbox.isHitByCells(position.index(5)));
+            }
+        }
+    }
 }
@@ -0,0 +1,241 @@
+package taflgames;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import taflgames.common.code.Pair;
+import taflgames.common.code.Position;
+import taflgames.controller.headless.api.Agent;
+import taflgames.controller.headless.api.GameMode;
+import taflgames.controller.headless.code.EngineAgent;
+import taflgames.controller.headless.code.Matches;
+import taflgames.controller.headless.code.RandomAgent;
+import taflgames.model.ConcurrentMatch;
+import taflgames.model.MatchSnapshot;
+import taflgames.model.Model;
+import taflgames.model.ai.code.AlphaBetaEngine;
+import taflgames.model.ai.code.DefaultEvaluation;
+import taflgames.model.board.code.BitBoardImpl;
+import taflgames.model.memento.api.Caretaker;
+import taflgames.model.memento.code.CaretakerImpl;
+
+/**
+ * JUnit tests for {@link ConcurrentMatch}.
+ */
+class TestConcurrentMatch {
+
+    private static final long SEED = 25;
+    private static final int TURNS = 40;
+    private static final int READERS = 3;
+    private static final int SEARCH_DEPTH = 2;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    /**
+     * Test that the wrapped match is played as the plain one, also through the history of a caretaker.
+     * @throws IOException if the configuration of the match cannot be loaded
+     */
+    @Test
+    void testSameAsMatch() throws IOException {
+        final Model plain = Matches.create(GameMode.VARIANT, BitBoardImpl::new);
+        final ConcurrentMatch concurrent = new ConcurrentMatch(Matches.create(GameMode.VARIANT, BitBoardImpl::new));
+        final Caretaker caretaker = new CaretakerImpl(concurrent);
+        caretaker.updateHistory();
+        final MatchSnapshot start = concurrent.getSnapshot();
+        final Agent agent = new RandomAgent(new Random(SEED));
+        for (int turn = 0; turn < TURNS && plain.getMatchEndStatus().isEmpty(); turn++) {
+            final Pair<Position, Position> move = agent.chooseMove(plain).get();
+            assertTrue(concurrent.selectSource(move.getX()) && concurrent.selectDestination(move.getX(), move.getY()));
+            plain.makeMove(move.getX(), move.getY());
+            concurrent.makeMove(move.getX(), move.getY());
+            if (plain.getMatchEndStatus().isEmpty()) {
+                plain.setNextActivePlayer();
+                concurrent.setNextActivePlayer();
+                caretaker.updateHistory();
+            }
+            assertEquals(plain.getPositionKey(), concurrent.getPositionKey());
+            assertEquals(plain.getActivePlayer(), concurrent.getActivePlayer());
+            assertEquals(plain.getTurnNumber(), concurrent.getSnapshot().getTurnNumber());
+            assertEquals(plain.getMatchEndStatus(), concurrent.getMatchEndStatus());
+            assertEquals(plain.getPiecesMapping().keySet(), concurrent.getPiecesMapping().keySet());
+        }
+        caretaker.goToStep(0);
+        assertEquals(start.getPositionKey(), concurrent.getPositionKey());
+        assertEquals(start.getPiecesMapping().keySet(), concurrent.getSnapshot().getPiecesMapping().keySet());
+    }
+
+    /**
+     * Test that the snapshot is read while a search holds the lock, and that the positions
+     * of the search are never published.
+     * @throws Exception if the search cannot be run
+     */
+    @Test
+    void testReadDuringSearch() throws Exception {
+        final ConcurrentMatch match = new ConcurrentMatch(Matches.create(GameMode.CLASSIC, BitBoardImpl::new));
+        final MatchSnapshot start = match.getSnapshot();
+        final Pair<Position, Position> move = new RandomAgent(new Random(SEED)).chooseMove(match).get();
+        final CountDownLatch pushed = new CountDownLatch(1);
+        final CountDownLatch read = new CountDownLatch(1);
+        final ExecutorService searcher = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Long> searchKey = searcher.submit(() -> {
+                match.pushMove(move.getX(), move.getY());
+                final long key = match.getPositionKey();
+                pushed.countDown();
+                read.await();
+                match.popMove();
+                return key;
+            });
+            assertTrue(pushed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertSame(start, match.getSnapshot());
+            assertEquals(start.getPositionKey(), match.getPositionKey());
+            assertEquals(start.getPiecesMapping(), match.getPiecesMapping());
+            assertThrows(IllegalMonitorStateException.class, match::popMove);
+            read.countDown();
+            assertNotEquals(start.getPositionKey(), (long) searchKey.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertSame(start, match.getSnapshot());
+        } finally {
+            searcher.shutdownNow();
+        }
+    }
+
+    /**
+     * Test that the readers only see the positions reached by the moves of the match,
+     * never the ones visited by the searches of the engine that plays on the match itself,
+     * and that each snapshot is consistent.
+     * @throws Exception if the match cannot be played
+     */
+    @Test
+    void testConcurrentReaders() throws Exception {
+        final Model mirror = Matches.create(GameMode.VARIANT, BitBoardImpl::new);
+        final ConcurrentMatch match = new ConcurrentMatch(Matches.create(GameMode.VARIANT, BitBoardImpl::new));
+        final Map<Long, Integer> published = new ConcurrentHashMap<>();
+        published.put(mirror.getPositionKey(), mirror.getPiecesMapping().size());
+        final AtomicBoolean playing = new AtomicBoolean(true);
+        final ExecutorService readers = Executors.newFixedThreadPool(READERS);
+        try {
+            final List<Future<Integer>> reads = new ArrayList<>();
+            for (int i = 0; i < READERS; i++) {
+                reads.add(readers.submit(() -> {
+                    int count = 0;
+                    while (playing.get()) {
+                        final MatchSnapshot snapshot = match.getSnapshot();
+                        final Integer pieces = published.get(snapshot.getPositionKey());
+                        if (pieces == null || pieces != snapshot.getPiecesMapping().size()) {
+                            return -1;
+                        }
+                        count++;
+                    }
+                    return count;
+                }));
+            }
+            final Agent engine = new EngineAgent(new AlphaBetaEngine(new DefaultEvaluation(),
+                    Duration.ofSeconds(TIMEOUT_SECONDS), SEARCH_DEPTH));
+            for (int turn = 0; turn < TURNS && mirror.getMatchEndStatus().isEmpty(); turn++) {
+                final Optional<Pair<Position, Position>> move = engine.chooseMove(match);
+                mirror.makeMove(move.get().getX(), move.get().getY());
+                published.put(mirror.getPositionKey(), mirror.getPiecesMapping().size());
+                match.makeMove(move.get().getX(), move.get().getY());
+                if (mirror.getMatchEndStatus().isEmpty()) {
+                    mirror.setNextActivePlayer();
+                    published.put(mirror.getPositionKey(), mirror.getPiecesMapping().size());
+                    match.setNextActivePlayer();
+                }
+                assertEquals(mirror.getPositionKey(), match.getPositionKey());
+            }
+            playing.set(false);
+            for (final Future<Integer> count : reads) {
+                assertTrue(count.get(TIMEOUT_SECONDS, TimeUnit.SECONDS) > 0);
+            }
+            assertFalse(published.isEmpty());
+        } finally {
+            playing.set(false);
+            readers.shutdownNow();
+        }
+    }
+
+    /**
+     * Test that a search whose move cannot be taken back still releases the match to the other threads.
+     * @throws Exception if the match cannot be created
+     */
+    @Test
+    void testFailedPop() throws Exception {
+        final Model inner = Matches.create(GameMode.CLASSIC, BitBoardImpl::new);
+        final ConcurrentMatch match = new ConcurrentMatch((Model) Proxy.newProxyInstance(Model.class.getClassLoader(),
+                new Class<?>[] {Model.class}, (proxy, method, args) -> {
+                    if ("popMove".equals(method.getName())) {
+                        throw new IllegalStateException("Corrupted search");
+                    }
+                    try {
+                        return method.invoke(inner, args);
+                    } catch (final InvocationTargetException exception) {
+                        throw exception.getCause();
+                    }
+                }));
+        final Pair<Position, Position> move = new RandomAgent(new Random(SEED)).chooseMove(match).get();
+        /* Daemon threads, so that a writer left waiting for a lock that is never released does not outlive the test. */
+        final ExecutorService threads = Executors.newFixedThreadPool(2, runnable -> {
+            final Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            threads.submit(() -> {
+                match.pushMove(move.getX(), move.getY());
+                assertThrows(IllegalStateException.class, match::popMove);
+            }).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            final MatchSnapshot searched = match.getSnapshot();
+            threads.submit(match::setNextActivePlayer).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertNotSame(searched, match.getSnapshot());
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    /**
+     * Test that a snapshot is published only by the changes that succeed and alter what the watchers see.
+     * @throws IOException if the configuration of the match cannot be loaded
+     */
+    @Test
+    void testPublishedChanges() throws IOException {
+        final ConcurrentMatch match = new ConcurrentMatch(Matches.create(GameMode.CLASSIC, BitBoardImpl::new));
+        final MatchSnapshot start = match.getSnapshot();
+        assertThrows(NoSuchElementException.class, match::popState);
+        assertThrows(NoSuchElementException.class, match::redoState);
+        assertSame(start, match.getSnapshot());
+        match.pushState();
+        match.pushState();
+        match.forgetOldestState();
+        assertSame(start, match.getSnapshot());
+        match.popState();
+        final MatchSnapshot popped = match.getSnapshot();
+        assertNotSame(start, popped);
+        assertEquals(start.getPositionKey(), popped.getPositionKey());
+        match.redoState();
+        assertNotSame(popped, match.getSnapshot());
+    }
+}
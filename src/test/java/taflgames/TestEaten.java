@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 
 import taflgames.common.code.Position;
@@ -19,6 +20,8 @@ import taflgames.model.pieces.api.Piece;
 import taflgames.model.pieces.code.Archer;
 import taflgames.model.pieces.code.BasicPiece;
 import taflgames.model.pieces.code.King;
+import taflgames.model.pieces.code.Queen;
+import taflgames.model.pieces.code.Shield;
 import taflgames.model.pieces.code.Swapper;
 import taflgames.common.Player;
 import taflgames.model.cell.api.Cell;
@@ -28,23 +31,30 @@ import taflgames.model.cell.code.Throne;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
 
 import taflgames.model.board.api.Eaten;
 
 /**
  * JUnit tests for {@link Eaten}.
  */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class TestEaten {
     // 
     /* CPD suppressed because tests are naturally repetitive and their purpose
      * should be clear enough.
      */
     private static final int DEFAULT_BOARD_SIZE = 5;
-
-    private static Board boardToCheckEaten;
-    private static Eaten eat;
-    private static Map<Player, Map<Position, Piece>> pieces = new HashMap<>();
-    private static Map<Position, Cell> cells = new HashMap<>();
+    private static final int RANDOM_BOARD_SIZE = 7;
+    private static final int RANDOM_ROUNDS = 200;
+    private static final int RANDOM_PIECES = 20;
+    private static final int PIECE_TYPES = 6;
+    private static final long RANDOM_SEED = 13;
+
+    private Board boardToCheckEaten;
+    private Eaten eat;
+    private final Map<Player, Map<Position, Piece>> pieces = new HashMap<>();
+    private final Map<Position, Cell> cells = new HashMap<>();
     private static Player p1 = Player.ATTACKER;
     private static Player p2 = Player.DEFENDER;
 
@@ -52,7 +62,7 @@ class TestEaten {
      * Initializes a board before the first test.
      */
     @BeforeAll
-    static void init() {
+    void init() {
         final Map<Position, Piece> piecesPlayer1 = new HashMap<>();
         final Map<Position, Piece> piecesPlayer2 = new HashMap<>();
         piecesPlayer1.put(new Position(0, 0), new BasicPiece(new Position(0, 0), p1));
@@ -75,8 +85,19 @@ class TestEaten {
         cells.get(new Position(1, 4)).setFree(false);
         cells.get(new Position(3, 2)).setFree(false);
         cells.get(new Position(4, 0)).setFree(false);
-        boardToCheckEaten = new BoardImpl(pieces, cells, DEFAULT_BOARD_SIZE);
-        eat = new EatenImpl((BoardImpl) boardToCheckEaten);
+        boardToCheckEaten = createBoard(pieces, cells, DEFAULT_BOARD_SIZE);
+        eat = new EatenImpl(boardToCheckEaten);
+    }
+
+    /**
+     * Creates the board whose rules are tested.
+     * @param pieces the pieces of the two players
+     * @param cells the cells of the board
+     * @param size the size of the board
+     * @return the board
+     */
+    Board createBoard(final Map<Player, Map<Position, Piece>> pieces, final Map<Position, Cell> cells, final int size) {
+        return new BoardImpl(pieces, cells, size);
     }
 
     /**
@@ -170,7 +191,7 @@ class TestEaten {
         cells.get(new Position(4, 4)).setFree(false);
         cells.get(new Position(0, 1)).setFree(false);
 
-        secondBoard = new BoardImpl(pieces, cells, DEFAULT_BOARD_SIZE);
+        secondBoard = createBoard(pieces, cells, DEFAULT_BOARD_SIZE);
         eat = new EatenImpl(secondBoard);
 
         /*BasicPiece surrounded by two enemies, one one above and one below */
@@ -234,7 +255,7 @@ class TestEaten {
         cells.get(new Position(2, 1)).setFree(false);
         cells.get(new Position(1, 2)).setFree(false);
  
-        thirdBoard = new BoardImpl(pieces, cells, DEFAULT_BOARD_SIZE);
+        thirdBoard = createBoard(pieces, cells, DEFAULT_BOARD_SIZE);
         eat = new EatenImpl(thirdBoard);
 
         Set<Position> hitbox = eat.trimHitbox(new BasicPiece(new Position(1, 1), p1), pieces, cells, DEFAULT_BOARD_SIZE);
@@ -363,7 +384,7 @@ class TestEaten {
         cells.get(new Position(2, 1)).setFree(false);
         cells.get(new Position(1, 2)).setFree(false);
 
-        fourthBoard = new BoardImpl(pieces, cells, DEFAULT_BOARD_SIZE);
+        fourthBoard = createBoard(pieces, cells, DEFAULT_BOARD_SIZE);
         eat = new EatenImpl(fourthBoard);
 
         Set<Position> hitbox = eat.trimHitbox(new BasicPiece(new Position(1, 1), p1), pieces, cells, DEFAULT_BOARD_SIZE);
@@ -511,7 +532,7 @@ class TestEaten {
         cells.get(defender1Pos).setFree(false);
         cells.get(defender2Pos).setFree(false);
 
-        fifthBoard = new BoardImpl(pieces, cells, DEFAULT_BOARD_SIZE);
+        fifthBoard = createBoard(pieces, cells, DEFAULT_BOARD_SIZE);
         fifthBoard.updatePiecePos(attackerStartingPosition, attackerEndingPosition, Player.ATTACKER);
         fifthBoard.eat();
 
@@ -520,5 +541,74 @@ class TestEaten {
         assertFalse(cells.get(attackerEndingPosition).isFree());
 
     }
+
+    /**
+     * Test on random positions, with thrones, exits and all the types of pieces, that the allies
+     * found by {@link Eaten#checkAllies} are exactly the pieces, thrones and exits whose trimmed
+     * hitbox contains the threatened enemy.
+     */
+    @Test
+    void testCheckAlliesMatchesHitboxes() {
+        final Random random = new Random(RANDOM_SEED);
+        final int last = RANDOM_BOARD_SIZE - 1;
+        final Map<Position, Cell> cells = new HashMap<>();
+        for (int i = 0; i < RANDOM_BOARD_SIZE; i++) {
+            for (int j = 0; j < RANDOM_BOARD_SIZE; j++) {
+                cells.put(new Position(i, j), new ClassicCell());
+            }
+        }
+        List.of(new Position(0, 0), new Position(0, last), new Position(last, 0), new Position(last, last))
+            .forEach(pos -> cells.put(pos, new Exit()));
+        cells.put(new Position(last / 2, last / 2), new Throne());
+        final Map<Player, Map<Position, Piece>> pieces = new HashMap<>();
+        pieces.put(p1, new HashMap<>());
+        pieces.put(p2, new HashMap<>());
+        final Eaten eat = new EatenImpl(createBoard(pieces, cells, RANDOM_BOARD_SIZE));
+        for (int round = 0; round < RANDOM_ROUNDS; round++) {
+            pieces.values().forEach(Map::clear);
+            for (int i = 0; i < RANDOM_PIECES; i++) {
+                final Position pos = new Position(random.nextInt(RANDOM_BOARD_SIZE), random.nextInt(RANDOM_BOARD_SIZE));
+                final Player player = random.nextBoolean() ? p1 : p2;
+                if (!pieces.get(p1).containsKey(pos) && !pieces.get(p2).containsKey(pos)) {
+                    pieces.get(player).put(pos, randomPiece(random, pos, player));
+                }
+            }
+            for (final Player player : List.of(p1, p2)) {
+                for (final Piece moved : pieces.get(player).values()) {
+                    final List<Piece> enemies = eat.getThreatenedPos(
+                        eat.trimHitbox(moved, pieces, cells, RANDOM_BOARD_SIZE), pieces, moved);
+                    final Map<Position, Piece> allies = new HashMap<>(pieces.get(player));
+                    cells.forEach((pos, cell) -> {
+                        if (cell instanceof Throne || cell instanceof Exit) {
+                            allies.put(pos, new BasicPiece(pos, player));
+                        }
+                    });
+                    final Map<Piece, Set<Piece>> expected = new HashMap<>();
+                    for (final Piece enemy : enemies) {
+                        allies.values().stream()
+                            .filter(ally -> eat.trimHitbox(ally, pieces, cells, RANDOM_BOARD_SIZE)
+                                .contains(enemy.getCurrentPosition()))
+                            .forEach(ally -> expected.computeIfAbsent(enemy, e -> new HashSet<>()).add(ally));
+                    }
+                    assertEquals(expected, eat.checkAllies(enemies, pieces, moved, cells, RANDOM_BOARD_SIZE));
+                }
+            }
+        }
+    }
+
+    private Piece randomPiece(final Random random, final Position pos, final Player player) {
+        switch (random.nextInt(PIECE_TYPES)) {
+            case 0:
+                return new Archer(pos, player);
+            case 1:
+                return new Shield(pos, player);
+            case 2:
+                return new Swapper(pos, player);
+            case 3:
+                return player == p2 ? new King(pos) : new Queen(pos, player);
+            default:
+                return new BasicPiece(pos, player);
+        }
+    }
     // CPD-ON
 }
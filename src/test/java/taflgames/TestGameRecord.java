@@ -0,0 +1,301 @@
+package taflgames;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import taflgames.common.Player;
+import taflgames.common.code.MatchResult;
+import taflgames.common.code.MoveBuffer;
+import taflgames.common.code.Pair;
+import taflgames.common.code.Position;
+import taflgames.controller.entitystate.CellState;
+import taflgames.controller.entitystate.PieceState;
+import taflgames.controller.gamerecord.api.GameRecordListener;
+import taflgames.controller.gamerecord.api.GameRecordReader;
+import taflgames.controller.gamerecord.api.GameRecordWriter;
+import taflgames.controller.gamerecord.api.GameReplay;
+import taflgames.controller.gamerecord.code.GameRecordReaderImpl;
+import taflgames.controller.gamerecord.code.GameRecordWriterImpl;
+import taflgames.controller.gamerecord.code.GameReplayBuilder;
+import taflgames.controller.gamerecord.code.GameReplayer;
+import taflgames.model.Model;
+import taflgames.model.board.code.BitBoardImpl;
+import taflgames.model.codec.code.TextPositionCodec;
+import taflgames.model.memento.api.Caretaker;
+import taflgames.model.memento.code.CaretakerImpl;
+
+/**
+ * JUnit tests for the record of games and their replays.
+ */
+class TestGameRecord {
+
+    private static final long SEED = 19;
+    private static final int GAMES = 4;
+    private static final int MAX_TURNS = 150;
+    private static final int UNDO_CHOICES = 8;
+    private static final int STREAMED_GAMES = 20_000;
+    private static final int SEEKS = 300;
+    private static final String SHORT_GAME = "game classic 11/11/11/11/11/11/11/11/11/11/11 e9e/11/11/11/11/5t5/11/11/11/11/e9e"
+            + " a 0 - - -\nmove a1 a2\nturn\nundo\n\n";
+    private static final TextPositionCodec CODEC = new TextPositionCodec(BitBoardImpl::new);
+
+    /**
+     * Test that random games, played as the controller plays them, are replayed into the same states.
+     * @throws IOException if the configuration of a match cannot be loaded
+     */
+    @Test
+    void testReplay() throws IOException {
+        final Random random = new Random(SEED);
+        final StringWriter record = new StringWriter();
+        final List<String> finalPositions = new ArrayList<>();
+        final List<Optional<Pair<MatchResult, MatchResult>>> results = new ArrayList<>();
+        try (GameRecordWriter writer = new GameRecordWriterImpl(record, false)) {
+            for (int game = 0; game < GAMES; game++) {
+                final Model match = MatchFixtures.createMatch(game % 2 == 1, true);
+                final Caretaker caretaker = new CaretakerImpl(match);
+                caretaker.updateHistory();
+                writer.onGameStart(game % 2 == 1 ? "variant" : "classic", CODEC.encode(match));
+                for (int turn = 0; turn < MAX_TURNS && match.getMatchEndStatus().isEmpty(); turn++) {
+                    final Pair<Position, Position> move = randomMove(match, random);
+                    match.makeMove(move.getX(), move.getY());
+                    writer.onMove(move.getX(), move.getY());
+                    if (match.getMatchEndStatus().isPresent()) {
+                        writer.onGameEnd(match.getMatchEndStatus().get());
+                    } else if (random.nextInt(UNDO_CHOICES) == 0) {
+                        caretaker.unlockHistory();
+                        caretaker.undo();
+                        writer.onUndo();
+                    } else {
+                        match.setNextActivePlayer();
+                        caretaker.updateHistory();
+                        writer.onTurnEnd();
+                    }
+                }
+                finalPositions.add(CODEC.encode(match));
+                results.add(match.getMatchEndStatus());
+            }
+        }
+
+        final GameReplayer replayer = new GameReplayer(BitBoardImpl::new);
+        try (GameRecordReader reader = new GameRecordReaderImpl(new StringReader(record.toString()))) {
+            for (int game = 0; game < GAMES; game++) {
+                assertTrue(reader.readGame(replayer));
+                assertEquals(finalPositions.get(game), CODEC.encode(replayer.getMatch()));
+                assertEquals(results.get(game), replayer.getMatch().getMatchEndStatus());
+            }
+            assertFalse(reader.readGame(replayer));
+        }
+    }
+
+    /**
+     * Test that the replays reach each step of random games, with undo requests, in any order,
+     * both with the recorded keyframes and without them.
+     * @throws IOException if the configuration of a match cannot be loaded
+     */
+    @Test
+    void testSeek() throws IOException {
+        final Random random = new Random(SEED);
+        final StringWriter record = new StringWriter();
+        final List<List<String>> steps = new ArrayList<>();
+        try (GameRecordWriter writer = new GameRecordWriterImpl(record, false)) {
+            for (int game = 0; game < GAMES; game++) {
+                final Model match = MatchFixtures.createMatch(game % 2 == 0, true);
+                final Caretaker caretaker = new CaretakerImpl(match);
+                caretaker.updateHistory();
+                writer.onGameStart(game % 2 == 0 ? "variant" : "classic", CODEC.encode(match));
+                final List<String> gameSteps = new ArrayList<>(List.of(describe(match)));
+                for (int turn = 0; turn < MAX_TURNS && match.getMatchEndStatus().isEmpty(); turn++) {
+                    final Pair<Position, Position> move = randomMove(match, random);
+                    match.makeMove(move.getX(), move.getY());
+                    writer.onMove(move.getX(), move.getY());
+                    if (match.getMatchEndStatus().isPresent()) {
+                        writer.onGameEnd(match.getMatchEndStatus().get());
+                        gameSteps.add(describe(match));
+                        continue;
+                    }
+                    if (random.nextInt(UNDO_CHOICES) > 0) {
+                        match.setNextActivePlayer();
+                        caretaker.updateHistory();
+                        writer.onTurnEnd();
+                        gameSteps.add(describe(match));
+                        if (writer.needsKeyframe()) {
+                            writer.onKeyframe(CODEC.encode(match));
+                        }
+                    }
+                    // Sometimes the turn just passed is undone as well
+                    if (random.nextInt(UNDO_CHOICES) == 0) {
+                        caretaker.unlockHistory();
+                        caretaker.undo();
+                        writer.onUndo();
+                        gameSteps.add(describe(match));
+                    }
+                }
+                steps.add(gameSteps);
+            }
+        }
+        final String withoutKeyframes = record.toString().replaceAll("(?m)^keyframe .*\n", "");
+        assertTrue(withoutKeyframes.length() < record.toString().length());
+        for (final String text : List.of(record.toString(), withoutKeyframes)) {
+            try (GameRecordReader reader = new GameRecordReaderImpl(new StringReader(text))) {
+                for (final List<String> gameSteps : steps) {
+                    final GameReplayBuilder builder = new GameReplayBuilder(BitBoardImpl::new);
+                    assertTrue(reader.readGame(builder));
+                    final GameReplay replay = builder.build();
+                    assertEquals(gameSteps.size(), replay.getStepsCount());
+                    assertEquals(gameSteps.get(0), describe(replay));
+                    for (int i = 0; i < SEEKS; i++) {
+                        final int step = random.nextInt(gameSteps.size());
+                        replay.seek(step);
+                        assertEquals(step, replay.getCurrentStep());
+                        assertEquals(gameSteps.get(step), describe(replay));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that a long record is read one game at a time, as it is produced by the reader.
+     * @throws IOException if the record cannot be read
+     */
+    @Test
+    void testStreaming() throws IOException {
+        final CountingListener listener = new CountingListener();
+        int games = 0;
+        try (GameRecordReader reader = new GameRecordReaderImpl(new RepeatingReader(SHORT_GAME, STREAMED_GAMES))) {
+            while (reader.readGame(listener)) {
+                games++;
+                assertEquals(games, listener.starts);
+                assertEquals(games, listener.events);
+            }
+        }
+        assertEquals(STREAMED_GAMES, games);
+    }
+
+    /**
+     * Test that malformed records are rejected.
+     */
+    @Test
+    void testMalformed() {
+        final CountingListener listener = new CountingListener();
+        for (final String record : List.of("move a1 a2\n", SHORT_GAME + "mov a1 a2\n", SHORT_GAME + "move a0 a2\n",
+                SHORT_GAME + "move a1\n", SHORT_GAME + "end VICTORY\n", SHORT_GAME + "end WIN LOSS\n",
+                SHORT_GAME + "end VICTORY DEFEAT\nturn\n", "game classic\n")) {
+            assertThrows(IOException.class, () -> {
+                try (GameRecordReader reader = new GameRecordReaderImpl(new StringReader(record))) {
+                    while (reader.readGame(listener)) {
+                        continue;
+                    }
+                }
+            });
+        }
+    }
+
+    private static String describe(final Model match) {
+        return describe(match.getTurnNumber(), match.getActivePlayer(), match.getPiecesMapping(), match.getCellsMapping());
+    }
+
+    private static String describe(final GameReplay replay) {
+        return describe(replay.getTurnNumber(), replay.getActivePlayer(), replay.getPiecesDisposition(),
+                replay.getCellsDisposition());
+    }
+
+    private static String describe(final int turn, final Player player, final Map<Position, PieceState> pieces,
+            final Map<Position, CellState> cells) {
+        final Map<String, String> description = new TreeMap<>();
+        pieces.forEach((position, piece) -> description.put("piece " + position, piece.getName() + " " + piece.getPlayer()));
+        cells.forEach((position, cell) -> description.put("cell " + position, cell.getPrimaryName() + " "
+                + cell.getOrientation().deltaX() + " " + cell.getOrientation().deltaY() + " " + cell.getPlayer()));
+        return turn + " " + player + " " + description;
+    }
+
+    private static Pair<Position, Position> randomMove(final Model match, final Random random) {
+        final MoveBuffer moves = new MoveBuffer();
+        match.generateLegalMoves(match.getActivePlayer(), moves);
+        final int move = random.nextInt(moves.size());
+        assertTrue(match.selectSource(moves.getSource(move)));
+        return new Pair<>(moves.getSource(move), moves.getDestination(move));
+    }
+
+    /*
+     * Counts the events, without replaying them.
+     */
+    private static final class CountingListener implements GameRecordListener {
+        private int starts;
+        private int events;
+
+        @Override
+        public void onGameStart(final String mode, final String position) {
+            this.starts++;
+        }
+
+        @Override
+        public void onMove(final Position start, final Position destination) {
+            this.events++;
+        }
+
+        @Override
+        public void onTurnEnd() {
+            // Counted with the moves
+        }
+
+        @Override
+        public void onUndo() {
+            // Counted with the moves
+        }
+
+        @Override
+        public void onGameEnd(final Pair<MatchResult, MatchResult> result) {
+            this.events++;
+        }
+    }
+
+    /*
+     * A reader of the same text repeated many times, which is never held in memory as a whole.
+     */
+    private static final class RepeatingReader extends Reader {
+        private final String text;
+        private int remaining;
+        private int offset;
+
+        RepeatingReader(final String text, final int times) {
+            this.text = text;
+            this.remaining = times;
+        }
+
+        @Override
+        public int read(final char[] buffer, final int off, final int len) {
+            if (this.remaining == 0) {
+                return -1;
+            }
+            final int count = Math.min(len, this.text.length() - this.offset);
+            this.text.getChars(this.offset, this.offset + count, buffer, off);
+            this.offset += count;
+            if (this.offset == this.text.length()) {
+                this.offset = 0;
+                this.remaining--;
+            }
+            return count;
+        }
+
+        @Override
+        public void close() {
+            this.remaining = 0;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package taflgames;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import taflgames.controller.server.api.GameServer;
+import taflgames.controller.server.code.GameServerImpl;
+import taflgames.controller.server.code.LoadGenerator;
+import taflgames.controller.server.code.LoadReport;
+
+/**
+ * JUnit tests for {@link GameServerImpl} and {@link LoadGenerator}.
+ */
+class TestGameServer {
+
+    private static final String CLASSIC_START = "3BBBBB3/5B5/11/B4b4B/B3bbb3B/BB1bbkbb1BB/B3bbb3B/B4b4B/11/5B5/3BBBBB3"
+            + " e9e/11/11/11/11/5t5/11/11/11/11/e9e a 0 - - -";
+    private static final String FIRST_MOVE = "3 0 3 2";
+    private static final int THREADS = 8;
+    private static final int CONNECTIONS = 8;
+    private static final int MATCHES_PER_CONNECTION = 8;
+    private static final int MAX_MOVES = 60;
+    private static final long SEED = 23;
+
+    /**
+     * Test the requests of the protocol on a match.
+     * @throws IOException if the server cannot be reached
+     */
+    @Test
+    void testProtocol() throws IOException {
+        try (GameServer server = new GameServerImpl(0); Client client = startAndConnect(server)) {
+            final String id = client.request("new classic").substring("ok ".length());
+            assertEquals("ok attacker none " + CLASSIC_START, client.request("state " + id));
+            assertTrue(client.request("pass " + id).startsWith("error "));
+            assertTrue(client.request("move " + id + " 0 0 1 1").startsWith("error "));
+            assertTrue(client.request("moves " + id).contains(" " + FIRST_MOVE.replace(' ', ',')));
+            assertEquals("ok", client.request("move " + id + " " + FIRST_MOVE));
+            assertTrue(client.request("move " + id + " 3 2 3 1").startsWith("error "));
+            assertEquals("ok", client.request("moves " + id));
+            assertEquals("ok", client.request("pass " + id));
+            assertTrue(client.request("state " + id).startsWith("ok defender none "));
+            assertEquals("ok", client.request("undo " + id));
+            assertEquals("ok attacker none " + CLASSIC_START, client.request("state " + id));
+            assertEquals(1, server.getMatchesCount());
+            assertEquals("ok", client.request("close " + id));
+            assertTrue(client.request("state " + id).startsWith("error "));
+            assertTrue(client.request("new chess").startsWith("error "));
+            assertTrue(client.request("state").startsWith("error "));
+            assertTrue(client.request("hello").startsWith("error "));
+            assertEquals(0, server.getMatchesCount());
+
+            client.send("new variant\nnew variant\nnew classic\n");
+            final List<String> ids = List.of(client.receive(), client.receive(), client.receive());
+            assertEquals(3, ids.stream().distinct().count());
+            assertEquals(3, server.getMatchesCount());
+        }
+    }
+
+    /**
+     * Test that the same move sent on many connections at the same time is made only once.
+     * @throws Exception if the server cannot be reached
+     */
+    @Test
+    void testSameMatch() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try (GameServer server = new GameServerImpl(0); Client client = startAndConnect(server)) {
+            final String id = client.request("new classic").substring("ok ".length());
+            final CountDownLatch ready = new CountDownLatch(THREADS);
+            final List<Future<String>> answers = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                answers.add(executor.submit(() -> {
+                    try (Client other = new Client(server.getPort())) {
+                        ready.countDown();
+                        ready.await();
+                        return other.request("move " + id + " " + FIRST_MOVE);
+                    }
+                }));
+            }
+            int made = 0;
+            for (final Future<String> answer : answers) {
+                made += "ok".equals(answer.get()) ? 1 : 0;
+            }
+            assertEquals(1, made);
+            assertEquals("ok", client.request("pass " + id));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test that the load generator plays all its matches on the server.
+     * @throws IOException if the server cannot be reached
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    void testLoad() throws IOException, InterruptedException {
+        try (GameServer server = new GameServerImpl(0)) {
+            server.start();
+            final LoadReport report = new LoadGenerator(server.getPort(), CONNECTIONS, MATCHES_PER_CONNECTION,
+                    MAX_MOVES, SEED).run();
+            assertEquals(CONNECTIONS * MATCHES_PER_CONNECTION, report.getFinishedMatches());
+            assertTrue(report.getRequests() > CONNECTIONS * MATCHES_PER_CONNECTION * 2);
+            assertTrue(report.getMedianLatency() <= report.getTailLatency());
+            assertEquals(0, server.getMatchesCount());
+        }
+    }
+
+    private static Client startAndConnect(final GameServer server) throws IOException {
+        server.start();
+        return new Client(server.getPort());
+    }
+
+    /**
+     * A connection to the server.
+     */
+    private static final class Client implements Closeable {
+
+        private final Socket socket;
+        private final BufferedReader in;
+        private final Writer out;
+
+        Client(final int port) throws IOException {
+            this.socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            this.in = new BufferedReader(new InputStreamReader(this.socket.getInputStream(), StandardCharsets.UTF_8));
+            this.out = new OutputStreamWriter(this.socket.getOutputStream(), StandardCharsets.UTF_8);
+        }
+
+        String request(final String request) throws IOException {
+            this.send(request + "\n");
+            return this.receive();
+        }
+
+        void send(final String requests) throws IOException {
+            this.out.write(requests);
+            this.out.flush();
+        }
+
+        String receive() throws IOException {
+            return this.in.readLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.socket.close();
+        }
+    }
+}
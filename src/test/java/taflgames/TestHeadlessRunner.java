@@ -0,0 +1,218 @@
+package taflgames;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import taflgames.common.Player;
+import taflgames.common.code.MatchResult;
+import taflgames.common.code.Pair;
+import taflgames.controller.gamerecord.api.GameRecordReader;
+import taflgames.controller.gamerecord.api.GameRecordWriter;
+import taflgames.controller.gamerecord.code.GameRecordReaderImpl;
+import taflgames.controller.gamerecord.code.GameRecordWriterImpl;
+import taflgames.controller.gamerecord.code.GameReplayer;
+import taflgames.controller.headless.api.Agent;
+import taflgames.controller.headless.api.GameMode;
+import taflgames.controller.headless.api.MatchRunner;
+import taflgames.controller.headless.code.EngineAgent;
+import taflgames.controller.headless.code.HeadlessMatchRunner;
+import taflgames.controller.headless.code.MatchOutcome;
+import taflgames.controller.headless.code.Matches;
+import taflgames.controller.headless.code.RandomAgent;
+import taflgames.model.Model;
+import taflgames.model.ai.code.AlphaBetaEngine;
+import taflgames.model.ai.code.DefaultEvaluation;
+import taflgames.model.board.code.BitBoardImpl;
+import taflgames.model.board.code.BoardImpl;
+import taflgames.model.codec.code.TextPositionCodec;
+
+/**
+ * JUnit tests for {@link HeadlessMatchRunner}.
+ */
+class TestHeadlessRunner {
+
+    private static final long SEED = 21;
+    private static final int GAMES = 8;
+    private static final int MAX_MOVES = 300;
+    private static final int ENGINE_DEPTH = 2;
+    private static final Duration ENGINE_BUDGET = Duration.ofSeconds(10);
+    private static final TextPositionCodec CODEC = new TextPositionCodec(BitBoardImpl::new);
+
+    /**
+     * Test that matches between random agents are played until they are over, that the same seeds
+     * play the same matches on both boards, and that the recorded matches are replayed to the same end.
+     * @throws IOException if the configuration of a match cannot be loaded
+     */
+    @Test
+    void testRandomMatches() throws IOException {
+        final StringWriter record = new StringWriter();
+        final List<MatchOutcome> outcomes = new ArrayList<>();
+        final List<String> finalPositions = new ArrayList<>();
+        try (GameRecordWriter writer = new GameRecordWriterImpl(record, false)) {
+            final MatchRunner recorded = new HeadlessMatchRunner(BitBoardImpl::new, MAX_MOVES, writer);
+            final MatchRunner unrecorded = new HeadlessMatchRunner(BoardImpl::new, MAX_MOVES);
+            for (int game = 0; game < GAMES; game++) {
+                final GameMode mode = GameMode.values()[game % GameMode.values().length];
+                final Model match = Matches.create(mode, BitBoardImpl::new);
+                final MatchOutcome outcome = recorded.play(mode.getName(), match,
+                        new RandomAgent(new Random(SEED + game)), new RandomAgent(new Random(-SEED - game)));
+                final MatchOutcome sameSeeds = unrecorded.play(mode,
+                        new RandomAgent(new Random(SEED + game)), new RandomAgent(new Random(-SEED - game)));
+                assertEquals(outcome.getMoves(), sameSeeds.getMoves());
+                assertEquals(outcome.getTermination(), sameSeeds.getTermination());
+                assertTrue(outcome.getMoves() <= MAX_MOVES);
+                if (outcome.getTermination() == MatchOutcome.Termination.RULES) {
+                    assertEquals(match.getMatchEndStatus().get(), outcome.getResult());
+                } else {
+                    assertEquals(MatchOutcome.Termination.MOVES_LIMIT, outcome.getTermination());
+                    assertEquals(MAX_MOVES, outcome.getMoves());
+                    assertEquals(new Pair<>(MatchResult.DRAW, MatchResult.DRAW), outcome.getResult());
+                }
+                outcomes.add(outcome);
+                finalPositions.add(CODEC.encode(match));
+            }
+        }
+        assertTrue(outcomes.stream().anyMatch(outcome -> outcome.getTermination() == MatchOutcome.Termination.RULES));
+        final GameReplayer replayer = new GameReplayer(BitBoardImpl::new);
+        try (GameRecordReader reader = new GameRecordReaderImpl(new StringReader(record.toString()))) {
+            for (int game = 0; game < GAMES; game++) {
+                assertTrue(reader.readGame(replayer));
+                assertEquals(finalPositions.get(game), CODEC.encode(replayer.getMatch()));
+                if (outcomes.get(game).getTermination() == MatchOutcome.Termination.RULES) {
+                    assertEquals(outcomes.get(game).getResult(), replayer.getMatch().getMatchEndStatus().get());
+                }
+            }
+            assertFalse(reader.readGame(replayer));
+        }
+    }
+
+    /**
+     * Test that an agent using a search engine beats a random agent, and that resigning
+     * and misbehaving agents are handled.
+     * @throws IOException if the configuration of a match cannot be loaded
+     */
+    @Test
+    void testAgents() throws IOException {
+        final MatchRunner runner = new HeadlessMatchRunner(BitBoardImpl::new, MAX_MOVES);
+        final Agent engine = new EngineAgent(new AlphaBetaEngine(new DefaultEvaluation(), ENGINE_BUDGET, ENGINE_DEPTH));
+        final MatchOutcome outcome = runner.play(GameMode.CLASSIC, new RandomAgent(new Random(SEED)), engine);
+        assertEquals(new Pair<>(MatchResult.DEFEAT, MatchResult.VICTORY), outcome.getResult());
+
+        final Agent resigning = match -> Optional.empty();
+        final MatchOutcome resigned = runner.play(GameMode.VARIANT, new RandomAgent(new Random(SEED)), resigning);
+        assertEquals(MatchOutcome.Termination.RESIGNATION, resigned.getTermination());
+        assertEquals(1, resigned.getMoves());
+        assertEquals(new Pair<>(MatchResult.VICTORY, MatchResult.DEFEAT), resigned.getResult());
+
+        final Agent random = new RandomAgent(new Random(SEED));
+        final Agent cheating = match -> {
+            final Optional<Pair<taflgames.common.code.Position, taflgames.common.code.Position>> move =
+                    random.chooseMove(match);
+            match.setNextActivePlayer();
+            return move;
+        };
+        assertThrows(IllegalStateException.class, () -> runner.play(GameMode.CLASSIC, cheating, random));
+        final Agent illegal = match -> Optional.of(new Pair<>(new taflgames.common.code.Position(0, 0),
+                new taflgames.common.code.Position(1, 1)));
+        assertThrows(IllegalStateException.class, () -> runner.play(GameMode.CLASSIC, illegal, random));
+        assertEquals(Player.ATTACKER, Matches.create(GameMode.CLASSIC, BitBoardImpl::new).getActivePlayer());
+    }
+
+    /**
+     * Test that running matches does not need any class of AWT or Swing: the matches are played
+     * by classes of the game loaded apart, and the classes they ask for are checked.
+     * @throws Exception if the matches cannot be run
+     */
+    @Test
+    void testNoUserInterfaceClasses() throws Exception {
+        final URL mainClasses = HeadlessMatchRunner.class.getProtectionDomain().getCodeSource().getLocation();
+        final URL testClasses = TestHeadlessRunner.class.getProtectionDomain().getCodeSource().getLocation();
+        try (IsolatingClassLoader loader = new IsolatingClassLoader(new URL[] {mainClasses, testClasses})) {
+            final Class<?> matches = loader.loadClass(IsolatedMatches.class.getName());
+            assertEquals(loader, matches.getClassLoader());
+            final var constructor = matches.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            final Callable<?> task = (Callable<?>) constructor.newInstance();
+            assertEquals(GAMES, task.call());
+            assertTrue(loader.getRequested().isEmpty(), "User interface classes requested: " + loader.getRequested());
+        }
+    }
+
+    /**
+     * Plays some matches; loaded apart by {@link TestHeadlessRunner#testNoUserInterfaceClasses()}.
+     */
+    static final class IsolatedMatches implements Callable<Integer> {
+
+        @Override
+        public Integer call() throws IOException {
+            final MatchRunner runner = new HeadlessMatchRunner(BitBoardImpl::new, MAX_MOVES,
+                    new GameRecordWriterImpl(new StringWriter(), false));
+            int played = 0;
+            for (int game = 0; game < GAMES; game++) {
+                runner.play(GameMode.values()[game % GameMode.values().length],
+                        new RandomAgent(new Random(SEED + game)), new RandomAgent(new Random(SEED - game)));
+                played++;
+            }
+            return played;
+        }
+    }
+
+    /**
+     * A class loader that loads the classes of the game itself, instead of asking its parent,
+     * and keeps the names of the classes of AWT and Swing asked for.
+     */
+    private static final class IsolatingClassLoader extends URLClassLoader {
+
+        private final Set<String> requested = ConcurrentHashMap.newKeySet();
+
+        IsolatingClassLoader(final URL[] locations) {
+            super(locations, TestHeadlessRunner.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            if (name.startsWith("java.awt.") || name.startsWith("javax.swing.")) {
+                this.requested.add(name);
+            }
+            if (name.startsWith("taflgames.")) {
+                synchronized (this.getClassLoadingLock(name)) {
+                    Class<?> loaded = this.findLoadedClass(name);
+                    if (loaded == null) {
+                        try {
+                            loaded = this.findClass(name);
+                        } catch (final ClassNotFoundException e) {
+                            return super.loadClass(name, resolve);
+                        }
+                    }
+                    if (resolve) {
+                        this.resolveClass(loaded);
+                    }
+                    return loaded;
+                }
+            }
+            return super.loadClass(name, resolve);
+        }
+
+        Set<String> getRequested() {
+            return Set.copyOf(this.requested);
+        }
+    }
+}
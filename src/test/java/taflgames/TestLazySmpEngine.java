@@ -0,0 +1,134 @@
+package taflgames;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import taflgames.common.Player;
+import taflgames.common.code.MoveBuffer;
+import taflgames.common.code.Position;
+import taflgames.model.Model;
+import taflgames.model.ai.api.Evaluation;
+import taflgames.model.ai.code.DefaultEvaluation;
+import taflgames.model.ai.code.LazySmpEngine;
+import taflgames.model.ai.code.SearchResult;
+import taflgames.model.ai.code.TranspositionTableImpl;
+
+/**
+ * JUnit tests for {@link LazySmpEngine}.
+ */
+class TestLazySmpEngine {
+
+    private static final Duration LONG_BUDGET = Duration.ofSeconds(10);
+    private static final int THREADS = 4;
+    private static final int TABLE_MEGABYTES = 4;
+    private static final int TACTICS_DEPTH = 3;
+    private static final int FIXED_DEPTH = 3;
+    private static final int RANDOM_TURNS = 60;
+    private static final long SEED = 23;
+
+    /**
+     * Plays random matches of the Variant mode on both boards along with a copy of the match,
+     * checking at each turn that the copy is equal to the match and that a move made
+     * on the copy leaves the match as it was.
+     */
+    @Test
+    void testCopy() throws IOException {
+        final Random random = new Random(SEED);
+        final MoveBuffer moves = new MoveBuffer();
+        for (final boolean bitboard : List.of(false, true)) {
+            final Model match = MatchFixtures.createMatch(true, bitboard);
+            final Model copy = match.copy();
+            for (int turn = 0; turn < RANDOM_TURNS && match.getMatchEndStatus().isEmpty(); turn++) {
+                final String before = MatchFixtures.describe(match);
+                assertEquals(before, MatchFixtures.describe(copy));
+                assertEquals(match.getPositionKey(), copy.getPositionKey());
+                match.generateLegalMoves(match.getActivePlayer(), moves);
+                final int move = random.nextInt(moves.size());
+                copy.pushMove(moves.getSource(move), moves.getDestination(move));
+                assertEquals(before, MatchFixtures.describe(match));
+                assertNotEquals(match.getPositionKey(), copy.getPositionKey());
+                copy.popMove();
+                for (final Model model : List.of(match, copy)) {
+                    model.selectSource(moves.getSource(move));
+                    model.makeMove(moves.getSource(move), moves.getDestination(move));
+                    model.setNextActivePlayer();
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that the parallel search still finds an open way of the king to an exit.
+     */
+    @Test
+    void testKingEscapes() {
+        for (final boolean bitboard : List.of(false, true)) {
+            final Model match = MatchFixtures.createSmallMatch(bitboard, Map.of(
+                new Position(6, 3), Player.ATTACKER,
+                new Position(4, 4), Player.ATTACKER,
+                new Position(0, 5), Player.DEFENDER));
+            match.setNextActivePlayer();
+            final SearchResult result = new LazySmpEngine(DefaultEvaluation::new, LONG_BUDGET, TACTICS_DEPTH,
+                    THREADS, new TranspositionTableImpl(TABLE_MEGABYTES)).search(match).orElseThrow();
+            assertEquals(new Position(0, 3), result.getSource());
+            assertEquals(new Position(0, 0), result.getDestination());
+            assertTrue(result.getScore() > Evaluation.MAX_SCORE);
+        }
+    }
+
+    /**
+     * Test that a parallel search from the initial position of the Variant mode reaches the given depth,
+     * returns a legal move and leaves the match as it was.
+     */
+    @Test
+    void testFixedDepth() throws IOException {
+        final Model match = MatchFixtures.createMatch(true, true);
+        final String before = MatchFixtures.describe(match);
+        final LazySmpEngine engine = new LazySmpEngine(DefaultEvaluation::new, LONG_BUDGET, FIXED_DEPTH,
+                THREADS, new TranspositionTableImpl(TABLE_MEGABYTES));
+        assertEquals(THREADS, engine.getThreads());
+        final SearchResult result = engine.search(match).orElseThrow();
+        assertEquals(FIXED_DEPTH, result.getDepth());
+        assertTrue(result.getNodes() > 0);
+        assertEquals(before, MatchFixtures.describe(match));
+        assertTrue(match.selectSource(result.getSource()));
+        assertTrue(match.selectDestination(result.getSource(), result.getDestination()));
+    }
+
+    /**
+     * Test that the helpers of an engine run on daemon threads, which are reused by the following searches.
+     */
+    @Test
+    void testHelperThreads() throws IOException {
+        final Model match = MatchFixtures.createMatch(true, true);
+        final LazySmpEngine engine = new LazySmpEngine(DefaultEvaluation::new, LONG_BUDGET, 1,
+                THREADS, new TranspositionTableImpl(TABLE_MEGABYTES));
+        final Set<Thread> before = helperThreads();
+        engine.search(match).orElseThrow();
+        final Set<Thread> started = helperThreads();
+        started.removeAll(before);
+        assertEquals(THREADS - 1, started.size());
+        assertTrue(started.stream().allMatch(Thread::isDaemon));
+        engine.search(match).orElseThrow();
+        final Set<Thread> restarted = helperThreads();
+        restarted.removeAll(before);
+        assertEquals(started, restarted);
+    }
+
+    private static Set<Thread> helperThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith("lazy-smp-helper"))
+                .collect(Collectors.toSet());
+    }
+}
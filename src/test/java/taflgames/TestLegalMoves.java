@@ -0,0 +1,216 @@
+package taflgames;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import taflgames.common.Player;
+import taflgames.common.code.MoveBuffer;
+import taflgames.common.code.Position;
+import taflgames.model.Model;
+import taflgames.model.board.api.Board;
+import taflgames.model.board.code.BitBoardImpl;
+import taflgames.model.board.code.BoardImpl;
+import taflgames.model.cell.api.Cell;
+import taflgames.model.cell.code.ClassicCell;
+import taflgames.model.cell.code.Exit;
+import taflgames.model.cell.code.Throne;
+import taflgames.model.pieces.api.Piece;
+import taflgames.model.pieces.code.BasicPiece;
+import taflgames.model.pieces.code.King;
+import taflgames.model.pieces.code.Swapper;
+
+/**
+ * JUnit tests for the generation of the legal moves of {@link Board} and {@link Model}.
+ */
+class TestLegalMoves {
+
+    private static final int DEFAULT_BOARD_SIZE = 5;
+    private static final int TURNS = 40;
+    private static final long SEED = 7;
+    private static final int WARM_UP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 20;
+
+    /**
+     * Test the packing of the moves in the buffer.
+     */
+    @Test
+    void testMoveBuffer() {
+        final MoveBuffer moves = new MoveBuffer(1);
+        assertTrue(moves.isEmpty());
+        moves.add(0, 1, 2, 3);
+        moves.add(18, 17, 16, 15);
+        assertEquals(2, moves.size());
+        assertEquals(new Position(0, 1), moves.getSource(0));
+        assertEquals(new Position(2, 3), moves.getDestination(0));
+        assertEquals(18, MoveBuffer.sourceX(moves.get(1)));
+        assertEquals(17, MoveBuffer.sourceY(moves.get(1)));
+        assertEquals(16, MoveBuffer.destinationX(moves.get(1)));
+        assertEquals(15, MoveBuffer.destinationY(moves.get(1)));
+        assertTrue(moves.contains(new Position(18, 17), new Position(16, 15)));
+        assertFalse(moves.contains(new Position(16, 15), new Position(18, 17)));
+        moves.clear();
+        assertTrue(moves.isEmpty());
+    }
+
+    /**
+     * Test the moves of the king, of a swapper and of a basic piece near the throne and an exit.
+     */
+    @Test
+    void testSpecialCells() {
+        for (final boolean bitboard : List.of(false, true)) {
+            final Map<Position, Cell> cells = new HashMap<>();
+            for (int i = 0; i < DEFAULT_BOARD_SIZE; i++) {
+                for (int j = 0; j < DEFAULT_BOARD_SIZE; j++) {
+                    cells.put(new Position(i, j), new ClassicCell());
+                }
+            }
+            cells.put(new Position(2, 2), new Throne());
+            cells.put(new Position(0, 4), new Exit());
+            final Map<Player, Map<Position, Piece>> pieces = Map.of(
+                Player.ATTACKER, new HashMap<>(Map.of(
+                    new Position(2, 0), new BasicPiece(new Position(2, 0), Player.ATTACKER),
+                    new Position(4, 4), new Swapper(new Position(4, 4), Player.ATTACKER))),
+                Player.DEFENDER, new HashMap<>(Map.of(
+                    new Position(2, 1), new King(new Position(2, 1)),
+                    new Position(0, 1), new BasicPiece(new Position(0, 1), Player.DEFENDER))));
+            pieces.values().forEach(map -> map.keySet().forEach(pos -> cells.get(pos).setFree(false)));
+            final Board board = bitboard
+                    ? new BitBoardImpl(pieces, cells, DEFAULT_BOARD_SIZE)
+                    : new BoardImpl(pieces, cells, DEFAULT_BOARD_SIZE);
+            final MoveBuffer moves = new MoveBuffer();
+
+            board.generateLegalMoves(Player.DEFENDER, moves);
+            // The king can pass through the throne, the basic piece cannot reach the exit
+            assertTrue(moves.contains(new Position(2, 1), new Position(2, 3)));
+            assertTrue(moves.contains(new Position(2, 1), new Position(2, 2)));
+            assertTrue(moves.contains(new Position(0, 1), new Position(0, 3)));
+            assertFalse(moves.contains(new Position(0, 1), new Position(0, 4)));
+            assertEquals(bruteForce(board, Player.DEFENDER), asSet(moves));
+
+            board.generateLegalMoves(Player.ATTACKER, moves);
+            // The swapper can swap with the basic piece but not with the king
+            assertTrue(moves.contains(new Position(4, 4), new Position(0, 1)));
+            assertFalse(moves.contains(new Position(4, 4), new Position(2, 1)));
+            assertFalse(moves.contains(new Position(2, 0), new Position(2, 3)));
+            assertEquals(bruteForce(board, Player.ATTACKER), asSet(moves));
+        }
+    }
+
+    /**
+     * Plays random matches in both game modes and on both boards, checking at each turn
+     * that the generated moves are exactly the ones accepted by the validation methods.
+     */
+    @Test
+    void testSameMovesAsValidation() throws IOException {
+        final Random random = new Random(SEED);
+        final MoveBuffer moves = new MoveBuffer();
+        for (final boolean variant : List.of(false, true)) {
+            for (final boolean bitboard : List.of(false, true)) {
+                final Model match = MatchFixtures.createMatch(variant, bitboard);
+                for (int turn = 0; turn < TURNS && match.getMatchEndStatus().isEmpty(); turn++) {
+                    match.generateLegalMoves(match.getActivePlayer(), moves);
+                    assertEquals(bruteForce(match), asSet(moves));
+                    final int move = random.nextInt(moves.size());
+                    assertTrue(match.selectSource(moves.getSource(move)));
+                    match.makeMove(moves.getSource(move), moves.getDestination(move));
+                    match.setNextActivePlayer();
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that, once warmed up, the validation of the destinations allocates nothing
+     * on both boards, counting the bytes allocated by the current thread.
+     */
+    @Test
+    void testValidationDoesNotAllocate() throws IOException {
+        final com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (final boolean bitboard : List.of(false, true)) {
+            final Model match = MatchFixtures.createMatch(true, bitboard);
+            final Player player = match.getActivePlayer();
+            final List<Position> starts = new ArrayList<>();
+            final List<Position> destinations = new ArrayList<>();
+            for (final Position start : match.getCellsMapping().keySet()) {
+                if (match.selectSource(start)) {
+                    for (final Position dest : match.getCellsMapping().keySet()) {
+                        starts.add(start);
+                        destinations.add(dest);
+                    }
+                }
+            }
+            int valid = 0;
+            for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+                valid += countValid(match, starts, destinations);
+            }
+            final long before = threads.getCurrentThreadAllocatedBytes();
+            for (int round = 0; round < MEASURED_ROUNDS; round++) {
+                valid += countValid(match, starts, destinations);
+            }
+            final long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+            assertTrue(valid > 0);
+            // Less than a byte for each validation, so that the measure itself is allowed some noise
+            assertTrue(allocated < (long) MEASURED_ROUNDS * starts.size(), "Allocated " + allocated + " bytes");
+        }
+    }
+
+    private int countValid(final Model match, final List<Position> starts, final List<Position> destinations) {
+        int valid = 0;
+        for (int i = 0; i < starts.size(); i++) {
+            if (match.selectDestination(starts.get(i), destinations.get(i))) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    private Set<String> asSet(final MoveBuffer moves) {
+        final Set<String> result = new HashSet<>();
+        for (int i = 0; i < moves.size(); i++) {
+            assertTrue(result.add(moves.getSource(i) + " -> " + moves.getDestination(i)));
+        }
+        return result;
+    }
+
+    private Set<String> bruteForce(final Board board, final Player player) {
+        final Set<String> result = new HashSet<>();
+        for (final Position start : board.getMapCells().keySet()) {
+            if (board.isStartingPointValid(start, player)) {
+                for (final Position dest : board.getMapCells().keySet()) {
+                    if (board.isDestinationValid(start, dest, player)) {
+                        result.add(start + " -> " + dest);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private Set<String> bruteForce(final Model match) {
+        final Set<String> result = new HashSet<>();
+        for (final Position start : match.getCellsMapping().keySet()) {
+            if (match.selectSource(start)) {
+                for (final Position dest : match.getCellsMapping().keySet()) {
+                    if (match.selectDestination(start, dest)) {
+                        result.add(start + " -> " + dest);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+}
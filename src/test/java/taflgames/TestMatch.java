@@ -2,12 +2,14 @@ package taflgames;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,7 @@ import taflgames.common.code.MatchResult;
 import taflgames.common.code.Position;
 import taflgames.controller.settingsloader.SettingsLoader;
 import taflgames.controller.settingsloader.SettingsLoaderImpl;
+import taflgames.model.board.api.Board;
 import taflgames.model.board.code.BoardImpl;
 import taflgames.model.Model;
 import taflgames.model.Match;
@@ -27,6 +30,8 @@ import taflgames.model.builders.CellsCollectionBuilder;
 import taflgames.model.builders.CellsCollectionBuilderImpl;
 import taflgames.model.builders.PiecesCollectionBuilder;
 import taflgames.model.builders.PiecesCollectionBuilderImpl;
+import taflgames.model.cell.api.Cell;
+import taflgames.model.pieces.api.Piece;
 
 /**
  * JUnit tests for {@link Model}.
@@ -51,7 +56,7 @@ class TestMatch {
             final var cells = cellsCollBuilder.build();
             final int size = (int) Math.sqrt(cells.size());
             this.match = new Match(
-                new BoardImpl(pieces, cells, size)
+                createBoard(pieces, cells, size)
             );
         } catch (final IOException ex) {
             LOGGER.error("Cannot read configuration file. {}", ex.getMessage());
@@ -59,6 +64,17 @@ class TestMatch {
         }
     }
 
+    /**
+     * Creates the board on which the tests are run.
+     * @param pieces the pieces of the two players
+     * @param cells the cells of the board
+     * @param size the size of the board
+     * @return the board of the match
+     */
+    Board createBoard(final Map<Player, Map<Position, Piece>> pieces, final Map<Position, Cell> cells, final int size) {
+        return new BoardImpl(pieces, cells, size);
+    }
+
     /**
      * Test the player turn queue.
      */
@@ -76,6 +92,27 @@ class TestMatch {
         );
     }
 
+    /**
+     * Test that the pieces read one by one are the ones of the mapping of the match.
+     */
+    @Test
+    void testPieceAt() {
+        final var mapping = match.getPiecesMapping();
+        final int size = (int) Math.sqrt(match.getCellsMapping().size());
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                final Position position = Position.of(x, y);
+                final Piece piece = match.getPieceAt(position);
+                if (mapping.containsKey(position)) {
+                    assertEquals(mapping.get(position).getName(), piece.getMyType().getTypeOfPiece());
+                    assertEquals(mapping.get(position).getPlayer(), piece.getPlayer());
+                } else {
+                    assertNull(piece);
+                }
+            }
+        }
+    }
+
     // 
     // MagicNumber rule disabled because the numbers in the following code represent coordinates
 
@@ -0,0 +1,103 @@
+package taflgames;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import taflgames.common.Player;
+import taflgames.common.code.Position;
+import taflgames.model.Model;
+import taflgames.model.ai.code.DefaultEvaluation;
+import taflgames.model.ai.code.MctsEngine;
+import taflgames.model.ai.code.MctsEngine.Parallelism;
+import taflgames.model.ai.code.SearchResult;
+
+/**
+ * JUnit tests for {@link MctsEngine}.
+ */
+class TestMctsEngine {
+
+    private static final Duration BUDGET = Duration.ofMillis(500);
+    private static final Duration SLACK = Duration.ofSeconds(2);
+    private static final int THREADS = 2;
+    private static final long SEED = 5;
+
+    /**
+     * Test that the king takes an open way to an exit, with any kind of parallelism.
+     */
+    @Test
+    void testKingEscapes() {
+        for (final Parallelism parallelism : Parallelism.values()) {
+            for (final int threads : List.of(1, THREADS)) {
+                final Model match = MatchFixtures.createSmallMatch(true, Map.of(
+                    new Position(6, 3), Player.ATTACKER,
+                    new Position(4, 4), Player.ATTACKER,
+                    new Position(0, 5), Player.DEFENDER));
+                match.setNextActivePlayer();
+                final SearchResult result = new MctsEngine(DefaultEvaluation::new, BUDGET, threads, parallelism, SEED)
+                        .search(match).orElseThrow();
+                assertEquals(new Position(0, 3), result.getSource());
+                assertEquals(new Position(0, 0), result.getDestination());
+                assertTrue(result.getScore() > 0);
+            }
+        }
+    }
+
+    /**
+     * Test that a search from the initial position of the Variant mode keeps within its time budget,
+     * plays some playouts, returns a legal move and leaves the match as it was, on both boards
+     * and with any kind of parallelism.
+     */
+    @Test
+    void testVariantSearch() throws IOException {
+        for (final boolean bitboard : List.of(false, true)) {
+            for (final Parallelism parallelism : Parallelism.values()) {
+                final Model match = MatchFixtures.createMatch(true, bitboard);
+                final String before = MatchFixtures.describe(match);
+                final long start = System.nanoTime();
+                final SearchResult result = new MctsEngine(DefaultEvaluation::new, BUDGET, THREADS, parallelism, SEED)
+                        .search(match).orElseThrow();
+                assertTrue(System.nanoTime() - start < BUDGET.plus(SLACK).toNanos());
+                assertTrue(result.getNodes() > 0);
+                assertTrue(result.getNodesPerSecond() > 0);
+                assertTrue(result.getDepth() >= 1);
+                assertEquals(before, MatchFixtures.describe(match));
+                assertTrue(match.selectSource(result.getSource()));
+                assertTrue(match.selectDestination(result.getSource(), result.getDestination()));
+            }
+        }
+    }
+
+    /**
+     * Test that the helpers of an engine run on daemon threads, which are reused by the following searches.
+     */
+    @Test
+    void testHelperThreads() throws IOException {
+        final Model match = MatchFixtures.createMatch(true, true);
+        final MctsEngine engine = new MctsEngine(DefaultEvaluation::new, BUDGET, THREADS, Parallelism.TREE, SEED);
+        final Set<Thread> before = helperThreads();
+        engine.search(match).orElseThrow();
+        final Set<Thread> started = helperThreads();
+        started.removeAll(before);
+        assertEquals(THREADS - 1, started.size());
+        assertTrue(started.stream().allMatch(Thread::isDaemon));
+        engine.search(match).orElseThrow();
+        final Set<Thread> restarted = helperThreads();
+        restarted.removeAll(before);
+        assertEquals(started, restarted);
+    }
+
+    private static Set<Thread> helperThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith("mcts-helper"))
+                .collect(Collectors.toSet());
+    }
+}
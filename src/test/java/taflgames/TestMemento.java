@@ -5,12 +5,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import taflgames.common.Player;
+import taflgames.common.code.MoveBuffer;
 import taflgames.common.code.Position;
 import taflgames.controller.settingsloader.SettingsLoader;
 import taflgames.controller.settingsloader.SettingsLoaderImpl;
 import taflgames.model.Model;
 import taflgames.model.Match;
 import taflgames.model.board.api.Board;
+import taflgames.model.board.code.BitBoardImpl;
 import taflgames.model.board.code.BoardImpl;
 import taflgames.model.builders.CellsCollectionBuilder;
 import taflgames.model.builders.CellsCollectionBuilderImpl;
@@ -30,7 +32,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -45,6 +54,13 @@ class TestMemento {
      * should be clear enough.
      */
     private static final Logger LOGGER = LoggerFactory.getLogger(TestMatch.class);
+    private static final long JOURNAL_SEED = 16;
+    private static final int JOURNAL_STEPS = 400;
+    private static final int JOURNAL_CHOICES = 7;
+    private static final long HISTORY_SEED = 17;
+    private static final int HISTORY_TURNS = 80;
+    private static final int HISTORY_JUMPS = 200;
+    private static final long HISTORY_MAX_BYTES = 32 * 1024;
 
     private Model classicMatch;
     private Board classicBoard;
@@ -369,6 +385,160 @@ class TestMemento {
         assertFalse(this.variantMatch.selectSource(expectedKillPosition));
     }
 
+    /**
+     * Plays random moves in variant matches, pushing, popping, redoing and forgetting their states,
+     * and checks that popping and redoing always bring back exactly the state of the board,
+     * lives, tombs and sliders included.
+     */
+    @Test
+    void testUndoJournal() throws IOException {
+        final Random random = new Random(JOURNAL_SEED);
+        for (final boolean bitboard : List.of(false, true)) {
+            final Board board = createVariantBoard(bitboard);
+            final Model match = new Match(board);
+            final Deque<Map<String, String>> pushed = new ArrayDeque<>();
+            final Deque<Map<String, String>> undone = new ArrayDeque<>();
+            final MoveBuffer moves = new MoveBuffer();
+            for (int step = 0; step < JOURNAL_STEPS && match.getMatchEndStatus().isEmpty(); step++) {
+                final int choice = random.nextInt(JOURNAL_CHOICES);
+                if (choice == 0 && !undone.isEmpty()) {
+                    pushed.push(describe(match, board));
+                    match.redoState();
+                    assertEquals(undone.pop(), describe(match, board));
+                } else if (choice == 1 && !pushed.isEmpty()) {
+                    undone.push(describe(match, board));
+                    match.popState();
+                    assertEquals(pushed.pop(), describe(match, board));
+                } else if (choice == 2 && !pushed.isEmpty()) {
+                    match.forgetOldestState();
+                    pushed.removeLast();
+                } else {
+                    match.generateLegalMoves(match.getActivePlayer(), moves);
+                    final int move = random.nextInt(moves.size());
+                    undone.clear();
+                    // Some moves are recorded in the state on top, as the ones made after a search
+                    if (choice != JOURNAL_CHOICES - 1 || pushed.isEmpty()) {
+                        pushed.push(describe(match, board));
+                        match.pushState();
+                    }
+                    assertTrue(match.selectSource(moves.getSource(move)));
+                    match.makeMove(moves.getSource(move), moves.getDestination(move));
+                    match.setNextActivePlayer();
+                }
+            }
+            while (!pushed.isEmpty()) {
+                match.popState();
+                assertEquals(pushed.pop(), describe(match, board));
+            }
+            assertThrows(NoSuchElementException.class, match::popState);
+        }
+    }
+
+    /**
+     * Tests that the caretaker goes to any step of a long history, undoing and redoing one turn
+     * at a time as well, and that it forgets the oldest steps to stay within its memory limit.
+     */
+    @Test
+    void testHistory() throws IOException {
+        final Random random = new Random(HISTORY_SEED);
+        for (final boolean bitboard : List.of(false, true)) {
+            for (final long maxBytes : List.of(CaretakerImpl.DEFAULT_MAX_BYTES, HISTORY_MAX_BYTES)) {
+                final Board board = createVariantBoard(bitboard);
+                final Model match = new Match(board);
+                final Caretaker caretaker = new CaretakerImpl(match, maxBytes);
+                final List<Map<String, String>> steps = new ArrayList<>();
+                caretaker.updateHistory();
+                steps.add(describe(match, board));
+                while (steps.size() <= HISTORY_TURNS && match.getMatchEndStatus().isEmpty()) {
+                    makeRandomMove(match, random);
+                    caretaker.updateHistory();
+                    steps.add(describe(match, board));
+                }
+                final int latest = steps.size() - 1;
+                assertEquals(latest, caretaker.getLatestStep());
+                assertEquals(latest, caretaker.getCurrentStep());
+                if (maxBytes == HISTORY_MAX_BYTES) {
+                    assertTrue(caretaker.getOldestStep() > 0);
+                    final int forgotten = caretaker.getOldestStep() - 1;
+                    assertThrows(IllegalArgumentException.class, () -> caretaker.goToStep(forgotten));
+                } else {
+                    assertEquals(0, caretaker.getOldestStep());
+                }
+                final int oldest = caretaker.getOldestStep();
+                for (int i = 0; i < HISTORY_JUMPS; i++) {
+                    final int step = oldest + random.nextInt(latest - oldest + 1);
+                    caretaker.goToStep(step);
+                    assertEquals(step, caretaker.getCurrentStep());
+                    assertEquals(steps.get(step), describe(match, board));
+                }
+                caretaker.goToStep(latest);
+                caretaker.unlockHistory();
+                caretaker.undo();
+                assertEquals(steps.get(latest - 1), describe(match, board));
+                caretaker.redo();
+                assertEquals(steps.get(latest), describe(match, board));
+                // A move taken back within its turn does not become a step of the history
+                makeRandomMove(match, random);
+                caretaker.unlockHistory();
+                caretaker.undo();
+                assertEquals(steps.get(latest), describe(match, board));
+                assertEquals(latest, caretaker.getLatestStep());
+                assertEquals(latest, caretaker.getCurrentStep());
+                caretaker.redo();
+                assertEquals(steps.get(latest), describe(match, board));
+                // Neither does a move that is left when going to another step
+                makeRandomMove(match, random);
+                caretaker.goToStep(latest);
+                assertEquals(steps.get(latest), describe(match, board));
+                assertEquals(latest, caretaker.getLatestStep());
+                // A new move replaces the steps that could be redone
+                caretaker.goToStep(latest - 1);
+                makeRandomMove(match, random);
+                caretaker.updateHistory();
+                assertEquals(latest, caretaker.getLatestStep());
+                assertEquals(latest, caretaker.getCurrentStep());
+                caretaker.redo();
+                assertEquals(latest, caretaker.getCurrentStep());
+            }
+        }
+    }
+
+    private static void makeRandomMove(final Model match, final Random random) {
+        final MoveBuffer moves = new MoveBuffer();
+        match.generateLegalMoves(match.getActivePlayer(), moves);
+        final int move = random.nextInt(moves.size());
+        assertTrue(match.selectSource(moves.getSource(move)));
+        match.makeMove(moves.getSource(move), moves.getDestination(move));
+        match.setNextActivePlayer();
+    }
+
+    private Board createVariantBoard(final boolean bitboard) throws IOException {
+        final SettingsLoader loader = new SettingsLoaderImpl();
+        final CellsCollectionBuilder cellsCollBuilder = new CellsCollectionBuilderImpl();
+        final PiecesCollectionBuilder piecesCollBuilder = new PiecesCollectionBuilderImpl();
+        loader.loadVariantModeConfig(cellsCollBuilder, piecesCollBuilder);
+        final var pieces = piecesCollBuilder.build();
+        final var cells = cellsCollBuilder.build();
+        final int size = (int) Math.sqrt(cells.size());
+        return bitboard ? new BitBoardImpl(pieces, cells, size) : new BoardImpl(pieces, cells, size);
+    }
+
+    /*
+     * Everything that a move can change: the pieces with their lives, the cells with their components,
+     * the turn and the key of the position.
+     */
+    private Map<String, String> describe(final Model match, final Board board) {
+        final Map<String, String> description = new TreeMap<>();
+        board.getMapPieces().forEach((player, pieces) -> pieces.forEach((pos, piece) -> description.put(
+                "piece " + pos, piece.getMyType().getTypeOfPiece() + " " + player + " " + piece.getCurrentPosition()
+                        + " " + piece.getCurrNumbOfLives())));
+        board.getMapCells().forEach((pos, cell) -> description.put("cell " + pos,
+                cell.getCellState().getPrimaryName() + " " + cell.getCellState().getOrientation() + " " + cell.isFree()
+                        + " " + cell.getComponents().stream().map(c -> c.getComponentType() + c.isActive()).sorted().toList()));
+        description.put("turn", match.getTurnNumber() + " " + match.getActivePlayer() + " " + match.getPositionKey());
+        return description;
+    }
+
     private void newTurn(final Caretaker caretaker, final Position startPos, final Position endPos) {
         caretaker.updateHistory();
         assertTrue(this.variantMatch.selectSource(startPos));
@@ -0,0 +1,100 @@
+package taflgames;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import taflgames.common.code.MoveBuffer;
+import taflgames.model.Model;
+import taflgames.model.perft.api.Perft;
+import taflgames.model.perft.code.PerftImpl;
+
+/**
+ * JUnit tests for {@link Perft}.
+ */
+class TestPerft {
+
+    /*
+     * Known node counts from the initial positions, from depth 1 onwards.
+     * They were computed on both boards, which agree on all of them.
+     */
+    private static final long[] CLASSIC_NODES = {116, 6_788, 806_344};
+    private static final long[] VARIANT_NODES = {128, 10_508, 1_363_340};
+    // The map based board is slower, so it is checked only on the shallower depths
+    private static final int BOARD_IMPL_MAX_DEPTH = 2;
+    private static final int DIVIDE_DEPTH = 2;
+    private static final int RANDOM_TURNS = 30;
+    private static final long SEED = 3;
+
+    /**
+     * Test the node counts of the Classic mode.
+     */
+    @Test
+    void testClassicCounts() throws IOException {
+        checkCounts(false, CLASSIC_NODES);
+    }
+
+    /**
+     * Test the node counts of the Variant mode.
+     */
+    @Test
+    void testVariantCounts() throws IOException {
+        checkCounts(true, VARIANT_NODES);
+    }
+
+    /**
+     * Test that the counts of the root moves add up to the count of the whole tree.
+     */
+    @Test
+    void testDivide() throws IOException {
+        final Perft perft = new PerftImpl(MatchFixtures.createMatch(true, true));
+        final Map<String, Long> counts = perft.divide(DIVIDE_DEPTH);
+        assertEquals(VARIANT_NODES[0], counts.size());
+        assertEquals(VARIANT_NODES[DIVIDE_DEPTH - 1], counts.values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(Map.of(), perft.divide(0));
+        assertEquals(1, perft.count(0).getNodes());
+        assertThrows(IllegalArgumentException.class, () -> perft.count(-1));
+    }
+
+    /**
+     * Plays a random Variant match and checks at each turn that the perft leaves
+     * the match exactly as it found it, sliders and tombs included.
+     */
+    @Test
+    void testPositionRestored() throws IOException {
+        final Random random = new Random(SEED);
+        final MoveBuffer moves = new MoveBuffer();
+        for (final boolean bitboard : List.of(false, true)) {
+            final Model match = MatchFixtures.createMatch(true, bitboard);
+            final Perft perft = new PerftImpl(match);
+            for (int turn = 0; turn < RANDOM_TURNS && match.getMatchEndStatus().isEmpty(); turn++) {
+                final String before = MatchFixtures.describe(match);
+                final long nodes = perft.count(DIVIDE_DEPTH).getNodes();
+                assertEquals(before, MatchFixtures.describe(match));
+                assertEquals(nodes, perft.count(DIVIDE_DEPTH).getNodes());
+                match.generateLegalMoves(match.getActivePlayer(), moves);
+                final int move = random.nextInt(moves.size());
+                match.selectSource(moves.getSource(move));
+                match.makeMove(moves.getSource(move), moves.getDestination(move));
+                match.setNextActivePlayer();
+            }
+        }
+    }
+
+    private void checkCounts(final boolean variant, final long[] expected) throws IOException {
+        final Perft bitBoardPerft = new PerftImpl(MatchFixtures.createMatch(variant, true));
+        final Perft boardImplPerft = new PerftImpl(MatchFixtures.createMatch(variant, false));
+        for (int depth = 1; depth <= expected.length; depth++) {
+            assertEquals(expected[depth - 1], bitBoardPerft.count(depth).getNodes());
+            if (depth <= BOARD_IMPL_MAX_DEPTH) {
+                assertEquals(expected[depth - 1], boardImplPerft.count(depth).getNodes());
+            }
+        }
+    }
+}
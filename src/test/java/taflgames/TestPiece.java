@@ -5,16 +5,22 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * numbers used in the creation of Positions and Vectors are not intended to be 
  * constants, but only results to verify computations by need.
  */
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.Test;
 import taflgames.common.Player;
 import taflgames.common.api.Vector;
 import taflgames.common.code.Position;
 import taflgames.common.code.VectorImpl;
+import taflgames.model.pieces.api.BehaviourTypeOfPiece;
 import taflgames.model.pieces.api.Piece;
 import taflgames.model.pieces.code.Archer;
 import taflgames.model.pieces.code.BasicPiece;
@@ -312,5 +318,34 @@ class TestPiece {
         np.setCurrentPosition(p2);
         assertEquals(p2, np.getCurrentPosition());
     }
+    /**
+     * Tests that the pieces of the same type share an immutable behaviour,
+     * whose arrays match its move-set and hit-box.
+     */
+    @Test
+    void testSharedBehaviour() {
+        final List<Piece> pieces = List.of(
+            new BasicPiece(new Position(0, 0), Player.ATTACKER), new King(new Position(0, 0)),
+            new Queen(new Position(0, 0), Player.DEFENDER), new Archer(new Position(0, 0), Player.ATTACKER),
+            new Shield(new Position(0, 0), Player.DEFENDER), new Swapper(new Position(0, 0), Player.ATTACKER));
+        for (final Piece piece : pieces) {
+            final BehaviourTypeOfPiece type = piece.getMyType();
+            assertSame(type, piece.copy().getMyType());
+            assertEquals(piece.getMyType().getTotalNumbOfLives(), piece.getCurrNumbOfLives());
+            assertThrows(UnsupportedOperationException.class, () -> type.setTotNumbOfLives(3));
+            assertThrows(UnsupportedOperationException.class, () -> type.setHitbox(Set.of()));
+            assertEquals(type.getMoveSet().size(), type.getMoveDirections().length);
+            for (final int[] direction : type.getMoveDirections()) {
+                assertTrue(type.getMoveSet().contains(new VectorImpl(direction[0], direction[1], true)));
+            }
+            assertEquals(type.getHitbox(), Arrays.stream(type.getHitboxOffsets())
+                .map(offset -> new Position(offset[0], offset[1]))
+                .collect(Collectors.toSet()));
+            for (final Piece other : pieces) {
+                assertEquals(piece.getMyType().getTypeOfPiece().equals(other.getMyType().getTypeOfPiece()),
+                    type.equals(other.getMyType()));
+            }
+        }
+    }
     // CPD-ON
 }
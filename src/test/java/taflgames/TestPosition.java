@@ -0,0 +1,50 @@
+package taflgames;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import taflgames.common.code.Position;
+
+/**
+ * JUnit tests for {@link Position}.
+ */
+class TestPosition {
+
+    private static final int BOARD_SIZE = 11;
+    private static final int FAR = 1000;
+
+    /**
+     * Test that the positions of the boards and of the squares around them are shared,
+     * while the ones far away are not, and that all of them are equal to the ones created
+     * by the constructor.
+     */
+    @Test
+    void testOf() {
+        for (int x = -1; x <= BOARD_SIZE; x++) {
+            for (int y = -1; y <= BOARD_SIZE; y++) {
+                assertSame(Position.of(x, y), Position.of(x, y));
+                assertEquals(new Position(x, y), Position.of(x, y));
+                assertEquals(x, Position.of(x, y).getX());
+                assertEquals(y, Position.of(x, y).getY());
+            }
+        }
+        assertNotSame(Position.of(FAR, -FAR), Position.of(FAR, -FAR));
+        assertEquals(new Position(FAR, -FAR), Position.of(FAR, -FAR));
+    }
+
+    /**
+     * Test that the index of each square of a board is unique and leads back to the same position.
+     */
+    @Test
+    void testIndex() {
+        for (int index = 0; index < BOARD_SIZE * BOARD_SIZE; index++) {
+            final Position position = Position.ofIndex(index, BOARD_SIZE);
+            assertEquals(index, position.index(BOARD_SIZE));
+            assertSame(Position.of(index % BOARD_SIZE, index / BOARD_SIZE), position);
+        }
+        assertEquals(BOARD_SIZE + 2, new Position(2, 1).index(BOARD_SIZE));
+    }
+}
@@ -0,0 +1,163 @@
+package taflgames;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import taflgames.common.code.MoveBuffer;
+import taflgames.controller.headless.api.GameMode;
+import taflgames.controller.headless.code.Matches;
+import taflgames.model.Model;
+import taflgames.model.board.api.BoardFactory;
+import taflgames.model.board.code.BitBoardImpl;
+import taflgames.model.board.code.BoardImpl;
+import taflgames.model.codec.code.BinaryPositionCodec;
+import taflgames.model.codec.code.TextPositionCodec;
+
+/**
+ * JUnit tests for {@link BinaryPositionCodec} and {@link TextPositionCodec}.
+ */
+class TestPositionCodec {
+
+    private static final long SEED = 18;
+    private static final int GAMES = 6;
+    private static final int MAX_TURNS = 120;
+    private static final int REPLAYED_TURNS = 6;
+    private static final int MAX_BINARY_BYTES = 96;
+    private static final String CLASSIC_START = "3BBBBB3/5B5/11/B4b4B/B3bbb3B/BB1bbkbb1BB/B3bbb3B/B4b4B/11/5B5/3BBBBB3"
+            + " e9e/11/11/11/11/5t5/11/11/11/11/e9e a 0 - - -";
+    private static final List<BoardFactory> BOARDS = List.of(BoardImpl::new, BitBoardImpl::new);
+
+    /**
+     * Test that the start positions are written as expected and read back.
+     * @throws IOException if the configuration of a match cannot be loaded
+     */
+    @Test
+    void testStartPositions() throws IOException {
+        final TextPositionCodec text = new TextPositionCodec(BitBoardImpl::new);
+        final Model classic = Matches.create(GameMode.CLASSIC, BoardImpl::new);
+        assertEquals(CLASSIC_START, text.encode(classic));
+        for (final boolean variant : List.of(false, true)) {
+            for (final BoardFactory boards : BOARDS) {
+                final Model match = Matches.create(variant ? GameMode.VARIANT : GameMode.CLASSIC, boards);
+                assertRoundTrip(match, boards);
+            }
+        }
+    }
+
+    /**
+     * Test that the positions reached by random games, with wounded pieces, tombs and turning sliders,
+     * are read back, and that the decoded matches go on exactly as the original ones.
+     * @throws IOException if the configuration of a match cannot be loaded
+     */
+    @Test
+    void testRandomGames() throws IOException {
+        final Random random = new Random(SEED);
+        for (int game = 0; game < GAMES; game++) {
+            final BoardFactory boards = BOARDS.get(game % BOARDS.size());
+            final Model match = Matches.create(GameMode.VARIANT, boards);
+            for (int turn = 0; turn < MAX_TURNS && match.getMatchEndStatus().isEmpty(); turn++) {
+                final Model decoded = assertRoundTrip(match, boards);
+                final long replaySeed = random.nextLong();
+                final Model original = match.copy();
+                final Random originalRandom = new Random(replaySeed);
+                final Random decodedRandom = new Random(replaySeed);
+                for (int i = 0; i < REPLAYED_TURNS && original.getMatchEndStatus().isEmpty(); i++) {
+                    assertEquals(legalMoves(original), legalMoves(decoded));
+                    makeRandomMove(original, originalRandom);
+                    makeRandomMove(decoded, decodedRandom);
+                    assertEquals(original.getPositionKey(), decoded.getPositionKey());
+                    assertEquals(new TextPositionCodec(boards).encode(original), new TextPositionCodec(boards).encode(decoded));
+                }
+                makeRandomMove(match, random);
+            }
+        }
+    }
+
+    /**
+     * Test that malformed positions are rejected.
+     */
+    @Test
+    void testMalformed() {
+        final TextPositionCodec text = new TextPositionCodec(BitBoardImpl::new);
+        final BinaryPositionCodec binary = new BinaryPositionCodec(BitBoardImpl::new);
+        for (final String position : List.of("", CLASSIC_START.replace(" a ", " x "),
+                CLASSIC_START.replace("/5B5/", "/6B5/"), CLASSIC_START.replace("bbkbb", "bbKbb"),
+                CLASSIC_START.replace(" - - -", " - - f6:9"), CLASSIC_START.replace(" - - -", " a1u0 - -"),
+                CLASSIC_START.replace(" - - -", " - z9:B -"), CLASSIC_START.replace("/B4b4B/", "/B4x4B/"))) {
+            assertThrows(IllegalArgumentException.class, () -> text.decode(position));
+        }
+        final byte[] encoded = binary.encode(text.decode(CLASSIC_START));
+        for (int length = 0; length < encoded.length; length++) {
+            final byte[] truncated = Arrays.copyOf(encoded, length);
+            assertThrows(IllegalArgumentException.class, () -> binary.decode(truncated));
+        }
+        final byte[] longer = Arrays.copyOf(encoded, encoded.length + 1);
+        assertThrows(IllegalArgumentException.class, () -> binary.decode(longer));
+        final byte[] unknownVersion = encoded.clone();
+        unknownVersion[0]++;
+        assertThrows(IllegalArgumentException.class, () -> binary.decode(unknownVersion));
+    }
+
+    /*
+     * Decodes both encodings of a match and checks that they lead to the same state,
+     * and that encoding the decoded match gives the same encodings.
+     */
+    private static Model assertRoundTrip(final Model match, final BoardFactory boards) {
+        final BinaryPositionCodec binary = new BinaryPositionCodec(boards);
+        final TextPositionCodec text = new TextPositionCodec(boards);
+        final byte[] encodedBinary = binary.encode(match);
+        final String encodedText = text.encode(match);
+        assertTrue(encodedBinary.length <= MAX_BINARY_BYTES, encodedText + " takes " + encodedBinary.length + " bytes");
+        final Model fromBinary = binary.decode(encodedBinary);
+        final Model fromText = text.decode(encodedText);
+        for (final Model decoded : List.of(fromBinary, fromText)) {
+            assertEquals(encodedText, text.encode(decoded));
+            assertArrayEquals(encodedBinary, binary.encode(decoded));
+            assertEquals(match.getTurnNumber(), decoded.getTurnNumber());
+            assertEquals(match.getActivePlayer(), decoded.getActivePlayer());
+            assertEquals(match.getPositionKey(), decoded.getPositionKey());
+        }
+        return fromBinary;
+    }
+
+    private static List<String> legalMoves(final Model match) {
+        final MoveBuffer moves = new MoveBuffer();
+        match.generateLegalMoves(match.getActivePlayer(), moves);
+        final String[] list = new String[moves.size()];
+        for (int i = 0; i < moves.size(); i++) {
+            list[i] = moves.getSource(i) + "-" + moves.getDestination(i);
+        }
+        Arrays.sort(list);
+        return List.of(list);
+    }
+
+    /*
+     * The moves are sorted, since their order depends on the order in which the board keeps its pieces.
+     */
+    private static void makeRandomMove(final Model match, final Random random) {
+        final MoveBuffer moves = new MoveBuffer();
+        match.generateLegalMoves(match.getActivePlayer(), moves);
+        final Integer[] order = new Integer[moves.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing((Integer i) -> moves.getSource(i).getX())
+                .thenComparing(i -> moves.getSource(i).getY())
+                .thenComparing(i -> moves.getDestination(i).getX())
+                .thenComparing(i -> moves.getDestination(i).getY()));
+        final int move = order[random.nextInt(order.length)];
+        assertTrue(match.selectSource(moves.getSource(move)));
+        match.makeMove(moves.getSource(move), moves.getDestination(move));
+        match.setNextActivePlayer();
+    }
+}
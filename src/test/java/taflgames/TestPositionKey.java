@@ -0,0 +1,129 @@
+package taflgames;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import taflgames.common.Player;
+import taflgames.common.code.MoveBuffer;
+import taflgames.common.code.Position;
+import taflgames.model.Match;
+import taflgames.model.Model;
+import taflgames.model.board.api.Board;
+import taflgames.model.board.code.BitBoardImpl;
+import taflgames.model.board.code.BoardImpl;
+import taflgames.model.cell.api.Cell;
+import taflgames.model.cell.code.ClassicCell;
+import taflgames.model.memento.api.MatchMemento;
+import taflgames.model.pieces.api.Piece;
+import taflgames.model.pieces.code.BasicPiece;
+import taflgames.model.pieces.code.King;
+
+/**
+ * JUnit tests for the position keys of {@link Board} and {@link Model}.
+ */
+class TestPositionKey {
+
+    private static final int SMALL_BOARD_SIZE = 7;
+    private static final int TURNS = 60;
+    private static final long SEED = 5;
+
+    /**
+     * Plays the same random matches on both boards, in both game modes, checking at each turn
+     * that the incremental keys of the two boards agree, that they agree with the key computed
+     * from scratch when a memento is restored, and that pushing and popping a move brings them back.
+     */
+    @Test
+    void testIncrementalKey() throws IOException {
+        final Random random = new Random(SEED);
+        final MoveBuffer moves = new MoveBuffer();
+        for (final boolean variant : List.of(false, true)) {
+            final Model boardImplMatch = MatchFixtures.createMatch(variant, false);
+            final Model bitBoardMatch = MatchFixtures.createMatch(variant, true);
+            for (int turn = 0; turn < TURNS && bitBoardMatch.getMatchEndStatus().isEmpty(); turn++) {
+                final long key = bitBoardMatch.getPositionKey();
+                assertEquals(key, boardImplMatch.getPositionKey());
+                final MatchMemento memento = bitBoardMatch.save();
+                memento.getBoardMemento().restore();
+                assertEquals(key, bitBoardMatch.getPositionKey());
+
+                bitBoardMatch.generateLegalMoves(bitBoardMatch.getActivePlayer(), moves);
+                final int move = random.nextInt(moves.size());
+                final Position source = moves.getSource(move);
+                final Position destination = moves.getDestination(move);
+                bitBoardMatch.pushMove(source, destination);
+                assertNotEquals(key, bitBoardMatch.getPositionKey());
+                bitBoardMatch.popMove();
+                assertEquals(key, bitBoardMatch.getPositionKey());
+
+                for (final Model match : List.of(boardImplMatch, bitBoardMatch)) {
+                    match.selectSource(source);
+                    match.makeMove(source, destination);
+                    match.setNextActivePlayer();
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that the same position reached through different orders of moves has the same key,
+     * and that the key depends on the player in turn.
+     */
+    @Test
+    void testTranspositions() {
+        for (final boolean bitboard : List.of(false, true)) {
+            final Model first = createSmallMatch(bitboard);
+            final Model second = createSmallMatch(bitboard);
+            final long initialKey = first.getPositionKey();
+            assertEquals(initialKey, second.getPositionKey());
+            play(first, new Position(2, 0), new Position(2, 1));
+            play(first, new Position(0, 3), new Position(0, 4));
+            play(first, new Position(4, 6), new Position(4, 5));
+            play(second, new Position(4, 6), new Position(4, 5));
+            play(second, new Position(0, 3), new Position(0, 4));
+            assertNotEquals(first.getPositionKey(), second.getPositionKey());
+            play(second, new Position(2, 0), new Position(2, 1));
+            assertEquals(first.getPositionKey(), second.getPositionKey());
+            assertNotEquals(initialKey, first.getPositionKey());
+
+            final long attackerToMove = second.getPositionKey();
+            second.setNextActivePlayer();
+            assertNotEquals(attackerToMove, second.getPositionKey());
+            second.setNextActivePlayer();
+            assertEquals(attackerToMove, second.getPositionKey());
+        }
+    }
+
+    private void play(final Model match, final Position source, final Position destination) {
+        match.selectSource(source);
+        match.makeMove(source, destination);
+        match.setNextActivePlayer();
+    }
+
+    private Model createSmallMatch(final boolean bitboard) {
+        final Map<Position, Cell> cells = new HashMap<>();
+        for (int i = 0; i < SMALL_BOARD_SIZE; i++) {
+            for (int j = 0; j < SMALL_BOARD_SIZE; j++) {
+                cells.put(new Position(i, j), new ClassicCell());
+            }
+        }
+        final Map<Player, Map<Position, Piece>> pieces = Map.of(
+            Player.ATTACKER, new HashMap<>(Map.of(
+                new Position(2, 0), new BasicPiece(new Position(2, 0), Player.ATTACKER),
+                new Position(4, 6), new BasicPiece(new Position(4, 6), Player.ATTACKER))),
+            Player.DEFENDER, new HashMap<>(Map.of(
+                new Position(6, 3), new King(new Position(6, 3)),
+                new Position(0, 3), new BasicPiece(new Position(0, 3), Player.DEFENDER))));
+        pieces.values().forEach(map -> map.keySet().forEach(pos -> cells.get(pos).setFree(false)));
+        return new Match(bitboard
+                ? new BitBoardImpl(pieces, cells, SMALL_BOARD_SIZE)
+                : new BoardImpl(pieces, cells, SMALL_BOARD_SIZE));
+    }
+}
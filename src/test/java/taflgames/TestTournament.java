@@ -0,0 +1,140 @@
+package taflgames;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import taflgames.common.code.MatchResult;
+import taflgames.controller.headless.api.GameMode;
+import taflgames.controller.headless.code.EngineAgent;
+import taflgames.controller.headless.code.MatchOutcome;
+import taflgames.controller.headless.code.RandomAgent;
+import taflgames.controller.tournament.api.Tournament;
+import taflgames.controller.tournament.code.Contestant;
+import taflgames.controller.tournament.code.GameResult;
+import taflgames.controller.tournament.code.PairingStats;
+import taflgames.controller.tournament.code.TournamentImpl;
+import taflgames.controller.tournament.code.TournamentResults;
+import taflgames.model.ai.code.AlphaBetaEngine;
+import taflgames.model.ai.code.DefaultEvaluation;
+
+/**
+ * JUnit tests for {@link TournamentImpl} and {@link PairingStats}.
+ */
+class TestTournament {
+
+    private static final int GAMES = 8;
+    private static final int THREADS = 4;
+    private static final int OPENING_MOVES = 2;
+    private static final int MAX_MOVES = 200;
+    private static final long SEED = 22;
+    private static final int REMOVED_LINES = 3;
+    private static final double DELTA = 0.5;
+    private static final double SEVENTY_PERCENT_ELO = 147.2;
+    private static final List<Contestant> CONTESTANTS = List.of(
+            new Contestant("random", seed -> new RandomAgent(new Random(seed))),
+            new Contestant("alphabeta1", seed -> new EngineAgent(
+                    new AlphaBetaEngine(new DefaultEvaluation(), Duration.ofSeconds(10), 1))));
+
+    /**
+     * Test the estimate of the difference of the Elo ratings.
+     */
+    @Test
+    void testElo() {
+        final PairingStats stats = new PairingStats("a", "b");
+        assertEquals(0, stats.getEloDifference(), DELTA);
+        final MatchResult[] results = {
+            MatchResult.VICTORY, MatchResult.VICTORY, MatchResult.VICTORY, MatchResult.DRAW, MatchResult.DEFEAT,
+        };
+        for (int i = 0; i < results.length * 2; i++) {
+            final MatchResult result = results[i % results.length];
+            if (i % 2 == 0) {
+                stats.add(game(i, "a", "b", result));
+            } else {
+                stats.add(game(i, "b", "a", result == MatchResult.DRAW ? result
+                        : result == MatchResult.VICTORY ? MatchResult.DEFEAT : MatchResult.VICTORY));
+            }
+        }
+        assertEquals(6, stats.getWins());
+        assertEquals(2, stats.getDraws());
+        assertEquals(2, stats.getLosses());
+        assertEquals(SEVENTY_PERCENT_ELO, stats.getEloDifference(), DELTA);
+        final double error = stats.getEloError();
+        assertTrue(error > 0 && error < Double.POSITIVE_INFINITY);
+        for (int i = 0; i < results.length * 2; i++) {
+            stats.add(game(i, "a", "b", results[i % results.length]));
+        }
+        assertTrue(stats.getEloError() < error);
+        assertThrows(IllegalArgumentException.class, () -> stats.add(game(0, "a", "c", MatchResult.DRAW)));
+    }
+
+    /**
+     * Test that the results of the games are written to the file, and that a tournament
+     * interrupted in the middle of writing a result is resumed playing only the missing games.
+     * @throws IOException if the file of the results cannot be written
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    void testResume() throws IOException, InterruptedException {
+        final Path file = Files.createTempFile("tournament", ".results");
+        try {
+            Files.delete(file);
+            final Tournament tournament = new TournamentImpl(CONTESTANTS, GAMES, THREADS, OPENING_MOVES, MAX_MOVES, SEED);
+            final TournamentResults results = tournament.play(file);
+            assertEquals(GAMES, results.getPlayedGames());
+            assertTrue(results.getGamesPerSecond() > 0);
+            final PairingStats stats = results.getPairings().get(0);
+            assertEquals(GAMES, stats.getGames());
+            assertTrue(stats.getLosses() > stats.getWins(), "The random player should lose");
+            final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            assertEquals(GAMES, lines.size());
+
+            assertEquals(0, tournament.play(file).getPlayedGames());
+            final List<String> kept = new ArrayList<>(lines.subList(0, GAMES - REMOVED_LINES));
+            Files.writeString(file, String.join("\n", kept) + "\n" + lines.get(GAMES - 1).substring(0, 2),
+                    StandardCharsets.UTF_8);
+            final TournamentResults resumed = tournament.play(file);
+            assertEquals(REMOVED_LINES, resumed.getPlayedGames());
+            final PairingStats resumedStats = resumed.getPairings().get(0);
+            assertEquals(stats.getWins(), resumedStats.getWins());
+            assertEquals(stats.getDraws(), resumedStats.getDraws());
+            assertEquals(stats.getLosses(), resumedStats.getLosses());
+            assertEquals(withoutTimes(lines), withoutTimes(Files.readAllLines(file, StandardCharsets.UTF_8)));
+
+            final Tournament other = new TournamentImpl(List.of(CONTESTANTS.get(1), CONTESTANTS.get(0)),
+                    GAMES, THREADS, OPENING_MOVES, MAX_MOVES, SEED);
+            assertThrows(IOException.class, () -> other.play(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /*
+     * The results of the games, sorted by game, without the time they took.
+     */
+    private static List<String> withoutTimes(final List<String> lines) {
+        final String[] results = new String[lines.size()];
+        for (final String line : lines) {
+            final int index = Integer.parseInt(line.substring(0, line.indexOf(' ')));
+            results[index] = line.substring(0, line.lastIndexOf(' '));
+        }
+        return List.of(results);
+    }
+
+    private static GameResult game(final int index, final String attacker, final String defender,
+            final MatchResult result) {
+        return new GameResult(index, GameMode.CLASSIC, attacker, defender, result,
+                MatchOutcome.Termination.RULES, 1, 1);
+    }
+}
@@ -0,0 +1,181 @@
+package taflgames;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import taflgames.common.code.MoveBuffer;
+import taflgames.controller.headless.api.GameMode;
+import taflgames.controller.headless.code.Matches;
+import taflgames.model.Model;
+import taflgames.model.ai.api.TranspositionTable;
+import taflgames.model.ai.code.AlphaBetaEngine;
+import taflgames.model.ai.code.DefaultEvaluation;
+import taflgames.model.ai.code.SearchResult;
+import taflgames.model.ai.code.TableEntry;
+import taflgames.model.ai.code.TranspositionTableImpl;
+import taflgames.model.board.code.BitBoardImpl;
+
+/**
+ * JUnit tests for {@link TranspositionTable}.
+ */
+class TestTranspositionTable {
+
+    private static final int TABLE_MEGABYTES = 1;
+    private static final int SLOTS_PER_MEGABYTE = 1 << 16;
+    private static final int MAX_TABLE_MEGABYTES = 8192;
+    private static final int MAX_SLOTS = 1 << 29;
+    private static final int MAX_SCORE = (1 << 21) - 1;
+    private static final int THREADS = 4;
+    private static final int OPERATIONS = 200_000;
+    private static final int KEYS = 1 << 18;
+    private static final int SEARCH_DEPTH = 3;
+    private static final long SEED = 13;
+
+    /**
+     * Test the packing of the entries.
+     */
+    @Test
+    void testEntries() {
+        final int move = MoveBuffer.encode(10, 0, 3, 63);
+        final long entry = TableEntry.pack(move, -MAX_SCORE, TableEntry.MAX_DEPTH, TableEntry.UPPER_BOUND, 257);
+        assertEquals(move, TableEntry.move(entry));
+        assertEquals(-MAX_SCORE, TableEntry.score(entry));
+        assertEquals(TableEntry.MAX_DEPTH, TableEntry.depth(entry));
+        assertEquals(TableEntry.UPPER_BOUND, TableEntry.bound(entry));
+        assertEquals(1, TableEntry.generation(entry));
+        assertTrue(TableEntry.isOfGeneration(entry, 1));
+
+        final long empty = TableEntry.pack(-1, 0, 0, TableEntry.EXACT, 0);
+        assertFalse(empty == TableEntry.NONE);
+        assertEquals(-1, TableEntry.move(empty));
+        assertEquals(0, TableEntry.score(empty));
+        assertEquals(MAX_SCORE, TableEntry.score(TableEntry.pack(move, MAX_SCORE, 1, TableEntry.EXACT, 0)));
+        assertThrows(IllegalArgumentException.class, () -> TableEntry.pack(move, MAX_SCORE + 1, 1, TableEntry.EXACT, 0));
+        assertThrows(IllegalArgumentException.class, () -> TableEntry.pack(move, 0, 1, 0, 0));
+    }
+
+    /**
+     * Test the number of entries of the tables, up to the largest sizes, whose slots must still fit in an array.
+     */
+    @Test
+    void testCapacity() {
+        assertEquals(SLOTS_PER_MEGABYTE, TranspositionTableImpl.capacityOf(TABLE_MEGABYTES));
+        assertEquals(SLOTS_PER_MEGABYTE * 2, TranspositionTableImpl.capacityOf(3));
+        assertEquals(MAX_SLOTS / 2, TranspositionTableImpl.capacityOf(MAX_TABLE_MEGABYTES - 1));
+        assertEquals(MAX_SLOTS, TranspositionTableImpl.capacityOf(MAX_TABLE_MEGABYTES));
+        assertEquals(MAX_SLOTS, TranspositionTableImpl.capacityOf(2 * MAX_TABLE_MEGABYTES));
+        assertEquals(MAX_SLOTS, TranspositionTableImpl.capacityOf(Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> TranspositionTableImpl.capacityOf(0));
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTableImpl(-1));
+        assertEquals(SLOTS_PER_MEGABYTE, new TranspositionTableImpl(TABLE_MEGABYTES).getCapacity());
+    }
+
+    /**
+     * Test the lookups, the replacement of the entries and the statistics.
+     */
+    @Test
+    void testStoreAndProbe() {
+        final TranspositionTableImpl table = new TranspositionTableImpl(TABLE_MEGABYTES);
+        assertEquals(SLOTS_PER_MEGABYTE, table.getCapacity());
+        final long key = 0x1234_5678_9ABC_DEF0L;
+        // Another key that falls in the same slot
+        final long otherKey = key ^ (long) table.getCapacity() << Integer.SIZE;
+        final int move = MoveBuffer.encode(1, 2, 3, 4);
+
+        assertEquals(TableEntry.NONE, table.probe(key));
+        table.store(key, move, 42, 5, TableEntry.LOWER_BOUND);
+        final long entry = table.probe(key);
+        assertEquals(move, TableEntry.move(entry));
+        assertEquals(42, TableEntry.score(entry));
+        assertEquals(5, TableEntry.depth(entry));
+        assertEquals(TableEntry.LOWER_BOUND, TableEntry.bound(entry));
+        assertEquals(TableEntry.NONE, table.probe(otherKey));
+
+        // A shallower entry of the same search does not replace a deeper one
+        table.store(otherKey, move, 0, 4, TableEntry.EXACT);
+        assertEquals(42, TableEntry.score(table.probe(key)));
+        // A search that found no move keeps the stored one
+        table.store(key, -1, 7, 6, TableEntry.EXACT);
+        assertEquals(move, TableEntry.move(table.probe(key)));
+        assertEquals(7, TableEntry.score(table.probe(key)));
+        // A new search can replace the entries of the previous ones
+        table.newSearch();
+        table.store(otherKey, move, 0, 1, TableEntry.EXACT);
+        assertEquals(TableEntry.NONE, table.probe(key));
+        assertEquals(0, TableEntry.score(table.probe(otherKey)));
+
+        assertEquals(8, table.getStats().getProbes());
+        assertEquals(5, table.getStats().getHits());
+        assertEquals(2, table.getStats().getCollisions());
+        assertEquals(100.0 / table.getCapacity(), table.getStats().getFillPercentage());
+        table.clear();
+        assertEquals(TableEntry.NONE, table.probe(otherKey));
+        assertEquals(1, table.getStats().getProbes());
+        assertEquals(0.0, table.getStats().getFillPercentage());
+    }
+
+    /**
+     * Many threads store and look up entries in a small table at the same time:
+     * every entry found must be the one of the position that was looked up.
+     */
+    @Test
+    void testConcurrentAccess() throws InterruptedException {
+        final TranspositionTable table = new TranspositionTableImpl(TABLE_MEGABYTES);
+        final AtomicBoolean wrongEntry = new AtomicBoolean();
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            final Random random = new Random(SEED + t);
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < OPERATIONS; i++) {
+                    final int id = random.nextInt(KEYS);
+                    final long key = new Random(id).nextLong();
+                    if (random.nextBoolean()) {
+                        table.store(key, -1, id % MAX_SCORE, id % TableEntry.MAX_DEPTH, TableEntry.EXACT);
+                    } else {
+                        final long entry = table.probe(key);
+                        if (entry != TableEntry.NONE && TableEntry.score(entry) != id % MAX_SCORE) {
+                            wrongEntry.set(true);
+                        }
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertFalse(wrongEntry.get());
+        assertTrue(table.getStats().getHits() > 0);
+    }
+
+    /**
+     * Test that a search that can reuse the entries of a previous search of the same position
+     * finds the same move visiting fewer positions.
+     */
+    @Test
+    void testSearchReusesEntries() throws IOException {
+        final TranspositionTable table = new TranspositionTableImpl(TABLE_MEGABYTES);
+        final Model match = Matches.create(GameMode.VARIANT, BitBoardImpl::new);
+        final AlphaBetaEngine engine = new AlphaBetaEngine(new DefaultEvaluation(), Duration.ofMinutes(1),
+                SEARCH_DEPTH, table);
+        final SearchResult first = engine.search(match).orElseThrow();
+        assertTrue(table.getStats().getFillPercentage() > 0);
+        final SearchResult second = engine.search(match).orElseThrow();
+        assertEquals(first.getSource(), second.getSource());
+        assertEquals(first.getDestination(), second.getDestination());
+        assertEquals(first.getScore(), second.getScore());
+        assertTrue(second.getNodes() < first.getNodes());
+        assertTrue(table.getStats().getHitRate() > 0);
+    }
+}